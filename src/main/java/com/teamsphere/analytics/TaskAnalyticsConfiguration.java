@@ -0,0 +1,43 @@
+package com.teamsphere.analytics;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuration of the in-memory task analytics behind the {@code /report/tasks} endpoint.
+ * Enabled by {@code task-analytics.enabled}.
+ */
+@Configuration
+@EnableConfigurationProperties(TaskAnalyticsProperties.class)
+@ConditionalOnProperty(prefix = "task-analytics", name = "enabled", havingValue = "true")
+public class TaskAnalyticsConfiguration {
+
+    /**
+     * Creates the task columns, loaded once all singletons exist.
+     *
+     * @param properties         the analytics settings
+     * @param entityManager      the entity manager the tasks are loaded with
+     * @param transactionManager the transaction manager the tasks are loaded in
+     * @return the columns
+     */
+    @Bean(destroyMethod = "close")
+    public TaskColumns taskColumns(TaskAnalyticsProperties properties, EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager) {
+        return new TaskColumns(properties, entityManager, transactionManager);
+    }
+
+    /**
+     * Registers the aspect that keeps the columns current after writes.
+     *
+     * @param columns the columns to update
+     * @return the aspect
+     */
+    @Bean
+    public TaskColumnsAspect taskColumnsAspect(TaskColumns columns) {
+        return new TaskColumnsAspect(columns);
+    }
+}
@@ -0,0 +1,20 @@
+package com.teamsphere.analytics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * In-memory task analytics settings bound from {@code task-analytics}.
+ *
+ * @param enabled     whether tasks are kept in memory and the {@code /report/tasks} endpoint exists
+ * @param parallelism the threads an aggregate is computed on; zero for one per available processor
+ * @param chunkSize   the most tasks one thread scans before the rest of the work is split off
+ * @param maxGroups   the most groups an aggregate may have
+ */
+@ConfigurationProperties("task-analytics")
+public record TaskAnalyticsProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("65536") int chunkSize,
+        @DefaultValue("1000000") int maxGroups) {
+}
@@ -0,0 +1,85 @@
+package com.teamsphere.analytics;
+
+import com.teamsphere.cache.CachedResource;
+import com.teamsphere.dto.employee.EmployeeDto;
+import com.teamsphere.dto.employee.TaskInfo;
+import com.teamsphere.dto.task.TaskDto;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Aspect that applies writes through the task and employee services to the {@link TaskColumns}.
+ *
+ * <p>Saved and updated tasks are copied as returned by the task service. An updated employee comes back with
+ * its tasks, which become the employee's tasks in the columns, and a deleted employee takes its tasks with it.
+ * The columns are changed once the write's transaction has committed, so a rolled back write never shows up in
+ * aggregates. Registered by {@link TaskAnalyticsConfiguration}.</p>
+ */
+@Aspect
+public class TaskColumnsAspect {
+
+    private final TaskColumns columns;
+
+    /**
+     * Creates the aspect.
+     *
+     * @param columns the columns to update
+     */
+    public TaskColumnsAspect(TaskColumns columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Copies a saved or updated task, or the task assignments of an updated employee.
+     *
+     * @param joinPoint the completed write
+     * @param result    the entity as returned by the service
+     */
+    @AfterReturning(pointcut = "within(com.teamsphere.service.impl..*) "
+            + "&& (execution(* save(..)) || execution(* update(..)))", returning = "result")
+    public void afterSave(JoinPoint joinPoint, Object result) {
+        CachedResource resource = CachedResource.ofService(AopUtils.getTargetClass(joinPoint.getTarget()));
+        if (resource == CachedResource.TASK && result instanceof TaskDto task) {
+            afterCommit(() -> columns.put(task));
+        } else if (resource == CachedResource.EMPLOYEE && result instanceof EmployeeDto employee
+                && joinPoint.getArgs().length > 1 && joinPoint.getArgs()[1] instanceof Long employeeId) {
+            List<Long> taskIds = employee.getTasks().stream().map(TaskInfo::id).toList();
+            afterCommit(() -> columns.assign(employeeId, taskIds));
+        }
+    }
+
+    /**
+     * Removes a deleted task, or the tasks of a deleted employee.
+     *
+     * @param joinPoint the completed delete
+     */
+    @AfterReturning("within(com.teamsphere.service.impl..*) && execution(* delete(Long))")
+    public void afterDelete(JoinPoint joinPoint) {
+        CachedResource resource = CachedResource.ofService(AopUtils.getTargetClass(joinPoint.getTarget()));
+        Long id = (Long) joinPoint.getArgs()[0];
+        if (resource == CachedResource.TASK) {
+            afterCommit(() -> columns.remove(id));
+        } else if (resource == CachedResource.EMPLOYEE) {
+            afterCommit(() -> columns.removeTasksOf(id));
+        }
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
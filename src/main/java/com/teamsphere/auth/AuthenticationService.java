@@ -1,6 +1,7 @@
 package com.teamsphere.auth;
 
 import com.teamsphere.config.JwtService;
+import com.teamsphere.datasource.ConnectionPool;
 import com.teamsphere.dto.auth.AuthenticationRequestDto;
 import com.teamsphere.dto.auth.RegisterRequestDto;
 import com.teamsphere.entity.auth.Role;
@@ -20,6 +21,7 @@ import org.springframework.stereotype.Service;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConnectionPool(ConnectionPool.AUTH)
 public class AuthenticationService {
 
     private final UserRepository repository;
@@ -0,0 +1,95 @@
+package com.teamsphere.cache;
+
+import com.teamsphere.service.CompanyService;
+import com.teamsphere.service.DepartmentService;
+import com.teamsphere.service.EmployeeService;
+import com.teamsphere.service.GenericService;
+import com.teamsphere.service.PositionService;
+import com.teamsphere.service.ProjectService;
+import com.teamsphere.service.TaskService;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Entity types whose list and search responses are cached, with the types their responses embed.
+ */
+public enum CachedResource {
+
+    COMPANY("company", CompanyService.class),
+    DEPARTMENT("department", DepartmentService.class),
+    POSITION("position", PositionService.class),
+    TASK("task", TaskService.class),
+    PROJECT("project", ProjectService.class, COMPANY),
+    EMPLOYEE("employee", EmployeeService.class, DEPARTMENT, POSITION, TASK, PROJECT, COMPANY);
+
+    private final String path;
+    private final Class<? extends GenericService<?>> service;
+    private final Set<CachedResource> dependencies;
+
+    CachedResource(String path, Class<? extends GenericService<?>> service, CachedResource... embeds) {
+        this.path = path;
+        this.service = service;
+        this.dependencies = Stream.concat(Stream.of(this), Arrays.stream(embeds)).collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Returns the path segment of the resource under {@code /api/v1}.
+     *
+     * @return the path segment
+     */
+    public String path() {
+        return path;
+    }
+
+    /**
+     * Returns the resource itself and every resource its responses embed.
+     *
+     * @return the resources a response depends on
+     */
+    public Set<CachedResource> dependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Returns the resources whose rows a write through this resource's service may change. Employee writes also
+     * change tasks: updates reassign them, and deletes remove them along with the employee.
+     *
+     * @return the resources a write changes, the resource itself included
+     */
+    public Set<CachedResource> written() {
+        return this == EMPLOYEE ? Set.of(EMPLOYEE, TASK) : Set.of(this);
+    }
+
+    /**
+     * Finds the resource served under the given path segment.
+     *
+     * @param path the path segment
+     * @return the resource, or {@code null} if none is cached
+     */
+    public static CachedResource ofPath(String path) {
+        for (CachedResource resource : values()) {
+            if (resource.path.equals(path)) {
+                return resource;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the resource managed by the given service class.
+     *
+     * @param serviceClass the service implementation
+     * @return the resource, or {@code null} if none is cached
+     */
+    public static CachedResource ofService(Class<?> serviceClass) {
+        for (CachedResource resource : values()) {
+            if (resource.service.isAssignableFrom(serviceClass)) {
+                return resource;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,58 @@
+package com.teamsphere.cache;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.After;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Aspect that bumps the {@link ResourceGenerations} of a resource after a write through its service, along with
+ * the {@linkplain CachedResource#written() other resources} the write changes.
+ *
+ * <p>The bump happens once the write's transaction has completed, so a response built from data read before
+ * the commit always carries an older generation. Failed writes bump too; a needless miss is cheaper than
+ * reasoning about partial failures. Registered by {@link ResponseCacheConfiguration}.</p>
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class GenerationTrackingAspect {
+
+    private final ResourceGenerations generations;
+
+    /**
+     * Creates the aspect.
+     *
+     * @param generations the counters to bump
+     */
+    public GenerationTrackingAspect(ResourceGenerations generations) {
+        this.generations = generations;
+    }
+
+    /**
+     * Bumps the generations of the resources written by a service call.
+     *
+     * @param joinPoint the completed write
+     */
+    @After("within(com.teamsphere.service.impl..*) "
+            + "&& (execution(* save(..)) || execution(* update(..)) || execution(* delete(..)))")
+    public void afterWrite(JoinPoint joinPoint) {
+        CachedResource resource = CachedResource.ofService(AopUtils.getTargetClass(joinPoint.getTarget()));
+        if (resource == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    resource.written().forEach(generations::bump);
+                }
+            });
+        } else {
+            resource.written().forEach(generations::bump);
+        }
+    }
+}
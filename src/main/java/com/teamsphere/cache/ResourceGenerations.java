@@ -0,0 +1,90 @@
+package com.teamsphere.cache;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-resource generation counters, bumped after every write through the resource's service.
+ *
+ * <p>A response is current as long as the {@linkplain #of generation} it was built at is unchanged. Since every
+ * counter only grows, the generation of a resource is the sum of its own counter and those of the resources
+ * its responses embed.</p>
+ *
+ * <p>With read replicas a read right after a write may still be served by a replica that has not replayed it, and
+ * would be cached under the new generation. Caches therefore only store responses of a resource that is
+ * {@linkplain #settled settled}: none of the resources it embeds was written within the settle time.</p>
+ */
+public class ResourceGenerations {
+
+    private final Map<CachedResource, AtomicLong> counters = new EnumMap<>(CachedResource.class);
+    private final Map<CachedResource, AtomicLong> bumpedAt = new EnumMap<>(CachedResource.class);
+    private final long settleNanos;
+
+    /**
+     * Creates counters for every cached resource, all starting at zero, whose writes are visible to every read
+     * right away.
+     */
+    public ResourceGenerations() {
+        this(Duration.ZERO);
+    }
+
+    /**
+     * Creates counters for every cached resource, all starting at zero.
+     *
+     * @param settleTime how long after a write reads may still miss it, such as the most a read replica may lag
+     */
+    public ResourceGenerations(Duration settleTime) {
+        this.settleNanos = settleTime.toNanos();
+        long settledAt = System.nanoTime() - settleNanos;
+        for (CachedResource resource : CachedResource.values()) {
+            counters.put(resource, new AtomicLong());
+            bumpedAt.put(resource, new AtomicLong(settledAt));
+        }
+    }
+
+    /**
+     * Records a write to a resource.
+     *
+     * @param resource the written resource
+     */
+    public void bump(CachedResource resource) {
+        counters.get(resource).incrementAndGet();
+        bumpedAt.get(resource).set(System.nanoTime());
+    }
+
+    /**
+     * Returns the generation of the responses of a resource.
+     *
+     * @param resource the resource
+     * @return a value that grows whenever the resource or a resource it embeds is written
+     */
+    public long of(CachedResource resource) {
+        long generation = 0;
+        for (CachedResource dependency : resource.dependencies()) {
+            generation += counters.get(dependency).get();
+        }
+        return generation;
+    }
+
+    /**
+     * Returns whether responses of a resource built now see every write counted in its generation, so they may
+     * be cached.
+     *
+     * @param resource the resource
+     * @return {@code false} while the resource or a resource it embeds was written within the settle time
+     */
+    public boolean settled(CachedResource resource) {
+        if (settleNanos <= 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        for (CachedResource dependency : resource.dependencies()) {
+            if (now - bumpedAt.get(dependency).get() < settleNanos) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,99 @@
+package com.teamsphere.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of serialized responses, bounded by the bytes it holds.
+ *
+ * @param <K> the key type
+ */
+public class ResponseCache<K> {
+
+    private final LinkedHashMap<K, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxBytes;
+    private long bytes;
+
+    /**
+     * A cached response body.
+     *
+     * @param body       the body bytes, gzip-compressed when {@code gzipped}
+     * @param gzipped    whether the body is gzip-compressed
+     * @param generation the resource generation the response was built at
+     */
+    public record Entry(byte[] body, boolean gzipped, long generation) {
+    }
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxBytes the most body bytes held at once
+     */
+    public ResponseCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the entry for a key if it was built at the given generation. Entries of older generations
+     * are dropped.
+     *
+     * @param key        the key
+     * @param generation the current generation of the key's resource
+     * @return the entry, or {@code null} if there is no current one
+     */
+    public synchronized Entry get(K key, long generation) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.generation() != generation) {
+            remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Stores an entry, evicting the least recently used entries until the cache fits its bound.
+     * Entries larger than the whole cache are not stored.
+     *
+     * @param key   the key
+     * @param entry the entry
+     */
+    public synchronized void put(K key, Entry entry) {
+        if (entry.body().length > maxBytes) {
+            return;
+        }
+        remove(key);
+        entries.put(key, entry);
+        bytes += entry.body().length;
+        Iterator<Map.Entry<K, Entry>> eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes) {
+            bytes -= eldest.next().getValue().body().length;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Returns the body bytes currently held.
+     *
+     * @return held bytes
+     */
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the number of entries currently held.
+     *
+     * @return held entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void remove(K key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.body().length;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.teamsphere.cache;
+
+import com.teamsphere.datasource.ReplicaProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the resource generations and the list and search response cache.
+ */
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfiguration {
+
+    /**
+     * Creates the generation counters of the cached resources. With read replicas, responses are not cached until
+     * a write is older than the replicas' maximum lag plus the health check interval, the longest a lagging replica
+     * may keep serving reads.
+     *
+     * @param replicas the read replica settings
+     * @return the counters
+     */
+    @Bean
+    public static ResourceGenerations resourceGenerations(ReplicaProperties replicas) {
+        return new ResourceGenerations(replicas.enabled()
+                ? replicas.maxLag().plus(replicas.healthCheckInterval()) : Duration.ZERO);
+    }
+
+    /**
+     * Registers the aspect that bumps generations after writes.
+     *
+     * @param generations the counters to bump
+     * @return the aspect
+     */
+    @Bean
+    public static GenerationTrackingAspect generationTrackingAspect(ResourceGenerations generations) {
+        return new GenerationTrackingAspect(generations);
+    }
+
+    /**
+     * Registers the response cache filter right after the security chain, so the caller's role is known
+     * and unauthorized requests never reach the cache. Enabled by {@code response-cache.enabled}.
+     *
+     * @param properties    the cache settings
+     * @param generations   the generations responses are validated against
+     * @param meterRegistry the registry to publish the cache metrics to
+     * @return the filter registration
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "response-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+            ResponseCacheProperties properties, ResourceGenerations generations, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ResponseCacheFilter> registration =
+                new FilterRegistrationBean<>(new ResponseCacheFilter(properties, generations, meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
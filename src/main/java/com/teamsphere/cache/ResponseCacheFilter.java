@@ -0,0 +1,298 @@
+package com.teamsphere.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Filter that serves repeated list and search requests from a {@link ResponseCache}.
+ *
+ * <p>Caches {@code GET /api/v1/{resource}}, {@code POST /api/v1/{resource}/search} and
+ * {@code POST /api/v1/{resource}/filter} responses, keyed on the resource, the endpoint, the paging and sort
+ * parameters, the request body and the caller's role. An entry holds the
+ * serialized, optionally gzip-compressed, JSON and is valid only while the {@link ResourceGenerations
+ * generation} of its resource is unchanged, so a hit does no querying, mapping or serialization. Responses built
+ * while the resource is not yet {@linkplain ResourceGenerations#settled settled} after a write are not stored.
+ * Gzip-capable clients receive compressed entries as they are.</p>
+ *
+ * <p>Requests inside a transaction bound to the thread are passed through, so uncommitted data is never
+ * cached. Publishes {@code http.server.response.cache.requests} tagged with {@code result} ({@code hit} or
+ * {@code miss}) and {@code http.server.response.cache.size} in bytes.</p>
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    static final String CACHE_HEADER = "X-Cache";
+    private static final String API_PREFIX = "/api/v1/";
+    private static final List<String> POST_ENDPOINTS = List.of("search", "filter");
+    private static final String GZIP = "gzip";
+
+    private final ResponseCache<Key> cache;
+    private final ResourceGenerations generations;
+    private final boolean gzip;
+    private final long gzipMinSize;
+    private final long maxRequestSize;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Creates the filter.
+     *
+     * @param properties    the cache settings
+     * @param generations   the generations responses are validated against
+     * @param meterRegistry the registry to publish the cache metrics to
+     */
+    public ResponseCacheFilter(ResponseCacheProperties properties, ResourceGenerations generations,
+                               MeterRegistry meterRegistry) {
+        this.cache = new ResponseCache<>(properties.maxSize().toBytes());
+        this.generations = generations;
+        this.gzip = properties.gzip();
+        this.gzipMinSize = properties.gzipMinSize().toBytes();
+        this.maxRequestSize = properties.maxRequestSize().toBytes();
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        Gauge.builder("http.server.response.cache.size", cache, ResponseCache::bytes)
+                .description("Bytes of cached list and search responses")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("http.server.response.cache.requests")
+                .description("Cacheable list and search requests by whether they were served from the cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Serves the request from the cache, or runs the chain and caches a successful JSON response.
+     *
+     * @param request     the HTTP request
+     * @param response    the HTTP response
+     * @param filterChain the filter chain
+     * @throws ServletException if a servlet error occurs
+     * @throws IOException      if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith(API_PREFIX)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String rest = path.substring(API_PREFIX.length());
+        int slash = rest.indexOf('/');
+        String endpoint = slash < 0 ? "" : rest.substring(slash + 1);
+        CachedResource resource = isCacheable(request.getMethod(), endpoint)
+                ? CachedResource.ofPath(slash < 0 ? rest : rest.substring(0, slash))
+                : null;
+        if (resource == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        HttpServletRequest replayable = request;
+        String body = "";
+        if (HttpMethod.POST.matches(request.getMethod())) {
+            long length = request.getContentLengthLong();
+            if (length < 0 || length > maxRequestSize) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            byte[] bytes = StreamUtils.copyToByteArray(request.getInputStream());
+            replayable = new ReplayableRequest(request, bytes);
+            body = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        Key key = new Key(resource, endpoint, normalizedQuery(request.getQueryString()), body, currentRole());
+        long generation = generations.of(resource);
+        boolean settled = generations.settled(resource);
+        ResponseCache.Entry entry = cache.get(key, generation);
+        if (entry != null) {
+            hits.increment();
+            write(entry, request, response);
+            return;
+        }
+
+        misses.increment();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        response.setHeader(CACHE_HEADER, "MISS");
+        filterChain.doFilter(replayable, wrapper);
+        if (settled && wrapper.getStatus() == HttpServletResponse.SC_OK && isJson(wrapper.getContentType())) {
+            byte[] content = wrapper.getContentAsByteArray();
+            boolean compress = gzip && content.length >= gzipMinSize;
+            cache.put(key, new ResponseCache.Entry(compress ? gzip(content) : content, compress, generation));
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    /**
+     * Returns the cache, for tests.
+     *
+     * @return the response cache
+     */
+    ResponseCache<Key> cache() {
+        return cache;
+    }
+
+    private static boolean isCacheable(String method, String endpoint) {
+        return HttpMethod.GET.matches(method) ? endpoint.isEmpty()
+                : HttpMethod.POST.matches(method) && POST_ENDPOINTS.contains(endpoint);
+    }
+
+    /**
+     * Orders query parameters by name, keeping the order of repeated parameters such as {@code sort}.
+     */
+    private static String normalizedQuery(String query) {
+        if (query == null || query.isEmpty()) {
+            return "";
+        }
+        return Arrays.stream(query.split("&"))
+                .sorted(Comparator.comparing(parameter -> parameter.split("=", 2)[0]))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String currentRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return "anonymous";
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private static void write(ResponseCache.Entry entry, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        byte[] body = entry.body();
+        if (entry.gzipped()) {
+            String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+            if (acceptEncoding != null && acceptEncoding.contains(GZIP)) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            } else {
+                body = gunzip(body);
+            }
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(CACHE_HEADER, "HIT");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Identifies a cacheable response.
+     *
+     * @param resource the listed, searched or filtered resource
+     * @param endpoint {@code search} or {@code filter}, or empty for lists
+     * @param query    the query string with parameters ordered by name
+     * @param body     the search or filter request body, or empty for lists
+     * @param role     the caller's authorities
+     */
+    record Key(CachedResource resource, String endpoint, String query, String body, String role) {
+    }
+
+    /**
+     * Request whose body, already read by this filter, can be read again by the controller.
+     */
+    private static final class ReplayableRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private ReplayableRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.teamsphere.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Response cache settings bound from {@code response-cache}.
+ *
+ * @param enabled        whether list and search responses are cached
+ * @param maxSize        the most response bytes held at once
+ * @param gzip           whether bodies are stored gzip-compressed
+ * @param gzipMinSize    bodies smaller than this are stored uncompressed
+ * @param maxRequestSize search requests with larger bodies are not cached
+ */
+@ConfigurationProperties("response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("64MB") DataSize maxSize,
+        @DefaultValue("true") boolean gzip,
+        @DefaultValue("1KB") DataSize gzipMinSize,
+        @DefaultValue("8KB") DataSize maxRequestSize) {
+}
@@ -0,0 +1,194 @@
+package com.teamsphere.coalescing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamsphere.cache.CachedResource;
+import com.teamsphere.cache.ResourceGenerations;
+import com.teamsphere.search.SearchSessions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Aspect that lets identical concurrent list, search and filter calls share one computation.
+ *
+ * <p>Calls are identical when they hit the same service method with equal arguments on behalf of the same
+ * role. The first caller runs the query; callers arriving while it runs wait for its page instead of
+ * issuing their own. With a positive {@code coalescing.cache-ttl} the page is also kept that long, with its
+ * JSON serialized once. A write drops the cached pages of every {@link CachedResource} whose responses depend
+ * on what it wrote, so a department rename also drops the employee pages that embed the department. Pages read
+ * while their resource is not yet {@linkplain ResourceGenerations#settled settled} after a write are not
+ * kept.</p>
+ *
+ * <p>Calls made inside a caller's transaction are passed through untouched, so uncommitted data is never
+ * shared, and so are calls to services of no cached resource. So are searches of a
+ * {@link SearchSessions search session}, which a newer search may cancel: their failure must not become the
+ * failure of callers waiting for them. Runs ahead of the transaction interceptor so followers never hold a connection while they wait.
+ * Registered by {@link CoalescingConfiguration}.</p>
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class CoalescingAspect {
+
+    private final SingleFlight<Key> singleFlight = new SingleFlight<>();
+    private final Map<Key, Cached> cache = new ConcurrentHashMap<>();
+    private final Map<CachedResource, AtomicLong> writes = new EnumMap<>(CachedResource.class);
+    private final long cacheTtlNanos;
+    private final int cacheMaxEntries;
+    private final ObjectMapper objectMapper;
+    private final ResourceGenerations generations;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter cacheHits;
+
+    /**
+     * Creates the aspect.
+     *
+     * @param properties    the coalescing settings
+     * @param objectMapper  the mapper used to precompute the JSON of cached pages
+     * @param generations   the generations telling whether reads see the latest writes
+     * @param meterRegistry the registry to count coalesced calls in
+     */
+    public CoalescingAspect(CoalescingProperties properties, ObjectMapper objectMapper,
+                            ResourceGenerations generations, MeterRegistry meterRegistry) {
+        this.cacheTtlNanos = properties.cacheTtl().toNanos();
+        this.cacheMaxEntries = properties.cacheMaxEntries();
+        this.objectMapper = objectMapper;
+        this.generations = generations;
+        this.leaders = counter(meterRegistry, "leader");
+        this.followers = counter(meterRegistry, "follower");
+        this.cacheHits = counter(meterRegistry, "cache_hit");
+        for (CachedResource resource : CachedResource.values()) {
+            writes.put(resource, new AtomicLong());
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("service.coalescing.requests")
+                .description("List and search calls by whether they ran, waited for another call or hit the cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Coalesces a list, search or filter call.
+     *
+     * @param joinPoint the intercepted call
+     * @return the page, possibly computed for another caller
+     * @throws Throwable whatever the call throws
+     */
+    @Around("within(com.teamsphere.service.impl..*) && ("
+            + "execution(org.springframework.data.domain.Page getAll(..)) "
+            + "|| execution(org.springframework.data.domain.Page find(..)) "
+            + "|| execution(org.springframework.data.domain.Page filter(..)))")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        CachedResource resource = CachedResource.ofService(AopUtils.getTargetClass(joinPoint.getTarget()));
+        if (TransactionSynchronizationManager.isActualTransactionActive() || SearchSessions.current() != null
+                || resource == null) {
+            return joinPoint.proceed();
+        }
+        Key key = new Key(resource, joinPoint.getSignature().getName(), currentRole(),
+                Arrays.asList(joinPoint.getArgs()));
+        Cached cached = cache.get(key);
+        if (cached != null && cached.expiresAt - System.nanoTime() > 0) {
+            cacheHits.increment();
+            return cached.page;
+        }
+        long writesBefore = writesTo(resource);
+        SingleFlight.Result<Object> result = singleFlight.execute(key, () -> {
+            Object page = joinPoint.proceed();
+            return cacheTtlNanos > 0 && page instanceof Page<?> ? store(key, (Page<?>) page, writesBefore) : page;
+        });
+        (result.shared() ? followers : leaders).increment();
+        return result.value();
+    }
+
+    /**
+     * Drops the cached pages that depend on the resources a write through a service changed.
+     *
+     * @param joinPoint the completed write
+     */
+    @AfterReturning("within(com.teamsphere.service.impl..*) "
+            + "&& (execution(* save(..)) || execution(* update(..)) || execution(* delete(..)))")
+    public void invalidate(JoinPoint joinPoint) {
+        CachedResource resource = CachedResource.ofService(AopUtils.getTargetClass(joinPoint.getTarget()));
+        if (resource == null) {
+            return;
+        }
+        Set<CachedResource> written = resource.written();
+        // Counted before the pages are dropped, so a page put after the drop is caught by its store's re-check.
+        written.forEach(changed -> writes.get(changed).incrementAndGet());
+        cache.keySet().removeIf(key -> !Collections.disjoint(key.resource().dependencies(), written));
+    }
+
+    /**
+     * Returns the number of pages currently cached.
+     *
+     * @return cached pages
+     */
+    int cachedPages() {
+        return cache.size();
+    }
+
+    private Page<?> store(Key key, Page<?> page, long writesBefore) {
+        PrecomputedPage<?> precomputed = PrecomputedPage.of(page, objectMapper);
+        long now = System.nanoTime();
+        if (cache.size() >= cacheMaxEntries) {
+            cache.values().removeIf(entry -> entry.expiresAt - now <= 0);
+        }
+        // A write that raced with the query may not be visible in the page, so it must not outlive this call.
+        if (cache.size() < cacheMaxEntries && writesTo(key.resource()) == writesBefore
+                && generations.settled(key.resource())) {
+            Cached cached = new Cached(precomputed, now + cacheTtlNanos);
+            cache.put(key, cached);
+            // A write counted after the check may have dropped the cached pages before the put; drop this one too.
+            if (writesTo(key.resource()) != writesBefore) {
+                cache.remove(key, cached);
+            }
+        }
+        return precomputed;
+    }
+
+    private long writesTo(CachedResource resource) {
+        return resource.dependencies().stream().mapToLong(dependency -> writes.get(dependency).get()).sum();
+    }
+
+    private static String currentRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return "anonymous";
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private record Key(CachedResource resource, String method, String role, List<Object> args) {
+    }
+
+    private record Cached(Page<?> page, long expiresAt) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.teamsphere.coalescing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamsphere.cache.ResourceGenerations;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of request coalescing for list and search calls.
+ */
+@Configuration
+@EnableConfigurationProperties(CoalescingProperties.class)
+public class CoalescingConfiguration {
+
+    /**
+     * Registers the coalescing aspect. Enabled by {@code coalescing.enabled}.
+     *
+     * @param properties    the coalescing settings
+     * @param objectMapper  the mapper used to precompute cached responses
+     * @param generations   the generations telling whether reads see the latest writes
+     * @param meterRegistry the registry to count coalesced calls in
+     * @return the aspect
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "coalescing", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CoalescingAspect coalescingAspect(CoalescingProperties properties, ObjectMapper objectMapper,
+                                             ResourceGenerations generations, MeterRegistry meterRegistry) {
+        return new CoalescingAspect(properties, objectMapper, generations, meterRegistry);
+    }
+}
@@ -0,0 +1,20 @@
+package com.teamsphere.coalescing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Request coalescing settings bound from {@code coalescing}.
+ *
+ * @param enabled         whether identical concurrent list and search calls share one computation
+ * @param cacheTtl        how long a result is reused after it completes; zero disables the result cache
+ * @param cacheMaxEntries the most results kept at once
+ */
+@ConfigurationProperties("coalescing")
+public record CoalescingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0s") Duration cacheTtl,
+        @DefaultValue("1000") int cacheMaxEntries) {
+}
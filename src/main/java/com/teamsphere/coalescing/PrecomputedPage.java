@@ -0,0 +1,95 @@
+package com.teamsphere.coalescing;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Page that carries its own JSON, serialized once when it was cached and written verbatim for every response
+ * that reuses it.
+ *
+ * @param <T> the content type
+ */
+@JsonSerialize(using = PrecomputedPage.Serializer.class)
+public class PrecomputedPage<T> extends PageImpl<T> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final transient SerializedString json;
+
+    private PrecomputedPage(Page<T> page, SerializedString json) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.json = json;
+    }
+
+    /**
+     * Serializes a page with the application's object mapper.
+     *
+     * @param page         the page to serialize
+     * @param objectMapper the mapper used for responses
+     * @param <T>          the content type
+     * @return the page with its JSON attached
+     */
+    public static <T> PrecomputedPage<T> of(Page<T> page, ObjectMapper objectMapper) {
+        if (page instanceof PrecomputedPage<T> precomputed) {
+            return precomputed;
+        }
+        try {
+            SerializedString json = new SerializedString(
+                    new String(objectMapper.writeValueAsBytes(page), StandardCharsets.UTF_8));
+            json.asUnquotedUTF8();
+            return new PrecomputedPage<>(page, json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the size of the serialized page.
+     *
+     * @return number of UTF-8 bytes
+     */
+    public int jsonSize() {
+        return json.asUnquotedUTF8().length;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Writes the precomputed JSON as-is.
+     */
+    static class Serializer extends StdSerializer<PrecomputedPage<?>> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        Serializer() {
+            super(PrecomputedPage.class, false);
+        }
+
+        @Override
+        public void serialize(PrecomputedPage<?> page, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeRawValue(page.json);
+        }
+    }
+}
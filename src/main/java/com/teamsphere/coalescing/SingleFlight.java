@@ -0,0 +1,85 @@
+package com.teamsphere.coalescing;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Runs at most one computation per key at a time; callers arriving while it runs wait for and share its
+ * outcome, including its exception. Nothing is remembered once the computation completes.
+ *
+ * @param <K> the key type
+ */
+public class SingleFlight<K> {
+
+    private final Map<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * A computation that may throw anything its caller may throw.
+     *
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    public interface Call<T> {
+
+        /**
+         * Runs the computation.
+         *
+         * @return the result
+         * @throws Throwable whatever the computation throws
+         */
+        T call() throws Throwable;
+    }
+
+    /**
+     * Outcome of {@link #execute}.
+     *
+     * @param value  the computed value
+     * @param shared whether the value was computed by another caller
+     * @param <T>    the result type
+     */
+    public record Result<T>(T value, boolean shared) {
+    }
+
+    /**
+     * Runs the computation unless one for the same key is already running, in which case waits for that one.
+     *
+     * @param key  the key identifying identical computations
+     * @param call the computation
+     * @param <T>  the result type
+     * @return the result and whether it was shared
+     * @throws Throwable whatever the computation throws
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<T> execute(K key, Call<T> call) throws Throwable {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            try {
+                return new Result<>((T) running.get(), true);
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        }
+        try {
+            T value = call.call();
+            mine.complete(value);
+            return new Result<>(value, false);
+        } catch (Throwable e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Returns the number of computations currently running.
+     *
+     * @return running computations
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+}
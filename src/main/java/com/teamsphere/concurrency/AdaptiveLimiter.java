@@ -0,0 +1,93 @@
+package com.teamsphere.concurrency;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admits requests while fewer than the current {@link GradientLimit} are in flight and rejects the rest.
+ */
+public class AdaptiveLimiter {
+
+    private final GradientLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Creates a limiter around a limit.
+     *
+     * @param limit the adaptive limit
+     */
+    public AdaptiveLimiter(GradientLimit limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Admits a request if there is room under the limit.
+     *
+     * @return the permit to complete once the request is done, or empty when the request must be shed
+     */
+    public Optional<Permit> tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit.getLimit()) {
+                return Optional.empty();
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return Optional.of(new Permit(current + 1, System.nanoTime()));
+    }
+
+    /**
+     * Returns the number of admitted requests still in flight.
+     *
+     * @return requests in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Returns the current limit.
+     *
+     * @return requests allowed in flight
+     */
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    /**
+     * An admitted request. Exactly one of the completion methods must be called.
+     */
+    public final class Permit {
+
+        private final int inFlightAtStart;
+        private final long startNanos;
+
+        private Permit(int inFlightAtStart, long startNanos) {
+            this.inFlightAtStart = inFlightAtStart;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Completes a request whose latency reflects the endpoint's capacity.
+         */
+        public void onSuccess() {
+            inFlight.decrementAndGet();
+            limit.onSample(System.nanoTime() - startNanos, inFlightAtStart, false);
+        }
+
+        /**
+         * Completes a request that failed because a downstream resource was exhausted.
+         */
+        public void onDropped() {
+            inFlight.decrementAndGet();
+            limit.onSample(System.nanoTime() - startNanos, inFlightAtStart, true);
+        }
+
+        /**
+         * Completes a request whose latency says nothing about capacity, such as a rejected one.
+         */
+        public void onIgnore() {
+            inFlight.decrementAndGet();
+        }
+    }
+}
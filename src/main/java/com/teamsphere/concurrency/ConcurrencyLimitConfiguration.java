@@ -0,0 +1,37 @@
+package com.teamsphere.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration of the adaptive concurrency limits.
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfiguration {
+
+    /**
+     * Registers the concurrency limit filter right after allocation accounting and ahead of security,
+     * so shed requests cost as little as possible. Enabled by {@code concurrency.limit.enabled}.
+     *
+     * @param properties    the limit settings
+     * @param meterRegistry the registry to publish the limit metrics to
+     * @param objectMapper  the mapper used to write the error body
+     * @return the filter registration
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "concurrency.limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ConcurrencyLimitProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(properties, meterRegistry, objectMapper));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
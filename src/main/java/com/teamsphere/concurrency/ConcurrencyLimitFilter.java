@@ -0,0 +1,120 @@
+package com.teamsphere.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamsphere.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Filter that sheds requests over the adaptive concurrency limit of their {@link EndpointClass}.
+ *
+ * <p>Shed requests get {@code 503 Service Unavailable} with {@code Retry-After} straight away instead of
+ * queueing for a Tomcat thread or a database connection. Admitted requests feed their latency back into the
+ * limit; a {@code 503} from downstream counts as dropped and client errors are ignored.</p>
+ *
+ * <p>Publishes {@code http.server.concurrency.limit} and {@code http.server.concurrency.in-flight} gauges and a
+ * {@code http.server.requests.shed} counter, each tagged with the endpoint {@code class}.</p>
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Map<EndpointClass, AdaptiveLimiter> limiters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> shed = new EnumMap<>(EndpointClass.class);
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+
+    /**
+     * Creates the filter with one limiter per endpoint class.
+     *
+     * @param properties    the limit settings
+     * @param meterRegistry the registry to publish the limit metrics to
+     * @param objectMapper  the mapper used to write the error body
+     */
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry,
+                                  ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, properties.retryAfter().toSeconds()));
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            ConcurrencyLimitProperties.Bounds bounds = properties.bounds(endpointClass);
+            AdaptiveLimiter limiter = new AdaptiveLimiter(
+                    new GradientLimit(bounds.initial(), bounds.min(), bounds.max()));
+            limiters.put(endpointClass, limiter);
+            Gauge.builder("http.server.concurrency.limit", limiter, AdaptiveLimiter::getLimit)
+                    .description("Adaptive concurrency limit")
+                    .tag("class", endpointClass.tag())
+                    .register(meterRegistry);
+            Gauge.builder("http.server.concurrency.in-flight", limiter, AdaptiveLimiter::getInFlight)
+                    .description("Requests admitted and still in flight")
+                    .tag("class", endpointClass.tag())
+                    .register(meterRegistry);
+            shed.put(endpointClass, Counter.builder("http.server.requests.shed")
+                    .description("Requests rejected over the concurrency limit")
+                    .tag("class", endpointClass.tag())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request);
+        Optional<AdaptiveLimiter.Permit> permit = limiters.get(endpointClass).tryAcquire();
+        if (permit.isEmpty()) {
+            shed.get(endpointClass).increment();
+            log.debug("Shedding {} {} over the {} limit", request.getMethod(), request.getRequestURI(), endpointClass.tag());
+            reject(request, response);
+            return;
+        }
+
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            int status = response.getStatus();
+            if (!completed || (status >= 400 && status != HttpStatus.SERVICE_UNAVAILABLE.value())) {
+                permit.get().onIgnore();
+            } else if (status == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+                permit.get().onDropped();
+            } else {
+                permit.get().onSuccess();
+            }
+        }
+    }
+
+    /**
+     * Returns the limiter of an endpoint class.
+     *
+     * @param endpointClass the endpoint class
+     * @return its limiter
+     */
+    AdaptiveLimiter limiter(EndpointClass endpointClass) {
+        return limiters.get(endpointClass);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+                "Server is busy, please retry", LocalDateTime.now());
+        errorResponse.setPath(request.getRequestURI());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
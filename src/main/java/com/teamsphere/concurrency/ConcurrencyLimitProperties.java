@@ -0,0 +1,49 @@
+package com.teamsphere.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Adaptive concurrency limit settings bound from {@code concurrency.limit}.
+ *
+ * @param enabled    whether requests over the limit are shed
+ * @param retryAfter the {@code Retry-After} sent with shed requests
+ * @param classes    limit bounds per endpoint class; classes without an entry use {@link Bounds#DEFAULT}
+ */
+@ConfigurationProperties("concurrency.limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1s") Duration retryAfter,
+        @DefaultValue Map<EndpointClass, Bounds> classes) {
+
+    /**
+     * Returns the bounds of an endpoint class.
+     *
+     * @param endpointClass the endpoint class
+     * @return its configured bounds, or the defaults
+     */
+    public Bounds bounds(EndpointClass endpointClass) {
+        return classes.getOrDefault(endpointClass, Bounds.DEFAULT);
+    }
+
+    /**
+     * Bounds of one adaptive limit.
+     *
+     * @param initial the starting limit
+     * @param min     the lowest the limit may go
+     * @param max     the highest the limit may go
+     */
+    public record Bounds(
+            @DefaultValue("20") int initial,
+            @DefaultValue("4") int min,
+            @DefaultValue("200") int max) {
+
+        /**
+         * Bounds used for classes without configuration.
+         */
+        public static final Bounds DEFAULT = new Bounds(20, 4, 200);
+    }
+}
@@ -0,0 +1,69 @@
+package com.teamsphere.concurrency;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Locale;
+
+/**
+ * Classes of endpoints that get their own concurrency limit, so a flood of one kind of request
+ * cannot use up the capacity of the others.
+ */
+public enum EndpointClass {
+
+    /**
+     * Login and registration.
+     */
+    AUTH,
+
+    /**
+     * Single-entity and list reads, including structured filters.
+     */
+    READ,
+
+    /**
+     * Free-text searches.
+     */
+    SEARCH,
+
+    /**
+     * Creates, updates and deletes.
+     */
+    WRITE,
+
+    /**
+     * Administrative downloads, exports and reports.
+     */
+    BULK;
+
+    /**
+     * Classifies a request by its method and path.
+     *
+     * @param request the request
+     * @return the endpoint class
+     */
+    public static EndpointClass of(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.contains("/auth/")) {
+            return AUTH;
+        }
+        if (path.contains("/admin/") || path.contains("/export") || path.contains("/report")) {
+            return BULK;
+        }
+        if (path.endsWith("/search")) {
+            return SEARCH;
+        }
+        if (path.endsWith("/filter")) {
+            return READ;
+        }
+        return "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()) ? READ : WRITE;
+    }
+
+    /**
+     * Returns the name used in metric tags and configuration keys.
+     *
+     * @return the lower-case name
+     */
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
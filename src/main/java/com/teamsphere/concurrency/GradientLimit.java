@@ -0,0 +1,76 @@
+package com.teamsphere.concurrency;
+
+/**
+ * Concurrency limit that follows the ratio between the long-term and the current request latency.
+ *
+ * <p>While latency stays close to its long-term average the limit grows by a small queue allowance; when
+ * requests get slower than the average the limit shrinks in proportion, down to half per sample. Dropped
+ * requests, such as ones that could not get a database connection, cut the limit by a tenth. Samples taken
+ * while less than half of the limit was in use may shrink the limit but do not grow it, so an idle endpoint
+ * does not drift to the maximum. Changes are smoothed, and the long-term average is pulled down whenever it exceeds twice the
+ * current latency, so it recovers after a slow period.</p>
+ */
+public class GradientLimit {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double TOLERANCE = 1.5;
+    private static final double LONG_WINDOW = 600;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private double limit;
+    private double longRtt;
+
+    /**
+     * Creates the limit.
+     *
+     * @param initialLimit the starting limit
+     * @param minLimit     the lowest the limit may go
+     * @param maxLimit     the highest the limit may go
+     */
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid limit bounds: " + minLimit + ".." + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * Returns the current limit.
+     *
+     * @return number of requests allowed in flight
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Updates the limit with a completed request.
+     *
+     * @param rttNanos the request latency in nanoseconds
+     * @param inFlight number of requests in flight when this one started
+     * @param dropped  whether the request was dropped because a downstream resource was exhausted
+     */
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            limit = Math.max(minLimit, limit * DROP_BACKOFF);
+            return;
+        }
+        double rtt = Math.max(1, rttNanos);
+        longRtt = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) / LONG_WINDOW;
+        if (longRtt / rtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double gradient = Math.clamp(TOLERANCE * longRtt / rtt, 0.5, 1.0);
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        if (newLimit > limit && inFlight < limit / 2) {
+            return;
+        }
+        limit = Math.clamp(newLimit, minLimit, maxLimit);
+    }
+}
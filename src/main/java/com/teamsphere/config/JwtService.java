@@ -1,5 +1,6 @@
 package com.teamsphere.config;
 
+import com.teamsphere.monitoring.JwtVerificationEvent;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -121,14 +122,24 @@ public class JwtService {
      * @return true if the token is valid, false otherwise
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        boolean isValid = false;
         try {
             final String username = extractUsername(token);
-            boolean isValid = (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+            isValid = (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
             log.info("Token validation result for user {}: {}", userDetails.getUsername(), isValid);
             return isValid;
         } catch (io.jsonwebtoken.JwtException e) {
             log.warn("Invalid JWT: {}", e.getMessage());
             return false;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setUsername(userDetails.getUsername());
+                event.setValid(isValid);
+                event.commit();
+            }
         }
     }
 
@@ -1,5 +1,6 @@
 package com.teamsphere.config;
 
+import com.teamsphere.monitoring.RequestRecordingFilter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -34,6 +35,8 @@ public class SecurityConfiguration {
 
     private final AuthenticationProvider authProvider;
 
+    private final RequestRecordingFilter requestRecordingFilter;
+
     private static final String BASE_URL = "/api/v1/";
     public static final String COMPANY_URL = BASE_URL + "company";
     public static final String DEPARTMENT_URL = BASE_URL + "department";
@@ -42,6 +45,16 @@ public class SecurityConfiguration {
     public static final String PROJECT_URL = BASE_URL + "project";
     public static final String TASK_URL = BASE_URL + "task";
     public static final String SEARCH_URL = BASE_URL + "search";
+    public static final String FILTER_URL = "/filter";
+    public static final String SUGGEST_URL = "/suggest";
+    public static final String ACTIVE_URL = "/active";
+    public static final String PROJECT_OVERLAPS_URL = "/*/project-overlaps";
+    public static final String STATS_URL = "/stats";
+    public static final String STAFF_URL = "/staff/**";
+    public static final String STAFF_OVERLAPS_URL = "/*/staff-overlaps";
+    public static final String ADMIN_URL = BASE_URL + "admin";
+    public static final String REPORT_URL = BASE_URL + "report";
+    public static final String ACTUATOR_URL = "/actuator";
     public static final String ROLE_ADMIN = "ADMIN";
 
     /**
@@ -85,6 +98,7 @@ public class SecurityConfiguration {
                                 .requestMatchers(HttpMethod.GET, COMPANY_URL).hasAnyRole("USER", ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.POST, COMPANY_URL).hasRole(ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.POST, COMPANY_URL + SEARCH_URL).hasRole(ROLE_ADMIN)
+                                .requestMatchers(HttpMethod.GET, COMPANY_URL + SUGGEST_URL).hasAnyRole("USER", ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.DELETE, COMPANY_URL).hasRole(ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.PUT, COMPANY_URL).hasRole(ROLE_ADMIN)
 
@@ -99,6 +113,9 @@ public class SecurityConfiguration {
                                 .requestMatchers(HttpMethod.GET, EMPLOYEE_URL).hasAnyRole("USER", ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.POST, EMPLOYEE_URL).hasRole(ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.POST, EMPLOYEE_URL + SEARCH_URL).hasRole(ROLE_ADMIN)
+                                .requestMatchers(HttpMethod.GET, EMPLOYEE_URL + SUGGEST_URL).hasAnyRole("USER", ROLE_ADMIN)
+                                .requestMatchers(HttpMethod.GET, EMPLOYEE_URL + PROJECT_OVERLAPS_URL).hasAnyRole("USER", ROLE_ADMIN)
+                                .requestMatchers(HttpMethod.POST, EMPLOYEE_URL + FILTER_URL).hasAnyRole("USER", ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.DELETE, EMPLOYEE_URL).hasRole(ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.PUT, EMPLOYEE_URL).hasRole(ROLE_ADMIN)
 
@@ -113,21 +130,40 @@ public class SecurityConfiguration {
                                 .requestMatchers(HttpMethod.GET, PROJECT_URL).hasAnyRole("USER", ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.POST, PROJECT_URL).hasRole(ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.POST, PROJECT_URL + SEARCH_URL).hasRole(ROLE_ADMIN)
+                                .requestMatchers(HttpMethod.GET, PROJECT_URL + SUGGEST_URL).hasAnyRole("USER", ROLE_ADMIN)
+                                .requestMatchers(HttpMethod.GET, PROJECT_URL + ACTIVE_URL).hasAnyRole("USER", ROLE_ADMIN)
+                                .requestMatchers(HttpMethod.GET, PROJECT_URL + STAFF_URL).hasAnyRole("USER", ROLE_ADMIN)
+                                .requestMatchers(HttpMethod.GET, PROJECT_URL + STAFF_OVERLAPS_URL).hasAnyRole("USER", ROLE_ADMIN)
+                                .requestMatchers(HttpMethod.POST, PROJECT_URL + FILTER_URL).hasAnyRole("USER", ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.DELETE, PROJECT_URL).hasRole(ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.PUT, PROJECT_URL).hasRole(ROLE_ADMIN)
 
                                 //Task
                                 .requestMatchers(HttpMethod.GET, TASK_URL).hasAnyRole("USER", ROLE_ADMIN)
+                                .requestMatchers(HttpMethod.GET, TASK_URL + STATS_URL).hasAnyRole("USER", ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.POST, TASK_URL).hasRole(ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.POST, TASK_URL + SEARCH_URL).hasRole(ROLE_ADMIN)
+                                .requestMatchers(HttpMethod.POST, TASK_URL + FILTER_URL).hasAnyRole("USER", ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.DELETE, TASK_URL).hasRole(ROLE_ADMIN)
                                 .requestMatchers(HttpMethod.PUT, TASK_URL).hasRole(ROLE_ADMIN)
 
+                                //Search
+                                .requestMatchers(HttpMethod.POST, SEARCH_URL).hasRole(ROLE_ADMIN)
+
+                                //Report
+                                .requestMatchers(HttpMethod.GET, REPORT_URL + "/**").hasRole(ROLE_ADMIN)
+
+                                //Admin
+                                .requestMatchers(ADMIN_URL + "/**").hasRole(ROLE_ADMIN)
+                                .requestMatchers(ACTUATOR_URL + "/health").permitAll()
+                                .requestMatchers(ACTUATOR_URL + "/**").hasRole(ROLE_ADMIN)
+
                                 .anyRequest().authenticated())
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(corsConfigurer -> corsConfigurer.configurationSource(corsConfigurer()))
                 .authenticationProvider(authProvider)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(requestRecordingFilter, JwtAuthenticationFilter.class)
                 .exceptionHandling(exceptionHandler ->
                         exceptionHandler.authenticationEntryPoint((request, response, authException) ->
                                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, authException.getMessage())
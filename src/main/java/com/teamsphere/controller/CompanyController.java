@@ -2,6 +2,7 @@ package com.teamsphere.controller;
 
 import com.teamsphere.dto.company.CompanyDto;
 import com.teamsphere.dto.company.CompanySearchRequest;
+import com.teamsphere.dto.suggest.SuggestionDto;
 import com.teamsphere.exception.NotFoundException;
 import com.teamsphere.service.CompanyService;
 import jakarta.validation.Valid;
@@ -13,6 +14,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
 
 /**
  * REST controller for company management operations.
@@ -39,6 +41,19 @@ public class CompanyController {
         return ResponseEntity.ok(companyService.find(findCompany, pageable));
     }
 
+    /**
+     * Suggests companies whose name starts with the typed text, for type-ahead fields.
+     *
+     * @param prefix the typed text
+     * @param limit  the number of suggestions wanted; the configured default when omitted
+     * @return ResponseEntity containing the matching names
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggestCompanies(@RequestParam String prefix,
+                                                                @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(companyService.suggest(prefix, limit));
+    }
+
     /**
      * Creates a new company.
      *
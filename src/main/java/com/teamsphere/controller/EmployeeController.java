@@ -1,7 +1,10 @@
 package com.teamsphere.controller;
 
 import com.teamsphere.dto.employee.EmployeeDto;
+import com.teamsphere.dto.employee.EmployeeFilterRequest;
 import com.teamsphere.dto.employee.EmployeeSearchRequest;
+import com.teamsphere.dto.employee.ProjectOverlapDto;
+import com.teamsphere.dto.suggest.SuggestionDto;
 import com.teamsphere.exception.NotFoundException;
 import com.teamsphere.service.EmployeeService;
 import jakarta.validation.Valid;
@@ -13,6 +16,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
 
 /**
  * REST controller for employee management operations.
@@ -39,6 +43,31 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.find(findEmployee, pageable));
     }
 
+    /**
+     * Filters employees by structured conditions with pagination.
+     *
+     * @param filter   the filter conditions for employees
+     * @param pageable pagination information
+     * @return ResponseEntity containing a page of matching employees
+     */
+    @PostMapping("/filter")
+    public ResponseEntity<Page<EmployeeDto>> filterEmployees(@RequestBody EmployeeFilterRequest filter, Pageable pageable) {
+        return ResponseEntity.ok(employeeService.filter(filter, pageable));
+    }
+
+    /**
+     * Suggests employees whose name starts with the typed text, for type-ahead fields.
+     *
+     * @param prefix the typed text
+     * @param limit  the number of suggestions wanted; the configured default when omitted
+     * @return ResponseEntity containing the matching names
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggestEmployees(@RequestParam String prefix,
+                                                                @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(employeeService.suggest(prefix, limit));
+    }
+
     /**
      * Creates a new employee.
      *
@@ -63,6 +92,17 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.get(employeeId));
     }
 
+    /**
+     * Lists the projects of an employee that run at the same time.
+     *
+     * @param employeeId the ID of the employee
+     * @return ResponseEntity containing every overlapping pair of the employee's projects
+     */
+    @GetMapping("{id}/project-overlaps")
+    public ResponseEntity<List<ProjectOverlapDto>> getProjectOverlaps(@PathVariable("id") Long employeeId) {
+        return ResponseEntity.ok(employeeService.findProjectOverlaps(employeeId));
+    }
+
     /**
      * Retrieves all employees with pagination.
      *
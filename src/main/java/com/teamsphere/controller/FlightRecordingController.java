@@ -0,0 +1,86 @@
+package com.teamsphere.controller;
+
+import com.teamsphere.dto.monitoring.RecordingStatus;
+import com.teamsphere.monitoring.FlightRecordingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * REST controller for the continuous JDK Flight Recorder recording.
+ * Lets administrators start, stop and download the recording for analysis in JDK Mission Control.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/admin/recording")
+@Validated
+public class FlightRecordingController {
+
+    private final FlightRecordingService flightRecordingService;
+
+    /**
+     * Retrieves the status of the continuous recording.
+     *
+     * @return ResponseEntity containing the recording status, or 404 if no recording was started
+     */
+    @GetMapping
+    public ResponseEntity<RecordingStatus> getRecordingStatus() {
+        return ResponseEntity.of(flightRecordingService.status());
+    }
+
+    /**
+     * Starts the continuous recording.
+     *
+     * @return ResponseEntity containing the recording status
+     */
+    @PostMapping("/start")
+    public ResponseEntity<RecordingStatus> startRecording() {
+        return ResponseEntity.ok(flightRecordingService.start());
+    }
+
+    /**
+     * Stops the continuous recording.
+     *
+     * @return ResponseEntity containing the recording status, or 404 if no recording is running
+     */
+    @PostMapping("/stop")
+    public ResponseEntity<RecordingStatus> stopRecording() {
+        return ResponseEntity.of(flightRecordingService.stop());
+    }
+
+    /**
+     * Downloads the recorded data as a {@code .jfr} file.
+     * The temporary dump is deleted once the response body has been written.
+     *
+     * @return ResponseEntity containing the recording, or 404 if no recording was started
+     * @throws IOException if the dump cannot be written
+     */
+    @GetMapping("/dump")
+    public ResponseEntity<InputStreamResource> dumpRecording() throws IOException {
+        Optional<Path> dump = flightRecordingService.dump();
+        if (dump.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Path file = dump.get();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Files.size(file))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("teamsphere.jfr").build().toString())
+                .body(new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)));
+    }
+}
@@ -1,18 +1,27 @@
 package com.teamsphere.controller;
 
 import com.teamsphere.dto.project.ProjectDto;
+import com.teamsphere.dto.project.ProjectFilterRequest;
 import com.teamsphere.dto.project.ProjectSearchRequest;
+import com.teamsphere.dto.project.ProjectStaffingDto;
+import com.teamsphere.dto.project.SharedStaffDto;
+import com.teamsphere.dto.project.StaffOverlapDto;
+import com.teamsphere.dto.suggest.SuggestionDto;
 import com.teamsphere.exception.NotFoundException;
 import com.teamsphere.service.ProjectService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
 
 /**
  * REST controller for project management operations.
@@ -39,6 +48,84 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.find(findProject, pageable));
     }
 
+    /**
+     * Filters projects by structured conditions with pagination.
+     *
+     * @param filter   the filter conditions for projects
+     * @param pageable pagination information
+     * @return ResponseEntity containing a page of matching projects
+     */
+    @PostMapping("/filter")
+    public ResponseEntity<Page<ProjectDto>> filterProjects(@RequestBody ProjectFilterRequest filter, Pageable pageable) {
+        return ResponseEntity.ok(projectService.filter(filter, pageable));
+    }
+
+    /**
+     * Suggests projects whose name starts with the typed text, for type-ahead fields.
+     *
+     * @param prefix the typed text
+     * @param limit  the number of suggestions wanted; the configured default when omitted
+     * @return ResponseEntity containing the matching names
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggestProjects(@RequestParam String prefix,
+                                                               @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(projectService.suggest(prefix, limit));
+    }
+
+    /**
+     * Lists the projects running on any day of a window, latest start first.
+     *
+     * @param from     the first day of the window
+     * @param to       the last day of the window
+     * @param pageable pagination information
+     * @return ResponseEntity containing a page of active projects
+     */
+    @GetMapping("/active")
+    public ResponseEntity<Page<ProjectDto>> getActiveProjects(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Pageable pageable) {
+        return ResponseEntity.ok(projectService.findActive(from, to, pageable));
+    }
+
+    /**
+     * Lists the employees working on every one of the given projects.
+     *
+     * @param projectIds   the projects, given as repeated {@code projectId} parameters; at least one
+     * @param departmentId the department to limit the employees to; any department when omitted
+     * @return ResponseEntity containing the shared employees
+     */
+    @GetMapping("/staff/shared")
+    public ResponseEntity<SharedStaffDto> getSharedStaff(@RequestParam("projectId") @NotEmpty List<Long> projectIds,
+                                                         @RequestParam(required = false) Long departmentId) {
+        return ResponseEntity.ok(projectService.findSharedStaff(projectIds, departmentId));
+    }
+
+    /**
+     * Counts the employees of projects, overall and per department.
+     *
+     * @param projectIds the projects, given as repeated {@code projectId} parameters; every staffed project when
+     *                   omitted
+     * @return ResponseEntity containing the counts by project
+     */
+    @GetMapping("/staff/counts")
+    public ResponseEntity<List<ProjectStaffingDto>> getStaffCounts(
+            @RequestParam(name = "projectId", required = false) List<Long> projectIds) {
+        return ResponseEntity.ok(projectService.countStaff(projectIds != null ? projectIds : List.of()));
+    }
+
+    /**
+     * Lists the projects sharing employees with a project, most shared first.
+     *
+     * @param projectId the ID of the project
+     * @return ResponseEntity containing the other projects with their number of shared employees
+     */
+    @GetMapping("{id}/staff-overlaps")
+    public ResponseEntity<List<StaffOverlapDto>> getStaffOverlaps(@PathVariable("id") Long projectId) {
+        return ResponseEntity.ok(projectService.findStaffOverlaps(projectId));
+    }
+
     /**
      * Creates a new project.
      *
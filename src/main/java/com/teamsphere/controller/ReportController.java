@@ -0,0 +1,49 @@
+package com.teamsphere.controller;
+
+import com.teamsphere.dto.report.ReportDimension;
+import com.teamsphere.dto.report.TimeSpentReportDto;
+import com.teamsphere.dto.report.TimeSpentReportRequest;
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+import com.teamsphere.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * REST controller for reports over tasks.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/report")
+@Validated
+public class ReportController {
+
+    private final ReportService reportService;
+
+    /**
+     * Reports the number of tasks and the time spent on them, grouped and rolled up.
+     *
+     * @param groupBy  the dimensions to group by, outermost first; only the total when omitted
+     * @param status   only tasks with one of these statuses
+     * @param type     only tasks of one of these types
+     * @param priority only tasks with one of these priorities
+     * @return ResponseEntity containing a row per group, the subtotals of the enclosing groups and the total
+     */
+    @GetMapping("/time-spent")
+    public ResponseEntity<TimeSpentReportDto> getTimeSpent(
+            @RequestParam(required = false) List<ReportDimension> groupBy,
+            @RequestParam(required = false) Set<TaskStatus> status,
+            @RequestParam(required = false) Set<TaskType> type,
+            @RequestParam(required = false) Set<TaskPriority> priority) {
+        return ResponseEntity.ok(reportService.timeSpent(new TimeSpentReportRequest(groupBy, status, type, priority)));
+    }
+}
@@ -0,0 +1,36 @@
+package com.teamsphere.controller;
+
+import com.teamsphere.dto.search.GlobalSearchRequest;
+import com.teamsphere.dto.search.GlobalSearchResponse;
+import com.teamsphere.service.GlobalSearchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for searching all resources at once.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/search")
+@Validated
+public class SearchController {
+
+    private final GlobalSearchService globalSearchService;
+
+    /**
+     * Searches employees, companies, projects and tasks for the query.
+     *
+     * @param request the query and the number of results wanted per resource
+     * @return ResponseEntity containing the best matches per resource
+     */
+    @PostMapping
+    public ResponseEntity<GlobalSearchResponse> search(@Valid @RequestBody GlobalSearchRequest request) {
+        return ResponseEntity.ok(globalSearchService.search(request));
+    }
+}
@@ -0,0 +1,66 @@
+package com.teamsphere.controller;
+
+import com.teamsphere.dto.report.TaskAggregateDto;
+import com.teamsphere.dto.report.TaskAggregateRequest;
+import com.teamsphere.dto.report.TaskDimension;
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+import com.teamsphere.service.TaskAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * REST controller for aggregates over the in-memory copy of the tasks.
+ * Enabled by {@code task-analytics.enabled}.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/report")
+@Validated
+@ConditionalOnProperty(prefix = "task-analytics", name = "enabled", havingValue = "true")
+public class TaskAnalyticsController {
+
+    private final TaskAnalyticsService taskAnalyticsService;
+
+    /**
+     * Counts tasks and the time spent on them by group, without querying the database.
+     *
+     * @param groupBy     the dimensions to group by, outermost first; only the total when omitted
+     * @param status      only tasks with one of these statuses
+     * @param type        only tasks of one of these types
+     * @param priority    only tasks with one of these priorities
+     * @param employeeId  only tasks assigned to one of these employees
+     * @param createdFrom only tasks created at or after this time
+     * @param createdTo   only tasks created before this time
+     * @param updatedFrom only tasks updated at or after this time
+     * @param updatedTo   only tasks updated before this time
+     * @return ResponseEntity containing a row per non-empty group
+     */
+    @GetMapping("/tasks")
+    public ResponseEntity<TaskAggregateDto> getTaskAggregate(
+            @RequestParam(required = false) List<TaskDimension> groupBy,
+            @RequestParam(required = false) Set<TaskStatus> status,
+            @RequestParam(required = false) Set<TaskType> type,
+            @RequestParam(required = false) Set<TaskPriority> priority,
+            @RequestParam(required = false) Set<Long> employeeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime updatedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime updatedTo) {
+        return ResponseEntity.ok(taskAnalyticsService.aggregate(new TaskAggregateRequest(groupBy, status, type,
+                priority, employeeId, createdFrom, createdTo, updatedFrom, updatedTo)));
+    }
+}
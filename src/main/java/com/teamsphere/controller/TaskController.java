@@ -1,7 +1,9 @@
 package com.teamsphere.controller;
 
 import com.teamsphere.dto.task.TaskDto;
+import com.teamsphere.dto.task.TaskFilterRequest;
 import com.teamsphere.dto.task.TaskSearchRequest;
+import com.teamsphere.dto.task.TaskStatsDto;
 import com.teamsphere.exception.NotFoundException;
 import com.teamsphere.service.TaskService;
 import jakarta.validation.Valid;
@@ -13,6 +15,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
 
 /**
  * REST controller for task management operations.
@@ -39,6 +42,18 @@ public class TaskController {
         return ResponseEntity.ok(taskService.find(findTask, pageable));
     }
 
+    /**
+     * Filters tasks by structured conditions with pagination.
+     *
+     * @param filter   the filter conditions for tasks
+     * @param pageable pagination information
+     * @return ResponseEntity containing a page of matching tasks
+     */
+    @PostMapping("/filter")
+    public ResponseEntity<Page<TaskDto>> filterTasks(@RequestBody TaskFilterRequest filter, Pageable pageable) {
+        return ResponseEntity.ok(taskService.filter(filter, pageable));
+    }
+
     /**
      * Creates a new task.
      *
@@ -52,6 +67,19 @@ public class TaskController {
         return ResponseEntity.created(location).body(created);
     }
 
+    /**
+     * Returns the task counts by status, overall and per employee, type and priority.
+     * The counts are kept in memory, so this never queries the database.
+     *
+     * @param employeeIds the employees to count tasks of; all employees with tasks when omitted
+     * @return ResponseEntity containing the task counts
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsDto> getTaskStats(
+            @RequestParam(name = "employeeId", required = false) List<Long> employeeIds) {
+        return ResponseEntity.ok(taskService.stats(employeeIds == null ? List.of() : employeeIds));
+    }
+
     /**
      * Retrieves a task by its ID.
      *
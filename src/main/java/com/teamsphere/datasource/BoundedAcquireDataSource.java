@@ -0,0 +1,133 @@
+package com.teamsphere.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource that bounds how many callers may hold or wait for a pooled connection.
+ *
+ * <p>With virtual threads every request gets its own thread, so thousands of them can reach the pool at
+ * once. Instead of letting all of them queue inside HikariCP until its connection timeout, callers take a
+ * permit from a fair semaphore sized to the pool first. At most {@code maxWaiting} callers may queue for a
+ * permit and each waits at most {@code acquireTimeout}; everyone else fails fast with
+ * {@link ConnectionAcquireTimeoutException}. The permit is returned when the connection is closed.</p>
+ */
+public class BoundedAcquireDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxWaiting;
+    private final long acquireTimeoutNanos;
+
+    /**
+     * Creates the bounded data source.
+     *
+     * @param target         the pooled data source to delegate to
+     * @param maxConnections number of connections that may be checked out at once, normally the pool size
+     * @param maxWaiting     number of callers allowed to queue for a connection
+     * @param acquireTimeout how long a queued caller waits before giving up
+     */
+    public BoundedAcquireDataSource(DataSource target, int maxConnections, int maxWaiting, Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(maxConnections, true);
+        this.maxWaiting = maxWaiting;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquirePermit();
+        return guard(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquirePermit();
+        return guard(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Returns the number of connections that can still be handed out without waiting.
+     *
+     * @return available permits
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of callers waiting for a connection.
+     *
+     * @return queued callers
+     */
+    public int waitingCallers() {
+        return permits.getQueueLength();
+    }
+
+    private void acquirePermit() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (permits.getQueueLength() >= maxWaiting) {
+            throw new ConnectionAcquireTimeoutException(
+                    "Connection pool saturated: " + maxWaiting + " callers already waiting");
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new ConnectionAcquireTimeoutException("Timed out after "
+                        + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + " ms waiting for a connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectionAcquireTimeoutException("Interrupted while waiting for a connection");
+        }
+    }
+
+    private Connection guard(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            try {
+                                connection.close();
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    permits.release();
+                                }
+                            }
+                            return null;
+                        default:
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
@@ -0,0 +1,19 @@
+package com.teamsphere.datasource;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Thrown when a connection permit cannot be obtained in time or too many callers are already waiting.
+ * Transient: the request can be retried once the pool drains.
+ */
+public class ConnectionAcquireTimeoutException extends SQLTransientConnectionException {
+
+    /**
+     * Constructs a new exception with the given reason.
+     *
+     * @param reason why no connection was handed out
+     */
+    public ConnectionAcquireTimeoutException(String reason) {
+        super(reason);
+    }
+}
@@ -0,0 +1,41 @@
+package com.teamsphere.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Selects the named connection pool for the annotated method, or for every method of the annotated type.
+ *
+ * <p>Only takes effect when {@code datasource.pools.enabled} is set. The outermost annotated call wins, since
+ * a transaction keeps the connection it started with. Calls without an annotation use the default pool.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ConnectionPool {
+
+    /**
+     * Pool for login, registration and token verification.
+     */
+    String AUTH = "auth";
+
+    /**
+     * Pool for short CRUD transactions; the default.
+     */
+    String OLTP = "oltp";
+
+    /**
+     * Pool for searches, exports and reports.
+     */
+    String ANALYTICS = "analytics";
+
+    /**
+     * Returns the pool name.
+     *
+     * @return the name of a pool under {@code datasource.pools.instances}
+     */
+    String value();
+}
@@ -0,0 +1,51 @@
+package com.teamsphere.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Aspect that selects the {@link ConnectionPool} of the called method or type for the duration of the call.
+ *
+ * <p>Runs before the transaction interceptor so the pool is chosen before a connection is fetched.
+ * Registered by {@link DataSourceConfiguration} when named pools are enabled.</p>
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConnectionPoolAspect {
+
+    /**
+     * Selects the pool unless an outer call already did.
+     *
+     * @param joinPoint the intercepted call
+     * @return the value returned by the call
+     * @throws Throwable whatever the call throws
+     */
+    @Around("@annotation(com.teamsphere.datasource.ConnectionPool) "
+            + "|| @within(com.teamsphere.datasource.ConnectionPool) "
+            + "|| execution(* (@com.teamsphere.datasource.ConnectionPool com.teamsphere..*)+.*(..))")
+    public Object selectPool(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (ConnectionPoolContext.current() != null) {
+            return joinPoint.proceed();
+        }
+        ConnectionPoolContext.set(poolOf(joinPoint));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ConnectionPoolContext.set(null);
+        }
+    }
+
+    private static String poolOf(ProceedingJoinPoint joinPoint) {
+        ConnectionPool pool = AnnotatedElementUtils.findMergedAnnotation(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), ConnectionPool.class);
+        if (pool == null) {
+            pool = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getThis().getClass(), ConnectionPool.class);
+        }
+        return pool == null ? null : pool.value();
+    }
+}
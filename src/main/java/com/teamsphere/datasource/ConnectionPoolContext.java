@@ -0,0 +1,34 @@
+package com.teamsphere.datasource;
+
+/**
+ * Holds the connection pool selected for the current thread by {@link ConnectionPool}.
+ */
+public final class ConnectionPoolContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ConnectionPoolContext() {
+    }
+
+    /**
+     * Returns the pool selected for the current thread.
+     *
+     * @return the pool name, or {@code null} when none was selected
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Selects a pool for the current thread.
+     *
+     * @param pool the pool name, or {@code null} to clear the selection
+     */
+    static void set(String pool) {
+        if (pool == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(pool);
+        }
+    }
+}
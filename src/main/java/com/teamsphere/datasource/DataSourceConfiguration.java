@@ -0,0 +1,186 @@
+package com.teamsphere.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration of the data source wrappers.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties({PoolProperties.class, ReplicaProperties.class})
+public class DataSourceConfiguration {
+
+    /**
+     * Builds the application data source when named pools or read replicas are enabled.
+     *
+     * <p>With {@code datasource.pools.enabled} the primary is a {@link PoolRoutingDataSource} over one Hikari pool
+     * per entry of {@code datasource.pools.instances}, otherwise a single pool built from {@code spring.datasource}.
+     * With {@code datasource.replicas.enabled} read-only transactions are then routed between that primary and
+     * one pool per configured replica. Every pool publishes the {@code hikaricp.*} metrics tagged with its name.</p>
+     *
+     * @param dataSourceProperties the primary connection settings
+     * @param poolProperties       the named pool settings
+     * @param replicaProperties    the replica settings
+     * @param environment          the environment holding the Hikari pool settings
+     * @param meterRegistry        registry for the pool metrics, if metrics are enabled
+     * @return the application data source
+     */
+    @Bean
+    @Conditional(RoutingEnabledCondition.class)
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, PoolProperties poolProperties,
+                                 ReplicaProperties replicaProperties, Environment environment,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        DataSource primary = poolProperties.enabled()
+                ? pooledDataSource(dataSourceProperties, poolProperties, environment, meterRegistry)
+                : newPool("primary", dataSourceProperties, environment, meterRegistry);
+        if (!replicaProperties.enabled()) {
+            return primary;
+        }
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaProperties.Replica> instances = replicaProperties.instances();
+        for (int i = 0; i < instances.size(); i++) {
+            ReplicaProperties.Replica instance = instances.get(i);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(instance.url());
+            replica.setUsername(instance.username());
+            replica.setPassword(instance.password());
+            Integer poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class);
+            if (poolSize != null) {
+                replica.setMaximumPoolSize(poolSize);
+            }
+            replica.setReadOnly(true);
+            meterRegistry.ifAvailable(replica::setMetricRegistry);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        log.info("Routing read-only transactions to {} replica(s), max lag {}, read-your-writes window {}",
+                replicas.size(), replicaProperties.maxLag(), replicaProperties.readYourWritesWindow());
+
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replicas,
+                replicaProperties.maxLag(), replicaProperties.lagQuery(),
+                replicaProperties.readYourWritesWindow(), DataSourceConfiguration::currentUser);
+        dataSource.startHealthChecks(replicaProperties.healthCheckInterval());
+        return dataSource;
+    }
+
+    /**
+     * Selects the pool named by {@link ConnectionPool} annotations before transactions start.
+     *
+     * @return the aspect
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.pools", name = "enabled", havingValue = "true")
+    public static ConnectionPoolAspect connectionPoolAspect() {
+        return new ConnectionPoolAspect();
+    }
+
+    /**
+     * Wraps the application data source in a {@link BoundedAcquireDataSource}.
+     * Enabled by {@code datasource.acquire-limit.enabled}, which defaults to on when requests run on virtual threads.
+     * With named pools every pool is bounded on its own instead, so one pool's queue cannot hold up the others.
+     *
+     * @param environment the environment holding the pool size and limiter settings
+     * @return the post processor wrapping the data source
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.acquire-limit", name = "enabled", havingValue = "true")
+    public static BeanPostProcessor boundedAcquireDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BoundedAcquireDataSource
+                        || environment.getProperty("datasource.pools.enabled", Boolean.class, false)) {
+                    return bean;
+                }
+                int maxConnections = environment.getProperty("datasource.acquire-limit.max-connections", Integer.class,
+                        environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+                int maxWaiting = environment.getProperty("datasource.acquire-limit.max-waiting", Integer.class, 1000);
+                Duration timeout = environment.getProperty("datasource.acquire-limit.timeout", Duration.class,
+                        Duration.ofSeconds(5));
+                log.info("Bounding connection acquisition on '{}': {} connections, {} waiting, {} timeout",
+                        beanName, maxConnections, maxWaiting, timeout);
+                return new BoundedAcquireDataSource(dataSource, maxConnections, maxWaiting, timeout);
+            }
+        };
+    }
+
+    private static DataSource pooledDataSource(DataSourceProperties dataSourceProperties, PoolProperties poolProperties,
+                                               Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        boolean bounded = environment.getProperty("datasource.acquire-limit.enabled", Boolean.class, false);
+        int maxWaiting = environment.getProperty("datasource.acquire-limit.max-waiting", Integer.class, 1000);
+        Duration timeout = environment.getProperty("datasource.acquire-limit.timeout", Duration.class,
+                Duration.ofSeconds(5));
+
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        for (String name : poolProperties.instances().keySet()) {
+            HikariDataSource pool = newPool(name, dataSourceProperties, environment, meterRegistry);
+            Binder.get(environment).bind("datasource.pools.instances." + name, Bindable.ofInstance(pool));
+            int size = pool.getMaximumPoolSize() > 0 ? pool.getMaximumPoolSize() : 10;
+            log.info("Connection pool '{}': {} connections, {} ms connection timeout",
+                    name, size, pool.getConnectionTimeout());
+            pools.put(name, bounded ? new BoundedAcquireDataSource(pool, size, maxWaiting, timeout) : pool);
+        }
+        return new PoolRoutingDataSource(pools, poolProperties.defaultPool());
+    }
+
+    private static HikariDataSource newPool(String name, DataSourceProperties dataSourceProperties,
+                                            Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        meterRegistry.ifAvailable(pool::setMetricRegistry);
+        return pool;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * Matches when named pools or read replicas are enabled, which both replace the auto-configured pool.
+     */
+    static class RoutingEnabledCondition extends AnyNestedCondition {
+
+        RoutingEnabledCondition() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnProperty(prefix = "datasource.pools", name = "enabled", havingValue = "true")
+        static class PoolsEnabled {
+        }
+
+        @ConditionalOnProperty(prefix = "datasource.replicas", name = "enabled", havingValue = "true")
+        static class ReplicasEnabled {
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.teamsphere.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Named connection pool settings bound from {@code datasource.pools}.
+ *
+ * <p>Every pool starts from {@code spring.datasource} and {@code spring.datasource.hikari}; the entries under
+ * {@code datasource.pools.instances.<name>} override Hikari settings such as {@code maximum-pool-size}
+ * or {@code connection-timeout} for that pool only.</p>
+ *
+ * @param enabled     whether connections come from the named pools instead of a single pool
+ * @param defaultPool the pool used by calls without a {@link ConnectionPool} annotation
+ * @param instances   Hikari overrides by pool name
+ */
+@ConfigurationProperties("datasource.pools")
+public record PoolProperties(
+        boolean enabled,
+        @DefaultValue(ConnectionPool.OLTP) String defaultPool,
+        @DefaultValue Map<String, Map<String, Object>> instances) {
+}
@@ -0,0 +1,54 @@
+package com.teamsphere.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DataSource that hands out connections from the pool selected by {@link ConnectionPool}, so a burst of slow
+ * searches can exhaust only its own pool. Calls without a selection, or with an unknown pool name, use the
+ * default pool.
+ */
+@Slf4j
+public class PoolRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private final Map<String, DataSource> pools;
+
+    /**
+     * Creates the routing data source.
+     *
+     * @param pools       connection pools by name
+     * @param defaultPool name of the pool used when none is selected
+     */
+    public PoolRoutingDataSource(Map<String, DataSource> pools, String defaultPool) {
+        if (!pools.containsKey(defaultPool)) {
+            throw new IllegalArgumentException("Default pool '" + defaultPool + "' is not configured");
+        }
+        this.pools = Map.copyOf(pools);
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(pools.get(defaultPool));
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ConnectionPoolContext.current();
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(pool -> {
+            if (pool instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close connection pool: {}", e.getMessage());
+                }
+            }
+        });
+    }
+}
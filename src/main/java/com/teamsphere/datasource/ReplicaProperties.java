@@ -0,0 +1,43 @@
+package com.teamsphere.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replica settings bound from {@code datasource.replicas}.
+ *
+ * @param enabled              whether read-only transactions are routed to replicas
+ * @param instances            the replica connections
+ * @param healthCheckInterval  time between replica health checks
+ * @param maxLag               largest replication lag at which a replica still serves reads
+ * @param lagQuery             query returning the replica lag in seconds, blank to only check connectivity
+ * @param readYourWritesWindow how long a user reads from the primary after writing
+ */
+@ConfigurationProperties("datasource.replicas")
+public record ReplicaProperties(
+        boolean enabled,
+        @DefaultValue List<Replica> instances,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue(POSTGRES_LAG_QUERY) String lagQuery,
+        @DefaultValue("2s") Duration readYourWritesWindow) {
+
+    /**
+     * Replication lag of a PostgreSQL standby in seconds; zero when it has replayed everything it received.
+     */
+    public static final String POSTGRES_LAG_QUERY = "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() "
+            + "then 0 else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end";
+
+    /**
+     * Connection settings of one replica.
+     *
+     * @param url      JDBC url
+     * @param username database user
+     * @param password database password
+     */
+    public record Replica(String url, String username, String password) {
+    }
+}
@@ -0,0 +1,231 @@
+package com.teamsphere.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * DataSource that sends read-only transactions to replicas and everything else to the primary.
+ *
+ * <p>The physical connection is fetched lazily on the first statement, after Spring has marked the
+ * connection read-only for {@code @Transactional(readOnly = true)} work. Read-only connections are spread
+ * round-robin over the healthy replicas; a replica is healthy when it answers {@link Connection#isValid}
+ * and its replication lag, measured with {@code lagQuery}, is at most {@code maxLag}. Without a healthy
+ * replica reads fall back to the primary.</p>
+ *
+ * <p>Whenever a session takes a writable connection it is pinned to the primary for
+ * {@code readYourWritesWindow}, so a user reading right after a write does not see a stale replica.
+ * Writable connections are also used by non-transactional reads, which only makes the window conservative.</p>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final Map<String, Boolean> health = new ConcurrentHashMap<>();
+    private final Map<String, Long> primaryPinnedUntil = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final long maxLagMillis;
+    private final String lagQuery;
+    private final long readYourWritesWindowNanos;
+    private final Supplier<String> sessionKey;
+    private ScheduledExecutorService healthChecks;
+
+    /**
+     * Creates the routing data source. Replicas are considered unhealthy until the first health check.
+     *
+     * @param primary              the primary data source, used for writes and as the fallback for reads
+     * @param replicas             replica data sources by name
+     * @param maxLag               largest replication lag at which a replica still serves reads
+     * @param lagQuery             query returning the replica lag in seconds, or blank to only check connectivity
+     * @param readYourWritesWindow how long a session reads from the primary after a write
+     * @param sessionKey           supplies the current session, e.g. the authenticated user, or {@code null}
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag,
+                                    String lagQuery, Duration readYourWritesWindow, Supplier<String> sessionKey) {
+        this.primary = primary;
+        this.replicas = Map.copyOf(replicas);
+        this.maxLagMillis = maxLag.toMillis();
+        this.lagQuery = lagQuery;
+        this.readYourWritesWindowNanos = readYourWritesWindow.toNanos();
+        this.sessionKey = sessionKey;
+        this.replicas.keySet().forEach(name -> health.put(name, false));
+
+        Map<Object, Object> targets = new HashMap<>(this.replicas);
+        targets.put(PRIMARY, primary);
+        ReplicaRouter router = new ReplicaRouter();
+        router.setTargetDataSources(targets);
+        router.setDefaultTargetDataSource(primary);
+        router.afterPropertiesSet();
+
+        setTargetDataSource(new WriteTrackingDataSource(primary));
+        setReadOnlyDataSource(router);
+    }
+
+    /**
+     * Checks every replica now and then at a fixed interval on a background thread.
+     *
+     * @param interval the time between health checks
+     */
+    public void startHealthChecks(Duration interval) {
+        healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecks.scheduleWithFixedDelay(this::checkReplicas, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the names of the replicas currently serving reads.
+     *
+     * @return healthy replica names
+     */
+    public Set<String> healthyReplicas() {
+        Set<String> healthy = new LinkedHashSet<>();
+        health.forEach((name, up) -> {
+            if (up) {
+                healthy.add(name);
+            }
+        });
+        return healthy;
+    }
+
+    /**
+     * Checks connectivity and lag of every replica and drops expired read-your-writes pins.
+     */
+    void checkReplicas() {
+        replicas.forEach((name, replica) -> {
+            boolean up = isHealthy(name, replica);
+            Boolean previous = health.put(name, up);
+            if (previous == null || previous != up) {
+                log.info("Replica '{}' is now {}", name, up ? "serving reads" : "out of rotation");
+            }
+        });
+        long now = System.nanoTime();
+        primaryPinnedUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    private boolean isHealthy(String name, DataSource replica) {
+        try (Connection connection = replica.getConnection()) {
+            if (!connection.isValid(1)) {
+                return false;
+            }
+            if (!StringUtils.hasText(lagQuery)) {
+                return true;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+                if (lagSeconds * 1000 > maxLagMillis) {
+                    log.warn("Replica '{}' lags {}s behind the primary", name, lagSeconds);
+                    return false;
+                }
+                return true;
+            }
+        } catch (SQLException e) {
+            log.warn("Health check of replica '{}' failed: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean pinnedToPrimary() {
+        String key = sessionKey.get();
+        if (key == null) {
+            return false;
+        }
+        Long until = primaryPinnedUntil.get(key);
+        return until != null && until - System.nanoTime() > 0;
+    }
+
+    @Override
+    public void close() {
+        if (healthChecks != null) {
+            healthChecks.shutdownNow();
+        }
+        closeQuietly(primary);
+        replicas.values().forEach(ReplicaRoutingDataSource::closeQuietly);
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close data source: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Picks the replica for a read-only connection, or the primary when the session recently wrote
+     * or no replica is healthy.
+     */
+    private final class ReplicaRouter extends AbstractRoutingDataSource {
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (pinnedToPrimary()) {
+                return PRIMARY;
+            }
+            List<String> healthy = new ArrayList<>(healthyReplicas());
+            if (healthy.isEmpty()) {
+                return PRIMARY;
+            }
+            return healthy.get(Math.floorMod(nextReplica.getAndIncrement(), healthy.size()));
+        }
+    }
+
+    /**
+     * Primary used for writable connections; pins the current session to the primary.
+     */
+    private final class WriteTrackingDataSource extends DelegatingDataSource {
+
+        private WriteTrackingDataSource(DataSource primary) {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            pinSession();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            pinSession();
+            return super.getConnection(username, password);
+        }
+
+        private void pinSession() {
+            String key = sessionKey.get();
+            if (key != null) {
+                primaryPinnedUntil.put(key, System.nanoTime() + readYourWritesWindowNanos);
+            }
+        }
+    }
+}
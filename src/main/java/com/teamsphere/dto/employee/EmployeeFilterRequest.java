@@ -0,0 +1,11 @@
+package com.teamsphere.dto.employee;
+
+/**
+ * Structured filter for employees. Every condition that is set must hold; unset conditions are ignored.
+ *
+ * @param departmentId only employees of this department
+ * @param positionId   only employees holding this position
+ * @param projectId    only employees assigned to this project
+ */
+public record EmployeeFilterRequest(Long departmentId, Long positionId, Long projectId) {
+}
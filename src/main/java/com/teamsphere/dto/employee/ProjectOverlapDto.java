@@ -0,0 +1,14 @@
+package com.teamsphere.dto.employee;
+
+import java.time.LocalDate;
+
+/**
+ * Two projects of an employee that run at the same time.
+ *
+ * @param first  the project starting first
+ * @param second the project starting later, or at the same day with the higher id
+ * @param from   the first day both projects run
+ * @param to     the last day both projects run, or {@code null} when neither has a planned end
+ */
+public record ProjectOverlapDto(ProjectInfo first, ProjectInfo second, LocalDate from, LocalDate to) {
+}
@@ -0,0 +1,17 @@
+package com.teamsphere.dto.monitoring;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Snapshot of the continuous flight recording.
+ *
+ * @param name      the recording name
+ * @param state     the JFR recording state, e.g. RUNNING or STOPPED
+ * @param startTime when the recording was started, null if it never ran
+ * @param maxAge    how far back the recording keeps data
+ * @param maxSize   upper bound in bytes for the data kept on disk
+ * @param size      bytes currently held by the recording
+ */
+public record RecordingStatus(String name, String state, Instant startTime, Duration maxAge, long maxSize, long size) {
+}
@@ -0,0 +1,20 @@
+package com.teamsphere.dto.project;
+
+import com.teamsphere.entity.enums.ProjectStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Structured filter for projects. Every condition that is set must hold; unset conditions are ignored.
+ * Date bounds are inclusive.
+ *
+ * @param status     only projects with this status
+ * @param companyId  only projects of this company
+ * @param startFrom  only projects starting on or after this date
+ * @param startTo    only projects starting on or before this date
+ * @param finishFrom only projects finishing on or after this date
+ * @param finishTo   only projects finishing on or before this date
+ */
+public record ProjectFilterRequest(ProjectStatus status, Long companyId, LocalDate startFrom, LocalDate startTo,
+                                   LocalDate finishFrom, LocalDate finishTo) {
+}
@@ -0,0 +1,13 @@
+package com.teamsphere.dto.project;
+
+import java.util.Map;
+
+/**
+ * Number of employees working on a project.
+ *
+ * @param projectId    the project's ID
+ * @param employees    the number of employees on the project
+ * @param byDepartment the number of those employees per department ID, for departments with any
+ */
+public record ProjectStaffingDto(Long projectId, int employees, Map<Long, Integer> byDepartment) {
+}
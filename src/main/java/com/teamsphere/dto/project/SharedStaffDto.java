@@ -0,0 +1,13 @@
+package com.teamsphere.dto.project;
+
+import java.util.List;
+
+/**
+ * Employees working on every one of a set of projects.
+ *
+ * @param projectIds   the projects asked about
+ * @param departmentId the department the employees were limited to, or {@code null} for any
+ * @param employeeIds  the IDs of the shared employees in ascending order
+ */
+public record SharedStaffDto(List<Long> projectIds, Long departmentId, List<Long> employeeIds) {
+}
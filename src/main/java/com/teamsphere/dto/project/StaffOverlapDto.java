@@ -0,0 +1,10 @@
+package com.teamsphere.dto.project;
+
+/**
+ * Another project sharing employees with the project asked about.
+ *
+ * @param projectId       the other project's ID
+ * @param sharedEmployees the number of employees working on both projects
+ */
+public record StaffOverlapDto(Long projectId, int sharedEmployees) {
+}
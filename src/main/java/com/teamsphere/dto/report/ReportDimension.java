@@ -0,0 +1,32 @@
+package com.teamsphere.dto.report;
+
+/**
+ * What a report groups tasks by. Every dimension is reached through the employee a task is assigned to.
+ */
+public enum ReportDimension {
+
+    /**
+     * The employee a task is assigned to.
+     */
+    EMPLOYEE,
+
+    /**
+     * The department of the employee.
+     */
+    DEPARTMENT,
+
+    /**
+     * The position of the employee.
+     */
+    POSITION,
+
+    /**
+     * A project the employee is allocated to. A task counts toward every project of its employee.
+     */
+    PROJECT,
+
+    /**
+     * The company of a project the employee is allocated to. A task counts toward every project of its employee.
+     */
+    COMPANY
+}
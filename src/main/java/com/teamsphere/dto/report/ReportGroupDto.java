@@ -0,0 +1,11 @@
+package com.teamsphere.dto.report;
+
+/**
+ * A group a report row belongs to.
+ *
+ * @param dimension what the group is
+ * @param id        the id of the employee, department, position, project or company
+ * @param name      its name
+ */
+public record ReportGroupDto(ReportDimension dimension, Long id, String name) {
+}
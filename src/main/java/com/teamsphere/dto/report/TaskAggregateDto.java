@@ -0,0 +1,13 @@
+package com.teamsphere.dto.report;
+
+import java.util.List;
+
+/**
+ * Task counts and time spent, grouped.
+ *
+ * @param groupBy the dimensions the rows are grouped by, outermost first
+ * @param scanned the number of tasks the aggregate looked at
+ * @param rows    a row per non-empty group, ordered by the groups
+ */
+public record TaskAggregateDto(List<TaskDimension> groupBy, long scanned, List<TaskAggregateRowDto> rows) {
+}
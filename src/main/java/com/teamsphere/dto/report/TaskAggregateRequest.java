@@ -0,0 +1,46 @@
+package com.teamsphere.dto.report;
+
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Task aggregate to compute. Unset filters are ignored; a filter with several values matches any of them.
+ *
+ * @param groupBy     the dimensions to group by, outermost first; duplicates are dropped and none gives only the total
+ * @param statuses    only tasks with one of these statuses
+ * @param types       only tasks of one of these types
+ * @param priorities  only tasks with one of these priorities
+ * @param employeeIds only tasks assigned to one of these employees
+ * @param createdFrom only tasks created at or after this time
+ * @param createdTo   only tasks created before this time
+ * @param updatedFrom only tasks updated at or after this time
+ * @param updatedTo   only tasks updated before this time
+ */
+public record TaskAggregateRequest(List<TaskDimension> groupBy, Set<TaskStatus> statuses, Set<TaskType> types,
+                                   Set<TaskPriority> priorities, Set<Long> employeeIds,
+                                   LocalDateTime createdFrom, LocalDateTime createdTo,
+                                   LocalDateTime updatedFrom, LocalDateTime updatedTo) {
+
+    /**
+     * Normalizes the request.
+     */
+    public TaskAggregateRequest {
+        groupBy = groupBy == null ? List.of() : List.copyOf(new LinkedHashSet<>(groupBy));
+        statuses = copy(statuses, TaskStatus.class);
+        types = copy(types, TaskType.class);
+        priorities = copy(priorities, TaskPriority.class);
+        employeeIds = employeeIds == null ? Set.of() : Set.copyOf(employeeIds);
+    }
+
+    private static <E extends Enum<E>> Set<E> copy(Collection<E> values, Class<E> type) {
+        return values == null || values.isEmpty() ? Set.of() : Set.copyOf(EnumSet.copyOf(values));
+    }
+}
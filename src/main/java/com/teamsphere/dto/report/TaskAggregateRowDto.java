@@ -0,0 +1,21 @@
+package com.teamsphere.dto.report;
+
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+
+/**
+ * Task counts and time spent of one group. Only the attributes the aggregate groups by are set.
+ *
+ * @param status         the status of the group's tasks
+ * @param priority       the priority of the group's tasks
+ * @param type           the type of the group's tasks
+ * @param employeeId     the employee of the group's tasks, {@code null} for unassigned tasks
+ * @param tasks          the number of tasks
+ * @param tasksWithTime  the number of tasks with time spent recorded
+ * @param minutes        the total time spent, in minutes
+ * @param averageMinutes the average time spent on the tasks with time recorded, or {@code null} if there are none
+ */
+public record TaskAggregateRowDto(TaskStatus status, TaskPriority priority, TaskType type, Long employeeId,
+                                  long tasks, long tasksWithTime, long minutes, Double averageMinutes) {
+}
@@ -0,0 +1,27 @@
+package com.teamsphere.dto.report;
+
+/**
+ * What a task aggregate groups tasks by.
+ */
+public enum TaskDimension {
+
+    /**
+     * The task status.
+     */
+    STATUS,
+
+    /**
+     * The task priority.
+     */
+    PRIORITY,
+
+    /**
+     * The task type.
+     */
+    TYPE,
+
+    /**
+     * The employee a task is assigned to; unassigned tasks form a group of their own.
+     */
+    EMPLOYEE
+}
@@ -0,0 +1,12 @@
+package com.teamsphere.dto.report;
+
+import java.util.List;
+
+/**
+ * Time spent on tasks, grouped and rolled up.
+ *
+ * @param groupBy the dimensions the report groups by, outermost first
+ * @param rows    a row per group, each followed by the subtotals of its enclosing groups, with the total last
+ */
+public record TimeSpentReportDto(List<ReportDimension> groupBy, List<TimeSpentRowDto> rows) {
+}
@@ -0,0 +1,38 @@
+package com.teamsphere.dto.report;
+
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Time spent report to compute. Unset filters are ignored; a filter with several values matches any of them.
+ * Equal requests are equal records, so a request also identifies its cached report.
+ *
+ * @param groupBy    the dimensions to group by, outermost first; duplicates are dropped and none gives only the total
+ * @param statuses   only tasks with one of these statuses
+ * @param types      only tasks of one of these types
+ * @param priorities only tasks with one of these priorities
+ */
+public record TimeSpentReportRequest(List<ReportDimension> groupBy, Set<TaskStatus> statuses, Set<TaskType> types,
+                                     Set<TaskPriority> priorities) {
+
+    /**
+     * Normalizes the request, so requests for the same report are equal.
+     */
+    public TimeSpentReportRequest {
+        groupBy = groupBy == null ? List.of() : List.copyOf(new LinkedHashSet<>(groupBy));
+        statuses = copy(statuses, TaskStatus.class);
+        types = copy(types, TaskType.class);
+        priorities = copy(priorities, TaskPriority.class);
+    }
+
+    private static <E extends Enum<E>> Set<E> copy(Collection<E> values, Class<E> type) {
+        return values == null || values.isEmpty() ? Set.of() : Set.copyOf(EnumSet.copyOf(values));
+    }
+}
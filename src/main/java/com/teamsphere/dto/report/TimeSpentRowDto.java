@@ -0,0 +1,17 @@
+package com.teamsphere.dto.report;
+
+import java.util.List;
+
+/**
+ * Time spent on the tasks of one group, or a subtotal or total of several.
+ *
+ * @param groups         the groups of the row, outermost first; fewer than the report's dimensions for a
+ *                       subtotal and none for the total
+ * @param tasks          the number of tasks
+ * @param tasksWithTime  the number of tasks with time spent recorded
+ * @param minutes        the total time spent, in minutes
+ * @param averageMinutes the average time spent on the tasks with time recorded, or {@code null} if there are none
+ */
+public record TimeSpentRowDto(List<ReportGroupDto> groups, long tasks, long tasksWithTime, long minutes,
+                              Double averageMinutes) {
+}
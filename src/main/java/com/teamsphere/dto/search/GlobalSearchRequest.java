@@ -0,0 +1,13 @@
+package com.teamsphere.dto.search;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Search request across employees, companies, projects and tasks.
+ *
+ * @param query the search query string
+ * @param limit the number of results wanted per resource; the configured default when omitted
+ */
+public record GlobalSearchRequest(@NotBlank String query, @Positive Integer limit) {
+}
@@ -0,0 +1,20 @@
+package com.teamsphere.dto.search;
+
+import com.teamsphere.dto.company.CompanyDto;
+import com.teamsphere.dto.employee.EmployeeDto;
+import com.teamsphere.dto.project.ProjectDto;
+import com.teamsphere.dto.task.TaskDto;
+
+/**
+ * The results of a global search, per resource.
+ *
+ * @param employees the matching employees
+ * @param companies the matching companies
+ * @param projects  the matching projects
+ * @param tasks     the matching tasks
+ */
+public record GlobalSearchResponse(GlobalSearchSection<EmployeeDto> employees,
+                                   GlobalSearchSection<CompanyDto> companies,
+                                   GlobalSearchSection<ProjectDto> projects,
+                                   GlobalSearchSection<TaskDto> tasks) {
+}
@@ -0,0 +1,24 @@
+package com.teamsphere.dto.search;
+
+import java.util.List;
+
+/**
+ * The results of a global search for one resource.
+ *
+ * @param items    the best matches, closest match first
+ * @param total    the number of matches of the resource
+ * @param complete {@code false} when the resource did not answer in time and {@code items} is empty
+ * @param <T>      the result type
+ */
+public record GlobalSearchSection<T>(List<T> items, long total, boolean complete) {
+
+    /**
+     * Creates the section of a resource that did not answer in time.
+     *
+     * @param <T> the result type
+     * @return an empty, incomplete section
+     */
+    public static <T> GlobalSearchSection<T> incomplete() {
+        return new GlobalSearchSection<>(List.of(), 0, false);
+    }
+}
@@ -0,0 +1,10 @@
+package com.teamsphere.dto.suggest;
+
+/**
+ * A name offered while the user types, with the id of the entity it belongs to.
+ *
+ * @param id   the entity id
+ * @param name the display name
+ */
+public record SuggestionDto(Long id, String name) {
+}
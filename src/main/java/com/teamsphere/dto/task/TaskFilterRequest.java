@@ -0,0 +1,21 @@
+package com.teamsphere.dto.task;
+
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Structured filter for tasks. Every condition that is set must hold; unset conditions are ignored.
+ *
+ * @param taskStatus   only tasks with this status
+ * @param taskPriority only tasks with this priority
+ * @param taskType     only tasks of this type
+ * @param employeeId   only tasks assigned to this employee
+ * @param updatedFrom  only tasks updated at or after this time
+ * @param updatedTo    only tasks updated before this time
+ */
+public record TaskFilterRequest(TaskStatus taskStatus, TaskPriority taskPriority, TaskType taskType,
+                                Long employeeId, LocalDateTime updatedFrom, LocalDateTime updatedTo) {
+}
@@ -0,0 +1,24 @@
+package com.teamsphere.dto.task;
+
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Task counts by status, overall and per employee, type and priority.
+ *
+ * @param total        tasks per status
+ * @param byEmployee   tasks per status of each employee asked for, or of every employee with tasks
+ * @param byType       tasks per status of each task type
+ * @param byPriority   tasks per status of each task priority
+ * @param reconciledAt when the counts were last checked against the database
+ */
+public record TaskStatsDto(Map<TaskStatus, Long> total,
+                           Map<Long, Map<TaskStatus, Long>> byEmployee,
+                           Map<TaskType, Map<TaskStatus, Long>> byType,
+                           Map<TaskPriority, Map<TaskStatus, Long>> byPriority,
+                           Instant reconciledAt) {
+}
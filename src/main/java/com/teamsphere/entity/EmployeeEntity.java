@@ -24,7 +24,12 @@ import java.util.Set;
 @AllArgsConstructor
 @SuperBuilder
 @Entity
-@Table(name = "t_employees")
+@Table(name = "t_employees", indexes = {
+        @Index(name = "idx_employees_department", columnList = "department_id, id"),
+        @Index(name = "idx_employees_position", columnList = "position_id, id"),
+        @Index(name = "idx_employees_email", columnList = "email"),
+        @Index(name = "idx_employees_pin", columnList = "pin")
+})
 public class EmployeeEntity extends BaseEntity {
 
     @NotBlank
@@ -65,7 +70,8 @@ public class EmployeeEntity extends BaseEntity {
     @JoinTable(
             name = "t_projects_employees",
             joinColumns = {@JoinColumn(name = "employee_id")},
-            inverseJoinColumns = {@JoinColumn(name = "project_id")}
+            inverseJoinColumns = {@JoinColumn(name = "project_id")},
+            indexes = @Index(name = "idx_projects_employees_project", columnList = "project_id, employee_id")
     )
     private Set<ProjectEntity> projects;
 
@@ -22,7 +22,12 @@ import java.util.Objects;
 @AllArgsConstructor
 @SuperBuilder
 @Entity
-@Table(name = "t_projects")
+@Table(name = "t_projects", indexes = {
+        @Index(name = "idx_projects_company_start_date", columnList = "company_id, start_date, id"),
+        @Index(name = "idx_projects_status_start_date", columnList = "status, start_date, id"),
+        @Index(name = "idx_projects_start_date", columnList = "start_date"),
+        @Index(name = "idx_projects_finish_date", columnList = "finish_date")
+})
 public class ProjectEntity extends BaseEntity {
 
     @Column(name = "name", nullable = false, length = 100)
@@ -23,7 +23,12 @@ import java.util.Objects;
 @AllArgsConstructor
 @SuperBuilder
 @Entity
-@Table(name = "t_tasks")
+@Table(name = "t_tasks", indexes = {
+        @Index(name = "idx_tasks_updated_at", columnList = "updated_at, id"),
+        @Index(name = "idx_tasks_status_updated_at", columnList = "task_status, updated_at, id"),
+        @Index(name = "idx_tasks_employee_updated_at", columnList = "employee_id, updated_at, id"),
+        @Index(name = "idx_tasks_task_number", columnList = "task_number")
+})
 public class TaskEntity extends BaseEntity {
 
     @Column(name = "task_status", nullable = false)
@@ -1,8 +1,15 @@
 package com.teamsphere.exception;
 
+import jakarta.persistence.QueryTimeoutException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -47,6 +54,48 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, errorResponse.getStatus());
     }
 
+    /**
+     * Handles a search abandoned for a newer search of the same search session and returns a CONFLICT response.
+     *
+     * @param e the SearchSupersededException that was thrown
+     * @return ResponseEntity containing the error response with CONFLICT status
+     */
+    @ExceptionHandler(SearchSupersededException.class)
+    public ResponseEntity<ErrorResponse> onSearchSuperseded(SearchSupersededException e) {
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.CONFLICT, e.getMessage(), LocalDateTime.now());
+
+        return new ResponseEntity<>(errorResponse, errorResponse.getStatus());
+    }
+
+    /**
+     * Handles an aggregate grouping into too many groups and returns a BAD_REQUEST response.
+     *
+     * @param e the TooManyGroupsException that was thrown
+     * @return ResponseEntity containing the error response with BAD_REQUEST status
+     */
+    @ExceptionHandler(TooManyGroupsException.class)
+    public ResponseEntity<ErrorResponse> onTooManyGroups(TooManyGroupsException e) {
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage(), LocalDateTime.now());
+
+        return new ResponseEntity<>(errorResponse, errorResponse.getStatus());
+    }
+
+    /**
+     * Handles a statement that exceeded the search statement timeout and returns a SERVICE_UNAVAILABLE response.
+     * No Retry-After header is sent, since the same search would most likely time out again.
+     *
+     * @param e the QueryTimeoutException that was thrown
+     * @return ResponseEntity containing the error response with SERVICE_UNAVAILABLE status
+     */
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<ErrorResponse> onQueryTimeout(QueryTimeoutException e) {
+        log.warn("Query timed out: {}", e.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+                "Search took too long, please refine the query", LocalDateTime.now());
+
+        return new ResponseEntity<>(errorResponse, errorResponse.getStatus());
+    }
+
     /**
      * Handles validation exceptions and returns a BAD_REQUEST response with field-level errors.
      *
@@ -66,4 +115,41 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, errorResponse.getStatus());
     }
 
+    /**
+     * Handles invalid request parameters and returns a BAD_REQUEST response with an error per parameter.
+     *
+     * @param e the ConstraintViolationException that was thrown
+     * @return ResponseEntity containing the error response with BAD_REQUEST status and validation errors
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> onConstraintViolation(ConstraintViolationException e) {
+        List<SubErrorResponse> subErrorResponses = new ArrayList<>();
+        for (ConstraintViolation<?> violation : e.getConstraintViolations()) {
+            String path = violation.getPropertyPath().toString();
+            subErrorResponses.add(new SubErrorResponse(LocalDateTime.now(), violation.getMessage(),
+                    path.substring(path.lastIndexOf('.') + 1)));
+        }
+
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST, subErrorResponses);
+        return new ResponseEntity<>(errorResponse, errorResponse.getStatus());
+    }
+
+    /**
+     * Handles failures to obtain a database connection, such as a saturated pool, and returns a
+     * SERVICE_UNAVAILABLE response asking the client to retry shortly.
+     *
+     * @param e the exception raised while acquiring the connection
+     * @return ResponseEntity containing the error response with SERVICE_UNAVAILABLE status and a Retry-After header
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class,
+            JDBCConnectionException.class})
+    public ResponseEntity<ErrorResponse> onConnectionUnavailable(RuntimeException e) {
+        log.warn("Database connection unavailable: {}", e.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+                "Database is busy, please retry", LocalDateTime.now());
+
+        return ResponseEntity.status(errorResponse.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
 }
@@ -6,6 +6,8 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 /**
  * Exception thrown when a requested entity is not found.
  * Returns HTTP 404 NOT_FOUND status.
+ * Carries no stack trace: it is an expected outcome answered with a 404, and capturing the stack
+ * would cost more than the lookup that failed.
  */
 @ResponseStatus(value = HttpStatus.NOT_FOUND)
 public class NotFoundException extends RuntimeException {
@@ -15,6 +17,6 @@ public class NotFoundException extends RuntimeException {
      * @param id the ID of the entity that was not found
      */
     public NotFoundException(Long id) {
-        super("Entity with id " + id + " not found.");
+        super("Entity with id " + id + " not found.", null, false, false);
     }
 }
@@ -0,0 +1,19 @@
+package com.teamsphere.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a search is abandoned because a newer search of the same search session arrived.
+ * Returns HTTP 409 CONFLICT status.
+ * Carries no stack trace: it is an expected outcome of type-ahead clients searching on every keystroke.
+ */
+@ResponseStatus(value = HttpStatus.CONFLICT)
+public class SearchSupersededException extends RuntimeException {
+    /**
+     * Constructs a SearchSupersededException.
+     */
+    public SearchSupersededException() {
+        super("Search superseded by a newer search of the same session.", null, false, false);
+    }
+}
@@ -0,0 +1,22 @@
+package com.teamsphere.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when an aggregate would group tasks into more groups than the configured maximum.
+ * Returns HTTP 400 BAD_REQUEST status.
+ */
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class TooManyGroupsException extends RuntimeException {
+    /**
+     * Constructs a TooManyGroupsException.
+     *
+     * @param groups    the number of groups the aggregate would need
+     * @param maxGroups the most groups an aggregate may have
+     */
+    public TooManyGroupsException(long groups, int maxGroups) {
+        super("Grouping needs " + groups + " groups, at most " + maxGroups + " are allowed. "
+                + "Group by fewer dimensions.", null, false, false);
+    }
+}
@@ -10,6 +10,9 @@ import com.teamsphere.repository.DepartmentRepository;
 import com.teamsphere.repository.PositionRepository;
 import com.teamsphere.repository.ProjectRepository;
 import com.teamsphere.repository.TaskRepository;
+import com.teamsphere.staffing.StaffingIndex;
+import com.teamsphere.stats.TaskCountKey;
+import com.teamsphere.stats.TaskCounters;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -29,6 +32,8 @@ public class EmployeeMapper implements BaseMapper<EmployeeEntity, EmployeeDto> {
     private final DepartmentRepository departmentRepository;
     private final PositionRepository positionRepository;
     private final TaskRepository taskRepository;
+    private final TaskCounters taskCounters;
+    private final StaffingIndex staffingIndex;
 
     /**
      * Converts an EmployeeEntity to an EmployeeDto.
@@ -81,6 +86,7 @@ public class EmployeeMapper implements BaseMapper<EmployeeEntity, EmployeeDto> {
                 .collect(Collectors.toCollection(LinkedHashSet::new));
 
         employee.setProjects(projects);
+        staffingIndex.changed(employee);
         return employee;
     }
 
@@ -136,14 +142,18 @@ public class EmployeeMapper implements BaseMapper<EmployeeEntity, EmployeeDto> {
     }
 
     /**
-     * Updates the department of an employee entity.
+     * Updates the department of an employee entity and moves the employee in the staffing index.
      *
      * @param dto    the employee DTO with new department ID
      * @param entity the employee entity to update
      */
     private void updateDepartment(EmployeeDto dto, EmployeeEntity entity) {
         if (dto.getDepartmentId() != null) {
+            DepartmentEntity before = entity.getDepartment();
             entity.setDepartment(findDepartmentById(dto.getDepartmentId()));
+            if (before == null || !dto.getDepartmentId().equals(before.getId())) {
+                staffingIndex.changed(entity);
+            }
         }
     }
 
@@ -160,7 +170,8 @@ public class EmployeeMapper implements BaseMapper<EmployeeEntity, EmployeeDto> {
     }
 
     /**
-     * Updates the projects assigned to an employee entity.
+     * Updates the projects assigned to an employee entity and the employee's project memberships in the
+     * staffing index.
      *
      * @param dto    the employee DTO with new project assignments
      * @param entity the employee entity to update
@@ -169,12 +180,13 @@ public class EmployeeMapper implements BaseMapper<EmployeeEntity, EmployeeDto> {
         if (dto.getProjects() != null) {
             entity.getProjects().clear();
             entity.getProjects().addAll(getProjectsByIds(dto.getProjects()));
+            staffingIndex.changed(entity);
         }
     }
 
     /**
      * Updates the tasks assigned to an employee entity.
-     * Handles both task assignment and unassignment.
+     * Handles both task assignment and unassignment, moving the tasks between the employees' counts.
      *
      * @param dto    the employee DTO with new task assignments
      * @param entity the employee entity to update
@@ -195,7 +207,9 @@ public class EmployeeMapper implements BaseMapper<EmployeeEntity, EmployeeDto> {
                 .toList();
 
         for (TaskEntity task : tasksToUnassign) {
+            TaskCountKey before = TaskCountKey.of(task);
             task.setEmployee(null);
+            taskCounters.changed(before, TaskCountKey.of(task));
         }
         tasksToUnassign.forEach(entity.getTasks()::remove);
 
@@ -204,7 +218,9 @@ public class EmployeeMapper implements BaseMapper<EmployeeEntity, EmployeeDto> {
 
         for (Long id : tasksToAssign) {
             TaskEntity task = findTaskById(id);
+            TaskCountKey before = TaskCountKey.of(task);
             task.setEmployee(entity);
+            taskCounters.changed(before, TaskCountKey.of(task));
             entity.getTasks().add(task);
         }
     }
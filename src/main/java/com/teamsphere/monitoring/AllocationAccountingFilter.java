@@ -0,0 +1,92 @@
+package com.teamsphere.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Filter that measures the bytes allocated by the request thread while serving each request.
+ * Samples {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()} before and after the
+ * whole filter chain, including security, and records the difference in the
+ * {@value #METRIC_NAME} histogram tagged by method, URI pattern and status.
+ */
+@Slf4j
+public class AllocationAccountingFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "http.server.requests.allocated";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final boolean enabled;
+
+    /**
+     * Creates the filter. Accounting is switched off when the JVM cannot report per-thread allocation.
+     *
+     * @param meterRegistry the registry the histograms are published to
+     * @param enabled       whether allocation accounting is configured on
+     */
+    public AllocationAccountingFilter(MeterRegistry meterRegistry, boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.threadMXBean = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() ? bean : null;
+        if (enabled && threadMXBean != null && !threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        this.enabled = enabled && threadMXBean != null;
+        if (enabled && threadMXBean == null) {
+            log.warn("Per-thread allocation accounting is not supported by this JVM, {} will not be recorded",
+                    METRIC_NAME);
+        }
+    }
+
+    /**
+     * Records the bytes allocated by the current thread while the rest of the chain runs.
+     *
+     * @param request     the HTTP request
+     * @param response    the HTTP response
+     * @param filterChain the filter chain
+     * @throws ServletException if a servlet error occurs
+     * @throws IOException      if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long before = enabled ? threadMXBean.getCurrentThreadAllocatedBytes() : -1;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (before >= 0) {
+                long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+                if (allocated >= 0) {
+                    summaryFor(request, response).record(allocated);
+                }
+            }
+        }
+    }
+
+    private DistributionSummary summaryFor(HttpServletRequest request, HttpServletResponse response) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return DistributionSummary.builder(METRIC_NAME)
+                .description("Bytes allocated by the request thread while serving a request")
+                .baseUnit("bytes")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : UNKNOWN_URI)
+                .tag("status", Integer.toString(response.getStatus()))
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1024.0)
+                .maximumExpectedValue(1024.0 * 1024 * 1024)
+                .register(meterRegistry);
+    }
+}
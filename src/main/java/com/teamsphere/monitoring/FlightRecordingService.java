@@ -0,0 +1,178 @@
+package com.teamsphere.monitoring;
+
+import com.teamsphere.dto.monitoring.RecordingStatus;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Service managing a single bounded, continuous JDK Flight Recorder recording.
+ * The recording keeps at most {@code monitoring.jfr.max-age} of history and {@code monitoring.jfr.max-size}
+ * bytes on disk, so it can stay on in production and be dumped after a latency incident.
+ * Guarded by a {@link ReentrantLock} rather than {@code synchronized} so a dump written from a virtual
+ * thread does not pin its carrier.
+ */
+@Slf4j
+@Service
+public class FlightRecordingService {
+
+    static final String RECORDING_NAME = "teamsphere-continuous";
+
+    @Value("${monitoring.jfr.settings:default}")
+    String settings;
+
+    @Value("${monitoring.jfr.max-age:6h}")
+    Duration maxAge;
+
+    @Value("${monitoring.jfr.max-size:250MB}")
+    DataSize maxSize;
+
+    @Value("${monitoring.jfr.start-on-startup:false}")
+    boolean startOnStartup;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+
+    /**
+     * Starts the continuous recording once the application is ready, when configured to do so.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnStartup() {
+        if (startOnStartup) {
+            start();
+        }
+    }
+
+    /**
+     * Starts the continuous recording. Does nothing if it is already running.
+     *
+     * @return the recording status
+     * @throws IllegalStateException if the configured JFR settings cannot be loaded
+     */
+    public RecordingStatus start() {
+        lock.lock();
+        try {
+            if (isRunning()) {
+                return statusOf(recording);
+            }
+            closeRecording();
+
+            Recording newRecording;
+            try {
+                newRecording = new Recording(Configuration.getConfiguration(settings));
+            } catch (IOException | ParseException e) {
+                throw new IllegalStateException("Cannot load JFR settings '" + settings + "'", e);
+            }
+            newRecording.setName(RECORDING_NAME);
+            newRecording.setToDisk(true);
+            newRecording.setMaxAge(maxAge);
+            newRecording.setMaxSize(maxSize.toBytes());
+            newRecording.enable(RequestEvent.class);
+            newRecording.enable(ServiceOperationEvent.class);
+            newRecording.enable(JwtVerificationEvent.class);
+            newRecording.enable(SearchEvent.class);
+            newRecording.start();
+            recording = newRecording;
+
+            log.info("Started flight recording '{}' with settings '{}', max age {}, max size {}",
+                    RECORDING_NAME, settings, maxAge, maxSize);
+            return statusOf(recording);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the continuous recording. Its data stays available for {@link #dump()} until the next start.
+     *
+     * @return the status of the stopped recording, or empty if no recording is running
+     */
+    public Optional<RecordingStatus> stop() {
+        lock.lock();
+        try {
+            if (!isRunning()) {
+                return Optional.empty();
+            }
+            recording.stop();
+            log.info("Stopped flight recording '{}'", RECORDING_NAME);
+            return Optional.of(statusOf(recording));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current recording status.
+     *
+     * @return the status, or empty if no recording was started
+     */
+    public Optional<RecordingStatus> status() {
+        lock.lock();
+        try {
+            return Optional.ofNullable(recording).map(FlightRecordingService::statusOf);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the recorded data to a temporary {@code .jfr} file. The caller owns the file and must delete it.
+     *
+     * @return path of the dump, or empty if no recording was started
+     * @throws IOException if the dump cannot be written
+     */
+    public Optional<Path> dump() throws IOException {
+        lock.lock();
+        try {
+            if (recording == null || recording.getState() == RecordingState.CLOSED) {
+                return Optional.empty();
+            }
+            Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            recording.dump(file);
+            log.info("Dumped flight recording '{}' to {}", RECORDING_NAME, file);
+            return Optional.of(file);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the recording and releases its disk repository on shutdown.
+     */
+    @PreDestroy
+    public void closeRecording() {
+        lock.lock();
+        try {
+            if (recording != null) {
+                recording.close();
+                recording = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    private static RecordingStatus statusOf(Recording recording) {
+        return new RecordingStatus(recording.getName(), recording.getState().name(), recording.getStartTime(),
+                recording.getMaxAge(), recording.getMaxSize(), recording.getSize());
+    }
+}
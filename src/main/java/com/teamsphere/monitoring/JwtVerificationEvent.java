@@ -0,0 +1,27 @@
+package com.teamsphere.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * Flight Recorder event emitted once per JWT verification.
+ */
+@Name("com.teamsphere.JwtVerification")
+@Label("JWT Verification")
+@Category({"TeamSphere", "Security"})
+@Description("Signature, subject and expiry check of a bearer token")
+@Setter
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Username")
+    String username;
+
+    @Label("Valid")
+    boolean valid;
+}
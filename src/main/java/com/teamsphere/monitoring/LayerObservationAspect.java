@@ -0,0 +1,76 @@
+package com.teamsphere.monitoring;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+
+/**
+ * Aspect that opens an observation, and therefore a tracing span, around every controller method,
+ * domain service operation and Spring Data repository call.
+ * Registered by {@link TracingConfiguration} only when tracing is enabled.
+ */
+@Aspect
+@RequiredArgsConstructor
+public class LayerObservationAspect {
+
+    static final String CONTROLLER_OBSERVATION = "teamsphere.controller";
+    static final String SERVICE_OBSERVATION = "teamsphere.service";
+    static final String REPOSITORY_OBSERVATION = "teamsphere.repository";
+
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * Observes a controller method.
+     *
+     * @param joinPoint the intercepted call
+     * @return the value returned by the controller
+     * @throws Throwable whatever the controller throws
+     */
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)")
+    public Object observeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(CONTROLLER_OBSERVATION, joinPoint);
+    }
+
+    /**
+     * Observes a domain service operation.
+     *
+     * @param joinPoint the intercepted call
+     * @return the value returned by the service
+     * @throws Throwable whatever the service throws
+     */
+    @Around("execution(* com.teamsphere.service.*Service.*(..))")
+    public Object observeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(SERVICE_OBSERVATION, joinPoint);
+    }
+
+    /**
+     * Observes a Spring Data repository call.
+     *
+     * @param joinPoint the intercepted call
+     * @return the value returned by the repository
+     * @throws Throwable whatever the repository throws
+     */
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object observeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?>[] repositoryInterfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+        return observe(REPOSITORY_OBSERVATION, repositoryInterfaces[0].getSimpleName(), joinPoint);
+    }
+
+    private Object observe(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(name, AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName(), joinPoint);
+    }
+
+    private Object observe(String name, String className, ProceedingJoinPoint joinPoint) throws Throwable {
+        String methodName = joinPoint.getSignature().getName();
+        return Observation.createNotStarted(name, observationRegistry)
+                .contextualName(className + "." + methodName)
+                .lowCardinalityKeyValue("class", className)
+                .lowCardinalityKeyValue("method", methodName)
+                .observeChecked(() -> joinPoint.proceed());
+    }
+}
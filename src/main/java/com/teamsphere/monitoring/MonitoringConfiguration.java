@@ -0,0 +1,33 @@
+package com.teamsphere.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration of the monitoring filters that need the metrics infrastructure.
+ */
+@Configuration
+public class MonitoringConfiguration {
+
+    /**
+     * Registers the allocation accounting filter ahead of every other filter,
+     * so the bytes allocated by security and error handling are attributed to the endpoint too.
+     *
+     * @param meterRegistry the registry to publish the histograms to
+     * @param enabled       whether allocation accounting is switched on
+     * @return the filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<AllocationAccountingFilter> allocationAccountingFilter(
+            MeterRegistry meterRegistry,
+            @Value("${monitoring.allocation.enabled:true}") boolean enabled) {
+        FilterRegistrationBean<AllocationAccountingFilter> registration =
+                new FilterRegistrationBean<>(new AllocationAccountingFilter(meterRegistry, enabled));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,35 @@
+package com.teamsphere.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * Flight Recorder event emitted once per HTTP request.
+ */
+@Name("com.teamsphere.Request")
+@Label("HTTP Request")
+@Category({"TeamSphere", "HTTP"})
+@Description("An HTTP request handled by the API")
+@Setter
+@StackTrace(false)
+public class RequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    @Description("Matched URI pattern, or the raw URI when no handler matched")
+    String endpoint;
+
+    @Label("Role")
+    @Description("Roles of the authenticated user, or anonymous")
+    String role;
+
+    @Label("Status")
+    int status;
+}
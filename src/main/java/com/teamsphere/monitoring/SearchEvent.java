@@ -0,0 +1,49 @@
+package com.teamsphere.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+/**
+ * Flight Recorder event emitted once per search request.
+ */
+@Name("com.teamsphere.Search")
+@Label("Search")
+@Category({"TeamSphere", "Service"})
+@Description("A free-text search over one entity type, including its count query")
+@Setter
+@StackTrace(false)
+public class SearchEvent extends Event {
+
+    @Label("Entity")
+    String entity;
+
+    @Label("Query Class")
+    @Description("Shape of the query text: PIN, EMAIL, NUMERIC, DATE or TEXT, or FILTER for structured filters")
+    String queryClass;
+
+    @Label("Exact")
+    @Description("Whether an equality lookup on an identifier answered the search without substring scans")
+    boolean exact;
+
+    @Label("Count Mode")
+    @Description("How the total was obtained: WINDOW, SEPARATE, NONE, or TOKEN when reused from an earlier page")
+    String countMode;
+
+    @Label("Rows")
+    @Description("Rows returned on the requested page")
+    int rows;
+
+    @Label("Total")
+    @Description("Total number of matches, a lower bound when the count mode is NONE")
+    long total;
+
+    @Label("Count Query Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long countQueryTime;
+}
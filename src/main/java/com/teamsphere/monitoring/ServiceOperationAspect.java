@@ -0,0 +1,47 @@
+package com.teamsphere.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aspect that emits a {@link ServiceOperationEvent} around every public operation of the domain services.
+ */
+@Aspect
+@Component
+public class ServiceOperationAspect {
+
+    /**
+     * Times a service operation and commits an event when recording is enabled.
+     *
+     * @param joinPoint the intercepted service call
+     * @return the value returned by the service
+     * @throws Throwable whatever the service throws
+     */
+    @Around("execution(* com.teamsphere.service.*Service.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        String failure = "";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setService(AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName());
+                event.setOperation(joinPoint.getSignature().getName());
+                event.setFailure(failure);
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.teamsphere.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * Flight Recorder event emitted once per service operation.
+ */
+@Name("com.teamsphere.ServiceOperation")
+@Label("Service Operation")
+@Category({"TeamSphere", "Service"})
+@Description("A call to a domain service operation such as get, getAll, find, save, update or delete")
+@Setter
+@StackTrace(false)
+public class ServiceOperationEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Failure")
+    @Description("Exception class thrown by the operation, empty when it succeeded")
+    String failure;
+}
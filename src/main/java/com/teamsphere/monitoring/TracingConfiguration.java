@@ -0,0 +1,57 @@
+package com.teamsphere.monitoring;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Configuration of opt-in distributed tracing.
+ * HTTP server and security filter chain spans come from Spring Boot and Spring Security,
+ * JDBC statement spans from datasource-micrometer; this class adds controller, service
+ * and repository spans, the local file exporter and context propagation for executors.
+ */
+@Configuration
+public class TracingConfiguration {
+
+    /**
+     * Wraps tasks submitted to Spring-managed executors so the current trace and MDC follow them.
+     *
+     * @return the context propagating task decorator
+     */
+    @Bean
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+
+    /**
+     * Registers spans for the controller, service and repository layers.
+     *
+     * @param observationRegistry the observation registry backing the tracer
+     * @return the layer observation aspect
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "management.tracing", name = "enabled", havingValue = "true")
+    public LayerObservationAspect layerObservationAspect(ObservationRegistry observationRegistry) {
+        return new LayerObservationAspect(observationRegistry);
+    }
+
+    /**
+     * Exports finished spans to a local JSON-lines file.
+     *
+     * @param path the span file
+     * @return the file span exporter
+     * @throws IOException if the file cannot be opened
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "monitoring.tracing.file", name = "path")
+    public FileSpanExporter fileSpanExporter(@Value("${monitoring.tracing.file.path}") Path path) throws IOException {
+        return new FileSpanExporter(path);
+    }
+}
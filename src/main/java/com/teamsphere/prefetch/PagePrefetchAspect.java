@@ -0,0 +1,258 @@
+package com.teamsphere.prefetch;
+
+import com.teamsphere.cache.CachedResource;
+import com.teamsphere.cache.ResourceGenerations;
+import com.teamsphere.service.GenericService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Aspect that loads page N+1 of a list in the background once a client has asked for pages N-1 and N in turn.
+ *
+ * <p>The prefetched page is parked for {@code prefetch.ttl} under the client, the service, the page size and
+ * the sort, and handed out when that client asks for it; a request arriving while it is still loading waits for
+ * it. Pages are loaded on a bounded pool through the service proxy, so transactions, pools and coalescing apply
+ * as usual, and prefetches that find the pool busy are skipped. A parked page is discarded once a write to its
+ * resource bumps the {@link ResourceGenerations generation}, and no page is prefetched while the resource is not
+ * yet {@linkplain ResourceGenerations#settled settled} after a write.</p>
+ *
+ * <p>Publishes {@code service.prefetch.requests} tagged with {@code result} ({@code hit} or {@code miss}) for
+ * sequential requests, plus {@code service.prefetch.issued}, {@code service.prefetch.wasted} for pages that
+ * expired or went stale unused, and {@code service.prefetch.rejected}. Registered by
+ * {@link PrefetchConfiguration}.</p>
+ */
+@Slf4j
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class PagePrefetchAspect implements Closeable {
+
+    private static final ThreadLocal<Boolean> PREFETCHING = new ThreadLocal<>();
+
+    private final Map<Stream, Position> positions = new ConcurrentHashMap<>();
+    private final Map<Slot, Parked> parked = new ConcurrentHashMap<>();
+    private final ResourceGenerations generations;
+    private final ThreadPoolExecutor executor;
+    private final long ttlNanos;
+    private final long sequenceTimeoutNanos;
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter issued;
+    private final Counter wasted;
+    private final Counter rejected;
+
+    /**
+     * Creates the aspect and its loader threads.
+     *
+     * @param properties    the prefetch settings
+     * @param generations   the generations parked pages are validated against
+     * @param meterRegistry the registry to publish the prefetch metrics to
+     */
+    public PagePrefetchAspect(PrefetchProperties properties, ResourceGenerations generations,
+                              MeterRegistry meterRegistry) {
+        this.generations = generations;
+        this.ttlNanos = properties.ttl().toNanos();
+        this.sequenceTimeoutNanos = properties.sequenceTimeout().toNanos();
+        this.maxEntries = properties.maxEntries();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.threads(), properties.threads(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()), runnable -> {
+            Thread thread = new Thread(runnable, "page-prefetch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.issued = Counter.builder("service.prefetch.issued")
+                .description("Pages loaded ahead of a sequential client")
+                .register(meterRegistry);
+        this.wasted = Counter.builder("service.prefetch.wasted")
+                .description("Prefetched pages that expired or went stale before their client asked")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("service.prefetch.rejected")
+                .description("Prefetches skipped because the loader pool or the parking space was full")
+                .register(meterRegistry);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("service.prefetch.requests")
+                .description("Sequential page requests by whether the page was prefetched")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Serves a list call from a prefetched page when there is one, and prefetches the following page for
+     * sequential clients.
+     *
+     * @param joinPoint the intercepted call
+     * @param pageable  the requested page
+     * @return the page
+     * @throws Throwable whatever the call throws
+     */
+    @Around("within(com.teamsphere.service.impl..*) "
+            + "&& execution(org.springframework.data.domain.Page getAll(org.springframework.data.domain.Pageable)) "
+            + "&& args(pageable)")
+    public Object prefetch(ProceedingJoinPoint joinPoint, Pageable pageable) throws Throwable {
+        String client = currentClient();
+        if (client == null || pageable.isUnpaged() || PREFETCHING.get() != null
+                || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        Class<?> service = AopUtils.getTargetClass(joinPoint.getTarget());
+        CachedResource resource = CachedResource.ofService(service);
+        Stream stream = new Stream(client, service, pageable.getPageSize(), pageable.getSort());
+        long now = System.nanoTime();
+        Position previous = positions.put(stream, new Position(pageable.getPageNumber(), now));
+        boolean sequential = previous != null && previous.page() == pageable.getPageNumber() - 1
+                && now - previous.seenAt() <= sequenceTimeoutNanos;
+        if (!sequential) {
+            return joinPoint.proceed();
+        }
+
+        Page<?> page = takeParked(new Slot(stream, pageable.getPageNumber()), resource);
+        (page != null ? hits : misses).increment();
+        if (page == null) {
+            page = (Page<?>) joinPoint.proceed();
+        }
+        if (page.hasNext()) {
+            schedule((GenericService<?>) joinPoint.getThis(), new Slot(stream, pageable.getPageNumber() + 1),
+                    pageable.next(), resource);
+        }
+        return page;
+    }
+
+    /**
+     * Returns the number of pages currently parked or loading.
+     *
+     * @return parked pages
+     */
+    int parkedPages() {
+        return parked.size();
+    }
+
+    private Page<?> takeParked(Slot slot, CachedResource resource) {
+        Parked entry = parked.remove(slot);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() <= 0 || entry.generation() != generationOf(resource)) {
+            entry.page().cancel(false);
+            wasted.increment();
+            return null;
+        }
+        try {
+            return entry.page().get();
+        } catch (ExecutionException e) {
+            log.debug("Prefetch of page {} failed: {}", slot.page(), e.getCause().getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void schedule(GenericService<?> service, Slot slot, Pageable next, CachedResource resource) {
+        if (resource != null && !generations.settled(resource)) {
+            return;
+        }
+        prune();
+        if (parked.size() >= maxEntries) {
+            rejected.increment();
+            return;
+        }
+        Parked entry = new Parked(new CompletableFuture<>(), System.nanoTime() + ttlNanos, generationOf(resource));
+        if (parked.putIfAbsent(slot, entry) != null) {
+            return;
+        }
+        Runnable load = () -> {
+            PREFETCHING.set(Boolean.TRUE);
+            try {
+                entry.page().complete(service.getAll(next));
+            } catch (Throwable e) {
+                entry.page().completeExceptionally(e);
+            } finally {
+                PREFETCHING.remove();
+            }
+        };
+        try {
+            executor.execute(new DelegatingSecurityContextRunnable(load));
+            issued.increment();
+        } catch (RejectedExecutionException e) {
+            parked.remove(slot, entry);
+            rejected.increment();
+        }
+    }
+
+    private void prune() {
+        long now = System.nanoTime();
+        parked.entrySet().removeIf(slot -> {
+            if (now - slot.getValue().expiresAt() > 0) {
+                wasted.increment();
+                return true;
+            }
+            return false;
+        });
+        if (positions.size() >= maxEntries) {
+            positions.values().removeIf(position -> now - position.seenAt() > sequenceTimeoutNanos);
+        }
+    }
+
+    private long generationOf(CachedResource resource) {
+        return resource == null ? 0 : generations.of(resource);
+    }
+
+    private static String currentClient() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A client paging through one list with a fixed page size and sort.
+     */
+    private record Stream(String client, Class<?> service, int size, Sort sort) {
+    }
+
+    private record Position(int page, long seenAt) {
+    }
+
+    private record Slot(Stream stream, int page) {
+    }
+
+    private record Parked(CompletableFuture<Page<?>> page, long expiresAt, long generation) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.teamsphere.prefetch;
+
+import com.teamsphere.cache.ResourceGenerations;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of next-page prefetching for list calls.
+ */
+@Configuration
+@EnableConfigurationProperties(PrefetchProperties.class)
+public class PrefetchConfiguration {
+
+    /**
+     * Registers the prefetch aspect. Enabled by {@code prefetch.enabled}.
+     *
+     * @param properties    the prefetch settings
+     * @param generations   the generations parked pages are validated against
+     * @param meterRegistry the registry to publish the prefetch metrics to
+     * @return the aspect
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "prefetch", name = "enabled", havingValue = "true")
+    public PagePrefetchAspect pagePrefetchAspect(PrefetchProperties properties, ResourceGenerations generations,
+                                                 MeterRegistry meterRegistry) {
+        return new PagePrefetchAspect(properties, generations, meterRegistry);
+    }
+}
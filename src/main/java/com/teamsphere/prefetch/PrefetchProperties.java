@@ -0,0 +1,26 @@
+package com.teamsphere.prefetch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Next-page prefetch settings bound from {@code prefetch}.
+ *
+ * @param enabled         whether the next page is loaded ahead for clients paging sequentially
+ * @param ttl             how long a prefetched page waits for its client
+ * @param sequenceTimeout how long after page N a request for page N+1 still counts as sequential
+ * @param threads         threads loading pages in the background
+ * @param queueCapacity   prefetches waiting for a thread; further prefetches are skipped
+ * @param maxEntries      the most prefetched pages and tracked clients kept at once
+ */
+@ConfigurationProperties("prefetch")
+public record PrefetchProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("5s") Duration ttl,
+        @DefaultValue("30s") Duration sequenceTimeout,
+        @DefaultValue("2") int threads,
+        @DefaultValue("16") int queueCapacity,
+        @DefaultValue("1000") int maxEntries) {
+}
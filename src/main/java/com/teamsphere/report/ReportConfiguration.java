@@ -0,0 +1,38 @@
+package com.teamsphere.report;
+
+import com.teamsphere.cache.ResourceGenerations;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuration of the reporting endpoints.
+ */
+@Configuration
+@EnableConfigurationProperties(ReportProperties.class)
+public class ReportConfiguration {
+
+    /**
+     * Creates the time spent reports, rolled up with {@code GROUP BY ROLLUP} on PostgreSQL.
+     *
+     * @param entityManagerFactory the factory telling the database in use
+     * @param entityManager        the entity manager the reports are queried with
+     * @param transactionManager   the transaction manager the reports are queried in
+     * @param generations          the generations cached reports are validated against
+     * @param properties           the reporting settings
+     * @return the reports
+     */
+    @Bean
+    public TimeSpentReports timeSpentReports(EntityManagerFactory entityManagerFactory, EntityManager entityManager,
+                                             PlatformTransactionManager transactionManager,
+                                             ResourceGenerations generations, ReportProperties properties) {
+        boolean rollup = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect()
+                instanceof PostgreSQLDialect;
+        return new TimeSpentReports(rollup, entityManager, transactionManager, generations, properties);
+    }
+}
@@ -0,0 +1,13 @@
+package com.teamsphere.report;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Reporting settings bound from {@code report}.
+ *
+ * @param cacheSize the most computed reports remembered at once; zero disables caching
+ */
+@ConfigurationProperties("report")
+public record ReportProperties(@DefaultValue("256") int cacheSize) {
+}
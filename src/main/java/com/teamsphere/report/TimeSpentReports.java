@@ -0,0 +1,300 @@
+package com.teamsphere.report;
+
+import com.teamsphere.cache.CachedResource;
+import com.teamsphere.cache.ResourceGenerations;
+import com.teamsphere.dto.report.ReportDimension;
+import com.teamsphere.dto.report.ReportGroupDto;
+import com.teamsphere.dto.report.TimeSpentReportDto;
+import com.teamsphere.dto.report.TimeSpentReportRequest;
+import com.teamsphere.dto.report.TimeSpentRowDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Computes time spent reports in one set-based statement and remembers them until the next write.
+ *
+ * <p>On PostgreSQL the statement groups with {@code GROUP BY ROLLUP}, which yields the rows of every group and
+ * the subtotals of each enclosing group in a single pass. Databases without {@code ROLLUP} get the same rows
+ * from a {@code UNION ALL} of one {@code GROUP BY} per level. The rows come back hierarchically ordered, every
+ * subtotal after the groups it sums up and the total last.</p>
+ *
+ * <p>Projects and companies are reached through the employee's project allocations, so a task counts toward
+ * every project of its employee. The join repeats a task once per allocation, so when grouping by project or
+ * company every level aggregates its own {@code SELECT DISTINCT} of task and group IDs instead of one
+ * {@code ROLLUP}: a company counts a task once however many of its projects the employee works on, and levels
+ * above the project or company count every task once. Tasks without an employee, and tasks of employees without
+ * projects when grouping by project or company, are left out.</p>
+ *
+ * <p>Reports are cached by request. A cached report is served as long as the generation of employees, which
+ * covers writes to tasks, departments, positions, projects and companies as well, is unchanged. Reports computed
+ * before that generation has {@linkplain ResourceGenerations#settled settled} are not cached.</p>
+ */
+@Slf4j
+public class TimeSpentReports {
+
+    private static final String AGGREGATES = aggregates("t.time_spent_minutes");
+    private static final String DISTINCT_AGGREGATES = aggregates("r.minutes");
+
+    private final boolean rollup;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    private final ResourceGenerations generations;
+    private final int cacheSize;
+    private final Map<TimeSpentReportRequest, Cached> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private record Cached(TimeSpentReportDto report, long generation) {
+    }
+
+    /**
+     * Creates the reports.
+     *
+     * @param rollup             whether the database supports {@code GROUP BY ROLLUP}
+     * @param entityManager      the entity manager the reports are queried with
+     * @param transactionManager the transaction manager the reports are queried in
+     * @param generations        the generations cached reports are validated against
+     * @param properties         the reporting settings
+     */
+    public TimeSpentReports(boolean rollup, EntityManager entityManager, PlatformTransactionManager transactionManager,
+                            ResourceGenerations generations, ReportProperties properties) {
+        this.rollup = rollup;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setReadOnly(true);
+        this.generations = generations;
+        this.cacheSize = properties.cacheSize();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the report for a request, from the cache when no write happened since it was computed.
+     *
+     * @param request the report to compute
+     * @return the report
+     */
+    public TimeSpentReportDto timeSpent(TimeSpentReportRequest request) {
+        long generation = generations.of(CachedResource.EMPLOYEE);
+        boolean settled = generations.settled(CachedResource.EMPLOYEE);
+        Cached cached = cached(request, generation);
+        if (cached != null) {
+            hits.increment();
+            return cached.report();
+        }
+        misses.increment();
+        long start = System.nanoTime();
+        TimeSpentReportDto report = transaction.execute(status -> compute(request));
+        log.debug("Computed time spent report by {} in {} ms", request.groupBy(),
+                (System.nanoTime() - start) / 1_000_000);
+        if (settled) {
+            remember(request, new Cached(report, generation));
+        }
+        return report;
+    }
+
+    /**
+     * Returns the number of reports served from the cache.
+     *
+     * @return cache hits
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of reports computed.
+     *
+     * @return cache misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    private synchronized Cached cached(TimeSpentReportRequest request, long generation) {
+        Cached cached = cache.get(request);
+        if (cached != null && cached.generation() != generation) {
+            cache.remove(request);
+            return null;
+        }
+        return cached;
+    }
+
+    private synchronized void remember(TimeSpentReportRequest request, Cached cached) {
+        if (cacheSize <= 0) {
+            return;
+        }
+        cache.put(request, cached);
+        if (cache.size() > cacheSize) {
+            cache.remove(cache.keySet().iterator().next());
+        }
+    }
+
+    private TimeSpentReportDto compute(TimeSpentReportRequest request) {
+        List<ReportDimension> dimensions = request.groupBy();
+        Query query = entityManager.createNativeQuery(sql(request))
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        bind(query, "statuses", request.statuses());
+        bind(query, "types", request.types());
+        bind(query, "priorities", request.priorities());
+
+        List<TimeSpentRowDto> rows = new ArrayList<>();
+        for (Object result : query.getResultList()) {
+            Object[] columns = (Object[]) result;
+            List<ReportGroupDto> groups = new ArrayList<>();
+            for (int i = 0; i < dimensions.size() && columns[2 * i] != null; i++) {
+                groups.add(new ReportGroupDto(dimensions.get(i), ((Number) columns[2 * i]).longValue(),
+                        (String) columns[2 * i + 1]));
+            }
+            int aggregates = 2 * dimensions.size();
+            rows.add(new TimeSpentRowDto(groups, ((Number) columns[aggregates]).longValue(),
+                    ((Number) columns[aggregates + 1]).longValue(), ((Number) columns[aggregates + 2]).longValue(),
+                    columns[aggregates + 3] == null ? null : ((Number) columns[aggregates + 3]).doubleValue()));
+        }
+        return new TimeSpentReportDto(dimensions, rows);
+    }
+
+    private static void bind(Query query, String name, Collection<? extends Enum<?>> values) {
+        if (!values.isEmpty()) {
+            query.setParameter(name, values.stream().map(Enum::name).sorted().toList());
+        }
+    }
+
+    /**
+     * Builds the report statement.
+     *
+     * @param request the report
+     * @return the SQL, with a parameter per set filter
+     */
+    String sql(TimeSpentReportRequest request) {
+        List<ReportDimension> dimensions = request.groupBy();
+        String from = from(request);
+        if (dimensions.isEmpty()) {
+            return "SELECT " + AGGREGATES + from;
+        }
+        List<String> ids = dimensions.stream().map(TimeSpentReports::idColumn).toList();
+        List<String> names = dimensions.stream().map(TimeSpentReports::nameExpression).toList();
+        boolean allocated = allocated(dimensions);
+        if (rollup && !allocated) {
+            return "SELECT " + groupColumns(ids, names, dimensions.size()) + AGGREGATES + from
+                    + " GROUP BY ROLLUP(" + String.join(", ", ids) + ")" + orderBy(dimensions);
+        }
+        StringJoiner levels = new StringJoiner(" UNION ALL ");
+        for (int level = dimensions.size(); level >= 0; level--) {
+            levels.add(allocated ? distinctLevel(dimensions, level, from) : "SELECT "
+                    + groupColumns(ids, names, level) + AGGREGATES + from + groupBy(ids, level));
+        }
+        return "SELECT * FROM (" + levels + ") levels" + orderBy(dimensions);
+    }
+
+    private static String distinctLevel(List<ReportDimension> dimensions, int level, String from) {
+        StringBuilder rows = new StringBuilder("SELECT DISTINCT t.id AS task_id, t.time_spent_minutes AS minutes");
+        List<String> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < dimensions.size(); i++) {
+            ids.add("r.k" + i);
+            names.add("r.n" + i);
+            if (i < level) {
+                rows.append(", ").append(idColumn(dimensions.get(i))).append(" AS k").append(i).append(", ")
+                        .append(nameExpression(dimensions.get(i))).append(" AS n").append(i);
+            }
+        }
+        return "SELECT " + groupColumns(ids, names, level) + DISTINCT_AGGREGATES + " FROM (" + rows + from
+                + ") r" + groupBy(ids, level);
+    }
+
+    private static boolean allocated(List<ReportDimension> dimensions) {
+        return dimensions.contains(ReportDimension.PROJECT) || dimensions.contains(ReportDimension.COMPANY);
+    }
+
+    private static String groupBy(List<String> ids, int level) {
+        return level == 0 ? "" : " GROUP BY " + String.join(", ", ids.subList(0, level));
+    }
+
+    private static String aggregates(String minutes) {
+        return "COUNT(*) AS tasks, COUNT(" + minutes + ") AS timed, COALESCE(SUM(" + minutes + "), 0) AS minutes, "
+                + "AVG(CAST(" + minutes + " AS DOUBLE PRECISION)) AS average";
+    }
+
+    private static String groupColumns(List<String> ids, List<String> names, int level) {
+        StringBuilder columns = new StringBuilder();
+        for (int i = 0; i < ids.size(); i++) {
+            if (i < level) {
+                columns.append(ids.get(i)).append(" AS k").append(i).append(", MAX(")
+                        .append(names.get(i)).append(") AS n").append(i).append(", ");
+            } else {
+                columns.append("CAST(NULL AS BIGINT) AS k").append(i)
+                        .append(", CAST(NULL AS VARCHAR(255)) AS n").append(i).append(", ");
+            }
+        }
+        return columns.toString();
+    }
+
+    private static String orderBy(List<ReportDimension> dimensions) {
+        StringJoiner order = new StringJoiner(", ", " ORDER BY ", "");
+        for (int i = 0; i < dimensions.size(); i++) {
+            order.add("k" + i + " NULLS LAST");
+        }
+        return order.toString();
+    }
+
+    private static String from(TimeSpentReportRequest request) {
+        StringBuilder from = new StringBuilder(" FROM t_tasks t JOIN t_employees e ON e.id = t.employee_id");
+        List<ReportDimension> dimensions = request.groupBy();
+        if (dimensions.contains(ReportDimension.DEPARTMENT)) {
+            from.append(" JOIN t_departments d ON d.id = e.department_id");
+        }
+        if (dimensions.contains(ReportDimension.POSITION)) {
+            from.append(" JOIN t_positions p ON p.id = e.position_id");
+        }
+        if (allocated(dimensions)) {
+            from.append(" JOIN t_projects_employees pe ON pe.employee_id = e.id")
+                    .append(" JOIN t_projects pr ON pr.id = pe.project_id");
+        }
+        if (dimensions.contains(ReportDimension.COMPANY)) {
+            from.append(" JOIN t_companies c ON c.id = pr.company_id");
+        }
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        if (!request.statuses().isEmpty()) {
+            where.add("t.task_status IN (:statuses)");
+        }
+        if (!request.types().isEmpty()) {
+            where.add("t.task_type IN (:types)");
+        }
+        if (!request.priorities().isEmpty()) {
+            where.add("t.task_priority IN (:priorities)");
+        }
+        return from.append(where).toString();
+    }
+
+    private static String idColumn(ReportDimension dimension) {
+        return switch (dimension) {
+            case EMPLOYEE -> "e.id";
+            case DEPARTMENT -> "d.id";
+            case POSITION -> "p.id";
+            case PROJECT -> "pr.id";
+            case COMPANY -> "c.id";
+        };
+    }
+
+    private static String nameExpression(ReportDimension dimension) {
+        return switch (dimension) {
+            case EMPLOYEE -> "e.first_name || ' ' || e.last_name";
+            case DEPARTMENT -> "d.department_name";
+            case POSITION -> "p.position_name";
+            case PROJECT -> "pr.name";
+            case COMPANY -> "c.company_name";
+        };
+    }
+}
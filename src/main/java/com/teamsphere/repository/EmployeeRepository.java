@@ -1,11 +1,19 @@
 package com.teamsphere.repository;
 
 import com.teamsphere.entity.EmployeeEntity;
+import com.teamsphere.timeline.ProjectPeriod;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,12 +25,51 @@ public interface EmployeeRepository extends JpaRepository<EmployeeEntity, Long>
 
     /**
      * Finds all employees with their related entities (tasks, projects, department, position).
-     * Uses entity graph to avoid N+1 query problem.
+     * Uses entity graph to avoid N+1 query problem. Loaded entities are read-only and never flushed.
      *
      * @return list of employees with all relations loaded, ordered by ID descending
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
     @EntityGraph(attributePaths = {"tasks", "projects", "department", "position"})
     @Query("SELECT e FROM EmployeeEntity e ORDER BY e.id DESC")
     List<EmployeeEntity> findAllWithRelations();
 
+    /**
+     * Finds a page of employee IDs, ordered by ID descending.
+     * Paging IDs first keeps the collection fetch of {@link #findAllWithRelationsByIdIn} out of the paged query.
+     *
+     * @param pageable pagination information; its sort is ignored
+     * @return page of employee IDs
+     */
+    @Query(value = "SELECT e.id FROM EmployeeEntity e ORDER BY e.id DESC",
+            countQuery = "SELECT COUNT(e) FROM EmployeeEntity e")
+    Page<Long> findPageOfIds(Pageable pageable);
+
+    /**
+     * Finds the given employees with their related entities (tasks, projects, department, position).
+     * Loaded entities are read-only and never flushed.
+     *
+     * @param ids the employee IDs
+     * @return employees with all relations loaded, ordered by ID descending
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @EntityGraph(attributePaths = {"tasks", "projects", "department", "position"})
+    @Query("SELECT e FROM EmployeeEntity e WHERE e.id IN :ids ORDER BY e.id DESC")
+    List<EmployeeEntity> findAllWithRelationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds the dates of the projects an employee is allocated to.
+     *
+     * @param employeeId the employee ID
+     * @return the project periods, in no particular order
+     */
+    @Query("SELECT new com.teamsphere.timeline.ProjectPeriod(p.id, p.name, p.startDate, p.finishDate) "
+            + "FROM EmployeeEntity e JOIN e.projects p WHERE e.id = :employeeId")
+    List<ProjectPeriod> findProjectPeriods(@Param("employeeId") Long employeeId);
 }
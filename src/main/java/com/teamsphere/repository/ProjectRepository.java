@@ -1,11 +1,19 @@
 package com.teamsphere.repository;
 
 import com.teamsphere.entity.ProjectEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,11 +25,61 @@ public interface ProjectRepository extends JpaRepository<ProjectEntity, Long> {
 
     /**
      * Finds all projects with their associated company.
-     * Uses entity graph to avoid N+1 query problem.
+     * Uses entity graph to avoid N+1 query problem. Loaded entities are read-only and never flushed.
      *
      * @return list of projects with company loaded, ordered by ID descending
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
     @EntityGraph(attributePaths = {"company"})
     @Query("SELECT p FROM ProjectEntity p ORDER BY p.id DESC")
     List<ProjectEntity> findAllWithCompanies();
+
+    /**
+     * Finds a page of IDs of projects running on any day from {@code from} to {@code to}, latest start first.
+     * A project without a finish date runs indefinitely.
+     *
+     * @param from     the first day of the window
+     * @param to       the last day of the window
+     * @param pageable pagination information; its sort is ignored
+     * @return page of project IDs
+     */
+    @Query(value = "SELECT p.id FROM ProjectEntity p "
+            + "WHERE p.startDate <= :to AND (p.finishDate IS NULL OR p.finishDate >= :from) "
+            + "ORDER BY p.startDate DESC, p.id DESC",
+            countQuery = "SELECT COUNT(p) FROM ProjectEntity p "
+                    + "WHERE p.startDate <= :to AND (p.finishDate IS NULL OR p.finishDate >= :from)")
+    Page<Long> findActiveIds(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    /**
+     * Finds the same page as {@link #findActiveIds} through the GiST index on the PostgreSQL-only
+     * {@code active_range} column maintained by {@link com.teamsphere.timeline.ProjectTimeline}.
+     *
+     * @param from     the first day of the window
+     * @param to       the last day of the window
+     * @param pageable pagination information; its sort is ignored
+     * @return page of project IDs
+     */
+    @Query(value = "SELECT p.id FROM t_projects p WHERE p.active_range && daterange(:from, :to, '[]') "
+            + "ORDER BY p.start_date DESC, p.id DESC",
+            countQuery = "SELECT count(*) FROM t_projects p WHERE p.active_range && daterange(:from, :to, '[]')",
+            nativeQuery = true)
+    Page<Long> findActiveIdsByRange(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    /**
+     * Finds the given projects with their associated company.
+     * Loaded entities are read-only and never flushed.
+     *
+     * @param ids the project IDs
+     * @return projects with company loaded, in no particular order
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @EntityGraph(attributePaths = {"company"})
+    @Query("SELECT p FROM ProjectEntity p WHERE p.id IN :ids")
+    List<ProjectEntity> findAllWithCompaniesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -2,10 +2,13 @@ package com.teamsphere.repository;
 
 import com.teamsphere.entity.TaskEntity;
 import com.teamsphere.entity.enums.TaskType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -31,10 +34,15 @@ public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
     /**
      * Finds all tasks sorted by status priority and update time.
      * Status priority: ACTIVE (1), PENDING (2), FINISHED (3), others (4).
+     * Loaded entities are read-only and never flushed.
      *
      * @param pageable pagination information
      * @return page of tasks sorted by status and update time
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
     @Query("SELECT t FROM TaskEntity t ORDER BY " +
             "CASE t.taskStatus " +
             "WHEN 'ACTIVE' THEN 1 " +
@@ -1,5 +1,6 @@
 package com.teamsphere.repository;
 
+import com.teamsphere.datasource.ConnectionPool;
 import com.teamsphere.entity.auth.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -9,8 +10,10 @@ import java.util.Optional;
 /**
  * Repository interface for User entity.
  * Provides CRUD operations and query methods for users.
+ * Uses the auth connection pool so logins keep working while other pools are saturated.
  */
 @Repository
+@ConnectionPool(ConnectionPool.AUTH)
 public interface UserRepository extends JpaRepository<User, Long> {
     /**
      * Finds a user by their email address.
@@ -0,0 +1,30 @@
+package com.teamsphere.search;
+
+/**
+ * How a paged search obtains its total number of matches.
+ */
+public enum CountMode {
+
+    /**
+     * A separate {@code count(*)} query after the page query.
+     */
+    SEPARATE,
+
+    /**
+     * A {@code count(*) over()} window column on the page query, so the total arrives in the same round trip.
+     */
+    WINDOW,
+
+    /**
+     * No count. One row past the page is fetched to tell whether another page follows, and the reported
+     * total is a lower bound: the rows up to the end of this page, plus one when more follow.
+     */
+    NONE,
+
+    /**
+     * A {@code count(*)} over the matches limited to one row past a cap, so the count stops scanning there. Totals
+     * up to the cap are exact. Beyond it the reported total is a lower bound: one past the cap, or the rows up to
+     * the end of this page plus one when more follow, whichever is larger.
+     */
+    CAPPED
+}
@@ -0,0 +1,20 @@
+package com.teamsphere.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Global search settings bound from {@code search.global}.
+ *
+ * @param deadline     how long a global search waits for all resources before answering with what it has
+ * @param defaultLimit the number of results per resource when the request names none
+ * @param maxLimit     the most results per resource a request may ask for
+ */
+@ConfigurationProperties("search.global")
+public record GlobalSearchProperties(
+        @DefaultValue("2s") Duration deadline,
+        @DefaultValue("5") int defaultLimit,
+        @DefaultValue("20") int maxLimit) {
+}
@@ -0,0 +1,142 @@
+package com.teamsphere.search;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Recognises search text shaped like an identifier, so services can look it up by equality on an indexed
+ * column before falling back to substring scans.
+ *
+ * <p>Nothing here throws for malformed input: text is checked against a pattern before it is parsed and
+ * enum names are looked up in a map, so classifying the text of every search costs no exceptions.</p>
+ */
+public final class QueryClassifier {
+
+    private static final Pattern PIN = Pattern.compile("(?=.*\\d)[-0-9\\s]{10}");
+    private static final Pattern NUMERIC = Pattern.compile("\\d{1,9}");
+    private static final Pattern EMAIL = Pattern.compile("[^@\\s]+@[^@\\s]+\\.[^@\\s]+");
+    private static final Pattern DATE = Pattern.compile("(\\d{4})-(\\d{2})-(\\d{2})");
+    private static final ClassValue<Map<String, Object>> ENUM_CONSTANTS = new ClassValue<>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> type) {
+            Map<String, Object> constants = new HashMap<>();
+            for (Object constant : type.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name().toUpperCase(Locale.ROOT), constant);
+            }
+            return Map.copyOf(constants);
+        }
+    };
+
+    /**
+     * Shapes of search text.
+     */
+    public enum QueryClass {
+
+        /**
+         * Ten digits, dashes or spaces, as employee PINs are stored.
+         */
+        PIN,
+
+        /**
+         * An email address.
+         */
+        EMAIL,
+
+        /**
+         * A number that fits an {@code int}, such as a task number.
+         */
+        NUMERIC,
+
+        /**
+         * An ISO date, {@code yyyy-MM-dd}.
+         */
+        DATE,
+
+        /**
+         * Anything else.
+         */
+        TEXT
+    }
+
+    private QueryClassifier() {
+    }
+
+    /**
+     * Classifies search text.
+     *
+     * @param rawQuery the search text as entered by the user
+     * @return the shape of the text
+     */
+    public static QueryClass classify(String rawQuery) {
+        if (rawQuery == null || rawQuery.isBlank()) {
+            return QueryClass.TEXT;
+        }
+        if (NUMERIC.matcher(rawQuery).matches()) {
+            return QueryClass.NUMERIC;
+        }
+        if (date(rawQuery).isPresent()) {
+            return QueryClass.DATE;
+        }
+        if (PIN.matcher(rawQuery).matches()) {
+            return QueryClass.PIN;
+        }
+        return EMAIL.matcher(rawQuery).matches() ? QueryClass.EMAIL : QueryClass.TEXT;
+    }
+
+    /**
+     * Returns the number a {@link QueryClass#NUMERIC} query stands for.
+     *
+     * @param rawQuery the search text
+     * @return the number, or empty when the text is not numeric
+     */
+    public static OptionalInt number(String rawQuery) {
+        return rawQuery != null && NUMERIC.matcher(rawQuery).matches()
+                ? OptionalInt.of(Integer.parseInt(rawQuery))
+                : OptionalInt.empty();
+    }
+
+    /**
+     * Returns the date a {@link QueryClass#DATE} query stands for.
+     *
+     * @param rawQuery the search text
+     * @return the date, or empty when the text is not a valid ISO date
+     */
+    public static Optional<LocalDate> date(String rawQuery) {
+        if (rawQuery == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = DATE.matcher(rawQuery);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        int year = Integer.parseInt(matcher.group(1));
+        int month = Integer.parseInt(matcher.group(2));
+        int day = Integer.parseInt(matcher.group(3));
+        if (month < 1 || month > 12 || day < 1 || day > YearMonth.of(year, month).lengthOfMonth()) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDate.of(year, month, day));
+    }
+
+    /**
+     * Returns the constant of an enum whose name matches the search text, ignoring case.
+     *
+     * @param type     the enum type
+     * @param rawQuery the search text
+     * @param <T>      the enum type
+     * @return the constant, or empty when no constant has that name
+     */
+    public static <T extends Enum<T>> Optional<T> enumValue(Class<T> type, String rawQuery) {
+        if (rawQuery == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(type.cast(ENUM_CONSTANTS.get(type).get(rawQuery.toUpperCase(Locale.ROOT))));
+    }
+}
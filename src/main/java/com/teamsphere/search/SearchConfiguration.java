@@ -0,0 +1,60 @@
+package com.teamsphere.search;
+
+import com.teamsphere.cache.ResourceGenerations;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of free-text search.
+ */
+@Configuration
+@EnableConfigurationProperties({SearchCountProperties.class, SearchSessionProperties.class,
+        GlobalSearchProperties.class})
+public class SearchConfiguration {
+
+    /**
+     * Creates the counting strategy shared by all searches.
+     *
+     * @param properties  the count settings
+     * @param generations the generations remembered totals are validated against
+     * @return the counting strategy
+     */
+    @Bean
+    public SearchCounting searchCounting(SearchCountProperties properties, ResourceGenerations generations) {
+        return new SearchCounting(properties.mode(), properties.cap(), properties.tokenTtl(), properties.maxTokens(),
+                generations);
+    }
+
+    /**
+     * Creates the registry of running searches per search session, which also holds the statement timeout.
+     *
+     * @param properties the search session settings
+     * @return the registry
+     */
+    @Bean
+    public SearchSessions searchSessions(SearchSessionProperties properties) {
+        return new SearchSessions(properties.statementTimeout());
+    }
+
+    /**
+     * Registers the search session filter after the security chain and the response cache, so the user is
+     * known and cached responses never start a search. Enabled by {@code search.session.enabled}.
+     *
+     * @param properties the search session settings
+     * @param sessions   the running searches
+     * @return the filter registration
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "search.session", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<SearchSessionFilter> searchSessionFilter(SearchSessionProperties properties,
+                                                                           SearchSessions sessions) {
+        FilterRegistrationBean<SearchSessionFilter> registration =
+                new FilterRegistrationBean<>(new SearchSessionFilter(sessions, properties.header()));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 2);
+        return registration;
+    }
+}
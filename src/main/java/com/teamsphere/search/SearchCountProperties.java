@@ -0,0 +1,22 @@
+package com.teamsphere.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Search count settings bound from {@code search.count}.
+ *
+ * @param mode      how the total number of matches is obtained
+ * @param cap       the most matches counted exactly in {@link CountMode#CAPPED} mode
+ * @param tokenTtl  how long a computed total is reused for further pages of the same query; zero disables reuse
+ * @param maxTokens the most totals remembered at once
+ */
+@ConfigurationProperties("search.count")
+public record SearchCountProperties(
+        @DefaultValue("window") CountMode mode,
+        @DefaultValue("1000") long cap,
+        @DefaultValue("30s") Duration tokenTtl,
+        @DefaultValue("10000") int maxTokens) {
+}
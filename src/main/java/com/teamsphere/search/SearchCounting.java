@@ -0,0 +1,164 @@
+package com.teamsphere.search;
+
+import com.teamsphere.cache.CachedResource;
+import com.teamsphere.cache.ResourceGenerations;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chooses how searches count their matches and remembers computed totals as count tokens.
+ *
+ * <p>A token holds the total of one query over one entity type. Later pages of the same query reuse it and run
+ * only their page query, until the token expires or a write bumps the {@link ResourceGenerations generation} of
+ * the searched resource. Tokens are only used inside read-only transactions, since a total seen by a writable
+ * transaction may include its own uncommitted rows, and are not handed out while the resource is not yet
+ * {@linkplain ResourceGenerations#settled settled} after a write.</p>
+ */
+public class SearchCounting {
+
+    /**
+     * Counting used when none is configured: a separate count query and no reuse.
+     */
+    public static final SearchCounting SEPARATE = new SearchCounting(CountMode.SEPARATE, 0, Duration.ZERO, 0, null);
+
+    private final Map<Key, Remembered> totals = new ConcurrentHashMap<>();
+    private final CountMode mode;
+    private final long cap;
+    private final long tokenTtlNanos;
+    private final int maxTokens;
+    private final ResourceGenerations generations;
+
+    /**
+     * Creates the counting strategy.
+     *
+     * @param mode        how totals are obtained
+     * @param cap         the most matches {@link CountMode#CAPPED} counts exactly
+     * @param tokenTtl    how long a total is reused; zero disables reuse
+     * @param maxTokens   the most totals remembered at once
+     * @param generations the generations totals are validated against, or {@code null} to rely on the TTL only
+     */
+    public SearchCounting(CountMode mode, long cap, Duration tokenTtl, int maxTokens,
+                          ResourceGenerations generations) {
+        this.mode = mode;
+        this.cap = cap;
+        this.tokenTtlNanos = tokenTtl.toNanos();
+        this.maxTokens = maxTokens;
+        this.generations = generations;
+    }
+
+    /**
+     * Returns how totals are obtained.
+     *
+     * @return the count mode
+     */
+    public CountMode mode() {
+        return mode;
+    }
+
+    /**
+     * Returns the most matches a capped count counts exactly.
+     *
+     * @return the cap of {@link CountMode#CAPPED}
+     */
+    public long cap() {
+        return cap;
+    }
+
+    /**
+     * Returns the count token of a query, holding its total if a current one is remembered.
+     *
+     * @param service     the searching service class
+     * @param entityClass the searched entity type
+     * @param query       the search text as entered by the user, or a structured filter
+     * @return the token
+     */
+    public CountToken token(Class<?> service, Class<?> entityClass, Object query) {
+        if (tokenTtlNanos <= 0 || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return new CountToken(null, 0, -1);
+        }
+        CachedResource resource = CachedResource.ofService(service);
+        if (generations != null && resource != null && !generations.settled(resource)) {
+            return new CountToken(null, 0, -1);
+        }
+        Key key = new Key(entityClass, query);
+        long generation = generationOf(resource);
+        Remembered remembered = totals.get(key);
+        long now = System.nanoTime();
+        if (remembered != null && (remembered.expiresAt() - now <= 0 || remembered.generation() != generation)) {
+            totals.remove(key, remembered);
+            remembered = null;
+        }
+        return new CountToken(key, generation, remembered == null ? -1 : remembered.total());
+    }
+
+    private long generationOf(CachedResource resource) {
+        return generations == null || resource == null ? 0 : generations.of(resource);
+    }
+
+    private void remember(Key key, long generation, long total) {
+        if (key == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (totals.size() >= maxTokens) {
+            totals.values().removeIf(remembered -> remembered.expiresAt() - now <= 0);
+            if (totals.size() >= maxTokens) {
+                return;
+            }
+        }
+        totals.put(key, new Remembered(total, generation, now + tokenTtlNanos));
+    }
+
+    /**
+     * The total of one query, known or still to be computed.
+     */
+    public final class CountToken {
+
+        private final Key key;
+        private final long generation;
+        private final long total;
+
+        private CountToken(Key key, long generation, long total) {
+            this.key = key;
+            this.generation = generation;
+            this.total = total;
+        }
+
+        /**
+         * Returns whether the total is already known.
+         *
+         * @return {@code true} if the page query needs no count
+         */
+        public boolean isKnown() {
+            return total >= 0;
+        }
+
+        /**
+         * Returns the remembered total.
+         *
+         * @return the total, or {@code -1} if unknown
+         */
+        public long total() {
+            return total;
+        }
+
+        /**
+         * Remembers a freshly computed total for later pages, unless a write happened since the token was taken.
+         *
+         * @param computed the exact total
+         */
+        public void remember(long computed) {
+            SearchCounting.this.remember(key, generation, computed);
+        }
+    }
+
+    private record Key(Class<?> entityClass, Object query) {
+    }
+
+    private record Remembered(long total, long generation, long expiresAt) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.teamsphere.search;
+
+import com.teamsphere.exception.SearchSupersededException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * One running search of a client that named its search session, which a newer search of the same session
+ * may cancel.
+ *
+ * <p>The search attaches its Hibernate session while it queries. {@link #supersede()} marks the search as
+ * superseded and cancels the statement the attached session is running, so the database stops working on a
+ * result nobody waits for. Attaching after being superseded fails right away, so a search that had not
+ * reached the database yet does not get there.</p>
+ *
+ * <p>A search that queries several resources at once runs each of them as a {@linkplain #child() child}, which
+ * is superseded together with its parent and can also be superseded on its own.</p>
+ */
+@Slf4j
+public class SearchSession {
+
+    private volatile boolean superseded;
+    private volatile Session session;
+    private final List<SearchSession> children = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a search that is superseded whenever this search is.
+     *
+     * @return the child search, already superseded if this search is
+     */
+    public SearchSession child() {
+        SearchSession child = new SearchSession();
+        children.add(child);
+        if (superseded) {
+            child.supersede();
+        }
+        return child;
+    }
+
+    /**
+     * Attaches the Hibernate session the search runs its statements on.
+     *
+     * @param session the session, not a thread-bound proxy, so it can be cancelled from another thread
+     * @throws SearchSupersededException if the search was already superseded
+     */
+    public void attach(Session session) {
+        this.session = session;
+        checkNotSuperseded();
+    }
+
+    /**
+     * Detaches the Hibernate session once the search no longer queries.
+     */
+    public void detach() {
+        this.session = null;
+    }
+
+    /**
+     * Marks the search and its children as superseded and cancels their running statements, if any.
+     */
+    public void supersede() {
+        superseded = true;
+        Session attached = session;
+        if (attached != null) {
+            try {
+                attached.cancelQuery();
+            } catch (HibernateException e) {
+                // The statement completed or was closed in the meantime.
+                log.debug("Could not cancel superseded search: {}", e.getMessage());
+            }
+        }
+        children.forEach(SearchSession::supersede);
+    }
+
+    /**
+     * Tells whether a newer search of the same session arrived.
+     *
+     * @return {@code true} once superseded
+     */
+    public boolean isSuperseded() {
+        return superseded;
+    }
+
+    /**
+     * Stops a superseded search before it runs its next statement.
+     *
+     * @throws SearchSupersededException if the search was superseded
+     */
+    public void checkNotSuperseded() {
+        if (superseded) {
+            throw new SearchSupersededException();
+        }
+    }
+}
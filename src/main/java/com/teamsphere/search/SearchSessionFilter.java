@@ -0,0 +1,67 @@
+package com.teamsphere.search;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filter that runs {@code POST /api/v1/{resource}/search} requests naming a search session as searches of
+ * that session in {@link SearchSessions}.
+ *
+ * <p>A session belongs to the authenticated user, so one user cannot cancel another user's searches by reusing
+ * a session name. Requests without the header, or with a name longer than {@value #MAX_SESSION_LENGTH}
+ * characters, run as before.</p>
+ */
+public class SearchSessionFilter extends OncePerRequestFilter {
+
+    private static final int MAX_SESSION_LENGTH = 128;
+
+    private final SearchSessions sessions;
+    private final String header;
+
+    /**
+     * Creates the filter.
+     *
+     * @param sessions the running searches
+     * @param header   the request header naming the search session
+     */
+    public SearchSessionFilter(SearchSessions sessions, String header) {
+        this.sessions = sessions;
+        this.header = header;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || !request.getRequestURI().endsWith("/search");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String session = request.getHeader(header);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!StringUtils.hasText(session) || session.length() > MAX_SESSION_LENGTH
+                || authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = authentication.getName() + '\u0000' + session;
+        SearchSession search = sessions.begin(key);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            sessions.end(key, search);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.teamsphere.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Search session settings bound from {@code search.session}.
+ *
+ * @param enabled          whether a newer search of a session cancels the running one
+ * @param header           the request header naming the search session
+ * @param statementTimeout the longest a search or filter statement may run, in whole seconds; zero for no limit
+ */
+@ConfigurationProperties("search.session")
+public record SearchSessionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("X-Search-Session") String header,
+        @DefaultValue("5s") Duration statementTimeout) {
+}
@@ -0,0 +1,124 @@
+package com.teamsphere.search;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Tracks the running search of every search session and the statement timeout of searches.
+ *
+ * <p>A client names a search session with a request header, scoped to the authenticated user. Beginning a
+ * search supersedes the one still running for the same session, so only the newest search of a type-ahead
+ * field keeps its database statement. The running search is bound to the request thread for
+ * {@code GenericServiceImpl} to attach its Hibernate session to.</p>
+ */
+public class SearchSessions {
+
+    /**
+     * Settings used when none are configured: no statement timeout.
+     */
+    public static final SearchSessions NONE = new SearchSessions(Duration.ZERO);
+
+    private static final ThreadLocal<SearchSession> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, SearchSession> running = new ConcurrentHashMap<>();
+    private final int statementTimeoutSeconds;
+
+    /**
+     * Creates the registry.
+     *
+     * @param statementTimeout the longest a search statement may run, rounded up to whole seconds; zero for no limit
+     */
+    public SearchSessions(Duration statementTimeout) {
+        this.statementTimeoutSeconds = (int) Math.ceil(statementTimeout.toMillis() / 1000.0);
+    }
+
+    /**
+     * Returns the search running on the current thread for a search session.
+     *
+     * @return the search, or {@code null} when the request named no session
+     */
+    public static SearchSession current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stops the search running on the current thread before its next statement if it was superseded.
+     *
+     * @throws com.teamsphere.exception.SearchSupersededException if the search was superseded
+     */
+    public static void checkNotSuperseded() {
+        SearchSession search = CURRENT.get();
+        if (search != null) {
+            search.checkNotSuperseded();
+        }
+    }
+
+    /**
+     * Runs a call on the current thread as part of a search, for searches fanned out to other threads.
+     *
+     * @param search the search the call belongs to
+     * @param call   the call
+     * @param <T>    the result type
+     * @return the result of the call
+     */
+    public static <T> T callAs(SearchSession search, Supplier<T> call) {
+        SearchSession outer = CURRENT.get();
+        CURRENT.set(search);
+        try {
+            return call.get();
+        } finally {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+    }
+
+    /**
+     * Returns the statement timeout of searches.
+     *
+     * @return the timeout in seconds, or zero for no limit
+     */
+    public int statementTimeoutSeconds() {
+        return statementTimeoutSeconds;
+    }
+
+    /**
+     * Begins a search of a session on the current thread, superseding the session's running search.
+     *
+     * @param key the session, qualified by the user
+     * @return the new search, to be passed to {@link #end}
+     */
+    public SearchSession begin(String key) {
+        SearchSession search = new SearchSession();
+        SearchSession previous = running.put(key, search);
+        if (previous != null) {
+            previous.supersede();
+        }
+        CURRENT.set(search);
+        return search;
+    }
+
+    /**
+     * Ends a search on the current thread.
+     *
+     * @param key    the session, qualified by the user
+     * @param search the search returned by {@link #begin}
+     */
+    public void end(String key, SearchSession search) {
+        CURRENT.remove();
+        running.remove(key, search);
+    }
+
+    /**
+     * Returns the number of sessions with a running search.
+     *
+     * @return running searches
+     */
+    public int running() {
+        return running.size();
+    }
+}
@@ -2,9 +2,12 @@ package com.teamsphere.service;
 
 import com.teamsphere.dto.company.CompanyDto;
 import com.teamsphere.dto.company.CompanySearchRequest;
+import com.teamsphere.dto.suggest.SuggestionDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 /**
  * Service interface for company operations.
  * Extends GenericService with company-specific functionality.
@@ -20,4 +23,13 @@ public interface CompanyService extends GenericService<CompanyDto> {
      */
     Page<CompanyDto> find(CompanySearchRequest request, Pageable pageable);
 
+    /**
+     * Suggests companies whose name starts with the typed text, from the in-memory suggestion index.
+     *
+     * @param prefix the typed text
+     * @param limit  the number of suggestions asked for, or {@code null} for the default
+     * @return the matching names
+     */
+    List<SuggestionDto> suggest(String prefix, Integer limit);
+
 }
@@ -1,10 +1,15 @@
 package com.teamsphere.service;
 
 import com.teamsphere.dto.employee.EmployeeDto;
+import com.teamsphere.dto.employee.EmployeeFilterRequest;
 import com.teamsphere.dto.employee.EmployeeSearchRequest;
+import com.teamsphere.dto.employee.ProjectOverlapDto;
+import com.teamsphere.dto.suggest.SuggestionDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 /**
  * Service interface for employee operations.
  * Extends GenericService with employee-specific functionality.
@@ -20,4 +25,30 @@ public interface EmployeeService extends GenericService<EmployeeDto> {
      */
     Page<EmployeeDto> find(EmployeeSearchRequest request, Pageable pageable);
 
+    /**
+     * Filters employees by the set conditions of a structured filter.
+     *
+     * @param request  the filter conditions
+     * @param pageable pagination information
+     * @return page of matching employees
+     */
+    Page<EmployeeDto> filter(EmployeeFilterRequest request, Pageable pageable);
+
+    /**
+     * Suggests employees whose name starts with the typed text, from the in-memory suggestion index.
+     *
+     * @param prefix the typed text
+     * @param limit  the number of suggestions asked for, or {@code null} for the default
+     * @return the matching names
+     */
+    List<SuggestionDto> suggest(String prefix, Integer limit);
+
+    /**
+     * Finds the projects of an employee that run at the same time.
+     *
+     * @param employeeId the employee ID
+     * @return every overlapping pair of the employee's projects once, by the first day of the overlap
+     * @throws com.teamsphere.exception.NotFoundException if the employee does not exist
+     */
+    List<ProjectOverlapDto> findProjectOverlaps(Long employeeId);
 }
@@ -0,0 +1,18 @@
+package com.teamsphere.service;
+
+import com.teamsphere.dto.search.GlobalSearchRequest;
+import com.teamsphere.dto.search.GlobalSearchResponse;
+
+/**
+ * Service interface for searching employees, companies, projects and tasks at once.
+ */
+public interface GlobalSearchService {
+
+    /**
+     * Searches all resources for the query and returns the best matches of each.
+     *
+     * @param request the query and the number of results wanted per resource
+     * @return the matches per resource; resources that did not answer in time are marked incomplete
+     */
+    GlobalSearchResponse search(GlobalSearchRequest request);
+}
@@ -1,10 +1,18 @@
 package com.teamsphere.service;
 
 import com.teamsphere.dto.project.ProjectDto;
+import com.teamsphere.dto.project.ProjectFilterRequest;
 import com.teamsphere.dto.project.ProjectSearchRequest;
+import com.teamsphere.dto.project.ProjectStaffingDto;
+import com.teamsphere.dto.project.SharedStaffDto;
+import com.teamsphere.dto.project.StaffOverlapDto;
+import com.teamsphere.dto.suggest.SuggestionDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * Service interface for project operations.
  * Extends GenericService with project-specific functionality.
@@ -20,4 +28,57 @@ public interface ProjectService extends GenericService<ProjectDto> {
      */
     Page<ProjectDto> find(ProjectSearchRequest request, Pageable pageable);
 
+    /**
+     * Filters projects by the set conditions of a structured filter.
+     *
+     * @param request  the filter conditions
+     * @param pageable pagination information
+     * @return page of matching projects
+     */
+    Page<ProjectDto> filter(ProjectFilterRequest request, Pageable pageable);
+
+    /**
+     * Suggests projects whose name starts with the typed text, from the in-memory suggestion index.
+     *
+     * @param prefix the typed text
+     * @param limit  the number of suggestions asked for, or {@code null} for the default
+     * @return the matching names
+     */
+    List<SuggestionDto> suggest(String prefix, Integer limit);
+
+    /**
+     * Finds the projects running on any day of a window, latest start first.
+     *
+     * @param from     the first day of the window
+     * @param to       the last day of the window
+     * @param pageable pagination information
+     * @return page of active projects; empty when the window ends before it starts
+     */
+    Page<ProjectDto> findActive(LocalDate from, LocalDate to, Pageable pageable);
+
+    /**
+     * Finds the employees working on every one of the given projects, from the in-memory staffing index.
+     *
+     * @param projectIds   the projects; at least one
+     * @param departmentId the department the employees must belong to, or {@code null} for any
+     * @return the shared employees
+     */
+    SharedStaffDto findSharedStaff(List<Long> projectIds, Long departmentId);
+
+    /**
+     * Finds the projects sharing employees with a project, from the in-memory staffing index.
+     *
+     * @param projectId the project ID
+     * @return the other projects with the number of shared employees, most shared first
+     */
+    List<StaffOverlapDto> findStaffOverlaps(Long projectId);
+
+    /**
+     * Counts the employees of projects, overall and per department, from the in-memory staffing index.
+     *
+     * @param projectIds the projects to count; empty for every project with staff
+     * @return the counts in ascending project order
+     */
+    List<ProjectStaffingDto> countStaff(List<Long> projectIds);
+
 }
@@ -0,0 +1,18 @@
+package com.teamsphere.service;
+
+import com.teamsphere.dto.report.TimeSpentReportDto;
+import com.teamsphere.dto.report.TimeSpentReportRequest;
+
+/**
+ * Service interface for reports over tasks.
+ */
+public interface ReportService {
+
+    /**
+     * Reports the number of tasks and the time spent on them, grouped and rolled up.
+     *
+     * @param request the grouping and the task filters
+     * @return a row per group, the subtotals of the enclosing groups and the total
+     */
+    TimeSpentReportDto timeSpent(TimeSpentReportRequest request);
+}
@@ -0,0 +1,18 @@
+package com.teamsphere.service;
+
+import com.teamsphere.dto.report.TaskAggregateDto;
+import com.teamsphere.dto.report.TaskAggregateRequest;
+
+/**
+ * Service interface for aggregates over the in-memory copy of the tasks.
+ */
+public interface TaskAnalyticsService {
+
+    /**
+     * Counts the tasks matching the filters of a request and the time spent on them, by group.
+     *
+     * @param request the grouping and the task filters
+     * @return a row per non-empty group
+     */
+    TaskAggregateDto aggregate(TaskAggregateRequest request);
+}
@@ -1,10 +1,14 @@
 package com.teamsphere.service;
 
 import com.teamsphere.dto.task.TaskDto;
+import com.teamsphere.dto.task.TaskFilterRequest;
 import com.teamsphere.dto.task.TaskSearchRequest;
+import com.teamsphere.dto.task.TaskStatsDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+
 /**
  * Service interface for task operations.
  * Extends GenericService with task-specific functionality.
@@ -20,4 +24,21 @@ public interface TaskService extends GenericService<TaskDto> {
      */
     Page<TaskDto> find(TaskSearchRequest request, Pageable pageable);
 
+    /**
+     * Filters tasks by the set conditions of a structured filter.
+     *
+     * @param request  the filter conditions
+     * @param pageable pagination information
+     * @return page of matching tasks
+     */
+    Page<TaskDto> filter(TaskFilterRequest request, Pageable pageable);
+
+    /**
+     * Returns the task counts by status, overall and per employee, type and priority.
+     *
+     * @param employeeIds the employees to count tasks of; empty for every employee with tasks
+     * @return the counts
+     */
+    TaskStatsDto stats(Collection<Long> employeeIds);
+
 }
@@ -1,16 +1,18 @@
 package com.teamsphere.service.impl;
 
+import com.teamsphere.cache.CachedResource;
+import com.teamsphere.datasource.ConnectionPool;
 import com.teamsphere.dto.company.CompanyDto;
 import com.teamsphere.dto.company.CompanySearchRequest;
+import com.teamsphere.dto.suggest.SuggestionDto;
 import com.teamsphere.entity.CompanyEntity;
 import com.teamsphere.mapper.CompanyMapper;
 import com.teamsphere.mapper.base.BaseMapper;
 import com.teamsphere.repository.CompanyRepository;
 import com.teamsphere.service.CompanyService;
+import com.teamsphere.suggest.SuggestionIndex;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import lombok.AllArgsConstructor;
@@ -18,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -33,6 +36,7 @@ public class CompanyServiceImpl extends GenericServiceImpl<CompanyEntity, Compan
     private final CompanyRepository companyRepository;
     private final CompanyMapper companyMapper;
     private final EntityManager entityManager;
+    private final SuggestionIndex suggestionIndex;
 
     @Override
     public BaseMapper<CompanyEntity, CompanyDto> getMapper() {
@@ -52,43 +56,23 @@ public class CompanyServiceImpl extends GenericServiceImpl<CompanyEntity, Compan
      * @param pageable pagination information
      * @return page of matching companies
      */
+    @Transactional(readOnly = true)
+    @ConnectionPool(ConnectionPool.ANALYTICS)
     @Override
     public Page<CompanyDto> find(final CompanySearchRequest request, Pageable pageable) {
-        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        CriteriaQuery<CompanyEntity> criteriaQuery = criteriaBuilder.createQuery(CompanyEntity.class);
-        Root<CompanyEntity> root = criteriaQuery.from(CompanyEntity.class);
-
-        String query = "%" + request.query() + "%";
-        Predicate mainPredicate = buildPredicates(criteriaBuilder, query, root);
-        criteriaQuery.where(mainPredicate);
-
-        TypedQuery<CompanyEntity> tQuery = entityManager.createQuery(criteriaQuery)
-                .setFirstResult((int) pageable.getOffset())
-                .setMaxResults(pageable.getPageSize());
-
-        List<CompanyEntity> resultList = tQuery.getResultList();
-        List<CompanyDto> dtoList = resultList.stream()
-                .map(companyMapper::toDto)
-                .toList();
-
-        CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
-        Root<CompanyEntity> countRoot = countQuery.from(CompanyEntity.class);
-        Predicate countPredicate = buildPredicates(criteriaBuilder, query, countRoot);
-
-        countQuery.select(criteriaBuilder.count(countRoot))
-                .where(countPredicate);
-
-        Long totalCount = entityManager.createQuery(countQuery).getSingleResult();
-
-        Pageable sorted = PageRequest.of(
-                pageable.getPageNumber(),
-                pageable.getPageSize(),
-                pageable.getSortOr(Sort.by(Sort.Direction.DESC, "id"))
-        );
-
-        log.debug("Found {} projects for query '{}'", resultList.size(), request.query());
+        return search(entityManager, CompanyEntity.class, request.query(), pageable, this::buildPredicates);
+    }
 
-        return new PageImpl<>(dtoList, sorted, totalCount);
+    /**
+     * Suggests companies from the in-memory suggestion index, without touching the database.
+     *
+     * @param prefix the typed text
+     * @param limit  the number of suggestions asked for, or {@code null} for the default
+     * @return the matching names
+     */
+    @Override
+    public List<SuggestionDto> suggest(String prefix, Integer limit) {
+        return suggestionIndex.suggest(CachedResource.COMPANY, prefix, limit);
     }
 
     /**
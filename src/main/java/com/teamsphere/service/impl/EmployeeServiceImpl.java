@@ -1,16 +1,26 @@
 package com.teamsphere.service.impl;
 
+import com.teamsphere.cache.CachedResource;
+import com.teamsphere.datasource.ConnectionPool;
 import com.teamsphere.dto.employee.EmployeeDto;
+import com.teamsphere.dto.employee.EmployeeFilterRequest;
 import com.teamsphere.dto.employee.EmployeeSearchRequest;
+import com.teamsphere.dto.employee.ProjectOverlapDto;
+import com.teamsphere.dto.suggest.SuggestionDto;
 import com.teamsphere.entity.EmployeeEntity;
+import com.teamsphere.exception.NotFoundException;
 import com.teamsphere.mapper.EmployeeMapper;
 import com.teamsphere.mapper.base.BaseMapper;
 import com.teamsphere.repository.EmployeeRepository;
+import com.teamsphere.search.QueryClassifier;
 import com.teamsphere.service.EmployeeService;
+import com.teamsphere.staffing.StaffingIndex;
+import com.teamsphere.stats.TaskCountKey;
+import com.teamsphere.stats.TaskCounters;
+import com.teamsphere.suggest.SuggestionIndex;
+import com.teamsphere.timeline.ProjectOverlaps;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import lombok.AllArgsConstructor;
@@ -18,7 +28,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -33,6 +45,9 @@ public class EmployeeServiceImpl extends GenericServiceImpl<EmployeeEntity, Empl
     private final EmployeeRepository employeeRepository;
     private final EmployeeMapper employeeMapper;
     private final EntityManager entityManager;
+    private final SuggestionIndex suggestionIndex;
+    private final StaffingIndex staffingIndex;
+    private final TaskCounters taskCounters;
 
     @Override
     public BaseMapper<EmployeeEntity, EmployeeDto> getMapper() {
@@ -45,82 +60,153 @@ public class EmployeeServiceImpl extends GenericServiceImpl<EmployeeEntity, Empl
     }
 
     /**
-     * Retrieves all employees with their relations (tasks, projects, department, position).
+     * Retrieves a page of employees with their relations (tasks, projects, department, position).
+     * Pages the IDs first and then loads only those employees, newest first.
      *
      * @param page pagination information
-     * @return page of all employees with relations
+     * @return page of employees with relations
      */
+    @Transactional(readOnly = true)
     @Override
     public Page<EmployeeDto> getAll(Pageable page) {
-        List<EmployeeEntity> employees = employeeRepository.findAllWithRelations();
-        return new PageImpl<>(employees.stream().map(employeeMapper::toDto).toList(), page, employees.size());
+        Pageable byId = page.isPaged() ? PageRequest.of(page.getPageNumber(), page.getPageSize()) : Pageable.unpaged();
+        Page<Long> ids = employeeRepository.findPageOfIds(byId);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), page, ids.getTotalElements());
+        }
+        List<EmployeeEntity> employees = employeeRepository.findAllWithRelationsByIdIn(ids.getContent());
+        return new PageImpl<>(employees.stream().map(employeeMapper::toDto).toList(), page, ids.getTotalElements());
+    }
+
+    /**
+     * Deletes an employee and removes it from the staff of its projects and department. The employee's tasks are
+     * deleted with it and taken off the task counters.
+     *
+     * @param id the employee ID to delete
+     * @throws NotFoundException if the employee is not found
+     */
+    @Transactional
+    @Override
+    public void delete(Long id) {
+        List<TaskCountKey> tasks = employeeRepository.findById(id)
+                .map(employee -> employee.getTasks().stream().map(TaskCountKey::of).toList())
+                .orElse(List.of());
+        super.delete(id);
+        tasks.forEach(task -> taskCounters.changed(task, null));
+        staffingIndex.removed(id);
+    }
+
+    /**
+     * Finds the projects of an employee that run at the same time.
+     * Loads only the project dates and sweeps them through an in-memory interval tree.
+     *
+     * @param employeeId the employee ID
+     * @return every overlapping pair of the employee's projects
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<ProjectOverlapDto> findProjectOverlaps(Long employeeId) {
+        if (!employeeRepository.existsById(employeeId)) {
+            throw new NotFoundException(employeeId);
+        }
+        return ProjectOverlaps.of(employeeRepository.findProjectPeriods(employeeId));
     }
 
     /**
      * Searches for employees using criteria query.
-     * Searches across first name, last name, email, and PIN fields.
+     * Looks a PIN or email up by equality first, then searches across first name, last name, email, and PIN fields.
      *
      * @param request  the search criteria
      * @param pageable pagination information
      * @return page of matching employees
      */
+    @Transactional(readOnly = true)
+    @ConnectionPool(ConnectionPool.ANALYTICS)
     @Override
     public Page<EmployeeDto> find(final EmployeeSearchRequest request, Pageable pageable) {
-        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        CriteriaQuery<EmployeeEntity> criteriaQuery = criteriaBuilder.createQuery(EmployeeEntity.class);
-        Root<EmployeeEntity> root = criteriaQuery.from(EmployeeEntity.class);
-
-        String query = "%" + request.query() + "%";
-        Predicate mainPredicate = buildPredicates(criteriaBuilder, query, root);
-        criteriaQuery.where(mainPredicate);
-
-        TypedQuery<EmployeeEntity> tQuery = entityManager.createQuery(criteriaQuery)
-                .setFirstResult((int) pageable.getOffset())
-                .setMaxResults(pageable.getPageSize());
-
-        List<EmployeeEntity> resultList = tQuery.getResultList();
-        List<EmployeeDto> dtoList = resultList.stream()
-                .map(employeeMapper::toDto)
-                .toList();
-
-        CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
-        Root<EmployeeEntity> countRoot = countQuery.from(EmployeeEntity.class);
-        Predicate countPredicate = buildPredicates(criteriaBuilder, query, countRoot);
-
-        countQuery.select(criteriaBuilder.count(countRoot))
-                .where(countPredicate);
-
-        Long totalCount = entityManager.createQuery(countQuery).getSingleResult();
+        String rawQuery = request.query();
+        return search(entityManager, EmployeeEntity.class, rawQuery, pageable, exactPredicates(rawQuery),
+                (criteriaBuilder, query, root) -> buildPredicates(criteriaBuilder, query, root, rawQuery));
+    }
 
-        Pageable sorted = PageRequest.of(
-                pageable.getPageNumber(),
-                pageable.getPageSize(),
-                pageable.getSortOr(Sort.by(Sort.Direction.DESC, "id")));
+    /**
+     * Suggests employees from the in-memory suggestion index, without touching the database.
+     *
+     * @param prefix the typed text
+     * @param limit  the number of suggestions asked for, or {@code null} for the default
+     * @return the matching names
+     */
+    @Override
+    public List<SuggestionDto> suggest(String prefix, Integer limit) {
+        return suggestionIndex.suggest(CachedResource.EMPLOYEE, prefix, limit);
+    }
 
-        log.debug("Found {} employees for query '{}'", resultList.size(), request.query());
+    /**
+     * Filters employees by department, position and project, newest first.
+     * Pages the matching employees and then loads their relations in one query.
+     *
+     * @param request  the filter conditions
+     * @param pageable pagination information
+     * @return page of matching employees with relations
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Page<EmployeeDto> filter(final EmployeeFilterRequest request, Pageable pageable) {
+        Page<EmployeeEntity> matches = filter(entityManager, EmployeeEntity.class, request, pageable,
+                Sort.by(Sort.Direction.DESC, "id"), (criteriaBuilder, root) -> {
+                    List<Predicate> conditions = new ArrayList<>();
+                    if (request.departmentId() != null) {
+                        conditions.add(criteriaBuilder.equal(root.get("department").get("id"), request.departmentId()));
+                    }
+                    if (request.positionId() != null) {
+                        conditions.add(criteriaBuilder.equal(root.get("position").get("id"), request.positionId()));
+                    }
+                    if (request.projectId() != null) {
+                        conditions.add(criteriaBuilder.equal(root.join("projects").get("id"), request.projectId()));
+                    }
+                    return conditions;
+                });
+        if (matches.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, matches.getTotalElements());
+        }
+        List<EmployeeEntity> employees = employeeRepository.findAllWithRelationsByIdIn(
+                matches.getContent().stream().map(EmployeeEntity::getId).toList());
+        return new PageImpl<>(employees.stream().map(employeeMapper::toDto).toList(), pageable,
+                matches.getTotalElements());
+    }
 
-        return new PageImpl<>(dtoList, sorted, totalCount);
+    /**
+     * Builds the equality lookup for a query shaped like a PIN or an email.
+     *
+     * @param rawQuery the raw search query without wildcards
+     * @return the lookup, or {@code null} when the query is neither
+     */
+    private ExactPredicates<EmployeeEntity> exactPredicates(final String rawQuery) {
+        return switch (QueryClassifier.classify(rawQuery)) {
+            case PIN -> (criteriaBuilder, root) -> criteriaBuilder.equal(root.get("pin"), rawQuery);
+            case EMAIL -> (criteriaBuilder, root) -> criteriaBuilder.equal(root.get("email"), rawQuery);
+            default -> null;
+        };
     }
 
     /**
      * Builds search predicates for employee fields.
-     * Attempts to parse query as PIN number if possible.
+     * Also matches PINs containing the query when it consists of digits.
      *
      * @param criteriaBuilder the criteria builder
-     * @param query           the search query
+     * @param query           the search query with wildcards
      * @param root            the root entity
+     * @param rawQuery        the raw search query without wildcards
      * @return combined predicate for all searchable fields
      */
-    private Predicate buildPredicates(final CriteriaBuilder criteriaBuilder, final String query, final Root<EmployeeEntity> root) {
+    private Predicate buildPredicates(final CriteriaBuilder criteriaBuilder, final String query, final Root<EmployeeEntity> root, final String rawQuery) {
         Predicate firstName = criteriaBuilder.like(root.get("firstName"), query);
         Predicate lastName = criteriaBuilder.like(root.get("lastName"), query);
         Predicate email = criteriaBuilder.like(root.get("email"), query);
-        try {
-            Integer pinQuery = Integer.parseInt(query);
-            Predicate pin = criteriaBuilder.equal(root.get("pin"), pinQuery);
+        QueryClassifier.QueryClass queryClass = QueryClassifier.classify(rawQuery);
+        if (queryClass == QueryClassifier.QueryClass.NUMERIC || queryClass == QueryClassifier.QueryClass.PIN) {
+            Predicate pin = criteriaBuilder.like(root.get("pin"), query);
             return criteriaBuilder.or(firstName, lastName, email, pin);
-        } catch (NumberFormatException e) {
-            log.info("Query '{}' is not a valid pin", e.getMessage());
         }
 
         return criteriaBuilder.or(firstName, lastName, email);
@@ -3,23 +3,153 @@ package com.teamsphere.service.impl;
 import com.teamsphere.dto.BaseDto;
 import com.teamsphere.entity.BaseEntity;
 import com.teamsphere.exception.NotFoundException;
+import com.teamsphere.exception.SearchSupersededException;
 import com.teamsphere.mapper.base.BaseMapper;
+import com.teamsphere.monitoring.SearchEvent;
+import com.teamsphere.search.CountMode;
+import com.teamsphere.search.QueryClassifier;
+import com.teamsphere.search.SearchCounting;
+import com.teamsphere.search.SearchSession;
+import com.teamsphere.search.SearchSessions;
 import com.teamsphere.service.GenericService;
-import jakarta.transaction.Transactional;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.FlushMode;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaDerivedRoot;
+import org.hibernate.query.criteria.JpaSubQuery;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Abstract base implementation of GenericService providing common CRUD operations.
  *
+ * @param <E> the entity type extending BaseEntity
  * @param <D> the DTO type extending BaseDto
  */
+@Slf4j
 public abstract class GenericServiceImpl<E extends BaseEntity, D extends BaseDto> implements GenericService<D> {
+
+    /**
+     * Builds the search predicate for one query root. Called for the page query and, when one runs, the count query.
+     *
+     * @param <E> the entity type
+     */
+    @FunctionalInterface
+    protected interface SearchPredicates<E> {
+
+        /**
+         * Builds the combined predicate.
+         *
+         * @param criteriaBuilder the criteria builder
+         * @param query           the search query wrapped in LIKE wildcards
+         * @param root            the root entity
+         * @return combined predicate for all searchable fields
+         */
+        Predicate build(CriteriaBuilder criteriaBuilder, String query, Root<E> root);
+    }
+
+    /**
+     * Builds an equality lookup on indexed identifier columns for search text shaped like an identifier.
+     *
+     * @param <E> the entity type
+     */
+    @FunctionalInterface
+    protected interface ExactPredicates<E> {
+
+        /**
+         * Builds the lookup predicate.
+         *
+         * @param criteriaBuilder the criteria builder
+         * @param root            the root entity
+         * @return the equality predicate
+         */
+        Predicate build(CriteriaBuilder criteriaBuilder, Root<E> root);
+    }
+
+    /**
+     * Builds the conditions of a structured filter for one query root. Every returned condition must hold.
+     *
+     * @param <E> the entity type
+     */
+    @FunctionalInterface
+    protected interface FilterPredicates<E> {
+
+        /**
+         * Builds the conditions; an empty list matches everything.
+         *
+         * @param criteriaBuilder the criteria builder
+         * @param root            the root entity
+         * @return the conditions
+         */
+        List<Predicate> build(CriteriaBuilder criteriaBuilder, Root<E> root);
+    }
+
+    /**
+     * Where clause of the page and count queries of one search or filter.
+     */
+    @FunctionalInterface
+    private interface Where<E> {
+
+        Predicate build(CriteriaBuilder criteriaBuilder, Root<E> root);
+    }
+
+    /**
+     * One page of matches with the total and how it was obtained.
+     */
+    private record Matches<E>(List<E> rows, long total, long countQueryTime, String countMode) {
+    }
+
+    /**
+     * Count token key of the exact lookup stage, kept apart from the substring search for the same text.
+     */
+    private record ExactQuery(String rawQuery) {
+    }
+
+    private SearchCounting searchCounting = SearchCounting.SEPARATE;
+    private SearchSessions searchSessions = SearchSessions.NONE;
+
+    /**
+     * Sets how searches count their matches. Without it every search runs a separate count query.
+     *
+     * @param searchCounting the counting strategy
+     */
+    @Autowired(required = false)
+    public void setSearchCounting(SearchCounting searchCounting) {
+        this.searchCounting = searchCounting;
+    }
+
+    /**
+     * Sets the running searches per search session and the statement timeout. Without it searches cannot be
+     * superseded and their statements run without a timeout.
+     *
+     * @param searchSessions the running searches
+     */
+    @Autowired(required = false)
+    public void setSearchSessions(SearchSessions searchSessions) {
+        this.searchSessions = searchSessions;
+    }
+
     /**
      * Gets the mapper for converting between entity and DTO.
      *
@@ -34,6 +164,7 @@ public abstract class GenericServiceImpl<E extends BaseEntity, D extends BaseDto
      */
     public abstract JpaRepository<E, Long> getRepository();
 
+    @Transactional(readOnly = true)
     @Override
     public Page<D> getAll(Pageable pageable) {
 
@@ -68,6 +199,7 @@ public abstract class GenericServiceImpl<E extends BaseEntity, D extends BaseDto
      * @return the DTO
      * @throws NotFoundException if entity not found
      */
+    @Transactional(readOnly = true)
     @Override
     public D get(Long id) {
         E entity = getRepository().findById(id).orElseThrow(() -> new NotFoundException(id));
@@ -105,4 +237,304 @@ public abstract class GenericServiceImpl<E extends BaseEntity, D extends BaseDto
         entityDb.setUpdatedAt(LocalDateTime.now());
         return getMapper().toDto(getRepository().save(entityDb));
     }
+
+    /**
+     * Runs a paged free-text search and emits a {@link SearchEvent}.
+     *
+     * <p>The total comes from a count token remembered for this query when there is one, and otherwise as the
+     * configured {@link CountMode} dictates: a {@code count(*) over()} column on the page query, a separate count
+     * query, a count that stops past a cap, or not at all.</p>
+     *
+     * @param entityManager the entity manager to query with
+     * @param entityClass   the searched entity type
+     * @param rawQuery      the search text as entered by the user
+     * @param pageable      pagination information
+     * @param predicates    builds the where clause for the page and count queries
+     * @return page of matching DTOs
+     */
+    protected Page<D> search(EntityManager entityManager, Class<E> entityClass, String rawQuery,
+                             Pageable pageable, SearchPredicates<E> predicates) {
+        return search(entityManager, entityClass, rawQuery, pageable, null, predicates);
+    }
+
+    /**
+     * Runs a paged search that first looks the text up by equality and emits a {@link SearchEvent}.
+     *
+     * <p>When {@code exact} is given it runs first, and its matches are the result if there are any. Only
+     * otherwise does the substring search run. An identifier such as an email or task number is then found
+     * through its index without {@code LIKE} scans over every searchable column.</p>
+     *
+     * <p>When the request runs as a search of a {@link SearchSessions search session}, a newer search of the same
+     * session cancels the statement running here, and the call ends with a {@link SearchSupersededException}.</p>
+     *
+     * @param entityManager the entity manager to query with
+     * @param entityClass   the searched entity type
+     * @param rawQuery      the search text as entered by the user
+     * @param pageable      pagination information
+     * @param exact         builds the equality lookup, or {@code null} when the text is not an identifier
+     * @param predicates    builds the where clause of the substring search
+     * @return page of matching DTOs
+     */
+    protected Page<D> search(EntityManager entityManager, Class<E> entityClass, String rawQuery,
+                             Pageable pageable, ExactPredicates<E> exact, SearchPredicates<E> predicates) {
+        SearchSession session = SearchSessions.current();
+        if (session == null) {
+            return runSearch(entityManager, entityClass, rawQuery, pageable, exact, predicates);
+        }
+        session.attach(entityManager.unwrap(SessionImplementor.class));
+        try {
+            return runSearch(entityManager, entityClass, rawQuery, pageable, exact, predicates);
+        } catch (PersistenceException e) {
+            if (session.isSuperseded()) {
+                throw new SearchSupersededException();
+            }
+            throw e;
+        } finally {
+            session.detach();
+        }
+    }
+
+    private Page<D> runSearch(EntityManager entityManager, Class<E> entityClass, String rawQuery,
+                              Pageable pageable, ExactPredicates<E> exact, SearchPredicates<E> predicates) {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+
+        Matches<E> matches = null;
+        if (exact != null) {
+            Matches<E> exactMatches = findMatches(entityManager, entityClass, new ExactQuery(rawQuery), pageable,
+                    Sort.unsorted(), exact::build);
+            if (hasMatches(exactMatches, pageable)) {
+                matches = exactMatches;
+            }
+        }
+        boolean exactHit = matches != null;
+        if (!exactHit) {
+            SearchSessions.checkNotSuperseded();
+            String query = "%" + rawQuery + "%";
+            matches = findMatches(entityManager, entityClass, rawQuery, pageable, Sort.unsorted(),
+                    (criteriaBuilder, root) -> predicates.build(criteriaBuilder, query, root));
+        }
+        List<D> dtoList = matches.rows().stream()
+                .map(entity -> getMapper().toDto(entity))
+                .toList();
+
+        Pageable sorted = PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                pageable.getSortOr(Sort.by(Sort.Direction.DESC, "id")));
+
+        log.debug("Found {} {} rows for query '{}'", matches.rows().size(), entityClass.getSimpleName(), rawQuery);
+        commit(event, entityClass, QueryClassifier.classify(rawQuery).name(), exactHit, matches);
+
+        return new PageImpl<>(dtoList, sorted, matches.total());
+    }
+
+    /**
+     * Runs a paged structured filter and emits a {@link SearchEvent} with the query class {@code FILTER}.
+     * Totals are obtained like for {@link #search}, with the filter itself as the count token key.
+     *
+     * @param entityManager the entity manager to query with
+     * @param entityClass   the filtered entity type
+     * @param filter        the filter request; must implement {@code equals} and {@code hashCode}
+     * @param pageable      pagination information; its sort is ignored
+     * @param order         the order of the results, matching the indexes the conditions use
+     * @param predicates    builds the conditions, all of which must hold
+     * @return page of matching entities
+     */
+    protected Page<E> filter(EntityManager entityManager, Class<E> entityClass, Object filter, Pageable pageable,
+                             Sort order, FilterPredicates<E> predicates) {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+
+        Matches<E> matches = findMatches(entityManager, entityClass, filter, pageable, order,
+                (criteriaBuilder, root) -> criteriaBuilder.and(
+                        predicates.build(criteriaBuilder, root).toArray(Predicate[]::new)));
+
+        log.debug("Found {} {} rows for filter {}", matches.rows().size(), entityClass.getSimpleName(), filter);
+        commit(event, entityClass, "FILTER", false, matches);
+
+        return new PageImpl<>(matches.rows(), pageable, matches.total());
+    }
+
+    private Matches<E> findMatches(EntityManager entityManager, Class<E> entityClass, Object tokenKey,
+                                   Pageable pageable, Sort order, Where<E> where) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        int offset = (int) pageable.getOffset();
+        int pageSize = pageable.getPageSize();
+        CountMode mode = searchCounting.mode();
+        SearchCounting.CountToken token = searchCounting.token(getClass(), entityClass, tokenKey);
+
+        if (mode != CountMode.NONE && token.isKnown()) {
+            List<E> rows = fetchPage(entityManager, criteriaBuilder, entityClass, where, order, offset, pageSize);
+            return new Matches<>(rows, token.total(), 0, "TOKEN");
+        }
+        if (mode == CountMode.NONE) {
+            List<E> withNext = fetchPage(entityManager, criteriaBuilder, entityClass, where, order,
+                    offset, pageSize + 1);
+            boolean hasNext = withNext.size() > pageSize;
+            List<E> rows = hasNext ? withNext.subList(0, pageSize) : withNext;
+            return new Matches<>(rows, offset + rows.size() + (hasNext ? 1 : 0), 0, mode.name());
+        }
+        if (mode == CountMode.CAPPED) {
+            return cappedMatches(entityManager, criteriaBuilder, entityClass, where, order, offset, pageSize, token);
+        }
+
+        List<E> rows;
+        long totalCount;
+        long countQueryTime = 0;
+        if (mode == CountMode.WINDOW) {
+            CriteriaQuery<Object[]> windowQuery = criteriaBuilder.createQuery(Object[].class);
+            Root<E> root = windowQuery.from(entityClass);
+            HibernateCriteriaBuilder hibernateBuilder = (HibernateCriteriaBuilder) criteriaBuilder;
+            windowQuery.multiselect(root, hibernateBuilder.windowFunction("count", Long.class,
+                            hibernateBuilder.createWindow(), hibernateBuilder.literal(1)))
+                    .where(where.build(criteriaBuilder, root));
+            orderBy(windowQuery, criteriaBuilder, root, order);
+            List<Object[]> result = prepare(entityManager.createQuery(windowQuery))
+                    .setFirstResult(offset)
+                    .setMaxResults(pageSize)
+                    .getResultList();
+            rows = result.stream().map(row -> entityClass.cast(row[0])).toList();
+            if (!result.isEmpty()) {
+                totalCount = ((Number) result.getFirst()[1]).longValue();
+            } else if (offset == 0) {
+                totalCount = 0;
+            } else {
+                SearchSessions.checkNotSuperseded();
+                long countStart = System.nanoTime();
+                totalCount = count(entityManager, criteriaBuilder, entityClass, where);
+                countQueryTime = System.nanoTime() - countStart;
+            }
+        } else {
+            rows = fetchPage(entityManager, criteriaBuilder, entityClass, where, order, offset, pageSize);
+            SearchSessions.checkNotSuperseded();
+            long countStart = System.nanoTime();
+            totalCount = count(entityManager, criteriaBuilder, entityClass, where);
+            countQueryTime = System.nanoTime() - countStart;
+        }
+        token.remember(totalCount);
+        return new Matches<>(rows, totalCount, countQueryTime, mode.name());
+    }
+
+    /**
+     * Fetches a page with one row of look-ahead and counts the matches only up to one past the cap. A first page
+     * with nothing after it needs no count. A total past the cap is not remembered, since it is only a bound.
+     */
+    private Matches<E> cappedMatches(EntityManager entityManager, CriteriaBuilder criteriaBuilder,
+                                     Class<E> entityClass, Where<E> where, Sort order, int offset, int pageSize,
+                                     SearchCounting.CountToken token) {
+        List<E> withNext = fetchPage(entityManager, criteriaBuilder, entityClass, where, order, offset, pageSize + 1);
+        boolean hasNext = withNext.size() > pageSize;
+        List<E> rows = hasNext ? withNext.subList(0, pageSize) : withNext;
+        if (offset == 0 && !hasNext) {
+            token.remember(rows.size());
+            return new Matches<>(rows, rows.size(), 0, CountMode.CAPPED.name());
+        }
+        long cap = searchCounting.cap();
+        SearchSessions.checkNotSuperseded();
+        long countStart = System.nanoTime();
+        long counted = countUpTo(entityManager, criteriaBuilder, entityClass, where, cap + 1);
+        long countQueryTime = System.nanoTime() - countStart;
+        if (counted <= cap) {
+            token.remember(counted);
+            return new Matches<>(rows, counted, countQueryTime, CountMode.CAPPED.name());
+        }
+        long lowerBound = Math.max(counted, offset + rows.size() + (hasNext ? 1 : 0));
+        return new Matches<>(rows, lowerBound, countQueryTime, CountMode.CAPPED.name());
+    }
+
+    private List<E> fetchPage(EntityManager entityManager, CriteriaBuilder criteriaBuilder, Class<E> entityClass,
+                              Where<E> where, Sort order, int offset, int limit) {
+        CriteriaQuery<E> criteriaQuery = criteriaBuilder.createQuery(entityClass);
+        Root<E> root = criteriaQuery.from(entityClass);
+        criteriaQuery.where(where.build(criteriaBuilder, root));
+        orderBy(criteriaQuery, criteriaBuilder, root, order);
+
+        return prepare(entityManager.createQuery(criteriaQuery))
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private long count(EntityManager entityManager, CriteriaBuilder criteriaBuilder, Class<E> entityClass,
+                       Where<E> where) {
+        CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
+        Root<E> countRoot = countQuery.from(entityClass);
+        countQuery.select(criteriaBuilder.count(countRoot))
+                .where(where.build(criteriaBuilder, countRoot));
+
+        return prepare(entityManager.createQuery(countQuery)).getSingleResult();
+    }
+
+    /**
+     * Counts the matches over a derived table limited to {@code limit} rows, so the database stops scanning once
+     * it has found that many.
+     */
+    private long countUpTo(EntityManager entityManager, CriteriaBuilder criteriaBuilder, Class<E> entityClass,
+                           Where<E> where, long limit) {
+        HibernateCriteriaBuilder hibernateBuilder = (HibernateCriteriaBuilder) criteriaBuilder;
+        JpaCriteriaQuery<Long> countQuery = hibernateBuilder.createQuery(Long.class);
+        JpaSubQuery<Long> limited = countQuery.subquery(Long.class);
+        Root<E> root = limited.from(entityClass);
+        Path<Long> id = root.get("id");
+        id.alias("id");
+        limited.select(id)
+                .where(where.build(criteriaBuilder, root))
+                .fetch(limit);
+        JpaDerivedRoot<Long> matches = countQuery.from(limited);
+        countQuery.select(hibernateBuilder.count(matches.get("id")));
+
+        return prepare(entityManager.createQuery(countQuery)).getSingleResult();
+    }
+
+    private static void orderBy(CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder, Root<?> root, Sort order) {
+        if (order.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(order, root, criteriaBuilder));
+        }
+    }
+
+    /**
+     * Tells whether a lookup matched anything. A page past the matches is empty, so beyond the first page the
+     * total decides, unless it is only the lower bound of {@link CountMode#NONE}. A capped total past the cap is
+     * also a bound, but it is only reported when matches exist.
+     */
+    private static boolean hasMatches(Matches<?> matches, Pageable pageable) {
+        if (!matches.rows().isEmpty()) {
+            return true;
+        }
+        return pageable.getOffset() > 0 && matches.total() > 0 && !CountMode.NONE.name().equals(matches.countMode());
+    }
+
+    private static void commit(SearchEvent event, Class<?> entityClass, String queryClass, boolean exact,
+                               Matches<?> matches) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setEntity(entityClass.getSimpleName());
+            event.setQueryClass(queryClass);
+            event.setExact(exact);
+            event.setCountMode(matches.countMode());
+            event.setRows(matches.rows().size());
+            event.setTotal(matches.total());
+            event.setCountQueryTime(matches.countQueryTime());
+            event.commit();
+        }
+    }
+
+    /**
+     * Marks a query read-only with manual flushing, so Hibernate keeps no dirty-checking snapshots for
+     * its results and does not flush before running it, even when called inside a writable transaction.
+     * Also applies the search statement timeout, if any.
+     *
+     * @param query the query
+     * @param <T>   the result type
+     * @return the same query
+     */
+    private <T> TypedQuery<T> prepare(TypedQuery<T> query) {
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        query.setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+        if (searchSessions.statementTimeoutSeconds() > 0) {
+            query.setHint(HibernateHints.HINT_TIMEOUT, searchSessions.statementTimeoutSeconds());
+        }
+        return query;
+    }
 }
@@ -0,0 +1,172 @@
+package com.teamsphere.service.impl;
+
+import com.teamsphere.dto.company.CompanyDto;
+import com.teamsphere.dto.company.CompanySearchRequest;
+import com.teamsphere.dto.employee.EmployeeDto;
+import com.teamsphere.dto.employee.EmployeeSearchRequest;
+import com.teamsphere.dto.project.ProjectDto;
+import com.teamsphere.dto.project.ProjectSearchRequest;
+import com.teamsphere.dto.search.GlobalSearchRequest;
+import com.teamsphere.dto.search.GlobalSearchResponse;
+import com.teamsphere.dto.search.GlobalSearchSection;
+import com.teamsphere.dto.task.TaskDto;
+import com.teamsphere.dto.task.TaskSearchRequest;
+import com.teamsphere.search.GlobalSearchProperties;
+import com.teamsphere.search.SearchSession;
+import com.teamsphere.search.SearchSessions;
+import com.teamsphere.service.CompanyService;
+import com.teamsphere.service.EmployeeService;
+import com.teamsphere.service.GlobalSearchService;
+import com.teamsphere.service.ProjectService;
+import com.teamsphere.service.TaskService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Implementation of GlobalSearchService.
+ *
+ * <p>The four resource searches run at the same time, each on its own virtual thread with the caller's
+ * security context, and share one deadline. A resource that has not answered by then is left out as
+ * incomplete and its search is superseded, which cancels its running statement; the others are returned
+ * as they are. Each resource search is a child of the request's search session, if it named one, so a
+ * newer search of that session cancels all four.</p>
+ *
+ * <p>Within a resource, matches are ranked by how closely a name matches the query: equal names first, then
+ * names starting with it, then names with a word starting with it.</p>
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class GlobalSearchServiceImpl implements GlobalSearchService {
+
+    private final EmployeeService employeeService;
+    private final CompanyService companyService;
+    private final ProjectService projectService;
+    private final TaskService taskService;
+    private final GlobalSearchProperties properties;
+
+    @Override
+    public GlobalSearchResponse search(GlobalSearchRequest request) {
+        String query = request.query().strip();
+        Pageable pageable = PageRequest.of(0, limit(request.limit()));
+        SearchSession current = SearchSessions.current();
+        SearchSession parent = current != null ? current : new SearchSession();
+        long deadline = System.nanoTime() + properties.deadline().toNanos();
+
+        ExecutorService executor =
+                new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+        try {
+            Leg<EmployeeDto> employees = start(executor, parent, "employees",
+                    () -> employeeService.find(new EmployeeSearchRequest(query), pageable));
+            Leg<CompanyDto> companies = start(executor, parent, "companies",
+                    () -> companyService.find(new CompanySearchRequest(query), pageable));
+            Leg<ProjectDto> projects = start(executor, parent, "projects",
+                    () -> projectService.find(new ProjectSearchRequest(query), pageable));
+            Leg<TaskDto> tasks = start(executor, parent, "tasks",
+                    () -> taskService.find(new TaskSearchRequest(query), pageable));
+
+            await(deadline, employees, companies, projects, tasks);
+            SearchSessions.checkNotSuperseded();
+
+            String normalized = query.toLowerCase(Locale.ROOT);
+            return new GlobalSearchResponse(
+                    employees.collect(e -> matchRank(normalized,
+                            e.getFirstName() + " " + e.getLastName(), e.getLastName(), e.getEmail())),
+                    companies.collect(c -> matchRank(normalized, c.getName())),
+                    projects.collect(p -> matchRank(normalized, p.getName())),
+                    tasks.collect(t -> matchRank(normalized, t.getTaskNumber(), t.getTaskDescription())));
+        } finally {
+            // Not close(): that would wait for the searches that missed the deadline.
+            executor.shutdown();
+        }
+    }
+
+    private int limit(Integer requested) {
+        if (requested == null) {
+            return properties.defaultLimit();
+        }
+        return Math.clamp(requested, 1, properties.maxLimit());
+    }
+
+    private static <T> Leg<T> start(ExecutorService executor, SearchSession parent, String name,
+                                    Supplier<Page<T>> find) {
+        SearchSession search = parent.child();
+        return new Leg<>(name, search,
+                CompletableFuture.supplyAsync(() -> SearchSessions.callAs(search, find), executor));
+    }
+
+    private static void await(long deadline, Leg<?>... legs) {
+        CompletableFuture<?>[] results = new CompletableFuture<?>[legs.length];
+        for (int i = 0; i < legs.length; i++) {
+            results[i] = legs[i].result();
+        }
+        try {
+            CompletableFuture.allOf(results).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Each leg reports its own outcome when collected.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Ranks a match by the closest of its names: 0 for an equal name, 1 for a name starting with the query,
+     * 2 for a name with a word starting with it and 3 otherwise.
+     */
+    static int matchRank(String query, String... names) {
+        int best = 3;
+        for (String name : names) {
+            if (name == null) {
+                continue;
+            }
+            String normalized = name.toLowerCase(Locale.ROOT);
+            if (normalized.equals(query)) {
+                return 0;
+            } else if (normalized.startsWith(query)) {
+                best = Math.min(best, 1);
+            } else if (normalized.contains(" " + query)) {
+                best = Math.min(best, 2);
+            }
+        }
+        return best;
+    }
+
+    private record Leg<T>(String name, SearchSession search, CompletableFuture<Page<T>> result) {
+
+        GlobalSearchSection<T> collect(ToIntFunction<T> rank) {
+            if (!result.isDone()) {
+                search.supersede();
+                log.warn("Global search of {} missed the deadline", name);
+                return GlobalSearchSection.incomplete();
+            }
+            try {
+                Page<T> page = result.join();
+                List<T> items = new ArrayList<>(page.getContent());
+                items.sort(Comparator.comparingInt(rank));
+                return new GlobalSearchSection<>(items, page.getTotalElements(), true);
+            } catch (CompletionException e) {
+                log.warn("Global search of {} failed: {}", name, e.getCause().toString());
+                return GlobalSearchSection.incomplete();
+            }
+        }
+    }
+}
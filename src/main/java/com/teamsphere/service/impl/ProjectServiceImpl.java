@@ -1,17 +1,27 @@
 package com.teamsphere.service.impl;
 
+import com.teamsphere.cache.CachedResource;
+import com.teamsphere.datasource.ConnectionPool;
 import com.teamsphere.dto.project.ProjectDto;
+import com.teamsphere.dto.project.ProjectFilterRequest;
 import com.teamsphere.dto.project.ProjectSearchRequest;
+import com.teamsphere.dto.project.ProjectStaffingDto;
+import com.teamsphere.dto.project.SharedStaffDto;
+import com.teamsphere.dto.project.StaffOverlapDto;
+import com.teamsphere.dto.suggest.SuggestionDto;
 import com.teamsphere.entity.ProjectEntity;
 import com.teamsphere.entity.enums.ProjectStatus;
+import com.teamsphere.exception.NotFoundException;
 import com.teamsphere.mapper.ProjectMapper;
 import com.teamsphere.mapper.base.BaseMapper;
 import com.teamsphere.repository.ProjectRepository;
+import com.teamsphere.search.QueryClassifier;
 import com.teamsphere.service.ProjectService;
+import com.teamsphere.staffing.StaffingIndex;
+import com.teamsphere.suggest.SuggestionIndex;
+import com.teamsphere.timeline.ProjectTimeline;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import lombok.AllArgsConstructor;
@@ -19,12 +29,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of ProjectService.
@@ -38,6 +52,9 @@ public class ProjectServiceImpl extends GenericServiceImpl<ProjectEntity, Projec
     private final ProjectMapper projectMapper;
     private final ProjectRepository projectRepository;
     private final EntityManager entityManager;
+    private final SuggestionIndex suggestionIndex;
+    private final ProjectTimeline projectTimeline;
+    private final StaffingIndex staffingIndex;
 
     @Override
     public BaseMapper<ProjectEntity, ProjectDto> getMapper() {
@@ -55,6 +72,7 @@ public class ProjectServiceImpl extends GenericServiceImpl<ProjectEntity, Projec
      * @param page pagination information
      * @return page of all projects with companies
      */
+    @Transactional(readOnly = true)
     @Override
     public Page<ProjectDto> getAll(Pageable page) {
         List<ProjectEntity> projects = projectRepository.findAllWithCompanies();
@@ -63,53 +81,158 @@ public class ProjectServiceImpl extends GenericServiceImpl<ProjectEntity, Projec
 
     /**
      * Searches for projects using criteria query.
-     * Searches across name, description, dates, and status fields.
+     * Looks a date or status up by equality first, then searches across name and description fields.
      *
      * @param request  the search criteria
      * @param pageable pagination information
      * @return page of matching projects
      */
+    @Transactional(readOnly = true)
+    @ConnectionPool(ConnectionPool.ANALYTICS)
     @Override
     public Page<ProjectDto> find(final ProjectSearchRequest request, Pageable pageable) {
-        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        CriteriaQuery<ProjectEntity> criteriaQuery = criteriaBuilder.createQuery(ProjectEntity.class);
-        Root<ProjectEntity> root = criteriaQuery.from(ProjectEntity.class);
-
-        String query = "%" + request.query() + "%";
-        Predicate mainPredicate = buildPredicates(criteriaBuilder, query, root);
-        criteriaQuery.where(mainPredicate);
-
-        TypedQuery<ProjectEntity> tQuery = entityManager.createQuery(criteriaQuery)
-                .setFirstResult((int) pageable.getOffset())
-                .setMaxResults(pageable.getPageSize());
+        return search(entityManager, ProjectEntity.class, request.query(), pageable,
+                exactPredicates(request.query()), this::buildPredicates);
+    }
 
-        List<ProjectEntity> resultList = tQuery.getResultList();
-        List<ProjectDto> dtoList = resultList.stream()
-                .map(projectMapper::toDto)
-                .toList();
+    /**
+     * Suggests projects from the in-memory suggestion index, without touching the database.
+     *
+     * @param prefix the typed text
+     * @param limit  the number of suggestions asked for, or {@code null} for the default
+     * @return the matching names
+     */
+    @Override
+    public List<SuggestionDto> suggest(String prefix, Integer limit) {
+        return suggestionIndex.suggest(CachedResource.PROJECT, prefix, limit);
+    }
 
-        CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
-        Root<ProjectEntity> countRoot = countQuery.from(ProjectEntity.class);
-        Predicate countPredicate = buildPredicates(criteriaBuilder, query, countRoot);
+    /**
+     * Filters projects by status, company and start and finish dates, latest start first.
+     *
+     * @param request  the filter conditions
+     * @param pageable pagination information
+     * @return page of matching projects
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Page<ProjectDto> filter(final ProjectFilterRequest request, Pageable pageable) {
+        return filter(entityManager, ProjectEntity.class, request, pageable,
+                Sort.by(Sort.Direction.DESC, "startDate", "id"), (criteriaBuilder, root) -> {
+                    List<Predicate> conditions = new ArrayList<>();
+                    if (request.status() != null) {
+                        conditions.add(criteriaBuilder.equal(root.get("status"), request.status()));
+                    }
+                    if (request.companyId() != null) {
+                        conditions.add(criteriaBuilder.equal(root.get("company").get("id"), request.companyId()));
+                    }
+                    if (request.startFrom() != null) {
+                        conditions.add(criteriaBuilder.greaterThanOrEqualTo(root.get("startDate"), request.startFrom()));
+                    }
+                    if (request.startTo() != null) {
+                        conditions.add(criteriaBuilder.lessThanOrEqualTo(root.get("startDate"), request.startTo()));
+                    }
+                    if (request.finishFrom() != null) {
+                        conditions.add(criteriaBuilder.greaterThanOrEqualTo(root.get("finishDate"), request.finishFrom()));
+                    }
+                    if (request.finishTo() != null) {
+                        conditions.add(criteriaBuilder.lessThanOrEqualTo(root.get("finishDate"), request.finishTo()));
+                    }
+                    return conditions;
+                }).map(projectMapper::toDto);
+    }
 
-        countQuery.select(criteriaBuilder.count(countRoot))
-                .where(countPredicate);
+    /**
+     * Finds the projects running on any day of a window, latest start first.
+     * Pages IDs through the date range index on PostgreSQL, or on start and finish dates elsewhere,
+     * then loads that page with companies.
+     *
+     * @param from     the first day of the window
+     * @param to       the last day of the window
+     * @param pageable pagination information; its sort is ignored
+     * @return page of active projects
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Page<ProjectDto> findActive(LocalDate from, LocalDate to, Pageable pageable) {
+        if (to.isBefore(from)) {
+            return Page.empty(pageable);
+        }
+        Pageable unsorted = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : Pageable.unpaged();
+        Page<Long> ids = projectTimeline.rangeIndexed()
+                ? projectRepository.findActiveIdsByRange(from, to, unsorted)
+                : projectRepository.findActiveIds(from, to, unsorted);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+        Map<Long, ProjectEntity> projects = projectRepository.findAllWithCompaniesByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(ProjectEntity::getId, Function.identity()));
+        return new PageImpl<>(ids.getContent().stream().map(projects::get).filter(Objects::nonNull)
+                .map(projectMapper::toDto).toList(), pageable, ids.getTotalElements());
+    }
 
-        Long totalCount = entityManager.createQuery(countQuery).getSingleResult();
+    /**
+     * Finds the employees working on every one of the given projects by intersecting their staff in memory.
+     *
+     * @param projectIds   the projects; at least one
+     * @param departmentId the department the employees must belong to, or {@code null} for any
+     * @return the shared employees
+     */
+    @Override
+    public SharedStaffDto findSharedStaff(List<Long> projectIds, Long departmentId) {
+        return staffingIndex.shared(projectIds, departmentId);
+    }
 
-        Pageable sorted = PageRequest.of(
-                pageable.getPageNumber(),
-                pageable.getPageSize(),
-                pageable.getSortOr(Sort.by(Sort.Direction.DESC, "id")));
+    /**
+     * Finds the projects sharing employees with a project by intersecting its staff with every other in memory.
+     *
+     * @param projectId the project ID
+     * @return the other projects with the number of shared employees, most shared first
+     * @throws NotFoundException if the project is not found
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<StaffOverlapDto> findStaffOverlaps(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new NotFoundException(projectId);
+        }
+        return staffingIndex.overlaps(projectId);
+    }
 
-        log.debug("Found {} projects for query '{}'", resultList.size(), request.query());
+    /**
+     * Counts the employees of projects, overall and per department, without touching the database.
+     *
+     * @param projectIds the projects to count; empty for every project with staff
+     * @return the counts in ascending project order
+     */
+    @Override
+    public List<ProjectStaffingDto> countStaff(List<Long> projectIds) {
+        return staffingIndex.staffing(projectIds);
+    }
 
-        return new PageImpl<>(dtoList, sorted, totalCount);
+    /**
+     * Builds the equality lookup for a query shaped like a date or naming a project status.
+     * A date matches projects starting or finishing on it.
+     *
+     * @param rawQuery the raw search query without wildcards
+     * @return the lookup, or {@code null} when the query is neither
+     */
+    private ExactPredicates<ProjectEntity> exactPredicates(final String rawQuery) {
+        Optional<LocalDate> date = QueryClassifier.date(rawQuery);
+        if (date.isPresent()) {
+            return (criteriaBuilder, root) -> criteriaBuilder.or(
+                    criteriaBuilder.equal(root.get("startDate"), date.get()),
+                    criteriaBuilder.equal(root.get("finishDate"), date.get()));
+        }
+        return QueryClassifier.enumValue(ProjectStatus.class, rawQuery)
+                .<ExactPredicates<ProjectEntity>>map(status ->
+                        (criteriaBuilder, root) -> criteriaBuilder.equal(root.get("status"), status))
+                .orElse(null);
     }
 
     /**
      * Builds search predicates for project fields.
-     * Attempts to parse query as date or project status if possible.
      *
      * @param criteriaBuilder the criteria builder
      * @param query           the search query
@@ -119,29 +242,6 @@ public class ProjectServiceImpl extends GenericServiceImpl<ProjectEntity, Projec
     private Predicate buildPredicates(final CriteriaBuilder criteriaBuilder, final String query, final Root<ProjectEntity> root) {
         Predicate name = criteriaBuilder.like(root.get("name"), query);
         Predicate description = criteriaBuilder.like(root.get("description"), query);
-
-        List<Predicate> datePredicates = new ArrayList<>();
-        boolean isDateQuery = false;
-        try {
-            LocalDate queryDate = LocalDate.parse(query, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-            datePredicates.add(criteriaBuilder.equal(root.get("startDate"), queryDate));
-            datePredicates.add(criteriaBuilder.equal(root.get("finishDate"), queryDate));
-            isDateQuery = true;
-        } catch (DateTimeParseException e) {
-            log.warn("Failed to parse date: {}", query, e);
-        }
-
-        Predicate status;
-        if (!isDateQuery) {
-            try {
-                ProjectStatus projectStatus = ProjectStatus.valueOf(query.toUpperCase());
-                status = criteriaBuilder.equal(root.get("status"), projectStatus);
-                return criteriaBuilder.or(name, description, datePredicates.getFirst(), datePredicates.getLast(), status);
-            } catch (IllegalArgumentException e) {
-                log.info("Query '{}' is not a valid project status", query);
-            }
-        }
-
         return criteriaBuilder.or(name, description);
     }
 }
@@ -0,0 +1,27 @@
+package com.teamsphere.service.impl;
+
+import com.teamsphere.datasource.ConnectionPool;
+import com.teamsphere.dto.report.TimeSpentReportDto;
+import com.teamsphere.dto.report.TimeSpentReportRequest;
+import com.teamsphere.report.TimeSpentReports;
+import com.teamsphere.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of ReportService.
+ * Reports run on the analytics pool and are served from the report cache until the next write; the transaction
+ * is only opened when a report has to be computed.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportServiceImpl implements ReportService {
+
+    private final TimeSpentReports timeSpentReports;
+
+    @ConnectionPool(ConnectionPool.ANALYTICS)
+    @Override
+    public TimeSpentReportDto timeSpent(TimeSpentReportRequest request) {
+        return timeSpentReports.timeSpent(request);
+    }
+}
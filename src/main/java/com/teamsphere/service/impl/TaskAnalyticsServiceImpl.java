@@ -0,0 +1,27 @@
+package com.teamsphere.service.impl;
+
+import com.teamsphere.analytics.TaskColumns;
+import com.teamsphere.dto.report.TaskAggregateDto;
+import com.teamsphere.dto.report.TaskAggregateRequest;
+import com.teamsphere.service.TaskAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of TaskAnalyticsService.
+ * Aggregates are computed from the {@link TaskColumns} and never query the database.
+ * Enabled by {@code task-analytics.enabled}.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "task-analytics", name = "enabled", havingValue = "true")
+public class TaskAnalyticsServiceImpl implements TaskAnalyticsService {
+
+    private final TaskColumns taskColumns;
+
+    @Override
+    public TaskAggregateDto aggregate(TaskAggregateRequest request) {
+        return taskColumns.aggregate(request);
+    }
+}
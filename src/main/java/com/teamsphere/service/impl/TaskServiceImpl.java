@@ -1,19 +1,24 @@
 package com.teamsphere.service.impl;
 
+import com.teamsphere.datasource.ConnectionPool;
 import com.teamsphere.dto.task.TaskDto;
+import com.teamsphere.dto.task.TaskFilterRequest;
 import com.teamsphere.dto.task.TaskSearchRequest;
+import com.teamsphere.dto.task.TaskStatsDto;
 import com.teamsphere.entity.TaskEntity;
 import com.teamsphere.entity.enums.TaskPriority;
 import com.teamsphere.entity.enums.TaskStatus;
 import com.teamsphere.entity.enums.TaskType;
+import com.teamsphere.exception.NotFoundException;
 import com.teamsphere.mapper.TaskMapper;
 import com.teamsphere.mapper.base.BaseMapper;
 import com.teamsphere.repository.TaskRepository;
+import com.teamsphere.search.QueryClassifier;
 import com.teamsphere.service.TaskService;
+import com.teamsphere.stats.TaskCountKey;
+import com.teamsphere.stats.TaskCounters;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import lombok.AllArgsConstructor;
@@ -21,13 +26,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.OptionalInt;
 
 /**
  * Implementation of TaskService.
- * Provides task management operations including search and auto-numbering functionality.
+ * Provides task management operations including search and auto-numbering functionality,
+ * and keeps the {@link TaskCounters} current with every task it creates, updates or deletes.
  */
 @Service
 @Slf4j
@@ -37,6 +47,7 @@ public class TaskServiceImpl extends GenericServiceImpl<TaskEntity, TaskDto> imp
     private final TaskMapper taskMapper;
     private final TaskRepository taskRepository;
     private final EntityManager entityManager;
+    private final TaskCounters taskCounters;
 
     @Override
     public BaseMapper<TaskEntity, TaskDto> getMapper() {
@@ -54,6 +65,7 @@ public class TaskServiceImpl extends GenericServiceImpl<TaskEntity, TaskDto> imp
      * @param pageable pagination information
      * @return page of all tasks sorted by priority
      */
+    @Transactional(readOnly = true)
     @Override
     public Page<TaskDto> getAll(Pageable pageable) {
         return taskRepository.findAllSorted(pageable).map(taskMapper::toDto);
@@ -82,75 +94,141 @@ public class TaskServiceImpl extends GenericServiceImpl<TaskEntity, TaskDto> imp
                 .build();
 
         TaskEntity saved = taskRepository.save(taskEntity);
+        taskCounters.changed(null, TaskCountKey.of(saved));
 
         return taskMapper.toDto(saved);
     }
 
+    /**
+     * Updates an existing task and moves it between the counts its status, type and priority fall in.
+     *
+     * @param dto the DTO with updated data
+     * @param id  the task ID to update
+     * @return the updated task DTO
+     * @throws NotFoundException if the task is not found
+     */
+    @Override
+    @Transactional
+    public TaskDto update(TaskDto dto, Long id) {
+        TaskEntity task = taskRepository.findById(id).orElseThrow(() -> new NotFoundException(id));
+        TaskCountKey before = TaskCountKey.of(task);
+        TaskDto updated = super.update(dto, id);
+        taskCounters.changed(before, TaskCountKey.of(task));
+        return updated;
+    }
+
+    /**
+     * Deletes a task and removes it from the counts.
+     *
+     * @param id the task ID to delete
+     * @throws NotFoundException if the task is not found
+     */
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        TaskEntity task = taskRepository.findById(id).orElseThrow(() -> new NotFoundException(id));
+        taskRepository.delete(task);
+        taskCounters.changed(TaskCountKey.of(task), null);
+    }
+
+    /**
+     * Returns the task counts from memory, without querying the database.
+     *
+     * @param employeeIds the employees to count tasks of; empty for every employee with tasks
+     * @return the counts
+     */
+    @Override
+    public TaskStatsDto stats(Collection<Long> employeeIds) {
+        return taskCounters.snapshot(employeeIds);
+    }
+
     /**
      * Searches for tasks using criteria query.
-     * Searches across description, number, status, and time spent fields.
+     * Looks a task number or status up by equality first, then searches across description, number, status,
+     * and time spent fields.
      *
      * @param request  the search criteria
      * @param pageable pagination information
      * @return page of matching tasks
      */
+    @Transactional(readOnly = true)
+    @ConnectionPool(ConnectionPool.ANALYTICS)
     @Override
     public Page<TaskDto> find(final TaskSearchRequest request, Pageable pageable) {
-        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        CriteriaQuery<TaskEntity> criteriaQuery = criteriaBuilder.createQuery(TaskEntity.class);
-        Root<TaskEntity> root = criteriaQuery.from(TaskEntity.class);
-
-        String query = "%" + request.query() + "%";
-        Predicate mainPredicate = buildPredicates(criteriaBuilder, query, root);
-        criteriaQuery.where(mainPredicate);
-
-        TypedQuery<TaskEntity> tQuery = entityManager.createQuery(criteriaQuery)
-                .setFirstResult((int) pageable.getOffset())
-                .setMaxResults(pageable.getPageSize());
-
-        List<TaskEntity> resultList = tQuery.getResultList();
-        List<TaskDto> dtoList = resultList.stream()
-                .map(taskMapper::toDto)
-                .toList();
-
-        CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
-        Root<TaskEntity> countRoot = countQuery.from(TaskEntity.class);
-        Predicate countPredicate = buildPredicates(criteriaBuilder, query, countRoot);
-
-        countQuery.select(criteriaBuilder.count(countRoot))
-                .where(countPredicate);
-
-        Long totalCount = entityManager.createQuery(countQuery).getSingleResult();
-
-        Pageable sorted = PageRequest.of(
-                pageable.getPageNumber(),
-                pageable.getPageSize(),
-                pageable.getSortOr(Sort.by(Sort.Direction.DESC, "id")));
+        String rawQuery = request.query();
+        return search(entityManager, TaskEntity.class, rawQuery, pageable, exactPredicates(rawQuery),
+                (criteriaBuilder, query, root) -> buildPredicates(criteriaBuilder, query, root, rawQuery));
+    }
 
-        log.debug("Found {} projects for query '{}'", resultList.size(), request.query());
+    /**
+     * Filters tasks by status, priority, type, assignee and update time, most recently updated first.
+     *
+     * @param request  the filter conditions
+     * @param pageable pagination information
+     * @return page of matching tasks
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Page<TaskDto> filter(final TaskFilterRequest request, Pageable pageable) {
+        return filter(entityManager, TaskEntity.class, request, pageable,
+                Sort.by(Sort.Direction.DESC, "updatedAt", "id"), (criteriaBuilder, root) -> {
+                    List<Predicate> conditions = new ArrayList<>();
+                    if (request.taskStatus() != null) {
+                        conditions.add(criteriaBuilder.equal(root.get("taskStatus"), request.taskStatus()));
+                    }
+                    if (request.taskPriority() != null) {
+                        conditions.add(criteriaBuilder.equal(root.get("taskPriority"), request.taskPriority()));
+                    }
+                    if (request.taskType() != null) {
+                        conditions.add(criteriaBuilder.equal(root.get("taskType"), request.taskType()));
+                    }
+                    if (request.employeeId() != null) {
+                        conditions.add(criteriaBuilder.equal(root.get("employee").get("id"), request.employeeId()));
+                    }
+                    if (request.updatedFrom() != null) {
+                        conditions.add(criteriaBuilder.greaterThanOrEqualTo(root.get("updatedAt"), request.updatedFrom()));
+                    }
+                    if (request.updatedTo() != null) {
+                        conditions.add(criteriaBuilder.lessThan(root.get("updatedAt"), request.updatedTo()));
+                    }
+                    return conditions;
+                }).map(taskMapper::toDto);
+    }
 
-        return new PageImpl<>(dtoList, sorted, totalCount);
+    /**
+     * Builds the equality lookup for a query shaped like a task number or naming a task status.
+     *
+     * @param rawQuery the raw search query without wildcards
+     * @return the lookup, or {@code null} when the query is neither
+     */
+    private ExactPredicates<TaskEntity> exactPredicates(final String rawQuery) {
+        if (QueryClassifier.classify(rawQuery) == QueryClassifier.QueryClass.NUMERIC) {
+            return (criteriaBuilder, root) -> criteriaBuilder.equal(root.get("taskNumber"), rawQuery);
+        }
+        return QueryClassifier.enumValue(TaskStatus.class, rawQuery)
+                .<ExactPredicates<TaskEntity>>map(status ->
+                        (criteriaBuilder, root) -> criteriaBuilder.equal(root.get("taskStatus"), status))
+                .orElse(null);
     }
 
     /**
      * Builds search predicates for task fields.
-     * Attempts to parse query as time spent minutes if possible.
+     * Also matches the time spent when the query is a number.
      *
      * @param criteriaBuilder the criteria builder
-     * @param query           the search query
+     * @param query           the search query with wildcards
      * @param root            the root entity
+     * @param rawQuery        the raw search query without wildcards
      * @return combined predicate for all searchable fields
      */
-    private Predicate buildPredicates(final CriteriaBuilder criteriaBuilder, final String query, final Root<TaskEntity> root) {
+    private Predicate buildPredicates(final CriteriaBuilder criteriaBuilder, final String query, final Root<TaskEntity> root, final String rawQuery) {
         Predicate taskDescription = criteriaBuilder.like(root.get("taskDescription"), query);
         Predicate taskNumber = criteriaBuilder.like(root.get("taskNumber"), query);
         Predicate taskStatus = criteriaBuilder.like(root.get("taskStatus"), query.toUpperCase());
-        try {
-            Integer timeSpentMinutesQuery = Integer.parseInt(query);
-            Predicate timeSpentMinutes = criteriaBuilder.equal(root.get("timeSpentMinutes"), timeSpentMinutesQuery);
+        OptionalInt minutes = QueryClassifier.number(rawQuery);
+        if (minutes.isPresent()) {
+            Predicate timeSpentMinutes = criteriaBuilder.equal(root.get("timeSpentMinutes"), minutes.getAsInt());
             return criteriaBuilder.or(timeSpentMinutes, taskDescription, taskNumber, taskStatus);
-        } catch (NumberFormatException e) {
-            log.info("Query '{}' is not a valid number", e.getMessage());
         }
         return criteriaBuilder.or(taskDescription, taskNumber, taskStatus);
     }
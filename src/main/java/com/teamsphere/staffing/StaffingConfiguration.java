@@ -0,0 +1,25 @@
+package com.teamsphere.staffing;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuration of the project and department membership index behind the {@code /project/staff} endpoints.
+ */
+@Configuration
+public class StaffingConfiguration {
+
+    /**
+     * Creates the membership index, loaded once all singletons exist.
+     *
+     * @param entityManager      the entity manager the memberships are loaded with
+     * @param transactionManager the transaction manager the memberships are loaded in
+     * @return the index
+     */
+    @Bean
+    public StaffingIndex staffingIndex(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        return new StaffingIndex(entityManager, transactionManager);
+    }
+}
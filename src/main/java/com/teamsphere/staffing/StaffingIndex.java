@@ -0,0 +1,296 @@
+package com.teamsphere.staffing;
+
+import com.teamsphere.dto.project.ProjectStaffingDto;
+import com.teamsphere.dto.project.SharedStaffDto;
+import com.teamsphere.dto.project.StaffOverlapDto;
+import com.teamsphere.entity.EmployeeEntity;
+import com.teamsphere.entity.ProjectEntity;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory membership index of the employees of every project and department, for team overlap questions.
+ *
+ * <p>Each project and department has a {@link BitSet} with the bits of its employees set. An employee's bit is an
+ * {@code int} code into a dictionary of employee ids, handed out densely as employees are first seen, so a set
+ * takes one bit per known employee rather than a hash entry per member, whatever the ids are. "Who works on both
+ * projects" is then an {@code and} of two sets, "which projects share staff" an intersection of one set with
+ * every other, and staffing counts are cardinalities.</p>
+ *
+ * <p>The memberships are loaded once all singletons exist. {@link com.teamsphere.mapper.EmployeeMapper} reports
+ * every employee whose projects or department change, and employee deletes are reported by the employee service.
+ * Both are applied once the write's transaction has committed. Writes that bypass them show up after
+ * {@link #reload()}.</p>
+ */
+@Slf4j
+public class StaffingIndex implements SmartInitializingSingleton {
+
+    private static final String DEPARTMENTS_QUERY = "SELECT e.id, e.department.id FROM EmployeeEntity e";
+    private static final String PROJECTS_QUERY = "SELECT e.id, p.id FROM EmployeeEntity e JOIN e.projects p";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Memberships memberships = new Memberships();
+    private List<Consumer<Memberships>> pending;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param entityManager      the entity manager the memberships are loaded with
+     * @param transactionManager the transaction manager the memberships are loaded in
+     */
+    public StaffingIndex(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    /**
+     * Reloads every membership from the database. Changes committed meanwhile are applied to the reloaded index.
+     */
+    public void reload() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Memberships fresh = new Memberships();
+        try {
+            transaction.executeWithoutResult(status -> {
+                entityManager.createQuery(DEPARTMENTS_QUERY, Object[].class).getResultStream()
+                        .forEach(row -> fresh.add(fresh.byDepartment, (Long) row[1], (Long) row[0]));
+                entityManager.createQuery(PROJECTS_QUERY, Object[].class).getResultStream()
+                        .forEach(row -> fresh.add(fresh.byProject, (Long) row[1], (Long) row[0]));
+            });
+            lock.writeLock().lock();
+            try {
+                pending.forEach(change -> change.accept(fresh));
+                memberships = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Loaded the staff of {} projects and {} departments in {} ms", fresh.byProject.size(),
+                fresh.byDepartment.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Records the current projects and department of an employee once the current transaction commits, or right
+     * away outside a transaction. The employee's id is read at that point, so new employees may be reported
+     * before they are saved.
+     *
+     * @param employee the employee whose memberships changed
+     */
+    public void changed(EmployeeEntity employee) {
+        Long departmentId = employee.getDepartment() != null ? employee.getDepartment().getId() : null;
+        List<Long> projectIds = employee.getProjects() != null
+                ? employee.getProjects().stream().map(ProjectEntity::getId).toList() : List.of();
+        afterCommit(() -> change(current -> current.place(employee.getId(), departmentId, projectIds)));
+    }
+
+    /**
+     * Removes an employee from every project and department once the current transaction commits.
+     *
+     * @param employeeId the deleted employee's ID
+     */
+    public void removed(Long employeeId) {
+        afterCommit(() -> change(current -> current.place(employeeId, null, List.of())));
+    }
+
+    /**
+     * Finds the employees working on every one of the given projects.
+     *
+     * @param projectIds   the projects; at least one
+     * @param departmentId the department the employees must belong to, or {@code null} for any
+     * @return the IDs of the shared employees in ascending order
+     */
+    public SharedStaffDto shared(List<Long> projectIds, Long departmentId) {
+        lock.readLock().lock();
+        try {
+            BitSet shared = memberships.staff(memberships.byProject, projectIds.getFirst());
+            projectIds.stream().skip(1).forEach(id -> shared.and(memberships.members(memberships.byProject, id)));
+            if (departmentId != null) {
+                shared.and(memberships.members(memberships.byDepartment, departmentId));
+            }
+            return new SharedStaffDto(projectIds, departmentId,
+                    shared.stream().mapToObj(memberships::employeeId).sorted().toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the projects that have employees in common with a project.
+     *
+     * @param projectId the project
+     * @return the other projects with the number of shared employees, most shared first
+     */
+    public List<StaffOverlapDto> overlaps(Long projectId) {
+        lock.readLock().lock();
+        try {
+            BitSet staff = memberships.members(memberships.byProject, projectId);
+            List<StaffOverlapDto> overlaps = new ArrayList<>();
+            memberships.byProject.forEach((id, members) -> {
+                if (!id.equals(projectId) && members.intersects(staff)) {
+                    overlaps.add(new StaffOverlapDto(id, Memberships.common(members, staff)));
+                }
+            });
+            overlaps.sort(Comparator.comparingInt(StaffOverlapDto::sharedEmployees).reversed()
+                    .thenComparing(StaffOverlapDto::projectId));
+            return overlaps;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the employees of projects, overall and per department.
+     *
+     * @param projectIds the projects to count; empty for every project with staff
+     * @return the counts by project in ascending project order
+     */
+    public List<ProjectStaffingDto> staffing(Collection<Long> projectIds) {
+        lock.readLock().lock();
+        try {
+            Collection<Long> counted = projectIds.isEmpty() ? memberships.byProject.keySet() : projectIds;
+            return counted.stream().distinct().sorted().map(id -> {
+                BitSet staff = memberships.members(memberships.byProject, id);
+                Map<Long, Integer> byDepartment = new TreeMap<>();
+                memberships.byDepartment.forEach((departmentId, members) -> {
+                    if (members.intersects(staff)) {
+                        byDepartment.put(departmentId, Memberships.common(members, staff));
+                    }
+                });
+                return new ProjectStaffingDto(id, staff.cardinality(), byDepartment);
+            }).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void change(Consumer<Memberships> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(memberships);
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * The member sets of one load of the index, keyed by project and department ID, with the dictionary of the
+     * employee codes their bits stand for.
+     */
+    private static final class Memberships {
+
+        private static final BitSet NONE = new BitSet();
+
+        private final Map<Long, BitSet> byProject = new HashMap<>();
+        private final Map<Long, BitSet> byDepartment = new HashMap<>();
+        private final Map<Long, Integer> employeeCodes = new HashMap<>();
+        private long[] employeeIds = new long[64];
+
+        private void add(Map<Long, BitSet> sets, Long key, Long employeeId) {
+            sets.computeIfAbsent(key, id -> new BitSet()).set(codeOf(employeeId));
+        }
+
+        private void place(Long employeeId, Long departmentId, List<Long> projectIds) {
+            if (employeeId == null) {
+                return;
+            }
+            Integer code = employeeCodes.get(employeeId);
+            if (code != null) {
+                clear(byProject, code);
+                clear(byDepartment, code);
+            }
+            if (departmentId != null) {
+                add(byDepartment, departmentId, employeeId);
+            }
+            projectIds.forEach(projectId -> add(byProject, projectId, employeeId));
+        }
+
+        private BitSet members(Map<Long, BitSet> sets, Long key) {
+            return sets.getOrDefault(key, NONE);
+        }
+
+        private BitSet staff(Map<Long, BitSet> sets, Long key) {
+            return (BitSet) members(sets, key).clone();
+        }
+
+        private static void clear(Map<Long, BitSet> sets, int bit) {
+            sets.values().removeIf(members -> {
+                members.clear(bit);
+                return members.isEmpty();
+            });
+        }
+
+        private static int common(BitSet first, BitSet second) {
+            BitSet common = (BitSet) first.clone();
+            common.and(second);
+            return common.cardinality();
+        }
+
+        private int codeOf(Long employeeId) {
+            return employeeCodes.computeIfAbsent(employeeId, id -> {
+                int code = employeeCodes.size();
+                if (code == employeeIds.length) {
+                    employeeIds = Arrays.copyOf(employeeIds, code * 2);
+                }
+                employeeIds[code] = id;
+                return code;
+            });
+        }
+
+        private long employeeId(int code) {
+            return employeeIds[code];
+        }
+    }
+}
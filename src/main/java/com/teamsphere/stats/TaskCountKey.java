@@ -0,0 +1,28 @@
+package com.teamsphere.stats;
+
+import com.teamsphere.entity.TaskEntity;
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+
+/**
+ * The attributes of a task that {@link TaskCounters} counts it by.
+ *
+ * @param employeeId the assignee, or {@code null} for an unassigned task
+ * @param status     the task status
+ * @param type       the task type
+ * @param priority   the task priority
+ */
+public record TaskCountKey(Long employeeId, TaskStatus status, TaskType type, TaskPriority priority) {
+
+    /**
+     * Captures the current attributes of a task.
+     *
+     * @param task the task
+     * @return the attributes
+     */
+    public static TaskCountKey of(TaskEntity task) {
+        Long employeeId = task.getEmployee() == null ? null : task.getEmployee().getId();
+        return new TaskCountKey(employeeId, task.getTaskStatus(), task.getTaskType(), task.getTaskPriority());
+    }
+}
@@ -0,0 +1,310 @@
+package com.teamsphere.stats;
+
+import com.teamsphere.dto.task.TaskStatsDto;
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory task counts by status, overall and per employee, type and priority, for boards and dashboards.
+ *
+ * <p>Every count is a {@link LongAdder}, which spreads concurrent increments over striped cells, so writers
+ * changing tasks at the same time do not contend on one counter. The task services report each change as the
+ * attributes of the task before and after it, applied once the write's transaction has committed, so reading the
+ * counts never touches the database and a rolled back write never shows up in them.</p>
+ *
+ * <p>The counts are loaded with one {@code GROUP BY} once all singletons exist and recounted the same way at the
+ * configured interval. A recount corrects the drift left by writes that bypass the services. A transaction holds
+ * the read lock from just before it commits until its changes are applied, and a recount holds the write lock
+ * across its query, so the query sees exactly the changes applied to the counts it replaces: task writes wait
+ * for a running recount to finish committing. A recount that cannot get the lock within a few seconds, for
+ * example because committing writers wait on each other's rows, is skipped until the next interval.</p>
+ */
+@Slf4j
+public class TaskCounters implements SmartInitializingSingleton {
+
+    private static final String COUNT_QUERY = "SELECT e.id, t.taskStatus, t.taskType, t.taskPriority, count(t) "
+            + "FROM TaskEntity t LEFT JOIN t.employee e "
+            + "GROUP BY e.id, t.taskStatus, t.taskType, t.taskPriority";
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(5);
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    private final Duration reconcileInterval;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Counts counts = new Counts();
+    private volatile Instant reconciledAt;
+    private ScheduledExecutorService reconciliations;
+
+    /**
+     * Creates empty counters.
+     *
+     * @param properties         the counter settings
+     * @param entityManager      the entity manager the tasks are counted with
+     * @param transactionManager the transaction manager the tasks are counted in
+     */
+    public TaskCounters(TaskStatsProperties properties, EntityManager entityManager,
+                        PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setReadOnly(true);
+        this.reconcileInterval = properties.reconcileInterval();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconcile();
+        if (reconcileInterval.isPositive()) {
+            reconciliations = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "task-counter-reconciliation");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = reconcileInterval.toMillis();
+            reconciliations.scheduleWithFixedDelay(this::reconcileQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Records a change of a task once the current transaction commits, or right away outside a transaction.
+     *
+     * @param before the attributes before the change, or {@code null} for a created task
+     * @param after  the attributes after the change, or {@code null} for a deleted task
+     */
+    public void changed(TaskCountKey before, TaskCountKey after) {
+        if (before == null ? after == null : before.equals(after)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new CommittedChange(before, after));
+        } else {
+            apply(before, after);
+        }
+    }
+
+    /**
+     * Returns the current counts.
+     *
+     * @param employeeIds the employees to count tasks of; empty for every employee with tasks
+     * @return the counts
+     */
+    public TaskStatsDto snapshot(Collection<Long> employeeIds) {
+        Counts current = counts;
+        Map<Long, Map<TaskStatus, Long>> byEmployee = new TreeMap<>();
+        if (employeeIds.isEmpty()) {
+            current.byEmployee.forEach((id, adders) -> {
+                Map<TaskStatus, Long> byStatus = sums(adders);
+                if (byStatus.values().stream().anyMatch(count -> count != 0)) {
+                    byEmployee.put(id, byStatus);
+                }
+            });
+        } else {
+            employeeIds.forEach(id -> byEmployee.put(id, sums(current.byEmployee.getOrDefault(id, Counts.row()))));
+        }
+        Map<TaskType, Map<TaskStatus, Long>> byType = new EnumMap<>(TaskType.class);
+        for (TaskType type : TaskType.values()) {
+            byType.put(type, sums(current.byType[type.ordinal()]));
+        }
+        Map<TaskPriority, Map<TaskStatus, Long>> byPriority = new EnumMap<>(TaskPriority.class);
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, sums(current.byPriority[priority.ordinal()]));
+        }
+        return new TaskStatsDto(sums(current.total), byEmployee, byType, byPriority, reconciledAt);
+    }
+
+    /**
+     * Recounts the tasks from the database and replaces the counts. Skipped with a warning when committing task
+     * writes hold the counts for longer than the lock timeout.
+     */
+    public void reconcile() {
+        long start = System.nanoTime();
+        try {
+            if (!lock.writeLock().tryLock(LOCK_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Skipped recounting tasks: writes kept the counts locked for {}", LOCK_TIMEOUT);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        Counts fresh = new Counts();
+        Counts previous;
+        try {
+            List<Object[]> rows = transaction.execute(status ->
+                    entityManager.createQuery(COUNT_QUERY, Object[].class).getResultList());
+            for (Object[] row : rows) {
+                fresh.add(new TaskCountKey((Long) row[0], (TaskStatus) row[1], (TaskType) row[2],
+                        (TaskPriority) row[3]), (Long) row[4]);
+            }
+            previous = counts;
+            counts = fresh;
+            reconciledAt = Instant.now();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Recounted tasks in {} ms: {} tasks, drift {}", (System.nanoTime() - start) / 1_000_000,
+                fresh.size(), fresh.drift(previous));
+    }
+
+    /**
+     * Stops the scheduled recounts.
+     */
+    public void close() {
+        if (reconciliations != null) {
+            reconciliations.shutdownNow();
+        }
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (DataAccessException | PersistenceException e) {
+            log.warn("Recounting tasks failed, keeping the current counts: {}", e.getMessage());
+        }
+    }
+
+    private void apply(TaskCountKey before, TaskCountKey after) {
+        lock.readLock().lock();
+        try {
+            counts.apply(before, after);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<TaskStatus, Long> sums(LongAdder[] adders) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, adders[status.ordinal()].sum());
+        }
+        return byStatus;
+    }
+
+    /**
+     * A change applied once its transaction commits, holding the read lock from just before the commit until then.
+     */
+    private final class CommittedChange implements TransactionSynchronization {
+
+        private final TaskCountKey before;
+        private final TaskCountKey after;
+        private boolean locked;
+
+        private CommittedChange(TaskCountKey before, TaskCountKey after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            lock.readLock().lock();
+            locked = true;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (!locked) {
+                return;
+            }
+            try {
+                if (status == STATUS_COMMITTED) {
+                    counts.apply(before, after);
+                }
+            } finally {
+                locked = false;
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * One set of counts, each dimension a row of adders indexed by status.
+     */
+    private static final class Counts {
+
+        private final LongAdder[] total = row();
+        private final Map<Long, LongAdder[]> byEmployee = new ConcurrentHashMap<>();
+        private final LongAdder[][] byType = rows(TaskType.values().length);
+        private final LongAdder[][] byPriority = rows(TaskPriority.values().length);
+
+        private void apply(TaskCountKey before, TaskCountKey after) {
+            if (before != null) {
+                add(before, -1);
+            }
+            if (after != null) {
+                add(after, 1);
+            }
+        }
+
+        private void add(TaskCountKey key, long delta) {
+            if (key.status() == null) {
+                return;
+            }
+            int status = key.status().ordinal();
+            total[status].add(delta);
+            if (key.employeeId() != null) {
+                byEmployee.computeIfAbsent(key.employeeId(), id -> row())[status].add(delta);
+            }
+            if (key.type() != null) {
+                byType[key.type().ordinal()][status].add(delta);
+            }
+            if (key.priority() != null) {
+                byPriority[key.priority().ordinal()][status].add(delta);
+            }
+        }
+
+        private long size() {
+            long size = 0;
+            for (LongAdder adder : total) {
+                size += adder.sum();
+            }
+            return size;
+        }
+
+        private long drift(Counts other) {
+            long drift = 0;
+            for (int status = 0; status < total.length; status++) {
+                drift += Math.abs(total[status].sum() - other.total[status].sum());
+            }
+            return drift;
+        }
+
+        private static LongAdder[] row() {
+            LongAdder[] row = new LongAdder[TaskStatus.values().length];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = new LongAdder();
+            }
+            return row;
+        }
+
+        private static LongAdder[][] rows(int size) {
+            LongAdder[][] rows = new LongAdder[size][];
+            for (int i = 0; i < size; i++) {
+                rows[i] = row();
+            }
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.teamsphere.stats;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuration of the task counters behind the {@code /task/stats} endpoint.
+ */
+@Configuration
+@EnableConfigurationProperties(TaskStatsProperties.class)
+public class TaskStatsConfiguration {
+
+    /**
+     * Creates the task counters, loaded once all singletons exist and recounted at the configured interval.
+     *
+     * @param properties         the counter settings
+     * @param entityManager      the entity manager the tasks are counted with
+     * @param transactionManager the transaction manager the tasks are counted in
+     * @return the counters
+     */
+    @Bean(destroyMethod = "close")
+    public TaskCounters taskCounters(TaskStatsProperties properties, EntityManager entityManager,
+                                     PlatformTransactionManager transactionManager) {
+        return new TaskCounters(properties, entityManager, transactionManager);
+    }
+}
@@ -0,0 +1,15 @@
+package com.teamsphere.stats;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Task counter settings bound from {@code task-stats}.
+ *
+ * @param reconcileInterval the time between recounts of the counters from the database; zero only counts at startup
+ */
+@ConfigurationProperties("task-stats")
+public record TaskStatsProperties(@DefaultValue("5m") Duration reconcileInterval) {
+}
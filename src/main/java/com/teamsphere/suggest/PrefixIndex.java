@@ -0,0 +1,116 @@
+package com.teamsphere.suggest;
+
+import com.teamsphere.dto.suggest.SuggestionDto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted in-memory index of names by prefix.
+ *
+ * <p>Every name is stored under its lower-cased full text and under each of its later words, so
+ * {@code "john d"}, {@code "doe"} and {@code "jo"} all find "John Doe". Keys are kept in a skip list, which
+ * makes a lookup a range scan over the keys starting with the prefix and lets writes update single
+ * entries without rebuilding anything. Matches come back alphabetically by the matched word.</p>
+ */
+public class PrefixIndex {
+
+    private static final char ID_SEPARATOR = '\u0000';
+
+    private final ConcurrentSkipListMap<String, SuggestionDto> entries = new ConcurrentSkipListMap<>();
+    private final Map<Long, List<String>> keysById = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a name, replacing whatever was indexed for the id before.
+     *
+     * @param id   the entity id
+     * @param name the display name; blank names only remove the old entry
+     */
+    public void put(Long id, String name) {
+        keysById.compute(id, (key, previous) -> {
+            if (previous != null) {
+                previous.forEach(entries::remove);
+            }
+            if (name == null || name.isBlank()) {
+                return null;
+            }
+            SuggestionDto suggestion = new SuggestionDto(id, name.strip());
+            List<String> keys = keys(id, suggestion.name());
+            keys.forEach(indexKey -> entries.put(indexKey, suggestion));
+            return keys;
+        });
+    }
+
+    /**
+     * Removes the name indexed for an id.
+     *
+     * @param id the entity id
+     */
+    public void remove(Long id) {
+        put(id, null);
+    }
+
+    /**
+     * Returns the first names, alphabetically, with a word starting with the prefix.
+     *
+     * @param prefix the typed text, matched ignoring case
+     * @param limit  the most suggestions to return
+     * @return the matching names, each entity at most once
+     */
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        NavigableMap<String, SuggestionDto> range =
+                entries.subMap(normalized, true, normalized + Character.MAX_VALUE, false);
+        Map<Long, SuggestionDto> matches = new LinkedHashMap<>();
+        for (SuggestionDto suggestion : range.values()) {
+            matches.putIfAbsent(suggestion.id(), suggestion);
+            if (matches.size() == limit) {
+                break;
+            }
+        }
+        return List.copyOf(matches.values());
+    }
+
+    /**
+     * Returns the number of indexed names.
+     *
+     * @return the number of ids with a name
+     */
+    public int size() {
+        return keysById.size();
+    }
+
+    /**
+     * Removes every name.
+     */
+    public void clear() {
+        keysById.clear();
+        entries.clear();
+    }
+
+    private static List<String> keys(Long id, String name) {
+        String normalized = normalize(name);
+        String suffix = ID_SEPARATOR + id.toString();
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized + suffix);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            if (i + 1 < normalized.length() && normalized.charAt(i + 1) != ' ') {
+                keys.add(normalized.substring(i + 1) + suffix);
+            }
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,40 @@
+package com.teamsphere.suggest;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuration of the autocomplete index behind the {@code /suggest} endpoints.
+ */
+@Configuration
+@EnableConfigurationProperties(SuggestProperties.class)
+public class SuggestConfiguration {
+
+    /**
+     * Creates the suggestion index, loaded once all singletons exist.
+     *
+     * @param properties         the autocomplete settings
+     * @param entityManager      the entity manager the names are loaded with
+     * @param transactionManager the transaction manager the names are loaded in
+     * @return the index
+     */
+    @Bean
+    public SuggestionIndex suggestionIndex(SuggestProperties properties, EntityManager entityManager,
+                                           PlatformTransactionManager transactionManager) {
+        return new SuggestionIndex(properties, entityManager, transactionManager);
+    }
+
+    /**
+     * Registers the aspect that keeps the index current after writes.
+     *
+     * @param index the index to update
+     * @return the aspect
+     */
+    @Bean
+    public SuggestionIndexAspect suggestionIndexAspect(SuggestionIndex index) {
+        return new SuggestionIndexAspect(index);
+    }
+}
@@ -0,0 +1,16 @@
+package com.teamsphere.suggest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Autocomplete settings bound from {@code suggest}.
+ *
+ * @param defaultLimit suggestions returned when the client does not ask for a number
+ * @param maxLimit     the most suggestions a client can ask for
+ */
+@ConfigurationProperties("suggest")
+public record SuggestProperties(
+        @DefaultValue("10") int defaultLimit,
+        @DefaultValue("50") int maxLimit) {
+}
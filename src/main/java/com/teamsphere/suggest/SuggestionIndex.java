@@ -0,0 +1,140 @@
+package com.teamsphere.suggest;
+
+import com.teamsphere.cache.CachedResource;
+import com.teamsphere.dto.company.CompanyDto;
+import com.teamsphere.dto.employee.EmployeeDto;
+import com.teamsphere.dto.project.ProjectDto;
+import com.teamsphere.dto.suggest.SuggestionDto;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory autocomplete over employee, company and project names.
+ *
+ * <p>Each resource has its own {@link PrefixIndex}, loaded from the database once all singletons exist, before
+ * the application takes requests. {@link SuggestionIndexAspect} keeps the indexes current after writes through
+ * the services, so a lookup never touches the database. Writes that bypass the services, such as bulk imports,
+ * show up after a restart.</p>
+ */
+@Slf4j
+public class SuggestionIndex implements SmartInitializingSingleton {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final Map<CachedResource, String> NAME_QUERIES = Map.of(
+            CachedResource.EMPLOYEE, "SELECT e.id, concat(e.firstName, ' ', e.lastName) FROM EmployeeEntity e",
+            CachedResource.COMPANY, "SELECT c.id, c.name FROM CompanyEntity c",
+            CachedResource.PROJECT, "SELECT p.id, p.name FROM ProjectEntity p");
+
+    private final Map<CachedResource, PrefixIndex> indexes = new EnumMap<>(CachedResource.class);
+    private final SuggestProperties properties;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param properties         the autocomplete settings
+     * @param entityManager      the entity manager the names are loaded with
+     * @param transactionManager the transaction manager the names are loaded in
+     */
+    public SuggestionIndex(SuggestProperties properties, EntityManager entityManager,
+                           PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setReadOnly(true);
+        NAME_QUERIES.keySet().forEach(resource -> indexes.put(resource, new PrefixIndex()));
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * Reloads every index from the database.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        transaction.executeWithoutResult(status -> NAME_QUERIES.forEach(this::load));
+        log.info("Loaded suggestion indexes in {} ms: {} employees, {} companies, {} projects",
+                (System.nanoTime() - start) / 1_000_000, indexes.get(CachedResource.EMPLOYEE).size(),
+                indexes.get(CachedResource.COMPANY).size(), indexes.get(CachedResource.PROJECT).size());
+    }
+
+    /**
+     * Tells whether names of a resource are indexed.
+     *
+     * @param resource the resource
+     * @return {@code true} for employees, companies and projects
+     */
+    public boolean supports(CachedResource resource) {
+        return indexes.containsKey(resource);
+    }
+
+    /**
+     * Returns the names of a resource starting with the typed text.
+     *
+     * @param resource the resource to suggest from
+     * @param prefix   the typed text
+     * @param limit    the number of suggestions asked for, or {@code null} for the default; capped at the maximum
+     * @return the matching names
+     */
+    public List<SuggestionDto> suggest(CachedResource resource, String prefix, Integer limit) {
+        int effectiveLimit = limit == null ? properties.defaultLimit() : Math.min(limit, properties.maxLimit());
+        return indexes.get(resource).suggest(prefix, effectiveLimit);
+    }
+
+    /**
+     * Indexes the name of a saved or updated entity.
+     *
+     * @param resource the resource
+     * @param id       the entity id
+     * @param dto      the entity as returned by the service
+     */
+    public void put(CachedResource resource, Long id, Object dto) {
+        PrefixIndex index = indexes.get(resource);
+        if (index != null && id != null) {
+            index.put(id, nameOf(dto));
+        }
+    }
+
+    /**
+     * Removes the name of a deleted entity.
+     *
+     * @param resource the resource
+     * @param id       the entity id
+     */
+    public void remove(CachedResource resource, Long id) {
+        PrefixIndex index = indexes.get(resource);
+        if (index != null && id != null) {
+            index.remove(id);
+        }
+    }
+
+    private void load(CachedResource resource, String query) {
+        PrefixIndex index = indexes.get(resource);
+        index.clear();
+        entityManager.createQuery(query, Object[].class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .getResultStream()
+                .forEach(row -> index.put((Long) row[0], (String) row[1]));
+    }
+
+    private static String nameOf(Object dto) {
+        return switch (dto) {
+            case EmployeeDto employee -> employee.getFirstName() + " " + employee.getLastName();
+            case CompanyDto company -> company.getName();
+            case ProjectDto project -> project.getName();
+            case null, default -> null;
+        };
+    }
+}
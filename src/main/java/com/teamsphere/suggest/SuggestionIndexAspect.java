@@ -0,0 +1,81 @@
+package com.teamsphere.suggest;
+
+import com.teamsphere.cache.CachedResource;
+import com.teamsphere.dto.BaseDto;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Aspect that applies writes through the employee, company and project services to the {@link SuggestionIndex}.
+ *
+ * <p>The index is updated once the write's transaction has committed, so a rolled back write never shows up
+ * in suggestions. Registered by {@link SuggestConfiguration}.</p>
+ */
+@Aspect
+public class SuggestionIndexAspect {
+
+    private final SuggestionIndex index;
+
+    /**
+     * Creates the aspect.
+     *
+     * @param index the index to update
+     */
+    public SuggestionIndexAspect(SuggestionIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Indexes the name of a saved or updated entity.
+     *
+     * @param joinPoint the completed write
+     * @param result    the entity as returned by the service
+     */
+    @AfterReturning(pointcut = "within(com.teamsphere.service.impl..*) "
+            + "&& (execution(* save(..)) || execution(* update(..)))", returning = "result")
+    public void afterSave(JoinPoint joinPoint, Object result) {
+        CachedResource resource = resourceOf(joinPoint);
+        if (resource == null || !(result instanceof BaseDto dto)) {
+            return;
+        }
+        Object[] args = joinPoint.getArgs();
+        Long id = args.length > 1 && args[1] instanceof Long updatedId ? updatedId : dto.getId();
+        afterCommit(() -> index.put(resource, id, dto));
+    }
+
+    /**
+     * Removes the name of a deleted entity.
+     *
+     * @param joinPoint the completed delete
+     */
+    @AfterReturning("within(com.teamsphere.service.impl..*) && execution(* delete(Long))")
+    public void afterDelete(JoinPoint joinPoint) {
+        CachedResource resource = resourceOf(joinPoint);
+        if (resource != null) {
+            Long id = (Long) joinPoint.getArgs()[0];
+            afterCommit(() -> index.remove(resource, id));
+        }
+    }
+
+    private CachedResource resourceOf(JoinPoint joinPoint) {
+        CachedResource resource = CachedResource.ofService(AopUtils.getTargetClass(joinPoint.getTarget()));
+        return resource != null && index.supports(resource) ? resource : null;
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
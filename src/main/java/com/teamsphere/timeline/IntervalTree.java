@@ -0,0 +1,109 @@
+package com.teamsphere.timeline;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Immutable interval tree over closed intervals {@code [start, end]}.
+ *
+ * <p>The intervals are sorted by start and laid out as an implicit balanced search tree over that array: the
+ * middle of every range is the root of its subtree. Each node also records the largest end in its subtree, so a
+ * query skips every subtree that ends before the queried range and every right subtree that starts after it.
+ * Finding the {@code k} intervals overlapping a range costs {@code O(log n + k)}, without allocating nodes.</p>
+ *
+ * @param <T> the type of the values the intervals belong to
+ */
+public final class IntervalTree<T> {
+
+    private final List<T> values;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    /**
+     * Builds the tree.
+     *
+     * @param items the values
+     * @param start the start of a value's interval
+     * @param end   the inclusive end of a value's interval; {@link Long#MAX_VALUE} for an open end
+     */
+    public IntervalTree(List<T> items, ToLongFunction<T> start, ToLongFunction<T> end) {
+        this.values = new ArrayList<>(items);
+        this.values.sort(Comparator.comparingLong(start));
+        int size = values.size();
+        this.starts = new long[size];
+        this.ends = new long[size];
+        this.maxEnds = new long[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = start.applyAsLong(values.get(i));
+            ends[i] = end.applyAsLong(values.get(i));
+        }
+        computeMaxEnds(0, size);
+    }
+
+    /**
+     * Returns the number of intervals.
+     *
+     * @return the size
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Returns the values whose intervals overlap {@code [from, to]}.
+     *
+     * @param from the start of the range
+     * @param to   the inclusive end of the range
+     * @return the overlapping values, by start
+     */
+    public List<T> overlapping(long from, long to) {
+        List<T> result = new ArrayList<>();
+        forEachOverlapping(from, to, result::add);
+        return result;
+    }
+
+    /**
+     * Passes every value whose interval overlaps {@code [from, to]} to an action, by start.
+     *
+     * @param from   the start of the range
+     * @param to     the inclusive end of the range
+     * @param action the action
+     */
+    public void forEachOverlapping(long from, long to, Consumer<? super T> action) {
+        if (from <= to) {
+            visit(0, values.size(), from, to, action);
+        }
+    }
+
+    private long computeMaxEnds(int low, int high) {
+        if (low >= high) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        long max = Math.max(ends[mid], Math.max(computeMaxEnds(low, mid), computeMaxEnds(mid + 1, high)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    private void visit(int low, int high, long from, long to, Consumer<? super T> action) {
+        if (low >= high) {
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        if (maxEnds[mid] < from) {
+            return;
+        }
+        visit(low, mid, from, to, action);
+        if (starts[mid] > to) {
+            return;
+        }
+        if (ends[mid] >= from) {
+            action.accept(values.get(mid));
+        }
+        visit(mid + 1, high, from, to, action);
+    }
+}
@@ -0,0 +1,52 @@
+package com.teamsphere.timeline;
+
+import com.teamsphere.dto.employee.ProjectInfo;
+import com.teamsphere.dto.employee.ProjectOverlapDto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Finds the pairs of projects that run at the same time, such as the double allocations of an employee.
+ */
+public final class ProjectOverlaps {
+
+    private static final Comparator<ProjectPeriod> BY_START =
+            Comparator.comparingLong(ProjectPeriod::startDay).thenComparing(ProjectPeriod::id);
+
+    private ProjectOverlaps() {
+    }
+
+    /**
+     * Sweeps the projects through an {@link IntervalTree}, asking it for the projects overlapping each one.
+     *
+     * @param periods the projects
+     * @return every overlapping pair once, by the first day of the overlap
+     */
+    public static List<ProjectOverlapDto> of(Collection<ProjectPeriod> periods) {
+        IntervalTree<ProjectPeriod> tree =
+                new IntervalTree<>(List.copyOf(periods), ProjectPeriod::startDay, ProjectPeriod::endDay);
+        List<ProjectOverlapDto> overlaps = new ArrayList<>();
+        for (ProjectPeriod period : periods) {
+            tree.forEachOverlapping(period.startDay(), period.endDay(), other -> {
+                if (BY_START.compare(period, other) < 0) {
+                    overlaps.add(overlap(period, other));
+                }
+            });
+        }
+        overlaps.sort(Comparator.comparing(ProjectOverlapDto::from)
+                .thenComparing(overlap -> overlap.first().id())
+                .thenComparing(overlap -> overlap.second().id()));
+        return overlaps;
+    }
+
+    private static ProjectOverlapDto overlap(ProjectPeriod first, ProjectPeriod second) {
+        long end = Math.min(first.endDay(), second.endDay());
+        return new ProjectOverlapDto(new ProjectInfo(first.id(), first.name()),
+                new ProjectInfo(second.id(), second.name()), second.startDate(),
+                end == Long.MAX_VALUE ? null : LocalDate.ofEpochDay(end));
+    }
+}
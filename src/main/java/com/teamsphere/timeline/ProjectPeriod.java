@@ -0,0 +1,33 @@
+package com.teamsphere.timeline;
+
+import java.time.LocalDate;
+
+/**
+ * The dates a project runs, as loaded for timeline queries.
+ *
+ * @param id         the project id
+ * @param name       the project name
+ * @param startDate  the first day of the project
+ * @param finishDate the last day of the project, or {@code null} while it has no planned end
+ */
+public record ProjectPeriod(Long id, String name, LocalDate startDate, LocalDate finishDate) {
+
+    /**
+     * Returns the first day as an epoch day, for {@link IntervalTree}.
+     *
+     * @return the start
+     */
+    public long startDay() {
+        return startDate.toEpochDay();
+    }
+
+    /**
+     * Returns the last day as an epoch day, for {@link IntervalTree}. A project finishing before it starts
+     * runs on its start date only.
+     *
+     * @return the end, or {@link Long#MAX_VALUE} when the project has no planned end
+     */
+    public long endDay() {
+        return finishDate == null ? Long.MAX_VALUE : Math.max(finishDate.toEpochDay(), startDay());
+    }
+}
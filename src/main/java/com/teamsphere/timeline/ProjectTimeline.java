@@ -0,0 +1,82 @@
+package com.teamsphere.timeline;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains the date range index of projects on PostgreSQL.
+ *
+ * <p>Hibernate's schema update cannot express a range column, so once all singletons exist this adds
+ * {@code t_projects.active_range}, a stored {@code daterange} generated from the start and finish dates, and a
+ * GiST index on it. "Which projects run during this window" then becomes one {@code &&} probe of that index
+ * instead of a scan that has to compare both dates of every project. Both statements are idempotent.</p>
+ *
+ * <p>On other databases, or when the statements fail, {@link #rangeIndexed()} stays {@code false} and the
+ * window is matched on the start and finish dates instead.</p>
+ */
+@Slf4j
+public class ProjectTimeline implements SmartInitializingSingleton {
+
+    private static final String ADD_RANGE_COLUMN = """
+            ALTER TABLE t_projects ADD COLUMN IF NOT EXISTS active_range daterange
+                GENERATED ALWAYS AS (CASE WHEN finish_date < start_date THEN daterange(start_date, start_date, '[]')
+                                          ELSE daterange(start_date, finish_date, '[]') END) STORED""";
+    private static final String CREATE_RANGE_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_projects_active_range ON t_projects USING gist (active_range)";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    private volatile boolean rangeIndexed;
+
+    /**
+     * Creates the timeline.
+     *
+     * @param entityManagerFactory the factory telling the database in use
+     * @param entityManager        the entity manager the schema is changed with
+     * @param transactionManager   the transaction manager the schema is changed in
+     */
+    public ProjectTimeline(EntityManagerFactory entityManagerFactory, EntityManager entityManager,
+                           PlatformTransactionManager transactionManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!(entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect()
+                instanceof PostgreSQLDialect)) {
+            log.info("Project date range index needs PostgreSQL, matching timelines on start and finish dates");
+            return;
+        }
+        try {
+            transaction.executeWithoutResult(status -> {
+                entityManager.createNativeQuery(ADD_RANGE_COLUMN).executeUpdate();
+                entityManager.createNativeQuery(CREATE_RANGE_INDEX).executeUpdate();
+            });
+            rangeIndexed = true;
+            log.info("Project date range index is in place");
+        } catch (PersistenceException | DataAccessException e) {
+            log.warn("Could not create the project date range index, matching timelines on start and finish "
+                    + "dates: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Tells whether projects can be matched through the {@code active_range} GiST index.
+     *
+     * @return {@code true} on PostgreSQL once the column and index exist
+     */
+    public boolean rangeIndexed() {
+        return rangeIndexed;
+    }
+}
@@ -0,0 +1,28 @@
+package com.teamsphere.timeline;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuration of the project timeline queries.
+ */
+@Configuration
+public class TimelineConfiguration {
+
+    /**
+     * Creates the project timeline, which sets up the date range index once all singletons exist.
+     *
+     * @param entityManagerFactory the factory telling the database in use
+     * @param entityManager        the entity manager the schema is changed with
+     * @param transactionManager   the transaction manager the schema is changed in
+     * @return the timeline
+     */
+    @Bean
+    public ProjectTimeline projectTimeline(EntityManagerFactory entityManagerFactory, EntityManager entityManager,
+                                           PlatformTransactionManager transactionManager) {
+        return new ProjectTimeline(entityManagerFactory, entityManager, transactionManager);
+    }
+}
@@ -0,0 +1,142 @@
+package com.teamsphere.analytics;
+
+import com.teamsphere.dto.report.TaskAggregateDto;
+import com.teamsphere.dto.report.TaskAggregateRequest;
+import com.teamsphere.dto.report.TaskAggregateRowDto;
+import com.teamsphere.dto.report.TaskDimension;
+import com.teamsphere.dto.task.TaskDto;
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+import com.teamsphere.exception.TooManyGroupsException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class TaskColumnsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 10, 0);
+
+    private final TaskColumns columns = new TaskColumns(new TaskAnalyticsProperties(true, 4, 16, 1000),
+            mock(EntityManager.class), mock(PlatformTransactionManager.class));
+
+    @AfterEach
+    void tearDown() {
+        columns.close();
+    }
+
+    @Test
+    void aggregate_shouldFilterAndGroup() {
+        columns.put(task(1, TaskStatus.ACTIVE, TaskType.BUG, 30));
+        columns.put(task(2, TaskStatus.ACTIVE, TaskType.BUG, null));
+        columns.put(task(3, TaskStatus.ACTIVE, TaskType.FEATURE, 60));
+        columns.put(task(4, TaskStatus.FINISHED, TaskType.BUG, 90));
+
+        TaskAggregateDto aggregate = columns.aggregate(request(List.of(TaskDimension.TYPE),
+                Set.of(TaskStatus.ACTIVE), Set.of()));
+
+        assertThat(aggregate.scanned()).isEqualTo(4);
+        assertThat(aggregate.rows()).containsExactly(
+                new TaskAggregateRowDto(null, null, TaskType.FEATURE, null, 1, 1, 60, 60.0),
+                new TaskAggregateRowDto(null, null, TaskType.BUG, null, 2, 1, 30, 30.0));
+    }
+
+    @Test
+    void aggregate_withoutGrouping_shouldReturnTotal() {
+        columns.put(task(1, TaskStatus.PENDING, TaskType.BUG, 10));
+        columns.put(task(2, TaskStatus.FINISHED, TaskType.FEATURE, 20));
+
+        assertThat(columns.aggregate(request(List.of(), Set.of(), Set.of())).rows())
+                .containsExactly(new TaskAggregateRowDto(null, null, null, null, 2, 2, 30, 15.0));
+    }
+
+    @Test
+    void assign_shouldMoveTasksBetweenEmployees() {
+        LongStream.rangeClosed(1, 4).forEach(id -> columns.put(task(id, TaskStatus.ACTIVE, TaskType.BUG, 10)));
+        columns.assign(20L, List.of(1L, 2L));
+        columns.assign(10L, List.of(3L));
+        columns.assign(20L, List.of(2L));
+
+        List<TaskAggregateRowDto> rows = columns.aggregate(request(List.of(TaskDimension.EMPLOYEE),
+                Set.of(), Set.of())).rows();
+
+        assertThat(rows).extracting(TaskAggregateRowDto::employeeId).containsExactly(10L, 20L, null);
+        assertThat(rows).extracting(TaskAggregateRowDto::tasks).containsExactly(1L, 1L, 2L);
+        assertThat(columns.aggregate(request(List.of(), Set.of(), Set.of(10L, 99L))).rows())
+                .extracting(TaskAggregateRowDto::tasks).containsExactly(1L);
+    }
+
+    @Test
+    void remove_shouldDropTasksAndKeepEmployeeOnUpdate() {
+        LongStream.rangeClosed(1, 3).forEach(id -> columns.put(task(id, TaskStatus.ACTIVE, TaskType.BUG, 10)));
+        columns.assign(10L, List.of(1L, 2L));
+        columns.put(task(2, TaskStatus.FINISHED, TaskType.BUG, 10));
+        columns.remove(3L);
+
+        assertThat(columns.size()).isEqualTo(2);
+        assertThat(columns.aggregate(request(List.of(TaskDimension.STATUS), Set.of(), Set.of(10L))).rows())
+                .extracting(TaskAggregateRowDto::status).containsExactly(TaskStatus.ACTIVE, TaskStatus.FINISHED);
+
+        columns.removeTasksOf(10L);
+
+        assertThat(columns.size()).isZero();
+        assertThat(columns.aggregate(request(List.of(), Set.of(), Set.of())).rows()).isEmpty();
+    }
+
+    @Test
+    void aggregate_overManyChunks_shouldMatchSequentialCounts() {
+        LongStream.iterate(5000, id -> id > 0, id -> id - 1).forEach(id -> columns.put(task(id,
+                TaskStatus.values()[(int) (id % 3)], TaskType.values()[(int) (id % TaskType.values().length)],
+                id % 5 == 0 ? null : (int) (id % 480))));
+
+        List<TaskAggregateRowDto> rows = columns.aggregate(request(
+                List.of(TaskDimension.STATUS, TaskDimension.TYPE), Set.of(), Set.of())).rows();
+
+        assertThat(rows.stream().mapToLong(TaskAggregateRowDto::tasks).sum()).isEqualTo(5000);
+        long expectedMinutes = LongStream.rangeClosed(1, 5000).filter(id -> id % 5 != 0).map(id -> id % 480).sum();
+        assertThat(rows.stream().mapToLong(TaskAggregateRowDto::minutes).sum()).isEqualTo(expectedMinutes);
+        assertThat(rows.getFirst().status()).isEqualTo(TaskStatus.values()[0]);
+    }
+
+    @Test
+    void aggregate_withTooManyGroups_shouldThrow() {
+        LongStream.rangeClosed(1, 100).forEach(id -> {
+            columns.put(task(id, TaskStatus.ACTIVE, TaskType.BUG, 10));
+            columns.assign(id, List.of(id));
+        });
+
+        List<TaskDimension> everything = List.of(TaskDimension.EMPLOYEE, TaskDimension.STATUS,
+                TaskDimension.PRIORITY, TaskDimension.TYPE);
+
+        assertThatThrownBy(() -> columns.aggregate(request(everything, Set.of(), Set.of())))
+                .isInstanceOf(TooManyGroupsException.class);
+    }
+
+    private static TaskAggregateRequest request(List<TaskDimension> groupBy, Set<TaskStatus> statuses,
+                                                Set<Long> employeeIds) {
+        return new TaskAggregateRequest(groupBy, statuses, null, null, employeeIds, null, null,
+                NOW.minusDays(1), null);
+    }
+
+    private static TaskDto task(long id, TaskStatus status, TaskType type, Integer minutes) {
+        return TaskDto.builder()
+                .id(id)
+                .taskStatus(status.name())
+                .taskPriority(TaskPriority.MEDIUM.name())
+                .taskType(type.name())
+                .timeSpentMinutes(minutes)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+}
@@ -0,0 +1,195 @@
+package com.teamsphere.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheFilterTest {
+
+    private static final String PAGE = "{\"content\":[" + "{\"id\":1,\"name\":\"Acme\"},".repeat(100) + "{}]}";
+
+    private final ResourceGenerations generations = new ResourceGenerations();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(
+            new ResponseCacheProperties(true, DataSize.ofMegabytes(1), true, DataSize.ofKilobytes(1),
+                    DataSize.ofKilobytes(8)), generations, meterRegistry);
+    private final AtomicInteger served = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws ServletException, IOException {
+        return perform(filter, request);
+    }
+
+    private MockHttpServletResponse perform(ResponseCacheFilter filter, MockHttpServletRequest request)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res)
+                    throws IOException {
+                served.incrementAndGet();
+                String body = StreamUtils.copyToString(req.getInputStream(), StandardCharsets.UTF_8);
+                res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                res.getWriter().write(body.isEmpty() ? PAGE : body);
+            }
+        }));
+        return response;
+    }
+
+    private static MockHttpServletRequest list(String query) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/company");
+        request.setQueryString(query);
+        return request;
+    }
+
+    private static MockHttpServletRequest search(String body) {
+        return post("/api/v1/company/search", body);
+    }
+
+    private static MockHttpServletRequest post(String uri, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("http.server.response.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("doFilter should serve repeated list requests from the cache until the resource is written")
+    void doFilter_shouldServeFromCacheUntilWrite() throws Exception {
+        assertEquals("MISS", perform(list("size=10&page=0")).getHeader(ResponseCacheFilter.CACHE_HEADER));
+        MockHttpServletResponse hit = perform(list("page=0&size=10"));
+        generations.bump(CachedResource.COMPANY);
+        MockHttpServletResponse afterWrite = perform(list("page=0&size=10"));
+
+        assertEquals("HIT", hit.getHeader(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals(PAGE, hit.getContentAsString());
+        assertEquals("MISS", afterWrite.getHeader(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals(2, served.get());
+        assertEquals(1, requests("hit"));
+        assertEquals(2, requests("miss"));
+    }
+
+    @Test
+    @DisplayName("doFilter should not store responses read before a write has reached the replicas")
+    void doFilter_shouldNotStoreBeforeWriteSettles() throws Exception {
+        ResourceGenerations lagging = new ResourceGenerations(Duration.ofMinutes(1));
+        ResponseCacheFilter laggingFilter = new ResponseCacheFilter(
+                new ResponseCacheProperties(true, DataSize.ofMegabytes(1), true, DataSize.ofKilobytes(1),
+                        DataSize.ofKilobytes(8)), lagging, meterRegistry);
+        perform(laggingFilter, list(null));
+        assertEquals("HIT", perform(laggingFilter, list(null)).getHeader(ResponseCacheFilter.CACHE_HEADER));
+
+        lagging.bump(CachedResource.COMPANY);
+        perform(laggingFilter, list(null));
+
+        assertEquals("MISS", perform(laggingFilter, list(null)).getHeader(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals(3, served.get());
+    }
+
+    @Test
+    @DisplayName("doFilter should invalidate responses embedding a written resource")
+    void doFilter_shouldInvalidateDependentResources() throws Exception {
+        perform(new MockHttpServletRequest("GET", "/api/v1/project"));
+        generations.bump(CachedResource.COMPANY);
+        perform(new MockHttpServletRequest("GET", "/api/v1/project"));
+
+        assertEquals(2, served.get());
+    }
+
+    @Test
+    @DisplayName("doFilter should send stored gzip bytes to clients that accept gzip")
+    void doFilter_shouldServeGzipToCapableClients() throws Exception {
+        perform(list(null));
+        MockHttpServletRequest gzipClient = list(null);
+        gzipClient.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+        MockHttpServletResponse response = perform(gzipClient);
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        byte[] body = response.getContentAsByteArray();
+        assertTrue(body.length < PAGE.length());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals(PAGE, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("doFilter should key search requests on their body and replay the body downstream")
+    void doFilter_shouldKeySearchOnBody() throws Exception {
+        MockHttpServletResponse first = perform(search("{\"query\":\"acme\"}"));
+        MockHttpServletResponse other = perform(search("{\"query\":\"globex\"}"));
+        MockHttpServletResponse repeated = perform(search("{\"query\":\"acme\"}"));
+
+        assertEquals("{\"query\":\"acme\"}", first.getContentAsString());
+        assertEquals("{\"query\":\"globex\"}", other.getContentAsString());
+        assertEquals("HIT", repeated.getHeader(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals("{\"query\":\"acme\"}", repeated.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("doFilter should cache filter requests apart from searches with the same body")
+    void doFilter_shouldKeyOnEndpoint() throws Exception {
+        perform(post("/api/v1/task/search", "{}"));
+        MockHttpServletResponse filtered = perform(post("/api/v1/task/filter", "{}"));
+        MockHttpServletResponse repeated = perform(post("/api/v1/task/filter", "{}"));
+
+        assertEquals("MISS", filtered.getHeader(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals("HIT", repeated.getHeader(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals(2, served.get());
+    }
+
+    @Test
+    @DisplayName("doFilter should not share responses between roles")
+    void doFilter_shouldKeyOnRole() throws Exception {
+        perform(list(null));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+        perform(list(null));
+
+        assertEquals(2, served.get());
+    }
+
+    @Test
+    @DisplayName("doFilter should pass through single-item reads and writes")
+    void doFilter_shouldIgnoreOtherEndpoints() throws Exception {
+        perform(new MockHttpServletRequest("GET", "/api/v1/company/1"));
+        perform(new MockHttpServletRequest("GET", "/api/v1/company/1"));
+
+        assertEquals(2, served.get());
+        assertEquals(0, filter.cache().size());
+    }
+}
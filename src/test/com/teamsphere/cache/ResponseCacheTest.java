@@ -0,0 +1,52 @@
+package com.teamsphere.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    private final ResponseCache<String> cache = new ResponseCache<>(10);
+
+    private static ResponseCache.Entry entry(int size, long generation) {
+        return new ResponseCache.Entry(new byte[size], false, generation);
+    }
+
+    @Test
+    @DisplayName("get should return entries of the current generation only")
+    void get_shouldDropOlderGenerations() {
+        cache.put("a", entry(4, 1));
+
+        assertNotNull(cache.get("a", 1));
+        assertNull(cache.get("a", 2));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.bytes());
+    }
+
+    @Test
+    @DisplayName("put should evict the least recently used entries beyond the byte bound")
+    void put_shouldEvictLeastRecentlyUsed() {
+        cache.put("a", entry(4, 0));
+        cache.put("b", entry(4, 0));
+        cache.get("a", 0);
+        cache.put("c", entry(4, 0));
+
+        assertNotNull(cache.get("a", 0));
+        assertNull(cache.get("b", 0));
+        assertNotNull(cache.get("c", 0));
+        assertEquals(8, cache.bytes());
+    }
+
+    @Test
+    @DisplayName("put should replace an entry and skip entries larger than the cache")
+    void put_shouldReplaceAndSkipOversized() {
+        cache.put("a", entry(4, 0));
+        cache.put("a", entry(6, 1));
+        cache.put("b", entry(11, 0));
+
+        assertEquals(6, cache.bytes());
+        assertNull(cache.get("b", 0));
+        assertEquals(1, cache.get("a", 1).generation());
+    }
+}
@@ -0,0 +1,201 @@
+package com.teamsphere.coalescing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamsphere.cache.CachedResource;
+import com.teamsphere.cache.ResourceGenerations;
+import com.teamsphere.dto.employee.EmployeeDto;
+import com.teamsphere.dto.position.PositionDto;
+import com.teamsphere.entity.PositionEntity;
+import com.teamsphere.mapper.EmployeeMapper;
+import com.teamsphere.mapper.PositionMapper;
+import com.teamsphere.repository.EmployeeRepository;
+import com.teamsphere.repository.PositionRepository;
+import com.teamsphere.service.EmployeeService;
+import com.teamsphere.service.PositionService;
+import com.teamsphere.service.impl.EmployeeServiceImpl;
+import com.teamsphere.service.impl.PositionServiceImpl;
+import com.teamsphere.staffing.StaffingIndex;
+import com.teamsphere.stats.TaskCounters;
+import com.teamsphere.suggest.SuggestionIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingAspectTest {
+
+    @Mock
+    private PositionMapper positionMapper;
+
+    @Mock
+    private PositionRepository positionRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ResourceGenerations generations = new ResourceGenerations();
+
+    private CoalescingAspect aspect;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    private PositionService service(Duration cacheTtl) {
+        aspect = new CoalescingAspect(new CoalescingProperties(true, cacheTtl, 10), objectMapper, generations,
+                meterRegistry);
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new PositionServiceImpl(positionMapper, positionRepository, entityManager));
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private EmployeeService employeeService() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new EmployeeServiceImpl(employeeRepository,
+                employeeMapper, entityManager, mock(SuggestionIndex.class), mock(StaffingIndex.class),
+                mock(TaskCounters.class)));
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private void stubPage() {
+        PositionEntity entity = new PositionEntity();
+        PositionDto dto = new PositionDto();
+        dto.setId(1L);
+        dto.setPositionName("Engineer");
+        when(positionRepository.findAll(any(Pageable.class))).thenAnswer(invocation ->
+                new PageImpl<>(List.of(entity), invocation.getArgument(0), 1));
+        when(positionMapper.toDto(entity)).thenReturn(dto);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("service.coalescing.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("getAll should serve repeated calls from the cache until a write")
+    void getAll_shouldCacheUntilWrite() {
+        stubPage();
+        when(positionRepository.existsById(1L)).thenReturn(true);
+        PositionService service = service(Duration.ofMinutes(1));
+
+        Page<PositionDto> first = service.getAll(PageRequest.of(0, 10));
+        Page<PositionDto> second = service.getAll(PageRequest.of(0, 10));
+        service.delete(1L);
+        service.getAll(PageRequest.of(0, 10));
+
+        assertSame(first, second);
+        assertInstanceOf(PrecomputedPage.class, first);
+        verify(positionRepository, times(2)).findAll(any(Pageable.class));
+        assertEquals(2, requests("leader"));
+        assertEquals(1, requests("cache_hit"));
+    }
+
+    @Test
+    @DisplayName("getAll should drop cached pages that embed the resource a write changed")
+    void getAll_shouldDropDependentPagesOnWrite() {
+        when(positionRepository.existsById(1L)).thenReturn(true);
+        when(employeeRepository.findPageOfIds(any(Pageable.class))).thenAnswer(invocation ->
+                new PageImpl<Long>(List.of(), invocation.getArgument(0), 0));
+        PositionService positionService = service(Duration.ofMinutes(1));
+        EmployeeService employeeService = employeeService();
+
+        Page<EmployeeDto> first = employeeService.getAll(PageRequest.of(0, 10));
+        assertSame(first, employeeService.getAll(PageRequest.of(0, 10)));
+        positionService.delete(1L);
+        employeeService.getAll(PageRequest.of(0, 10));
+
+        verify(employeeRepository, times(2)).findPageOfIds(any(Pageable.class));
+        assertEquals(1, requests("cache_hit"));
+    }
+
+    @Test
+    @DisplayName("getAll should not cache pages read before a write has reached the replicas")
+    void getAll_shouldNotCacheBeforeWriteSettles() {
+        stubPage();
+        generations = new ResourceGenerations(Duration.ofMinutes(1));
+        PositionService service = service(Duration.ofMinutes(1));
+        generations.bump(CachedResource.POSITION);
+
+        service.getAll(PageRequest.of(0, 10));
+        service.getAll(PageRequest.of(0, 10));
+
+        verify(positionRepository, times(2)).findAll(any(Pageable.class));
+        assertEquals(0, aspect.cachedPages());
+    }
+
+    @Test
+    @DisplayName("getAll should not cache when the cache is off")
+    void getAll_shouldNotCacheWithoutTtl() {
+        stubPage();
+        PositionService service = service(Duration.ZERO);
+
+        service.getAll(PageRequest.of(0, 10));
+        service.getAll(PageRequest.of(0, 10));
+
+        verify(positionRepository, times(2)).findAll(any(Pageable.class));
+        assertEquals(0, aspect.cachedPages());
+    }
+
+    @Test
+    @DisplayName("getAll should bypass coalescing inside a caller's transaction")
+    void getAll_shouldBypassInsideTransaction() {
+        stubPage();
+        PositionService service = service(Duration.ofMinutes(1));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        Page<PositionDto> page = service.getAll(PageRequest.of(0, 10));
+
+        assertFalse(page instanceof PrecomputedPage);
+        assertEquals(0, aspect.cachedPages());
+        assertEquals(0, requests("leader"));
+    }
+
+    @Test
+    @DisplayName("PrecomputedPage should serialize exactly like the page it was built from")
+    void precomputedPage_shouldSerializeLikeOriginal() throws Exception {
+        PositionDto dto = new PositionDto();
+        dto.setId(7L);
+        dto.setPositionName("Analyst");
+        Page<PositionDto> page = new PageImpl<>(List.of(dto), PageRequest.of(2, 5), 11);
+
+        PrecomputedPage<PositionDto> precomputed = PrecomputedPage.of(page, objectMapper);
+
+        String expected = objectMapper.writeValueAsString(page);
+        assertEquals(expected, objectMapper.writeValueAsString(precomputed));
+        assertEquals(expected.length(), precomputed.jsonSize());
+        assertEquals(page.getContent(), precomputed.getContent());
+    }
+}
@@ -0,0 +1,82 @@
+package com.teamsphere.coalescing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String> singleFlight = new SingleFlight<>();
+
+    private <T> Callable<SingleFlight.Result<T>> execute(String key, SingleFlight.Call<T> call) {
+        return () -> {
+            try {
+                return singleFlight.execute(key, call);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("execute should share one running computation between concurrent callers")
+    void execute_shouldShareRunningComputation() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            Future<SingleFlight.Result<Integer>> leader = executor.submit(execute("key", () -> {
+                started.countDown();
+                release.await();
+                return calls.incrementAndGet();
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            List<Future<SingleFlight.Result<Integer>>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(executor.submit(execute("key", calls::incrementAndGet)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals(new SingleFlight.Result<>(1, false), leader.get(5, TimeUnit.SECONDS));
+            for (Future<SingleFlight.Result<Integer>> follower : followers) {
+                assertEquals(new SingleFlight.Result<>(1, true), follower.get(5, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1, calls.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    @DisplayName("execute should rethrow the exception of the computation and forget the key")
+    void execute_shouldRethrowAndForgetKey() throws Throwable {
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> singleFlight.execute("key", () -> {
+            throw failure;
+        })));
+        assertEquals(0, singleFlight.inFlight());
+        assertEquals(new SingleFlight.Result<>("ok", false), singleFlight.execute("key", () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("execute should run computations for different keys independently")
+    void execute_shouldNotShareDifferentKeys() throws Throwable {
+        SingleFlight.Result<String> outer = singleFlight.execute("a", () -> singleFlight.execute("b", () -> "b").value());
+
+        assertEquals(new SingleFlight.Result<>("b", false), outer);
+    }
+}
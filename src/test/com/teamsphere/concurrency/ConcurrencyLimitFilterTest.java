@@ -0,0 +1,85 @@
+package com.teamsphere.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties(true, Duration.ofSeconds(2),
+                Map.of(EndpointClass.SEARCH, new ConcurrencyLimitProperties.Bounds(1, 1, 1)));
+        filter = new ConcurrencyLimitFilter(properties, meterRegistry, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    @DisplayName("Requests under the limit should pass and release their slot")
+    void doFilter_shouldPass_whenUnderLimit() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/task/search"), response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals(0, filter.limiter(EndpointClass.SEARCH).getInFlight());
+    }
+
+    @Test
+    @DisplayName("Requests over the limit should be shed with 503 and Retry-After")
+    void doFilter_shouldShed_whenOverLimit() throws Exception {
+        AdaptiveLimiter.Permit held = filter.limiter(EndpointClass.SEARCH).tryAcquire().orElseThrow();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/employee/search"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(response.getContentAsString().contains("Server is busy"));
+        assertEquals(1, meterRegistry.get("http.server.requests.shed").tag("class", "search").counter().count());
+
+        held.onIgnore();
+    }
+
+    @Test
+    @DisplayName("A full class should not affect other classes")
+    void doFilter_shouldIsolateClasses() throws Exception {
+        AdaptiveLimiter.Permit held = filter.limiter(EndpointClass.SEARCH).tryAcquire().orElseThrow();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/task/1"), response, new MockFilterChain());
+
+        assertEquals(200, response.getStatus());
+        assertEquals(1, meterRegistry.get("http.server.concurrency.limit").tag("class", "search").gauge().value());
+        held.onIgnore();
+    }
+
+    @Test
+    @DisplayName("Requests should be classified by method and path")
+    void endpointClass_shouldClassifyRequests() {
+        assertEquals(EndpointClass.AUTH, EndpointClass.of(new MockHttpServletRequest("POST", "/api/v1/auth/login")));
+        assertEquals(EndpointClass.SEARCH, EndpointClass.of(new MockHttpServletRequest("POST", "/api/v1/task/search")));
+        assertEquals(EndpointClass.READ, EndpointClass.of(new MockHttpServletRequest("GET", "/api/v1/employee")));
+        assertEquals(EndpointClass.WRITE, EndpointClass.of(new MockHttpServletRequest("DELETE", "/api/v1/task/3")));
+        assertEquals(EndpointClass.BULK, EndpointClass.of(new MockHttpServletRequest("GET", "/api/v1/admin/recording/dump")));
+    }
+}
@@ -0,0 +1,89 @@
+package com.teamsphere.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradientLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    @DisplayName("Limit should grow while latency stays at its long-term level and the limit is in use")
+    void onSample_shouldGrow_whenLatencySteady() {
+        GradientLimit limit = new GradientLimit(10, 1, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(FAST, limit.getLimit(), false);
+        }
+
+        assertTrue(limit.getLimit() > 10);
+    }
+
+    @Test
+    @DisplayName("Limit should shrink when latency rises well above its long-term level")
+    void onSample_shouldShrink_whenLatencyRises() {
+        GradientLimit limit = new GradientLimit(50, 1, 100);
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(FAST, limit.getLimit(), false);
+        }
+        int before = limit.getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(SLOW, limit.getLimit(), false);
+        }
+
+        assertTrue(limit.getLimit() < before);
+    }
+
+    @Test
+    @DisplayName("Limit should not grow from samples taken while it was mostly unused")
+    void onSample_shouldHold_whenUnderused() {
+        GradientLimit limit = new GradientLimit(20, 1, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(FAST, 1, false);
+        }
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("Limit should shrink when latency rises even while it is mostly unused")
+    void onSample_shouldShrink_whenLatencyRisesWhileUnderused() {
+        GradientLimit limit = new GradientLimit(20, 1, 100);
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(FAST, 1, false);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(SLOW, 1, false);
+        }
+
+        assertTrue(limit.getLimit() < 20);
+    }
+
+    @Test
+    @DisplayName("Dropped requests should back the limit off, but not below the minimum")
+    void onSample_shouldBackOff_whenDropped() {
+        GradientLimit limit = new GradientLimit(20, 5, 100);
+
+        limit.onSample(FAST, 20, true);
+        assertEquals(18, limit.getLimit());
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(FAST, 20, true);
+        }
+        assertEquals(5, limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("Constructor should reject inverted bounds")
+    void constructor_shouldRejectInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new GradientLimit(10, 20, 5));
+    }
+}
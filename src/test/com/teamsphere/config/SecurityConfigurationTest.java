@@ -24,7 +24,7 @@ class SecurityConfigurationTest {
     @BeforeEach
     void setUp() {
         // Create with null dependencies - we're only testing methods that don't need them
-        securityConfiguration = new SecurityConfiguration(null, null);
+        securityConfiguration = new SecurityConfiguration(null, null, null);
     }
 
     @Test
@@ -0,0 +1,101 @@
+package com.teamsphere.controller;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import com.teamsphere.config.JwtAuthenticationFilter;
+import com.teamsphere.dto.monitoring.RecordingStatus;
+import com.teamsphere.monitoring.FlightRecordingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+@WebMvcTest(controllers = FlightRecordingController.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtAuthenticationFilter.class))
+@AutoConfigureMockMvc(addFilters = false)
+class FlightRecordingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private FlightRecordingService flightRecordingService;
+
+    private final RecordingStatus running = new RecordingStatus("teamsphere-continuous", "RUNNING",
+            Instant.parse("2026-01-01T00:00:00Z"), Duration.ofHours(6), 250_000_000L, 0L);
+
+    @Test
+    void getRecordingStatus_shouldReturnStatus() throws Exception {
+        when(flightRecordingService.status()).thenReturn(Optional.of(running));
+
+        mockMvc.perform(get("/api/v1/admin/recording"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andExpect(jsonPath("$.maxSize").value(250_000_000L));
+    }
+
+    @Test
+    void getRecordingStatus_shouldReturnNotFound_whenNeverStarted() throws Exception {
+        when(flightRecordingService.status()).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/admin/recording"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void startRecording_shouldReturnStatus() throws Exception {
+        when(flightRecordingService.start()).thenReturn(running);
+
+        mockMvc.perform(post("/api/v1/admin/recording/start"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("teamsphere-continuous"));
+    }
+
+    @Test
+    void stopRecording_shouldReturnNotFound_whenNotRunning() throws Exception {
+        when(flightRecordingService.stop()).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/api/v1/admin/recording/stop"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void dumpRecording_shouldStreamFileAndDeleteIt() throws Exception {
+        Path dump = Files.createTempFile("recording-", ".jfr");
+        Files.write(dump, new byte[]{1, 2, 3});
+        when(flightRecordingService.dump()).thenReturn(Optional.of(dump));
+
+        mockMvc.perform(get("/api/v1/admin/recording/dump"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"teamsphere.jfr\""))
+                .andExpect(content().bytes(new byte[]{1, 2, 3}));
+
+        assertFalse(Files.exists(dump));
+    }
+
+    @Test
+    void dumpRecording_shouldReturnNotFound_whenNeverStarted() throws Exception {
+        when(flightRecordingService.dump()).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/admin/recording/dump"))
+                .andExpect(status().isNotFound());
+    }
+}
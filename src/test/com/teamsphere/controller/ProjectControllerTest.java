@@ -9,6 +9,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teamsphere.config.JwtAuthenticationFilter;
 import com.teamsphere.dto.project.ProjectDto;
 import com.teamsphere.dto.project.ProjectSearchRequest;
+import com.teamsphere.dto.project.ProjectStaffingDto;
+import com.teamsphere.dto.project.SharedStaffDto;
 import com.teamsphere.exception.NotFoundException;
 import com.teamsphere.service.ProjectService;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +31,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @WebMvcTest(controllers = ProjectController.class,
         excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtAuthenticationFilter.class))
@@ -149,6 +152,33 @@ class ProjectControllerTest {
         verify(projectService, times(1)).getAll(any(Pageable.class));
     }
 
+    @Test
+    void getSharedStaff_shouldReturnEmployeesOnEveryProject() throws Exception {
+        // Given
+        when(projectService.findSharedStaff(List.of(1L, 2L), null))
+                .thenReturn(new SharedStaffDto(List.of(1L, 2L), null, List.of(7L, 9L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/project/staff/shared").param("projectId", "1", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employeeIds[0]").value(7))
+                .andExpect(jsonPath("$.employeeIds[1]").value(9));
+    }
+
+    @Test
+    void getStaffCounts_withoutProjects_shouldCountEveryProject() throws Exception {
+        // Given
+        when(projectService.countStaff(List.of()))
+                .thenReturn(List.of(new ProjectStaffingDto(1L, 3, Map.of(4L, 3))));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/project/staff/counts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].projectId").value(1))
+                .andExpect(jsonPath("$[0].employees").value(3))
+                .andExpect(jsonPath("$[0].byDepartment.4").value(3));
+    }
+
     @Test
     void deleteProject_shouldReturnNoContent() throws Exception {
         // Given
@@ -0,0 +1,67 @@
+package com.teamsphere.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import com.teamsphere.config.JwtAuthenticationFilter;
+import com.teamsphere.dto.report.ReportDimension;
+import com.teamsphere.dto.report.TimeSpentReportDto;
+import com.teamsphere.dto.report.TimeSpentReportRequest;
+import com.teamsphere.dto.report.TimeSpentRowDto;
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.service.ReportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Set;
+
+@WebMvcTest(controllers = ReportController.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtAuthenticationFilter.class))
+@AutoConfigureMockMvc(addFilters = false)
+class ReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReportService reportService;
+
+    @Test
+    void getTimeSpent_shouldPassGroupingAndFilters() throws Exception {
+        // Given
+        TimeSpentReportDto report = new TimeSpentReportDto(List.of(ReportDimension.DEPARTMENT),
+                List.of(new TimeSpentRowDto(List.of(), 3, 2, 90, 45.0)));
+        when(reportService.timeSpent(any(TimeSpentReportRequest.class))).thenReturn(report);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/report/time-spent")
+                        .param("groupBy", "DEPARTMENT")
+                        .param("status", "ACTIVE", "PENDING")
+                        .param("priority", "HIGH"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupBy[0]").value("DEPARTMENT"))
+                .andExpect(jsonPath("$.rows[0].minutes").value(90))
+                .andExpect(jsonPath("$.rows[0].averageMinutes").value(45.0));
+
+        verify(reportService).timeSpent(new TimeSpentReportRequest(List.of(ReportDimension.DEPARTMENT),
+                Set.of(TaskStatus.ACTIVE, TaskStatus.PENDING), null, Set.of(TaskPriority.HIGH)));
+    }
+
+    @Test
+    void getTimeSpent_withUnknownDimension_shouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/report/time-spent").param("groupBy", "PLANET"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(reportService);
+    }
+}
@@ -0,0 +1,69 @@
+package com.teamsphere.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import com.teamsphere.config.JwtAuthenticationFilter;
+import com.teamsphere.dto.company.CompanyDto;
+import com.teamsphere.dto.search.GlobalSearchRequest;
+import com.teamsphere.dto.search.GlobalSearchResponse;
+import com.teamsphere.dto.search.GlobalSearchSection;
+import com.teamsphere.service.GlobalSearchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+@WebMvcTest(controllers = SearchController.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtAuthenticationFilter.class))
+@AutoConfigureMockMvc(addFilters = false)
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private GlobalSearchService globalSearchService;
+
+    @Test
+    void search_shouldReturnSectionsPerResource() throws Exception {
+        // Given
+        CompanyDto company = CompanyDto.builder().id(1L).name("Tech Corp").build();
+        GlobalSearchResponse response = new GlobalSearchResponse(
+                new GlobalSearchSection<>(List.of(), 0, true),
+                new GlobalSearchSection<>(List.of(company), 1, true),
+                new GlobalSearchSection<>(List.of(), 0, true),
+                GlobalSearchSection.incomplete());
+        when(globalSearchService.search(any(GlobalSearchRequest.class))).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\":\"Tech\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.companies.items[0].name").value("Tech Corp"))
+                .andExpect(jsonPath("$.companies.total").value(1))
+                .andExpect(jsonPath("$.tasks.complete").value(false));
+
+        verify(globalSearchService).search(new GlobalSearchRequest("Tech", null));
+    }
+
+    @Test
+    void search_withBlankQuery_shouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/v1/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\":\" \"}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(globalSearchService);
+    }
+}
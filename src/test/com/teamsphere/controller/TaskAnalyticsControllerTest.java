@@ -0,0 +1,72 @@
+package com.teamsphere.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import com.teamsphere.config.JwtAuthenticationFilter;
+import com.teamsphere.dto.report.TaskAggregateDto;
+import com.teamsphere.dto.report.TaskAggregateRequest;
+import com.teamsphere.dto.report.TaskAggregateRowDto;
+import com.teamsphere.dto.report.TaskDimension;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.exception.TooManyGroupsException;
+import com.teamsphere.service.TaskAnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+@WebMvcTest(controllers = TaskAnalyticsController.class, properties = "task-analytics.enabled=true",
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtAuthenticationFilter.class))
+@AutoConfigureMockMvc(addFilters = false)
+class TaskAnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskAnalyticsService taskAnalyticsService;
+
+    @Test
+    void getTaskAggregate_shouldPassGroupingAndFilters() throws Exception {
+        // Given
+        TaskAggregateDto aggregate = new TaskAggregateDto(List.of(TaskDimension.STATUS), 10,
+                List.of(new TaskAggregateRowDto(TaskStatus.ACTIVE, null, null, null, 4, 2, 90, 45.0)));
+        when(taskAnalyticsService.aggregate(any(TaskAggregateRequest.class))).thenReturn(aggregate);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/report/tasks")
+                        .param("groupBy", "STATUS")
+                        .param("status", "ACTIVE")
+                        .param("employeeId", "7", "8")
+                        .param("updatedFrom", "2026-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scanned").value(10))
+                .andExpect(jsonPath("$.rows[0].status").value("ACTIVE"))
+                .andExpect(jsonPath("$.rows[0].averageMinutes").value(45.0));
+
+        verify(taskAnalyticsService).aggregate(new TaskAggregateRequest(List.of(TaskDimension.STATUS),
+                Set.of(TaskStatus.ACTIVE), null, null, Set.of(7L, 8L), null, null,
+                LocalDateTime.of(2026, 1, 1, 0, 0), null));
+    }
+
+    @Test
+    void getTaskAggregate_withTooManyGroups_shouldReturnBadRequest() throws Exception {
+        // Given
+        when(taskAnalyticsService.aggregate(any(TaskAggregateRequest.class)))
+                .thenThrow(new TooManyGroupsException(2_000_000, 1_000_000));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/report/tasks").param("groupBy", "EMPLOYEE", "STATUS"))
+                .andExpect(status().isBadRequest());
+    }
+}
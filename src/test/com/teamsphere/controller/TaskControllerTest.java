@@ -10,6 +10,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teamsphere.config.JwtAuthenticationFilter;
 import com.teamsphere.dto.task.TaskDto;
 import com.teamsphere.dto.task.TaskSearchRequest;
+import com.teamsphere.dto.task.TaskStatsDto;
+import com.teamsphere.entity.enums.TaskStatus;
 import com.teamsphere.exception.NotFoundException;
 import com.teamsphere.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +31,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @WebMvcTest(controllers = TaskController.class,
         excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtAuthenticationFilter.class))
@@ -118,6 +121,20 @@ class TaskControllerTest {
         verify(taskService, times(1)).save(any(TaskDto.class));
     }
 
+    @Test
+    void getTaskStats_shouldReturnCountsOfAskedEmployees() throws Exception {
+        // Given
+        Map<TaskStatus, Long> counts = Map.of(TaskStatus.PENDING, 2L, TaskStatus.ACTIVE, 1L, TaskStatus.FINISHED, 0L);
+        when(taskService.stats(List.of(5L, 6L)))
+                .thenReturn(new TaskStatsDto(counts, Map.of(5L, counts), Map.of(), Map.of(), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/task/stats").param("employeeId", "5", "6"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total.PENDING").value(2))
+                .andExpect(jsonPath("$.byEmployee.5.ACTIVE").value(1));
+    }
+
     @Test
     void getTaskById_shouldReturnTask() throws Exception {
         // Given
@@ -0,0 +1,101 @@
+package com.teamsphere.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedAcquireDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private BoundedAcquireDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new BoundedAcquireDataSource(target, 2, 1, Duration.ofMillis(100));
+    }
+
+    @Test
+    @DisplayName("getConnection should take a permit and close should return it exactly once")
+    void getConnection_shouldReleasePermitOnceOnClose() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+
+        Connection first = dataSource.getConnection();
+        assertEquals(1, dataSource.availablePermits());
+
+        first.close();
+        first.close();
+
+        assertEquals(2, dataSource.availablePermits());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("getConnection should time out when every permit is taken")
+    void getConnection_shouldTimeOut_whenPoolExhausted() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(ConnectionAcquireTimeoutException.class, () -> dataSource.getConnection());
+        verify(target, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("getConnection should fail fast when the wait queue is full")
+    void getConnection_shouldFailFast_whenTooManyWaiting() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        BoundedAcquireDataSource slow = new BoundedAcquireDataSource(target, 1, 1, Duration.ofSeconds(5));
+        Connection held = slow.getConnection();
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            CountDownLatch waiting = new CountDownLatch(1);
+            Future<Connection> queued = executor.submit(() -> {
+                waiting.countDown();
+                return slow.getConnection();
+            });
+            waiting.await();
+            while (slow.waitingCallers() == 0) {
+                Thread.onSpinWait();
+            }
+
+            long start = System.nanoTime();
+            assertThrows(ConnectionAcquireTimeoutException.class, slow::getConnection);
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+
+            held.close();
+            assertNotNull(queued.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("getConnection should return the permit when the pool throws")
+    void getConnection_shouldReleasePermit_whenTargetFails() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool closed"));
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+
+        assertEquals(2, dataSource.availablePermits());
+    }
+}
@@ -0,0 +1,115 @@
+package com.teamsphere.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PoolRoutingDataSourceTest {
+
+    @Mock
+    private DataSource auth;
+
+    @Mock
+    private DataSource oltp;
+
+    @Mock
+    private DataSource analytics;
+
+    @Mock
+    private Connection connection;
+
+    private PoolRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new PoolRoutingDataSource(Map.of(ConnectionPool.AUTH, auth, ConnectionPool.OLTP, oltp,
+                ConnectionPool.ANALYTICS, analytics), ConnectionPool.OLTP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ConnectionPoolContext.set(null);
+    }
+
+    @Test
+    @DisplayName("getConnection should use the default pool when none is selected")
+    void getConnection_shouldUseDefaultPool() throws SQLException {
+        when(oltp.getConnection()).thenReturn(connection);
+
+        assertSame(connection, dataSource.getConnection());
+        verifyNoInteractions(auth, analytics);
+    }
+
+    @Test
+    @DisplayName("getConnection should use the selected pool")
+    void getConnection_shouldUseSelectedPool() throws SQLException {
+        when(analytics.getConnection()).thenReturn(connection);
+        ConnectionPoolContext.set(ConnectionPool.ANALYTICS);
+
+        assertSame(connection, dataSource.getConnection());
+        verifyNoInteractions(auth, oltp);
+    }
+
+    @Test
+    @DisplayName("getConnection should fall back to the default pool for an unknown name")
+    void getConnection_shouldUseDefaultPool_whenNameUnknown() throws SQLException {
+        when(oltp.getConnection()).thenReturn(connection);
+        ConnectionPoolContext.set("reporting");
+
+        assertSame(connection, dataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("Constructor should reject a default pool that is not configured")
+    void constructor_shouldRejectUnknownDefaultPool() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PoolRoutingDataSource(Map.of(ConnectionPool.AUTH, auth), ConnectionPool.OLTP));
+    }
+
+    @Test
+    @DisplayName("Aspect should select the annotated pool for the call and keep an outer selection")
+    void aspect_shouldSelectAnnotatedPool() {
+        Searches searches = proxy(new Searches());
+
+        assertEquals(ConnectionPool.ANALYTICS, searches.search());
+        assertEquals(ConnectionPool.AUTH, searches.login());
+        assertNull(ConnectionPoolContext.current());
+
+        ConnectionPoolContext.set(ConnectionPool.OLTP);
+        assertEquals(ConnectionPool.OLTP, searches.search());
+    }
+
+    private static <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ConnectionPoolAspect());
+        return factory.getProxy();
+    }
+
+    @ConnectionPool(ConnectionPool.AUTH)
+    static class Searches {
+
+        @ConnectionPool(ConnectionPool.ANALYTICS)
+        public String search() {
+            return ConnectionPoolContext.current();
+        }
+
+        public String login() {
+            return ConnectionPoolContext.current();
+        }
+    }
+}
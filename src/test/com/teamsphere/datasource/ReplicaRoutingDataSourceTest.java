@@ -0,0 +1,152 @@
+package com.teamsphere.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private final AtomicReference<String> session = new AtomicReference<>();
+
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica), Duration.ofSeconds(5),
+                "", Duration.ofMinutes(1), session::get);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+    }
+
+    @Test
+    @DisplayName("Read-only connections should go to a healthy replica")
+    void readOnlyConnection_shouldUseReplica_whenHealthy() throws SQLException {
+        markReplicaHealthy();
+
+        readOnlyStatement();
+
+        verify(replica, times(2)).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Writable connections should go to the primary")
+    void writableConnection_shouldUsePrimary() throws SQLException {
+        markReplicaHealthy();
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        verify(primary).getConnection();
+        verify(replica, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Reads should fall back to the primary until a replica passes its health check")
+    void readOnlyConnection_shouldUsePrimary_whenReplicaUnchecked() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        readOnlyStatement();
+
+        assertEquals(Set.of(), dataSource.healthyReplicas());
+        verify(primary).getConnection();
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    @DisplayName("A replica lagging more than the limit should be taken out of rotation")
+    void checkReplicas_shouldMarkReplicaUnhealthy_whenLagging() throws SQLException {
+        ReplicaRoutingDataSource lagAware = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica),
+                Duration.ofSeconds(5), "select lag", Duration.ZERO, session::get);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.isValid(anyInt())).thenReturn(true);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("select lag")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(0.5, 30.0);
+
+        lagAware.checkReplicas();
+        assertEquals(Set.of("replica-1"), lagAware.healthyReplicas());
+
+        lagAware.checkReplicas();
+        assertEquals(Set.of(), lagAware.healthyReplicas());
+    }
+
+    @Test
+    @DisplayName("A replica that cannot be reached should be taken out of rotation")
+    void checkReplicas_shouldMarkReplicaUnhealthy_whenUnreachable() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        dataSource.checkReplicas();
+
+        assertEquals(Set.of(), dataSource.healthyReplicas());
+    }
+
+    @Test
+    @DisplayName("A session should read from the primary right after writing")
+    void readOnlyConnection_shouldUsePrimary_afterWriteInSameSession() throws SQLException {
+        markReplicaHealthy();
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        session.set("admin@teamsphere.com");
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+        readOnlyStatement();
+
+        verify(primary, times(2)).getConnection();
+        verify(replica, times(1)).getConnection();
+
+        session.set("user@teamsphere.com");
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        readOnlyStatement();
+
+        verify(replica, times(2)).getConnection();
+    }
+
+    private void markReplicaHealthy() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.isValid(anyInt())).thenReturn(true);
+        dataSource.checkReplicas();
+    }
+
+    private void readOnlyStatement() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.createStatement();
+        }
+    }
+}
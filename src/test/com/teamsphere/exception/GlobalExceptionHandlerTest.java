@@ -3,13 +3,16 @@ package com.teamsphere.exception;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import jakarta.persistence.QueryTimeoutException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -112,5 +115,42 @@ class GlobalExceptionHandlerTest {
         assertNotNull(response.getBody().getErrors());
         assertTrue(response.getBody().getErrors().isEmpty());
     }
-}
 
+    @Test
+    void onConnectionUnavailable_shouldReturnServiceUnavailableWithRetryAfter() {
+        // Given
+        CannotCreateTransactionException exception = new CannotCreateTransactionException("Could not open JPA EntityManager");
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.onConnectionUnavailable(exception);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(response.getBody());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getBody().getStatus());
+    }
+
+    @Test
+    void onSearchSuperseded_shouldReturnConflict() {
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.onSearchSuperseded(new SearchSupersededException());
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().getMessage().contains("superseded"));
+    }
+
+    @Test
+    void onQueryTimeout_shouldReturnServiceUnavailableWithoutRetryAfter() {
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.onQueryTimeout(
+                new QueryTimeoutException("Statement was canceled or the session timed out"));
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(response.getBody());
+    }
+}
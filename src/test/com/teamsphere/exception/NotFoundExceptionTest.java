@@ -42,5 +42,16 @@ class NotFoundExceptionTest {
         assertEquals("Entity with id 1 not found.", new NotFoundException(1L).getMessage());
         assertEquals("Entity with id 999999 not found.", new NotFoundException(999999L).getMessage());
     }
-}
 
+    @Test
+    @DisplayName("NotFoundException should not capture a stack trace")
+    void exception_shouldBeStackless() {
+        // Given
+        NotFoundException exception = new NotFoundException(1L);
+
+        // Then
+        assertEquals(0, exception.getStackTrace().length);
+        exception.addSuppressed(new IllegalStateException());
+        assertEquals(0, exception.getSuppressed().length);
+    }
+}
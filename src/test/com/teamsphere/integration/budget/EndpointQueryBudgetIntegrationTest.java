@@ -0,0 +1,372 @@
+package com.teamsphere.integration.budget;
+
+import com.teamsphere.dto.employee.EmployeeDto;
+import com.teamsphere.dto.employee.ProjectInfo;
+import com.teamsphere.dto.employee.TaskInfo;
+import com.teamsphere.dto.project.ProjectDto;
+import com.teamsphere.dto.task.TaskDto;
+import com.teamsphere.entity.*;
+import com.teamsphere.entity.enums.ProjectStatus;
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+import com.teamsphere.integration.BaseIntegrationTest;
+import com.teamsphere.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query-count and latency budgets per endpoint.
+ * Every request also pays one statement for loading the authenticated user in the JWT filter.
+ * Budgets reflect the current query plans; lower them when an endpoint gets cheaper.
+ *
+ * <p>The fixture holds several employees, each with tasks and projects, so an N+1 regression
+ * shows up as a statement count that grows with the fixture and breaks the budget.</p>
+ */
+@DisplayName("Endpoint Query Budget Integration Tests")
+@ExtendWith(QueryBudgetExtension.class)
+class EndpointQueryBudgetIntegrationTest extends BaseIntegrationTest {
+
+    private static final int EMPLOYEES = 3;
+    private static final int TASKS_PER_EMPLOYEE = 3;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private CompanyEntity company;
+    private ProjectEntity project;
+    private DepartmentEntity department;
+    private PositionEntity position;
+    private final List<EmployeeEntity> employees = new ArrayList<>();
+    private final List<TaskEntity> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        company = companyRepository.save(CompanyEntity.builder()
+                .name("Budget Corp").industry("Software").address("1 Budget Way").email("info@budget.com")
+                .createdAt(now).updatedAt(now).build());
+        List<ProjectEntity> projects = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            projects.add(projectRepository.save(ProjectEntity.builder()
+                    .name("Budget Project " + i).description("Project under budget").startDate(LocalDate.now())
+                    .status(ProjectStatus.IN_PROGRESS).company(company).createdAt(now).updatedAt(now).build()));
+        }
+        project = projects.getFirst();
+        department = departmentRepository.save(DepartmentEntity.builder()
+                .departmentName("Budgeting").description("Counts statements").createdAt(now).updatedAt(now).build());
+        position = positionRepository.save(PositionEntity.builder()
+                .positionName("Accountant").yearsOfExperience(2).createdAt(now).updatedAt(now).build());
+
+        for (int e = 0; e < EMPLOYEES; e++) {
+            EmployeeEntity employee = employeeRepository.save(EmployeeEntity.builder()
+                    .firstName("Budget").lastName("Employee").pin("12345678" + e + "0").address("Budget Street")
+                    .email("budget" + e + "@company.com").department(department).position(position)
+                    .projects(new LinkedHashSet<>(projects)).tasks(new LinkedHashSet<>())
+                    .createdAt(now).updatedAt(now).build());
+            for (int t = 0; t < TASKS_PER_EMPLOYEE; t++) {
+                TaskEntity task = taskRepository.save(TaskEntity.builder()
+                        .taskNumber(String.valueOf(e * TASKS_PER_EMPLOYEE + t + 1)).taskDescription("Budget task")
+                        .taskStatus(TaskStatus.ACTIVE).taskPriority(TaskPriority.HIGH).taskType(TaskType.FEATURE)
+                        .timeSpentMinutes(30).employee(employee).createdAt(now).updatedAt(now).build());
+                employee.getTasks().add(task);
+                tasks.add(task);
+            }
+            employees.add(employee);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /employee/{id}")
+    @QueryBudget(statements = 4, entitiesLoaded = 10, collectionsFetched = 2)
+    void getEmployee() throws Exception {
+        perform(get("/api/v1/employee/{id}", employees.getFirst().getId()), userToken);
+    }
+
+    @Test
+    @DisplayName("GET /employee")
+    @QueryBudget(statements = 3, collectionsFetched = 0)
+    void getAllEmployees() throws Exception {
+        perform(get("/api/v1/employee"), userToken);
+    }
+
+    @Test
+    @DisplayName("POST /employee/search")
+    @QueryBudget(statements = 10)
+    void searchEmployees() throws Exception {
+        perform(post("/api/v1/employee/search").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"query\":\"Budget\"}"), adminToken);
+    }
+
+    @Test
+    @DisplayName("POST /employee/filter")
+    @QueryBudget(statements = 5, collectionsFetched = 0)
+    void filterEmployees() throws Exception {
+        perform(post("/api/v1/employee/filter").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"departmentId\":" + department.getId() + ",\"projectId\":" + project.getId() + "}"),
+                userToken);
+    }
+
+    @Test
+    @DisplayName("GET /employee/suggest")
+    @QueryBudget(statements = 1)
+    void suggestEmployees() throws Exception {
+        perform(get("/api/v1/employee/suggest").param("prefix", "Budget"), userToken);
+    }
+
+    @Test
+    @DisplayName("GET /employee/{id}/project-overlaps")
+    @QueryBudget(statements = 3)
+    void getProjectOverlaps() throws Exception {
+        perform(get("/api/v1/employee/{id}/project-overlaps", employees.getFirst().getId()), userToken);
+    }
+
+    @Test
+    @DisplayName("POST /employee")
+    @QueryBudget(statements = 6)
+    void createEmployee() throws Exception {
+        EmployeeDto employee = EmployeeDto.builder()
+                .firstName("New").lastName("Hire").pin("9876543210").address("New Street")
+                .email("new.hire@company.com").departmentId(department.getId()).positionId(position.getId())
+                .projects(List.of(new ProjectInfo(project.getId(), project.getName()))).tasks(List.of())
+                .build();
+        perform(post("/api/v1/employee").contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)), adminToken, 201);
+    }
+
+    @Test
+    @DisplayName("PUT /employee/{id}")
+    @QueryBudget(statements = 6)
+    void updateEmployee() throws Exception {
+        EmployeeEntity existing = employees.getFirst();
+        EmployeeDto employee = EmployeeDto.builder()
+                .firstName("Renamed").lastName("Employee").pin(existing.getPin()).address("Budget Street")
+                .email(existing.getEmail()).departmentId(department.getId()).positionId(position.getId())
+                .projects(List.of(new ProjectInfo(project.getId(), project.getName())))
+                .tasks(existing.getTasks().stream()
+                        .map(task -> new TaskInfo(task.getId(), null, null, null, null, null, null))
+                        .toList())
+                .build();
+        perform(put("/api/v1/employee/{id}", existing.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)), adminToken, 204);
+    }
+
+    @Test
+    @DisplayName("GET /task/{id}")
+    @QueryBudget(statements = 2)
+    void getTask() throws Exception {
+        perform(get("/api/v1/task/{id}", tasks.getFirst().getId()), userToken);
+    }
+
+    @Test
+    @DisplayName("GET /task")
+    @QueryBudget(statements = 5)
+    void getAllTasks() throws Exception {
+        perform(get("/api/v1/task"), userToken);
+    }
+
+    @Test
+    @DisplayName("GET /task/stats")
+    @QueryBudget(statements = 1)
+    void getTaskStats() throws Exception {
+        perform(get("/api/v1/task/stats").param("employeeId", String.valueOf(employees.getFirst().getId())),
+                userToken);
+    }
+
+    @Test
+    @DisplayName("POST /task/search")
+    @QueryBudget(statements = 5)
+    void searchTasks() throws Exception {
+        perform(post("/api/v1/task/search").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"query\":\"Budget\"}"), adminToken);
+    }
+
+    @Test
+    @DisplayName("POST /task/search by task number")
+    @QueryBudget(statements = 3)
+    void searchTaskByNumber() throws Exception {
+        perform(post("/api/v1/task/search").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"query\":\"" + tasks.getFirst().getTaskNumber() + "\"}"), adminToken);
+    }
+
+    @Test
+    @DisplayName("POST /task/filter")
+    @QueryBudget(statements = 3)
+    void filterTasks() throws Exception {
+        perform(post("/api/v1/task/filter").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"taskStatus\":\"ACTIVE\",\"employeeId\":" + employees.getFirst().getId() + "}"),
+                userToken);
+    }
+
+    @Test
+    @DisplayName("POST /task")
+    @QueryBudget(statements = 3)
+    void createTask() throws Exception {
+        perform(post("/api/v1/task").contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskDto())), adminToken, 201);
+    }
+
+    @Test
+    @DisplayName("PUT /task/{id}")
+    @QueryBudget(statements = 3)
+    void updateTask() throws Exception {
+        TaskDto task = taskDto();
+        task.setTaskNumber(tasks.getFirst().getTaskNumber());
+        perform(put("/api/v1/task/{id}", tasks.getFirst().getId()).contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)), adminToken, 204);
+    }
+
+    @Test
+    @DisplayName("DELETE /task/{id}")
+    @QueryBudget(statements = 3)
+    void deleteTask() throws Exception {
+        perform(delete("/api/v1/task/{id}", tasks.getLast().getId()), adminToken, 204);
+    }
+
+    @Test
+    @DisplayName("GET /project")
+    @QueryBudget(statements = 2)
+    void getAllProjects() throws Exception {
+        perform(get("/api/v1/project"), userToken);
+    }
+
+    @Test
+    @DisplayName("GET /project/{id}")
+    @QueryBudget(statements = 2)
+    void getProject() throws Exception {
+        perform(get("/api/v1/project/{id}", project.getId()), userToken);
+    }
+
+    @Test
+    @DisplayName("POST /project")
+    @QueryBudget(statements = 3)
+    void createProject() throws Exception {
+        ProjectDto dto = ProjectDto.builder()
+                .name("Fresh Project").description("Brand new").startDate("2025-01-01")
+                .status("IN_PROGRESS").companyId(company.getId()).build();
+        perform(post("/api/v1/project").contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)), adminToken, 201);
+    }
+
+    @Test
+    @DisplayName("POST /project/search")
+    @QueryBudget(statements = 3)
+    void searchProjects() throws Exception {
+        perform(post("/api/v1/project/search").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"query\":\"Budget\"}"), adminToken);
+    }
+
+    @Test
+    @DisplayName("POST /project/filter")
+    @QueryBudget(statements = 3)
+    void filterProjects() throws Exception {
+        perform(post("/api/v1/project/filter").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"companyId\":" + company.getId() + ",\"status\":\"IN_PROGRESS\"}"), userToken);
+    }
+
+    @Test
+    @DisplayName("GET /project/active")
+    @QueryBudget(statements = 3)
+    void getActiveProjects() throws Exception {
+        perform(get("/api/v1/project/active").param("from", LocalDate.now().toString())
+                .param("to", LocalDate.now().plusDays(7).toString()), userToken);
+    }
+
+    @Test
+    @DisplayName("GET /project/staff/shared")
+    @QueryBudget(statements = 1)
+    void getSharedStaff() throws Exception {
+        perform(get("/api/v1/project/staff/shared").param("projectId", String.valueOf(project.getId())), userToken);
+    }
+
+    @Test
+    @DisplayName("GET /project/staff/counts")
+    @QueryBudget(statements = 1)
+    void getStaffCounts() throws Exception {
+        perform(get("/api/v1/project/staff/counts"), userToken);
+    }
+
+    @Test
+    @DisplayName("GET /project/{id}/staff-overlaps")
+    @QueryBudget(statements = 2)
+    void getStaffOverlaps() throws Exception {
+        perform(get("/api/v1/project/{id}/staff-overlaps", project.getId()), userToken);
+    }
+
+    @Test
+    @DisplayName("GET /company")
+    @QueryBudget(statements = 2)
+    void getAllCompanies() throws Exception {
+        perform(get("/api/v1/company"), userToken);
+    }
+
+    @Test
+    @DisplayName("POST /company/search")
+    @QueryBudget(statements = 2)
+    void searchCompanies() throws Exception {
+        perform(post("/api/v1/company/search").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"query\":\"Budget\"}"), adminToken);
+    }
+
+    @Test
+    @DisplayName("GET /report/time-spent")
+    @QueryBudget(statements = 2)
+    void timeSpentReport() throws Exception {
+        perform(get("/api/v1/report/time-spent").param("groupBy", "DEPARTMENT", "EMPLOYEE")
+                .param("status", "ACTIVE"), adminToken);
+    }
+
+    @Test
+    @DisplayName("GET /report/tasks")
+    @QueryBudget(statements = 1)
+    void taskAggregate() throws Exception {
+        perform(get("/api/v1/report/tasks").param("groupBy", "EMPLOYEE", "STATUS")
+                .param("type", "FEATURE"), adminToken);
+    }
+
+    private TaskDto taskDto() {
+        return TaskDto.builder()
+                .taskStatus("PENDING").taskPriority("LOW").taskType("BUG")
+                .timeSpentMinutes(15).taskDescription("Budgeted task").build();
+    }
+
+    private void perform(MockHttpServletRequestBuilder request, String token) throws Exception {
+        perform(request, token, 200);
+    }
+
+    private void perform(MockHttpServletRequestBuilder request, String token, int expectedStatus) throws Exception {
+        mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, bearerToken(token)))
+                .andExpect(status().is(expectedStatus));
+    }
+}
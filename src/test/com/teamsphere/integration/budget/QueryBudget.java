@@ -0,0 +1,46 @@
+package com.teamsphere.integration.budget;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the database and latency budget of a single test.
+ * Enforced by {@link QueryBudgetExtension}, which measures only the test method body,
+ * so fixture setup in {@code @BeforeEach} methods does not count against the budget.
+ *
+ * <p>A negative value disables the corresponding check.</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * Maximum number of JDBC statements prepared by Hibernate.
+     *
+     * @return the statement budget
+     */
+    long statements();
+
+    /**
+     * Maximum number of entities loaded from the database.
+     *
+     * @return the entity load budget
+     */
+    long entitiesLoaded() default -1;
+
+    /**
+     * Maximum number of lazy collections fetched from the database.
+     *
+     * @return the collection fetch budget
+     */
+    long collectionsFetched() default -1;
+
+    /**
+     * Maximum wall time of the test method in milliseconds.
+     *
+     * @return the wall time budget
+     */
+    long maxMillis() default 2_000;
+}
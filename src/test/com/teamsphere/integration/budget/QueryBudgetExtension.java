@@ -0,0 +1,98 @@
+package com.teamsphere.integration.budget;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JUnit extension that enforces {@link QueryBudget} on integration tests.
+ *
+ * <p>Before the test method runs, pending fixture changes are flushed, the persistence context is
+ * cleared so the call under test cannot be served from the first-level cache, and Hibernate
+ * statistics are reset. Afterwards writes still pending in the test transaction are flushed so they
+ * are counted too, and the statement count, loaded entities, fetched collections and
+ * wall time are compared with the declared budget and the test fails if any of them is exceeded.</p>
+ *
+ * <p>Requires {@code hibernate.generate_statistics} to be enabled in the test configuration.</p>
+ */
+@Slf4j
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+    private static final String STARTED_AT = "startedAt";
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (!context.getRequiredTestMethod().isAnnotationPresent(QueryBudget.class)) {
+            return;
+        }
+        ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+        EntityManagerFactory entityManagerFactory = applicationContext.getBean(EntityManagerFactory.class);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        Statistics statistics = statistics(entityManagerFactory);
+        if (!statistics.isStatisticsEnabled()) {
+            throw new IllegalStateException("QueryBudget requires hibernate.generate_statistics=true");
+        }
+        statistics.clear();
+        context.getStore(NAMESPACE).put(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryBudget budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+        if (budget == null) {
+            return;
+        }
+        long elapsedMillis = (System.nanoTime() - context.getStore(NAMESPACE).remove(STARTED_AT, Long.class)) / 1_000_000;
+        EntityManagerFactory entityManagerFactory = SpringExtension.getApplicationContext(context)
+                .getBean(EntityManagerFactory.class);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory).flush();
+        }
+        Statistics statistics = statistics(entityManagerFactory);
+
+        long statements = statistics.getPrepareStatementCount();
+        long entities = statistics.getEntityLoadCount();
+        long collections = statistics.getCollectionFetchCount();
+
+        log.info("Query budget for {}: {} statements, {} entities loaded, {} collections fetched, {} ms",
+                context.getDisplayName(), statements, entities, collections, elapsedMillis);
+
+        List<String> violations = new ArrayList<>();
+        check(violations, "statements", statements, budget.statements());
+        check(violations, "entities loaded", entities, budget.entitiesLoaded());
+        check(violations, "collections fetched", collections, budget.collectionsFetched());
+        check(violations, "wall time (ms)", elapsedMillis, budget.maxMillis());
+
+        if (!violations.isEmpty()) {
+            throw new AssertionFailedError("Query budget exceeded: " + String.join(", ", violations));
+        }
+    }
+
+    private static void check(List<String> violations, String name, long actual, long limit) {
+        if (limit >= 0 && actual > limit) {
+            violations.add(name + " " + actual + " > " + limit);
+        }
+    }
+
+    private static Statistics statistics(EntityManagerFactory entityManagerFactory) {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,182 @@
+package com.teamsphere.integration.cache;
+
+import com.teamsphere.dto.employee.EmployeeDto;
+import com.teamsphere.dto.employee.TaskInfo;
+import com.teamsphere.dto.task.TaskFilterRequest;
+import com.teamsphere.entity.DepartmentEntity;
+import com.teamsphere.entity.EmployeeEntity;
+import com.teamsphere.entity.PositionEntity;
+import com.teamsphere.entity.TaskEntity;
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+import com.teamsphere.integration.BaseIntegrationTest;
+import com.teamsphere.repository.DepartmentRepository;
+import com.teamsphere.repository.EmployeeRepository;
+import com.teamsphere.repository.PositionRepository;
+import com.teamsphere.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the list and search response cache.
+ * Runs outside the test transaction, since responses are only cached when no transaction is bound.
+ */
+@DisplayName("Response Cache Integration Tests")
+class ResponseCacheIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        employeeRepository.deleteAll();
+        positionRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should serve repeated lists from the cache and refresh them after a write")
+    void list_ShouldBeCachedUntilWrite() throws Exception {
+        mockMvc.perform(get("/api/v1/position?page=0&size=50")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Cache", "MISS"));
+        mockMvc.perform(get("/api/v1/position?size=50&page=0")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Cache", "HIT"));
+
+        mockMvc.perform(post("/api/v1/position")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"positionName\":\"Cache Architect\",\"yearsOfExperience\":7}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/v1/position?page=0&size=50")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Cache", "MISS"))
+                .andExpect(jsonPath("$.content[*].positionName", hasItem("Cache Architect")));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should refresh task lists after deleting an employee takes its tasks along")
+    void taskList_ShouldBeRefreshedAfterEmployeeDelete() throws Exception {
+        EmployeeEntity employee = employeeWithTask("Cora", "CACHE-1");
+
+        mockMvc.perform(get("/api/v1/task?page=0&size=50")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].taskNumber", hasItem("CACHE-1")));
+        mockMvc.perform(get("/api/v1/task?page=0&size=50")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(header().string("X-Cache", "HIT"));
+
+        mockMvc.perform(delete("/api/v1/employee/{id}", employee.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/task?page=0&size=50")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Cache", "MISS"))
+                .andExpect(jsonPath("$.content[*].taskNumber", not(hasItem("CACHE-1"))));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should refresh task filters by employee after an employee update reassigns the task")
+    void taskFilter_ShouldBeRefreshedAfterReassignment() throws Exception {
+        EmployeeEntity previous = employeeWithTask("Cora", "CACHE-2");
+        EmployeeEntity next = employeeWithTask("Carl", "CACHE-3");
+        String byPrevious = objectMapper.writeValueAsString(
+                new TaskFilterRequest(null, null, null, previous.getId(), null, null));
+
+        for (String cache : List.of("MISS", "HIT")) {
+            mockMvc.perform(post("/api/v1/task/filter?page=0&size=10")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken))
+                            .contentType(MediaType.APPLICATION_JSON).content(byPrevious))
+                    .andExpect(header().string("X-Cache", cache))
+                    .andExpect(jsonPath("$.totalElements").value(1))
+                    .andExpect(jsonPath("$.content[0].taskNumber").value("CACHE-2"));
+        }
+
+        TaskEntity moved = previous.getTasks().iterator().next();
+        List<TaskInfo> tasks = List.of(new TaskInfo(moved.getId(), null, null, null, null, null, null),
+                new TaskInfo(next.getTasks().iterator().next().getId(), null, null, null, null, null, null));
+        mockMvc.perform(put("/api/v1/employee/{id}", next.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(EmployeeDto.builder()
+                                .firstName(next.getFirstName()).lastName(next.getLastName()).pin(next.getPin())
+                                .address(next.getAddress()).email(next.getEmail())
+                                .departmentId(next.getDepartment().getId()).positionId(next.getPosition().getId())
+                                .tasks(tasks).build())))
+                .andExpect(status().is2xxSuccessful());
+
+        mockMvc.perform(post("/api/v1/task/filter?page=0&size=10")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken))
+                        .contentType(MediaType.APPLICATION_JSON).content(byPrevious))
+                .andExpect(header().string("X-Cache", "MISS"))
+                .andExpect(jsonPath("$.totalElements").value(0))
+                .andExpect(jsonPath("$.content", empty()));
+    }
+
+    private EmployeeEntity employeeWithTask(String firstName, String taskNumber) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            DepartmentEntity department = departmentRepository.save(DepartmentEntity.builder()
+                    .departmentName("Caching").description("Caches").createdAt(now).updatedAt(now).build());
+            PositionEntity position = positionRepository.save(PositionEntity.builder()
+                    .positionName("Cacher").yearsOfExperience(2).createdAt(now).updatedAt(now).build());
+            EmployeeEntity employee = employeeRepository.save(EmployeeEntity.builder()
+                    .firstName(firstName).lastName("Cache").pin("1234567890").address("Cache Street")
+                    .email(firstName.toLowerCase() + "@cache.com").department(department).position(position)
+                    .projects(new HashSet<>()).tasks(new HashSet<>()).createdAt(now).updatedAt(now).build());
+            employee.getTasks().add(taskRepository.save(TaskEntity.builder()
+                    .taskNumber(taskNumber).taskDescription("Cached task").taskStatus(TaskStatus.ACTIVE)
+                    .taskPriority(TaskPriority.HIGH).taskType(TaskType.BUG).employee(employee)
+                    .createdAt(now).updatedAt(now).build()));
+            return employee;
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package com.teamsphere.integration.controller;
 
 import com.teamsphere.dto.employee.EmployeeDto;
+import com.teamsphere.dto.employee.EmployeeFilterRequest;
 import com.teamsphere.dto.employee.EmployeeSearchRequest;
 import com.teamsphere.entity.DepartmentEntity;
 import com.teamsphere.entity.EmployeeEntity;
@@ -18,6 +19,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -78,6 +80,8 @@ class EmployeeControllerIntegrationTest extends BaseIntegrationTest {
                 .email("john.doe@company.com")
                 .department(department)
                 .position(position)
+                .tasks(new LinkedHashSet<>())
+                .projects(new LinkedHashSet<>())
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
@@ -91,6 +95,8 @@ class EmployeeControllerIntegrationTest extends BaseIntegrationTest {
                 .email("jane.smith@company.com")
                 .department(department)
                 .position(position)
+                .tasks(new LinkedHashSet<>())
+                .projects(new LinkedHashSet<>())
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
@@ -229,5 +235,95 @@ class EmployeeControllerIntegrationTest extends BaseIntegrationTest {
                     .andExpect(status().isNotFound());
         }
     }
-}
 
+    @Nested
+    @DisplayName("POST /api/v1/employee/search - Search Employees")
+    class SearchEmployeeTests {
+
+        @Test
+        @DisplayName("Should look up an employee by exact email")
+        void searchEmployee_ByEmail_ShouldReturnOnlyThatEmployee() throws Exception {
+            EmployeeSearchRequest searchRequest = new EmployeeSearchRequest("john.doe@company.com");
+
+            mockMvc.perform(post(EMPLOYEE_BASE_URL + "/search")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(searchRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].firstName").value("John"));
+        }
+
+        @Test
+        @DisplayName("Should look up an employee by PIN")
+        void searchEmployee_ByPin_ShouldReturnOnlyThatEmployee() throws Exception {
+            EmployeeSearchRequest searchRequest = new EmployeeSearchRequest("0987654321");
+
+            mockMvc.perform(post(EMPLOYEE_BASE_URL + "/search")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(searchRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].firstName").value("Jane"));
+        }
+
+        @Test
+        @DisplayName("Should fall back to substring search for partial identifiers")
+        void searchEmployee_ByPartialEmail_ShouldReturnAllContaining() throws Exception {
+            EmployeeSearchRequest searchRequest = new EmployeeSearchRequest("company.com");
+
+            mockMvc.perform(post(EMPLOYEE_BASE_URL + "/search")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(searchRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(2)));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/employee/filter - Filter Employees")
+    class FilterEmployeeTests {
+
+        @Test
+        @DisplayName("Should filter employees by department and position for regular user")
+        void filterEmployee_ByDepartmentAndPosition_ShouldReturnNewestFirst() throws Exception {
+            EmployeeFilterRequest filterRequest = new EmployeeFilterRequest(department.getId(), position.getId(), null);
+
+            mockMvc.perform(post(EMPLOYEE_BASE_URL + "/filter")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(filterRequest))
+                            .param("page", "0")
+                            .param("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].firstName").value("Jane"))
+                    .andExpect(jsonPath("$.totalElements").value(2));
+        }
+
+        @Test
+        @DisplayName("Should return empty page when no employee matches")
+        void filterEmployee_NoMatch_ShouldReturnEmpty() throws Exception {
+            EmployeeFilterRequest filterRequest = new EmployeeFilterRequest(null, null, 99999L);
+
+            mockMvc.perform(post(EMPLOYEE_BASE_URL + "/filter")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(filterRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(0)))
+                    .andExpect(jsonPath("$.totalElements").value(0));
+        }
+
+        @Test
+        @DisplayName("Should return 401 for unauthenticated request")
+        void filterEmployee_WithoutAuth_ShouldReturnUnauthorized() throws Exception {
+            mockMvc.perform(post(EMPLOYEE_BASE_URL + "/filter")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+}
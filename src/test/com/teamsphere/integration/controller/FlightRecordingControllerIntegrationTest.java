@@ -0,0 +1,156 @@
+package com.teamsphere.integration.controller;
+
+import com.teamsphere.dto.task.TaskSearchRequest;
+import com.teamsphere.integration.BaseIntegrationTest;
+import com.teamsphere.monitoring.FlightRecordingService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for FlightRecordingController.
+ * Records real requests and checks the custom TeamSphere events end up in the dump.
+ */
+@DisplayName("FlightRecordingController Integration Tests")
+class FlightRecordingControllerIntegrationTest extends BaseIntegrationTest {
+
+    private static final String RECORDING_URL = "/api/v1/admin/recording";
+
+    @Autowired
+    private FlightRecordingService flightRecordingService;
+
+    @AfterEach
+    void tearDown() {
+        flightRecordingService.closeRecording();
+    }
+
+    @Nested
+    @DisplayName("Security")
+    class SecurityTests {
+
+        @Test
+        @DisplayName("Should forbid regular users")
+        void startRecording_WithUserAuth_ShouldReturnForbidden() throws Exception {
+            mockMvc.perform(post(RECORDING_URL + "/start")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("Should reject unauthenticated requests")
+        void startRecording_WithoutAuth_ShouldReturnUnauthorized() throws Exception {
+            mockMvc.perform(post(RECORDING_URL + "/start"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Nested
+    @DisplayName("Recording lifecycle")
+    class LifecycleTests {
+
+        @Test
+        @DisplayName("Should return 404 before a recording was started")
+        void dumpRecording_WithoutRecording_ShouldReturnNotFound() throws Exception {
+            mockMvc.perform(get(RECORDING_URL + "/dump")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken)))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should start, stop and report a bounded recording")
+        void startAndStopRecording_ShouldReportState() throws Exception {
+            mockMvc.perform(post(RECORDING_URL + "/start")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.state").value("RUNNING"))
+                    .andExpect(jsonPath("$.maxSize").isNumber());
+
+            mockMvc.perform(post(RECORDING_URL + "/stop")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.state").value("STOPPED"));
+
+            mockMvc.perform(post(RECORDING_URL + "/stop")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken)))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should record request, service, JWT and search events")
+        void dumpRecording_ShouldContainCustomEvents() throws Exception {
+            mockMvc.perform(post(RECORDING_URL + "/start")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken)))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(post("/api/v1/task/search")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new TaskSearchRequest("login"))))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/v1/task")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                    .andExpect(status().isOk());
+            mockMvc.perform(post("/api/v1/task")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}"))
+                    .andExpect(status().isForbidden());
+
+            byte[] body = mockMvc.perform(get(RECORDING_URL + "/dump")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            Path file = Files.createTempFile("teamsphere-test-", ".jfr");
+            try {
+                Files.write(file, body);
+                List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+                assertThat(events).anySatisfy(event -> {
+                    assertThat(event.getEventType().getName()).isEqualTo("com.teamsphere.Search");
+                    assertThat(event.getString("entity")).isEqualTo("TaskEntity");
+                    assertThat(event.getString("queryClass")).isEqualTo("TEXT");
+                });
+                assertThat(events).anySatisfy(event -> {
+                    assertThat(event.getEventType().getName()).isEqualTo("com.teamsphere.ServiceOperation");
+                    assertThat(event.getString("service")).isEqualTo("TaskServiceImpl");
+                    assertThat(event.getString("operation")).isEqualTo("getAll");
+                });
+                assertThat(events).anySatisfy(event -> {
+                    assertThat(event.getEventType().getName()).isEqualTo("com.teamsphere.JwtVerification");
+                    assertThat(event.getString("username")).isEqualTo(USER_EMAIL);
+                    assertThat(event.getBoolean("valid")).isTrue();
+                });
+                assertThat(events).anySatisfy(event -> {
+                    assertThat(event.getEventType().getName()).isEqualTo("com.teamsphere.Request");
+                    assertThat(event.getString("endpoint")).isEqualTo("/api/v1/task");
+                    assertThat(event.getString("method")).isEqualTo("GET");
+                    assertThat(event.getString("role")).isEqualTo("ROLE_USER");
+                    assertThat(event.getInt("status")).isEqualTo(200);
+                });
+                assertThat(events).anySatisfy(event -> {
+                    assertThat(event.getEventType().getName()).isEqualTo("com.teamsphere.Request");
+                    assertThat(event.getString("method")).isEqualTo("POST");
+                    assertThat(event.getString("role")).isEqualTo("ROLE_USER");
+                    assertThat(event.getInt("status")).isEqualTo(403);
+                });
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.teamsphere.integration.controller;
 
 import com.teamsphere.dto.project.ProjectDto;
+import com.teamsphere.dto.project.ProjectFilterRequest;
 import com.teamsphere.dto.project.ProjectSearchRequest;
 import com.teamsphere.entity.CompanyEntity;
 import com.teamsphere.entity.ProjectEntity;
@@ -361,6 +362,34 @@ class ProjectControllerIntegrationTest extends BaseIntegrationTest {
                     .andExpect(jsonPath("$.content", hasSize(1)));
         }
 
+        @Test
+        @DisplayName("Should look up projects by status name")
+        void searchProject_ByStatus_ShouldReturnProjectsWithStatus() throws Exception {
+            ProjectSearchRequest searchRequest = new ProjectSearchRequest("finished");
+
+            mockMvc.perform(post(PROJECT_BASE_URL + "/search")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(searchRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].name").value("Mobile App Launch"));
+        }
+
+        @Test
+        @DisplayName("Should look up projects starting or finishing on a date")
+        void searchProject_ByDate_ShouldReturnProjectsOnDate() throws Exception {
+            ProjectSearchRequest searchRequest = new ProjectSearchRequest("2024-12-31");
+
+            mockMvc.perform(post(PROJECT_BASE_URL + "/search")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(searchRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].name").value("Web Platform Development"));
+        }
+
         @Test
         @DisplayName("Should return all projects matching 'Platform' or 'App'")
         void searchProject_WithMultipleMatches_ShouldReturnAll() throws Exception {
@@ -376,5 +405,54 @@ class ProjectControllerIntegrationTest extends BaseIntegrationTest {
                     .andExpect(jsonPath("$.content", hasSize(greaterThanOrEqualTo(1))));
         }
     }
-}
 
+    @Nested
+    @DisplayName("POST /api/v1/project/filter - Filter Projects")
+    class FilterProjectTests {
+
+        @Test
+        @DisplayName("Should filter projects by status for regular user")
+        void filterProject_ByStatus_ShouldReturnMatchingProjects() throws Exception {
+            ProjectFilterRequest filterRequest = new ProjectFilterRequest(ProjectStatus.FINISHED, null,
+                    null, null, null, null);
+
+            mockMvc.perform(post(PROJECT_BASE_URL + "/filter")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(filterRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].name").value("Mobile App Launch"));
+        }
+
+        @Test
+        @DisplayName("Should return a company's projects latest start first")
+        void filterProject_ByCompany_ShouldOrderByStartDate() throws Exception {
+            ProjectFilterRequest filterRequest = new ProjectFilterRequest(null, company.getId(),
+                    null, null, null, null);
+
+            mockMvc.perform(post(PROJECT_BASE_URL + "/filter")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(filterRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[*].name",
+                            contains("Mobile App Launch", "Web Platform Development")));
+        }
+
+        @Test
+        @DisplayName("Should filter projects by inclusive date ranges")
+        void filterProject_ByDateRanges_ShouldReturnProjectsInRange() throws Exception {
+            ProjectFilterRequest filterRequest = new ProjectFilterRequest(null, null,
+                    LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 1), null, LocalDate.of(2024, 12, 31));
+
+            mockMvc.perform(post(PROJECT_BASE_URL + "/filter")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(filterRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].name").value("Web Platform Development"));
+        }
+    }
+}
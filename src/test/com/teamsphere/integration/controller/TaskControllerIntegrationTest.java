@@ -1,6 +1,7 @@
 package com.teamsphere.integration.controller;
 
 import com.teamsphere.dto.task.TaskDto;
+import com.teamsphere.dto.task.TaskFilterRequest;
 import com.teamsphere.dto.task.TaskSearchRequest;
 import com.teamsphere.entity.DepartmentEntity;
 import com.teamsphere.entity.EmployeeEntity;
@@ -481,5 +482,64 @@ class TaskControllerIntegrationTest extends BaseIntegrationTest {
                     .andExpect(jsonPath("$.timeSpentMinutes").value(0));
         }
     }
-}
 
+    @Nested
+    @DisplayName("POST /api/v1/task/filter - Filter Tasks")
+    class FilterTaskTests {
+
+        @Test
+        @DisplayName("Should filter tasks by status for regular user")
+        void filterTask_ByStatus_ShouldReturnMatchingTasks() throws Exception {
+            TaskFilterRequest filterRequest = new TaskFilterRequest(TaskStatus.ACTIVE, null, null, null, null, null);
+
+            mockMvc.perform(post(TASK_BASE_URL + "/filter")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(filterRequest))
+                            .param("page", "0")
+                            .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].taskNumber").value("1001"))
+                    .andExpect(jsonPath("$.totalElements").value(1));
+        }
+
+        @Test
+        @DisplayName("Should return an employee's tasks most recently updated first")
+        void filterTask_ByEmployee_ShouldOrderByUpdateTime() throws Exception {
+            TaskFilterRequest filterRequest = new TaskFilterRequest(null, null, null, employee.getId(), null, null);
+
+            mockMvc.perform(post(TASK_BASE_URL + "/filter")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(filterRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[*].taskNumber", contains("2001", "1001")));
+        }
+
+        @Test
+        @DisplayName("Should combine all set conditions")
+        void filterTask_WithSeveralConditions_ShouldRequireAll() throws Exception {
+            TaskFilterRequest filterRequest = new TaskFilterRequest(TaskStatus.PENDING, TaskPriority.MEDIUM,
+                    TaskType.BUG, employee.getId(), null, LocalDateTime.now().minusDays(1));
+
+            mockMvc.perform(post(TASK_BASE_URL + "/filter")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(filterRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(0)))
+                    .andExpect(jsonPath("$.totalElements").value(0));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unknown status")
+        void filterTask_WithUnknownStatus_ShouldReturnBadRequest() throws Exception {
+            mockMvc.perform(post(TASK_BASE_URL + "/filter")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"taskStatus\":\"SLEEPING\"}"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.teamsphere.integration.datasource;
+
+import com.teamsphere.datasource.ConnectionPool;
+import com.teamsphere.datasource.PoolRoutingDataSource;
+import com.teamsphere.integration.BaseIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the named connection pools.
+ * Runs outside the test transaction, since a connection bound by the test would serve every request.
+ */
+@DisplayName("Connection Pool Integration Tests")
+@TestPropertySource(properties = {
+        "datasource.pools.enabled=true",
+        "datasource.pools.instances.auth.maximum-pool-size=2",
+        "datasource.pools.instances.oltp.maximum-pool-size=4",
+        "datasource.pools.instances.analytics.maximum-pool-size=3"
+})
+class ConnectionPoolIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should serve requests from named pools and publish metrics per pool")
+    void poolsEnabled_ShouldRouteAndPublishPoolMetrics() throws Exception {
+        assertThat(dataSource).isInstanceOf(PoolRoutingDataSource.class);
+
+        mockMvc.perform(get("/api/v1/task")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/task/search")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\":\"login\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(maxConnections(ConnectionPool.AUTH)).isEqualTo(2);
+        assertThat(maxConnections(ConnectionPool.OLTP)).isEqualTo(4);
+        assertThat(maxConnections(ConnectionPool.ANALYTICS)).isEqualTo(3);
+        assertThat(meterRegistry.get("hikaricp.connections.usage").tag("pool", ConnectionPool.ANALYTICS).timer().count())
+                .isPositive();
+    }
+
+    private double maxConnections(String pool) {
+        return meterRegistry.get("hikaricp.connections.max").tag("pool", pool).gauge().value();
+    }
+}
@@ -0,0 +1,42 @@
+package com.teamsphere.integration.datasource;
+
+import com.teamsphere.datasource.ReplicaRoutingDataSource;
+import com.teamsphere.integration.BaseIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for read replica routing, using a second pool on the same in-memory database as the replica.
+ */
+@DisplayName("Replica Routing Integration Tests")
+@TestPropertySource(properties = {
+        "datasource.replicas.enabled=true",
+        "datasource.replicas.instances[0].url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=PostgreSQL",
+        "datasource.replicas.instances[0].username=sa",
+        "datasource.replicas.instances[0].password=password",
+        "datasource.replicas.lag-query="
+})
+class ReplicaRoutingIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Should route through the replica-aware data source and serve reads")
+    void replicasEnabled_ShouldUseRoutingDataSource() throws Exception {
+        assertThat(dataSource).isInstanceOf(ReplicaRoutingDataSource.class);
+
+        mockMvc.perform(get("/api/v1/task")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk());
+    }
+}
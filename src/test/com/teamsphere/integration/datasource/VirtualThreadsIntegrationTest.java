@@ -0,0 +1,49 @@
+package com.teamsphere.integration.datasource;
+
+import com.teamsphere.datasource.BoundedAcquireDataSource;
+import com.teamsphere.integration.BaseIntegrationTest;
+import com.teamsphere.monitoring.VirtualThreadPinningMonitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the virtual-thread execution mode.
+ */
+@DisplayName("Virtual Threads Integration Tests")
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "datasource.acquire-limit.enabled=true",
+        "datasource.acquire-limit.max-connections=4"
+})
+class VirtualThreadsIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    @DisplayName("Should bound connection acquisition and watch for pinning")
+    void virtualThreadMode_ShouldWrapDataSourceAndStartPinningMonitor() throws Exception {
+        assertThat(dataSource).isInstanceOf(BoundedAcquireDataSource.class);
+        assertThat(applicationContext.getBeansOfType(VirtualThreadPinningMonitor.class)).hasSize(1);
+
+        mockMvc.perform(get("/api/v1/task")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk());
+
+        // The test transaction still holds its connection
+        assertThat(((BoundedAcquireDataSource) dataSource).availablePermits()).isEqualTo(3);
+    }
+}
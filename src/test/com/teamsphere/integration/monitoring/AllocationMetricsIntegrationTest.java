@@ -0,0 +1,56 @@
+package com.teamsphere.integration.monitoring;
+
+import com.teamsphere.integration.BaseIntegrationTest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for per-endpoint allocation accounting.
+ */
+@DisplayName("Allocation Metrics Integration Tests")
+class AllocationMetricsIntegrationTest extends BaseIntegrationTest {
+
+    private static final String METRIC_URL = "/actuator/metrics/http.server.requests.allocated";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should record allocated bytes per endpoint and expose them through actuator")
+    void getEmployees_ShouldRecordAllocationHistogram() throws Exception {
+        mockMvc.perform(get("/api/v1/employee")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk());
+
+        DistributionSummary summary = meterRegistry.find("http.server.requests.allocated")
+                .tag("uri", "/api/v1/employee")
+                .tag("method", "GET")
+                .summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isPositive();
+        assertThat(summary.totalAmount()).isPositive();
+
+        mockMvc.perform(get(METRIC_URL)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.baseUnit").value("bytes"))
+                .andExpect(jsonPath("$.availableTags[*].tag", hasItem("uri")));
+    }
+
+    @Test
+    @DisplayName("Should restrict metrics to administrators")
+    void getMetrics_WithUserAuth_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(get(METRIC_URL)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isForbidden());
+    }
+}
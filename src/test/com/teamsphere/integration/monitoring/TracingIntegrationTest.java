@@ -0,0 +1,78 @@
+package com.teamsphere.integration.monitoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.teamsphere.integration.BaseIntegrationTest;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for opt-in tracing.
+ * Enables tracing with full sampling and the file exporter and checks every layer produced a span.
+ */
+@DisplayName("Tracing Integration Tests")
+@AutoConfigureObservability(metrics = false)
+@TestPropertySource(properties = {
+        "management.tracing.enabled=true",
+        "management.tracing.sampling.probability=1.0",
+        "jdbc.datasource-proxy.enabled=true"
+})
+class TracingIntegrationTest extends BaseIntegrationTest {
+
+    @TempDir
+    static Path spanDirectory;
+
+    @DynamicPropertySource
+    static void spanFile(DynamicPropertyRegistry registry) {
+        registry.add("monitoring.tracing.file.path", () -> spanDirectory.resolve("spans.jsonl").toString());
+    }
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+
+    @Test
+    @DisplayName("Should export one trace with HTTP, security, controller, service, repository and JDBC spans")
+    void getTasks_ShouldExportSpansForEveryLayer() throws Exception {
+        mockMvc.perform(get("/api/v1/task")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk());
+
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+
+        List<JsonNode> spans = new ArrayList<>();
+        for (String line : Files.readAllLines(spanDirectory.resolve("spans.jsonl"))) {
+            spans.add(objectMapper.readTree(line));
+        }
+        String traceId = spans.stream()
+                .filter(span -> span.get("name").asText().equals("task-controller.get-all-tasks"))
+                .findFirst()
+                .orElseThrow()
+                .get("traceId").asText();
+        List<String> names = spans.stream()
+                .filter(span -> span.get("traceId").asText().equals(traceId))
+                .map(span -> span.get("name").asText())
+                .toList();
+
+        assertThat(names)
+                .contains("http get /api/v1/task", "task-service-impl.get-all", "task-repository.find-all-sorted", "query")
+                .anyMatch(name -> name.startsWith("security filterchain"));
+    }
+}
@@ -0,0 +1,123 @@
+package com.teamsphere.integration.report;
+
+import com.teamsphere.analytics.TaskColumns;
+import com.teamsphere.dto.task.TaskDto;
+import com.teamsphere.entity.TaskEntity;
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+import com.teamsphere.integration.BaseIntegrationTest;
+import com.teamsphere.repository.TaskRepository;
+import com.teamsphere.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the in-memory task aggregates, enabled in the test configuration.
+ * Most tests run outside the test transaction, since the columns only take committed writes.
+ */
+@DisplayName("Task Analytics Integration Tests")
+class TaskAnalyticsIntegrationTest extends BaseIntegrationTest {
+
+    private static final String TASKS_URL = "/api/v1/report/tasks";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskColumns taskColumns;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        taskColumns.reload();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should aggregate tasks written through the service without reloading")
+    void aggregate_ShouldFollowServiceWrites() throws Exception {
+        taskColumns.reload();
+        TaskDto first = taskService.save(taskDto(TaskStatus.PENDING, 30));
+        taskService.save(taskDto(TaskStatus.PENDING, 90));
+        TaskDto update = taskDto(TaskStatus.FINISHED, 45);
+        update.setTaskNumber(first.getTaskNumber());
+        taskService.update(update, first.getId());
+
+        mockMvc.perform(get(TASKS_URL).param("groupBy", "STATUS").param("type", "BUG")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scanned").value(2))
+                .andExpect(jsonPath("$.rows", hasSize(2)))
+                .andExpect(jsonPath("$.rows[0].status").value("PENDING"))
+                .andExpect(jsonPath("$.rows[0].minutes").value(90))
+                .andExpect(jsonPath("$.rows[1].status").value("FINISHED"))
+                .andExpect(jsonPath("$.rows[1].minutes").value(45));
+
+        taskService.delete(first.getId());
+
+        assertThat(taskColumns.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should leave the columns alone when the write rolls back")
+    void rolledBackWrite_ShouldNotShow() {
+        int size = taskColumns.size();
+
+        taskService.save(taskDto(TaskStatus.ACTIVE, 15));
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+
+        assertThat(taskColumns.size()).isEqualTo(size);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should pick up writes that bypass the services when reloading")
+    void reload_ShouldLoadTasksFromDatabase() throws Exception {
+        taskRepository.save(TaskEntity.builder()
+                .taskNumber("900").taskDescription("Imported task").taskStatus(TaskStatus.ACTIVE)
+                .taskPriority(TaskPriority.LOW).taskType(TaskType.FEATURE).timeSpentMinutes(20).build());
+
+        taskColumns.reload();
+
+        mockMvc.perform(get(TASKS_URL).param("priority", "LOW")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows", hasSize(1)))
+                .andExpect(jsonPath("$.rows[0].tasks").value(1))
+                .andExpect(jsonPath("$.rows[0].averageMinutes").value(20.0));
+    }
+
+    @Test
+    @DisplayName("Should reject aggregates for users without the admin role")
+    void aggregate_AsUser_ShouldBeForbidden() throws Exception {
+        mockMvc.perform(get(TASKS_URL).header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isForbidden());
+    }
+
+    private static TaskDto taskDto(TaskStatus status, int minutes) {
+        return TaskDto.builder()
+                .taskStatus(status.name())
+                .taskPriority(TaskPriority.HIGH.name())
+                .taskType(TaskType.BUG.name())
+                .taskDescription("Analysed task")
+                .timeSpentMinutes(minutes)
+                .build();
+    }
+}
@@ -0,0 +1,255 @@
+package com.teamsphere.integration.report;
+
+import com.teamsphere.cache.CachedResource;
+import com.teamsphere.cache.ResourceGenerations;
+import com.teamsphere.dto.report.ReportDimension;
+import com.teamsphere.dto.report.TimeSpentReportRequest;
+import com.teamsphere.entity.*;
+import com.teamsphere.entity.enums.ProjectStatus;
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+import com.teamsphere.integration.BaseIntegrationTest;
+import com.teamsphere.report.TimeSpentReports;
+import com.teamsphere.repository.*;
+import com.teamsphere.service.ReportService;
+import com.teamsphere.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the time spent report. H2 has no {@code GROUP BY ROLLUP}, so these run the
+ * {@code UNION ALL} form of the report.
+ */
+@DisplayName("Time Spent Report Integration Tests")
+class TimeSpentReportIntegrationTest extends BaseIntegrationTest {
+
+    private static final String REPORT_URL = "/api/v1/report/time-spent";
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private TimeSpentReports timeSpentReports;
+
+    @Autowired
+    private ResourceGenerations generations;
+
+    private DepartmentEntity engineering;
+    private DepartmentEntity sales;
+    private EmployeeEntity ada;
+    private EmployeeEntity bob;
+    private EmployeeEntity cleo;
+    private ProjectEntity apollo;
+    private ProjectEntity gemini;
+    private TaskEntity cleosTask;
+
+    @BeforeEach
+    void setUp() {
+        // Reports cached by other tests were computed from their rolled back rows.
+        generations.bump(CachedResource.TASK);
+        LocalDateTime now = LocalDateTime.now();
+        CompanyEntity company = companyRepository.save(CompanyEntity.builder()
+                .name("Report Corp").industry("Analytics").address("1 Rollup Rd").email("info@report.com")
+                .createdAt(now).updatedAt(now).build());
+        apollo = project(company, "Apollo");
+        gemini = project(company, "Gemini");
+        engineering = department("Engineering");
+        sales = department("Sales");
+        PositionEntity position = positionRepository.save(PositionEntity.builder()
+                .positionName("Analyst").yearsOfExperience(2).createdAt(now).updatedAt(now).build());
+        ada = employee("Ada", engineering, position, Set.of(apollo, gemini));
+        bob = employee("Bob", engineering, position, Set.of(apollo));
+        cleo = employee("Cleo", sales, position, Set.of());
+        task(ada, 30, TaskStatus.ACTIVE, TaskType.BUG);
+        task(ada, 60, TaskStatus.ACTIVE, TaskType.BUG);
+        task(bob, 45, TaskStatus.ACTIVE, TaskType.FEATURE);
+        task(bob, null, TaskStatus.PENDING, TaskType.BUG);
+        cleosTask = task(cleo, 120, TaskStatus.ACTIVE, TaskType.BUG);
+    }
+
+    @Test
+    @DisplayName("Should roll time spent up from employees to departments and the total")
+    void timeSpent_ByDepartmentAndEmployee_ShouldRollUp() throws Exception {
+        report("groupBy", "DEPARTMENT,EMPLOYEE")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupBy[1]").value("EMPLOYEE"))
+                .andExpect(jsonPath("$.rows", hasSize(6)))
+                .andExpect(jsonPath("$.rows[0].groups[0].name").value("Engineering"))
+                .andExpect(jsonPath("$.rows[0].groups[1].id").value(ada.getId()))
+                .andExpect(jsonPath("$.rows[0].groups[1].name").value("Ada Analyst"))
+                .andExpect(jsonPath("$.rows[0].minutes").value(90))
+                .andExpect(jsonPath("$.rows[1].groups[1].id").value(bob.getId()))
+                .andExpect(jsonPath("$.rows[1].tasks").value(2))
+                .andExpect(jsonPath("$.rows[1].tasksWithTime").value(1))
+                .andExpect(jsonPath("$.rows[1].averageMinutes").value(45.0))
+                .andExpect(jsonPath("$.rows[2].groups", hasSize(1)))
+                .andExpect(jsonPath("$.rows[2].groups[0].id").value(engineering.getId()))
+                .andExpect(jsonPath("$.rows[2].tasks").value(4))
+                .andExpect(jsonPath("$.rows[2].minutes").value(135))
+                .andExpect(jsonPath("$.rows[3].groups[1].id").value(cleo.getId()))
+                .andExpect(jsonPath("$.rows[4].groups[0].id").value(sales.getId()))
+                .andExpect(jsonPath("$.rows[4].minutes").value(120))
+                .andExpect(jsonPath("$.rows[5].groups", hasSize(0)))
+                .andExpect(jsonPath("$.rows[5].tasks").value(5))
+                .andExpect(jsonPath("$.rows[5].tasksWithTime").value(4))
+                .andExpect(jsonPath("$.rows[5].minutes").value(255))
+                .andExpect(jsonPath("$.rows[5].averageMinutes").value(63.75));
+    }
+
+    @Test
+    @DisplayName("Should attribute tasks to every project of their employee but count them once per company")
+    void timeSpent_ByCompanyAndProject_ShouldCountAllocationsOnce() throws Exception {
+        report("groupBy", "COMPANY,PROJECT")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows", hasSize(4)))
+                .andExpect(jsonPath("$.rows[0].groups[1].id").value(apollo.getId()))
+                .andExpect(jsonPath("$.rows[0].tasks").value(4))
+                .andExpect(jsonPath("$.rows[0].minutes").value(135))
+                .andExpect(jsonPath("$.rows[1].groups[1].id").value(gemini.getId()))
+                .andExpect(jsonPath("$.rows[1].tasks").value(2))
+                .andExpect(jsonPath("$.rows[1].minutes").value(90))
+                .andExpect(jsonPath("$.rows[2].groups", hasSize(1)))
+                .andExpect(jsonPath("$.rows[2].groups[0].name").value("Report Corp"))
+                .andExpect(jsonPath("$.rows[2].tasks").value(4))
+                .andExpect(jsonPath("$.rows[2].tasksWithTime").value(3))
+                .andExpect(jsonPath("$.rows[2].minutes").value(135))
+                .andExpect(jsonPath("$.rows[2].averageMinutes").value(45.0))
+                .andExpect(jsonPath("$.rows[3].groups", hasSize(0)))
+                .andExpect(jsonPath("$.rows[3].tasks").value(4))
+                .andExpect(jsonPath("$.rows[3].minutes").value(135));
+    }
+
+    @Test
+    @DisplayName("Should count each task once in the levels above the project")
+    void timeSpent_ByDepartmentAndProject_ShouldNotInflateSubtotals() throws Exception {
+        report("groupBy", "DEPARTMENT,PROJECT")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows", hasSize(4)))
+                .andExpect(jsonPath("$.rows[0].groups[1].id").value(apollo.getId()))
+                .andExpect(jsonPath("$.rows[0].tasks").value(4))
+                .andExpect(jsonPath("$.rows[1].groups[1].id").value(gemini.getId()))
+                .andExpect(jsonPath("$.rows[1].tasks").value(2))
+                .andExpect(jsonPath("$.rows[2].groups[0].id").value(engineering.getId()))
+                .andExpect(jsonPath("$.rows[2].tasks").value(4))
+                .andExpect(jsonPath("$.rows[2].minutes").value(135))
+                .andExpect(jsonPath("$.rows[3].tasks").value(4))
+                .andExpect(jsonPath("$.rows[3].minutes").value(135));
+    }
+
+    @Test
+    @DisplayName("Should only count tasks matching the filters")
+    void timeSpent_WithFilters_ShouldReturnFilteredTotal() throws Exception {
+        mockMvc.perform(get(REPORT_URL).param("status", "ACTIVE", "PENDING").param("type", "BUG")
+                        .param("priority", "HIGH")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows", hasSize(1)))
+                .andExpect(jsonPath("$.rows[0].tasks").value(4))
+                .andExpect(jsonPath("$.rows[0].minutes").value(210));
+    }
+
+    @Test
+    @DisplayName("Should serve a report from the cache until the next write")
+    void timeSpent_ShouldBeCachedUntilWrite() {
+        TimeSpentReportRequest request = new TimeSpentReportRequest(List.of(ReportDimension.DEPARTMENT),
+                null, null, null);
+        long misses = timeSpentReports.misses();
+        long hits = timeSpentReports.hits();
+
+        assertThat(reportService.timeSpent(request).rows().getLast().tasks()).isEqualTo(5);
+        assertThat(reportService.timeSpent(request).rows().getLast().tasks()).isEqualTo(5);
+        assertThat(timeSpentReports.misses()).isEqualTo(misses + 1);
+        assertThat(timeSpentReports.hits()).isEqualTo(hits + 1);
+
+        // Generations move once the writing transaction completes; rolling it back also drops the test rows.
+        taskService.delete(cleosTask.getId());
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+
+        assertThat(reportService.timeSpent(request).rows()).singleElement()
+                .satisfies(total -> assertThat(total.tasks()).isZero());
+        assertThat(timeSpentReports.misses()).isEqualTo(misses + 2);
+    }
+
+    @Test
+    @DisplayName("Should reject reports for users without the admin role")
+    void timeSpent_AsUser_ShouldBeForbidden() throws Exception {
+        mockMvc.perform(get(REPORT_URL).header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isForbidden());
+    }
+
+    private ResultActions report(String name, String value) throws Exception {
+        return mockMvc.perform(get(REPORT_URL).param(name, value)
+                .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken)));
+    }
+
+    private ProjectEntity project(CompanyEntity company, String name) {
+        LocalDateTime now = LocalDateTime.now();
+        return projectRepository.save(ProjectEntity.builder()
+                .name(name).description(name + " project").startDate(LocalDate.of(2025, 1, 1))
+                .status(ProjectStatus.IN_PROGRESS).company(company).createdAt(now).updatedAt(now).build());
+    }
+
+    private DepartmentEntity department(String name) {
+        LocalDateTime now = LocalDateTime.now();
+        return departmentRepository.save(DepartmentEntity.builder()
+                .departmentName(name).description(name + " department").createdAt(now).updatedAt(now).build());
+    }
+
+    private EmployeeEntity employee(String firstName, DepartmentEntity department, PositionEntity position,
+                                    Set<ProjectEntity> projects) {
+        LocalDateTime now = LocalDateTime.now();
+        return employeeRepository.save(EmployeeEntity.builder()
+                .firstName(firstName).lastName("Analyst").address("Report Street")
+                .email(firstName.toLowerCase() + "@report.com").department(department).position(position)
+                .projects(new LinkedHashSet<>(projects)).tasks(new LinkedHashSet<>())
+                .createdAt(now).updatedAt(now).build());
+    }
+
+    private TaskEntity task(EmployeeEntity employee, Integer minutes, TaskStatus status, TaskType type) {
+        LocalDateTime now = LocalDateTime.now();
+        return taskRepository.save(TaskEntity.builder()
+                .taskNumber("R-" + taskRepository.count()).taskDescription("Report task").taskStatus(status)
+                .taskPriority(TaskPriority.HIGH).taskType(type).timeSpentMinutes(minutes).employee(employee)
+                .createdAt(now).updatedAt(now).build());
+    }
+}
@@ -6,12 +6,14 @@ import com.teamsphere.entity.enums.TaskPriority;
 import com.teamsphere.entity.enums.TaskStatus;
 import com.teamsphere.entity.enums.TaskType;
 import com.teamsphere.repository.*;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
@@ -32,6 +34,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("Repository Integration Tests")
 class RepositoryIntegrationTest {
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Autowired
     private CompanyRepository companyRepository;
 
@@ -260,10 +265,13 @@ class RepositoryIntegrationTest {
                     .updatedAt(LocalDateTime.now())
                     .build();
             employee2 = employeeRepository.save(employee2);
+            entityManager.flush();
+            entityManager.clear();
 
             List<EmployeeEntity> employees = employeeRepository.findAllWithRelations();
 
             assertThat(employees).hasSize(2);
+            assertThat(employees).allMatch(e -> entityManager.getEntityManager().unwrap(Session.class).isReadOnly(e));
             // Verify relations are loaded
             employees.forEach(e -> {
                 assertThat(e.getDepartment().getDepartmentName()).isEqualTo("Engineering");
@@ -271,6 +279,32 @@ class RepositoryIntegrationTest {
             });
         }
 
+        @Test
+        @DisplayName("Should page employee IDs and load only that page with relations")
+        void findPageOfIdsWithRelations() {
+            EmployeeEntity employee2 = employeeRepository.save(EmployeeEntity.builder()
+                    .firstName("Jane")
+                    .lastName("Smith")
+                    .pin("0987654321")
+                    .address("789 Employee Blvd")
+                    .email("jane.smith@company.com")
+                    .department(department)
+                    .position(position)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+            entityManager.flush();
+            entityManager.clear();
+
+            Page<Long> ids = employeeRepository.findPageOfIds(PageRequest.of(0, 1));
+            List<EmployeeEntity> employees = employeeRepository.findAllWithRelationsByIdIn(ids.getContent());
+
+            assertThat(ids.getContent()).containsExactly(employee2.getId());
+            assertThat(ids.getTotalElements()).isEqualTo(2);
+            assertThat(employees).extracting(EmployeeEntity::getId).containsExactly(employee2.getId());
+            assertThat(employees.getFirst().getDepartment().getDepartmentName()).isEqualTo("Engineering");
+        }
+
         @Test
         @DisplayName("Should save employee with department and position")
         void saveEmployeeWithRelations() {
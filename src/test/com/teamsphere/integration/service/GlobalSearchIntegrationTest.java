@@ -0,0 +1,78 @@
+package com.teamsphere.integration.service;
+
+import com.teamsphere.entity.CompanyEntity;
+import com.teamsphere.integration.BaseIntegrationTest;
+import com.teamsphere.repository.CompanyRepository;
+import com.teamsphere.search.SearchSessions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the global search endpoint.
+ * Runs outside the test transaction, since the searches of the four resources run on their own threads and
+ * only see committed rows.
+ */
+@DisplayName("Global Search Integration Tests")
+class GlobalSearchIntegrationTest extends BaseIntegrationTest {
+
+    private static final String SEARCH_URL = "/api/v1/search";
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private SearchSessions searchSessions;
+
+    @AfterEach
+    void tearDown() {
+        companyRepository.deleteAll();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should search all resources at once")
+    void search_ShouldReturnMatchesOfEveryResource() throws Exception {
+        companyRepository.save(CompanyEntity.builder()
+                .name("Globex Corporation").industry("Energy").address("1 Cypress Creek").email("info@globex.com")
+                .build());
+
+        mockMvc.perform(post(SEARCH_URL)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken))
+                        .header("X-Search-Session", "global")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\":\"globex\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.companies.items", hasSize(1)))
+                .andExpect(jsonPath("$.companies.items[0].name").value("Globex Corporation"))
+                .andExpect(jsonPath("$.companies.complete").value(true))
+                .andExpect(jsonPath("$.employees.complete").value(true))
+                .andExpect(jsonPath("$.projects.complete").value(true))
+                .andExpect(jsonPath("$.tasks.complete").value(true))
+                .andExpect(jsonPath("$.tasks.items", hasSize(0)));
+
+        assertThat(searchSessions.running()).isZero();
+        assertThat(SearchSessions.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject global search for users without the admin role")
+    void search_AsUser_ShouldBeForbidden() throws Exception {
+        mockMvc.perform(post(SEARCH_URL)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\":\"globex\"}"))
+                .andExpect(status().isForbidden());
+    }
+}
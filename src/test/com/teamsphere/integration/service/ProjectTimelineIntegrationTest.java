@@ -0,0 +1,137 @@
+package com.teamsphere.integration.service;
+
+import com.teamsphere.entity.*;
+import com.teamsphere.entity.enums.ProjectStatus;
+import com.teamsphere.integration.BaseIntegrationTest;
+import com.teamsphere.repository.*;
+import com.teamsphere.timeline.ProjectTimeline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the project timeline endpoints. H2 has no range types, so active projects are matched
+ * on start and finish dates here.
+ */
+@DisplayName("Project Timeline Integration Tests")
+class ProjectTimelineIntegrationTest extends BaseIntegrationTest {
+
+    private static final LocalDate MAR_1 = LocalDate.of(2025, 3, 1);
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ProjectTimeline projectTimeline;
+
+    private ProjectEntity winter;
+    private ProjectEntity spring;
+    private ProjectEntity ongoing;
+    private EmployeeEntity employee;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        CompanyEntity company = companyRepository.save(CompanyEntity.builder()
+                .name("Timeline Corp").industry("Planning").address("1 Calendar Ct").email("info@timeline.com")
+                .createdAt(now).updatedAt(now).build());
+        winter = project(company, "Winter", MAR_1.minusMonths(3), MAR_1.minusDays(1));
+        spring = project(company, "Spring", MAR_1.minusDays(10), MAR_1.plusMonths(3));
+        ongoing = project(company, "Ongoing", MAR_1.plusDays(10), null);
+        DepartmentEntity department = departmentRepository.save(DepartmentEntity.builder()
+                .departmentName("Planning").description("Plans").createdAt(now).updatedAt(now).build());
+        PositionEntity position = positionRepository.save(PositionEntity.builder()
+                .positionName("Planner").yearsOfExperience(3).createdAt(now).updatedAt(now).build());
+        employee = employeeRepository.save(EmployeeEntity.builder()
+                .firstName("Tina").lastName("Timeline").pin("1234567890").address("Calendar Street")
+                .email("tina@timeline.com").department(department).position(position)
+                .projects(new LinkedHashSet<>(List.of(winter, spring, ongoing))).tasks(new LinkedHashSet<>())
+                .createdAt(now).updatedAt(now).build());
+    }
+
+    @Test
+    @DisplayName("Should list projects active in a window, latest start first")
+    void getActiveProjects_ShouldReturnProjectsOverlappingWindow() throws Exception {
+        assertThat(projectTimeline.rangeIndexed()).isFalse();
+
+        mockMvc.perform(get("/api/v1/project/active")
+                        .param("from", MAR_1.minusDays(1).toString()).param("to", MAR_1.plusDays(10).toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[*].name").value(contains("Ongoing", "Spring", "Winter")));
+
+        mockMvc.perform(get("/api/v1/project/active")
+                        .param("from", MAR_1.toString()).param("to", MAR_1.plusDays(9).toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name").value(contains("Spring")));
+    }
+
+    @Test
+    @DisplayName("Should return nothing for a window ending before it starts")
+    void getActiveProjects_WithInvertedWindow_ShouldBeEmpty() throws Exception {
+        mockMvc.perform(get("/api/v1/project/active")
+                        .param("from", MAR_1.toString()).param("to", MAR_1.minusDays(1).toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Should list the overlapping projects of an employee")
+    void getProjectOverlaps_ShouldReturnOverlappingPairs() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/{id}/project-overlaps", employee.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].first.id").value(winter.getId()))
+                .andExpect(jsonPath("$[0].second.id").value(spring.getId()))
+                .andExpect(jsonPath("$[0].from").value(MAR_1.minusDays(10).toString()))
+                .andExpect(jsonPath("$[0].to").value(MAR_1.minusDays(1).toString()))
+                .andExpect(jsonPath("$[1].first.name").value("Spring"))
+                .andExpect(jsonPath("$[1].second.id").value(ongoing.getId()))
+                .andExpect(jsonPath("$[1].to").value(MAR_1.plusMonths(3).toString()));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for the overlaps of an unknown employee")
+    void getProjectOverlaps_UnknownEmployee_ShouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/{id}/project-overlaps", Long.MAX_VALUE)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isNotFound());
+    }
+
+    private ProjectEntity project(CompanyEntity company, String name, LocalDate start, LocalDate finish) {
+        LocalDateTime now = LocalDateTime.now();
+        return projectRepository.save(ProjectEntity.builder()
+                .name(name).description(name + " project").startDate(start).finishDate(finish)
+                .status(ProjectStatus.IN_PROGRESS).company(company).createdAt(now).updatedAt(now).build());
+    }
+}
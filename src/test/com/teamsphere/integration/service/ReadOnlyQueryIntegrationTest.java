@@ -0,0 +1,83 @@
+package com.teamsphere.integration.service;
+
+import com.teamsphere.dto.employee.EmployeeSearchRequest;
+import com.teamsphere.entity.DepartmentEntity;
+import com.teamsphere.entity.EmployeeEntity;
+import com.teamsphere.entity.PositionEntity;
+import com.teamsphere.integration.BaseIntegrationTest;
+import com.teamsphere.service.EmployeeService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for read-only query paths.
+ * Runs inside the writable test transaction to check the query hints on their own.
+ */
+@DisplayName("Read-Only Query Integration Tests")
+class ReadOnlyQueryIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private EmployeeEntity employee;
+
+    @BeforeEach
+    void setUp() {
+        DepartmentEntity department = DepartmentEntity.builder()
+                .departmentName("Engineering")
+                .description("Software Engineering Department")
+                .createdAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(department);
+
+        PositionEntity position = PositionEntity.builder()
+                .positionName("Software Developer")
+                .yearsOfExperience(3)
+                .createdAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(position);
+
+        employee = EmployeeEntity.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .pin("1234567890")
+                .address("123 Main Street")
+                .email("john.doe@company.com")
+                .department(department)
+                .position(position)
+                .createdAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(employee);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Search results should be loaded read-only and never flushed")
+    void find_ShouldLoadEntitiesReadOnly() {
+        assertThat(employeeService.find(new EmployeeSearchRequest("John"), PageRequest.of(0, 20)).getContent())
+                .hasSize(1);
+
+        EmployeeEntity loaded = entityManager.find(EmployeeEntity.class, employee.getId());
+        assertThat(entityManager.unwrap(Session.class).isReadOnly(loaded)).isTrue();
+
+        loaded.setFirstName("Changed");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(entityManager.find(EmployeeEntity.class, employee.getId()).getFirstName()).isEqualTo("John");
+    }
+}
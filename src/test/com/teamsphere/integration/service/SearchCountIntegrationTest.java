@@ -0,0 +1,125 @@
+package com.teamsphere.integration.service;
+
+import com.teamsphere.dto.company.CompanyDto;
+import com.teamsphere.dto.company.CompanySearchRequest;
+import com.teamsphere.entity.CompanyEntity;
+import com.teamsphere.integration.BaseIntegrationTest;
+import com.teamsphere.repository.CompanyRepository;
+import com.teamsphere.search.CountMode;
+import com.teamsphere.search.SearchCounting;
+import com.teamsphere.service.impl.CompanyServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the ways a search obtains its total.
+ */
+@DisplayName("Search Count Integration Tests")
+class SearchCountIntegrationTest extends BaseIntegrationTest {
+
+    private static final int MATCHES = 5;
+    private static final CompanySearchRequest REQUEST = new CompanySearchRequest("Counted");
+
+    @Autowired
+    private CompanyServiceImpl companyService;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private SearchCounting searchCounting;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < MATCHES; i++) {
+            companyRepository.save(CompanyEntity.builder()
+                    .name("Counted Company " + i).industry("Software").address(i + " Count Street")
+                    .email("info" + i + "@counted.com").createdAt(LocalDateTime.now()).build());
+        }
+        companyRepository.save(CompanyEntity.builder()
+                .name("Other Company").industry("Retail").address("1 Other Street")
+                .email("info@other.com").createdAt(LocalDateTime.now()).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        companyService.setSearchCounting(searchCounting);
+    }
+
+    private Page<CompanyDto> find(int page) {
+        return companyService.find(REQUEST, PageRequest.of(page, 2));
+    }
+
+    @Test
+    @DisplayName("Should count matches with a window column on every page")
+    void windowMode_ShouldReportExactTotal() {
+        assertThat(searchCounting.mode()).isEqualTo(CountMode.WINDOW);
+
+        for (int page = 0; page <= 3; page++) {
+            Page<CompanyDto> result = find(page);
+            assertThat(result.getTotalElements()).isEqualTo(MATCHES);
+            assertThat(result.getContent()).hasSize(Math.max(0, Math.min(2, MATCHES - page * 2)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should count matches with a separate query")
+    void separateMode_ShouldReportExactTotal() {
+        companyService.setSearchCounting(SearchCounting.SEPARATE);
+
+        assertThat(find(0).getTotalElements()).isEqualTo(MATCHES);
+        assertThat(find(2).getContent()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should report a lower bound without counting")
+    void noneMode_ShouldReportLowerBound() {
+        companyService.setSearchCounting(new SearchCounting(CountMode.NONE, 0, Duration.ZERO, 0, null));
+
+        Page<CompanyDto> first = find(0);
+        Page<CompanyDto> last = find(2);
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.getTotalElements()).isEqualTo(MATCHES);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should count matches exactly up to the cap")
+    void cappedMode_BelowCap_ShouldReportExactTotal() {
+        companyService.setSearchCounting(new SearchCounting(CountMode.CAPPED, 10, Duration.ZERO, 0, null));
+
+        assertThat(find(0).getTotalElements()).isEqualTo(MATCHES);
+        assertThat(find(1).getTotalElements()).isEqualTo(MATCHES);
+        assertThat(find(2).getContent()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should report a lower bound once the matches exceed the cap")
+    void cappedMode_AboveCap_ShouldReportLowerBound() {
+        companyService.setSearchCounting(new SearchCounting(CountMode.CAPPED, 3, Duration.ZERO, 0, null));
+
+        Page<CompanyDto> first = find(0);
+        Page<CompanyDto> last = find(2);
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.getTotalElements()).isEqualTo(4);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.getTotalElements()).isEqualTo(MATCHES);
+        assertThat(last.hasNext()).isFalse();
+    }
+}
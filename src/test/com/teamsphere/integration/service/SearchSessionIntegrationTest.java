@@ -0,0 +1,103 @@
+package com.teamsphere.integration.service;
+
+import com.teamsphere.dto.company.CompanySearchRequest;
+import com.teamsphere.exception.SearchSupersededException;
+import com.teamsphere.integration.BaseIntegrationTest;
+import com.teamsphere.search.SearchSession;
+import com.teamsphere.search.SearchSessions;
+import com.teamsphere.service.CompanyService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.QueryTimeoutException;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for cancelling the searches of a search session.
+ * The cancelled statement runs outside the test transaction: the pool discards a connection whose statement
+ * H2 reports as timed out, so the transaction could not be rolled back.
+ */
+@DisplayName("Search Session Integration Tests")
+class SearchSessionIntegrationTest extends BaseIntegrationTest {
+
+    private static final String SLOW_QUERY =
+            "SELECT count(*) FROM system_range(1, 30000) a, system_range(1, 30000) b WHERE a.x + b.x = 7";
+
+    @Autowired
+    private SearchSessions searchSessions;
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should cancel the running statement of a superseded search")
+    void supersede_ShouldCancelRunningStatement() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        SearchSession search = searchSessions.begin("user\u0000typeahead");
+        try {
+            search.attach(entityManager.unwrap(SessionImplementor.class));
+            CompletableFuture.runAsync(() -> searchSessions.end("user\u0000typeahead",
+                            searchSessions.begin("user\u0000typeahead")),
+                    CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS));
+            long start = System.nanoTime();
+
+            assertThatThrownBy(() -> entityManager.createNativeQuery(SLOW_QUERY).getSingleResult())
+                    .isInstanceOf(QueryTimeoutException.class);
+            assertThat(search.isSuperseded()).isTrue();
+            assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(10));
+        } finally {
+            search.detach();
+            searchSessions.end("user\u0000typeahead", search);
+            entityManager.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop a superseded search before it queries")
+    void find_WhenSuperseded_ShouldThrow() {
+        SearchSession search = searchSessions.begin("user\u0000stale");
+        try {
+            CompletableFuture.runAsync(() -> searchSessions.end("user\u0000stale",
+                    searchSessions.begin("user\u0000stale"))).join();
+            CompanySearchRequest request = new CompanySearchRequest("Acme");
+
+            assertThatThrownBy(() -> companyService.find(request, PageRequest.of(0, 10)))
+                    .isInstanceOf(SearchSupersededException.class);
+        } finally {
+            searchSessions.end("user\u0000stale", search);
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer a search with a session header and release the session")
+    void search_WithSessionHeader_ShouldReleaseSession() throws Exception {
+        mockMvc.perform(post("/api/v1/company/search")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken))
+                        .header("X-Search-Session", "company-typeahead")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\":\"Acme\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(searchSessions.running()).isZero();
+        assertThat(SearchSessions.current()).isNull();
+    }
+}
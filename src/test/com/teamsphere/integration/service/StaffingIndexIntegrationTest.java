@@ -0,0 +1,178 @@
+package com.teamsphere.integration.service;
+
+import com.teamsphere.dto.employee.EmployeeDto;
+import com.teamsphere.dto.employee.ProjectInfo;
+import com.teamsphere.entity.*;
+import com.teamsphere.entity.enums.ProjectStatus;
+import com.teamsphere.integration.BaseIntegrationTest;
+import com.teamsphere.repository.*;
+import com.teamsphere.service.EmployeeService;
+import com.teamsphere.staffing.StaffingIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the staffing endpoints.
+ * Most tests run outside the test transaction, since the index only takes committed writes.
+ */
+@DisplayName("Staffing Index Integration Tests")
+class StaffingIndexIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private StaffingIndex staffingIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CompanyEntity company;
+    private ProjectEntity alpha;
+    private ProjectEntity beta;
+    private DepartmentEntity department;
+    private PositionEntity position;
+    private final List<Long> employeeIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            company = companyRepository.save(CompanyEntity.builder()
+                    .name("Staffing Corp").industry("Staffing").address("1 Team Ct").email("info@staffing.com")
+                    .createdAt(now).updatedAt(now).build());
+            alpha = project("Alpha");
+            beta = project("Beta");
+            department = departmentRepository.save(DepartmentEntity.builder()
+                    .departmentName("Staffing").description("Staffs").createdAt(now).updatedAt(now).build());
+            position = positionRepository.save(PositionEntity.builder()
+                    .positionName("Staffer").yearsOfExperience(3).createdAt(now).updatedAt(now).build());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeIds.stream().filter(employeeRepository::existsById).forEach(employeeRepository::deleteById);
+        projectRepository.deleteAll(List.of(alpha, beta));
+        departmentRepository.delete(department);
+        positionRepository.delete(position);
+        companyRepository.delete(company);
+        staffingIndex.reload();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should follow project assignments made through the employee service without reloading")
+    void staff_ShouldFollowServiceWrites() throws Exception {
+        staffingIndex.reload();
+        EmployeeDto first = save("Anna", alpha, beta);
+        EmployeeDto second = save("Boris", alpha);
+
+        mockMvc.perform(get("/api/v1/project/staff/shared")
+                        .param("projectId", alpha.getId().toString(), beta.getId().toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employeeIds", contains(first.getId().intValue())));
+
+        second.setProjects(List.of(new ProjectInfo(alpha.getId(), "Alpha"), new ProjectInfo(beta.getId(), "Beta")));
+        employeeService.update(second, second.getId());
+
+        mockMvc.perform(get("/api/v1/project/{id}/staff-overlaps", alpha.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].projectId").value(beta.getId()))
+                .andExpect(jsonPath("$[0].sharedEmployees").value(2));
+
+        employeeService.delete(first.getId());
+
+        mockMvc.perform(get("/api/v1/project/staff/counts").param("projectId", alpha.getId().toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employees").value(1))
+                .andExpect(jsonPath("$[0].byDepartment." + department.getId()).value(1));
+    }
+
+    @Test
+    @DisplayName("Should leave the index alone when the write rolls back")
+    void rolledBackWrite_ShouldNotShow() {
+        save("Carla", alpha);
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+
+        assertThat(staffingIndex.shared(List.of(alpha.getId()), null).employeeIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject shared staff requests without a project")
+    void getSharedStaff_WithoutProject_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/project/staff/shared").param("projectId", "")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 404 for the staff overlaps of an unknown project")
+    void getStaffOverlaps_UnknownProject_ShouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/project/{id}/staff-overlaps", Long.MAX_VALUE)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isNotFound());
+    }
+
+    private EmployeeDto save(String firstName, ProjectEntity... projects) {
+        EmployeeDto saved = employeeService.save(EmployeeDto.builder()
+                .firstName(firstName).lastName("Staffed").pin("1234567890").address("Team Street")
+                .email(firstName.toLowerCase() + "@staffing.com").departmentId(department.getId())
+                .positionId(position.getId())
+                .projects(Arrays.stream(projects)
+                        .map(project -> new ProjectInfo(project.getId(), project.getName())).toList())
+                .tasks(List.of())
+                .build());
+        employeeIds.add(saved.getId());
+        return saved;
+    }
+
+    private ProjectEntity project(String name) {
+        LocalDateTime now = LocalDateTime.now();
+        return projectRepository.save(ProjectEntity.builder()
+                .name(name).description(name + " project").startDate(LocalDate.of(2025, 3, 1))
+                .status(ProjectStatus.IN_PROGRESS).company(company).createdAt(now).updatedAt(now).build());
+    }
+}
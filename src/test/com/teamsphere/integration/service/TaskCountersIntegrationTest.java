@@ -0,0 +1,190 @@
+package com.teamsphere.integration.service;
+
+import com.teamsphere.dto.task.TaskDto;
+import com.teamsphere.entity.DepartmentEntity;
+import com.teamsphere.entity.EmployeeEntity;
+import com.teamsphere.entity.PositionEntity;
+import com.teamsphere.entity.TaskEntity;
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+import com.teamsphere.integration.BaseIntegrationTest;
+import com.teamsphere.repository.DepartmentRepository;
+import com.teamsphere.repository.EmployeeRepository;
+import com.teamsphere.repository.PositionRepository;
+import com.teamsphere.repository.TaskRepository;
+import com.teamsphere.service.EmployeeService;
+import com.teamsphere.service.TaskService;
+import com.teamsphere.stats.TaskCounters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the task counters.
+ * Most tests run outside the test transaction, since the counters only take committed writes.
+ */
+@DisplayName("Task Counters Integration Tests")
+class TaskCountersIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCounters taskCounters;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        employeeRepository.deleteAll();
+        positionRepository.deleteAll();
+        departmentRepository.deleteAll();
+        taskCounters.reconcile();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should count created, updated and deleted tasks without recounting")
+    void writes_ShouldAdjustCounts() {
+        taskCounters.reconcile();
+        long pending = count(TaskStatus.PENDING);
+        long active = count(TaskStatus.ACTIVE);
+
+        TaskDto created = taskService.save(taskDto(TaskStatus.PENDING));
+        assertThat(count(TaskStatus.PENDING)).isEqualTo(pending + 1);
+
+        TaskDto update = taskDto(TaskStatus.ACTIVE);
+        update.setTaskNumber(created.getTaskNumber());
+        taskService.update(update, created.getId());
+        assertThat(count(TaskStatus.PENDING)).isEqualTo(pending);
+        assertThat(count(TaskStatus.ACTIVE)).isEqualTo(active + 1);
+        assertThat(taskService.stats(List.of()).byType().get(TaskType.BUG)).containsEntry(TaskStatus.ACTIVE, 1L);
+
+        taskService.delete(created.getId());
+        assertThat(count(TaskStatus.ACTIVE)).isEqualTo(active);
+    }
+
+    @Test
+    @DisplayName("Should leave the counts alone when the write rolls back")
+    void rolledBackWrite_ShouldNotCount() {
+        long pending = count(TaskStatus.PENDING);
+
+        taskService.save(taskDto(TaskStatus.PENDING));
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+
+        assertThat(count(TaskStatus.PENDING)).isEqualTo(pending);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should pick up writes that bypass the services when recounting")
+    void reconcile_ShouldCountWritesBypassingServices() {
+        taskCounters.reconcile();
+        long finished = count(TaskStatus.FINISHED);
+        taskRepository.save(TaskEntity.builder()
+                .taskNumber("900").taskDescription("Imported task").taskStatus(TaskStatus.FINISHED)
+                .taskPriority(TaskPriority.LOW).taskType(TaskType.FEATURE).build());
+        assertThat(count(TaskStatus.FINISHED)).isEqualTo(finished);
+
+        taskCounters.reconcile();
+
+        assertThat(count(TaskStatus.FINISHED)).isEqualTo(finished + 1);
+        assertThat(taskService.stats(List.of()).reconciledAt()).isNotNull();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should take the tasks of a deleted employee off the counts without recounting")
+    void employeeDelete_ShouldUncountTasks() {
+        TaskDto task = taskService.save(taskDto(TaskStatus.ACTIVE));
+        EmployeeEntity employee = transaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            DepartmentEntity department = departmentRepository.save(DepartmentEntity.builder()
+                    .departmentName("Counting").description("Counting department").createdAt(now).updatedAt(now)
+                    .build());
+            PositionEntity position = positionRepository.save(PositionEntity.builder()
+                    .positionName("Counter").yearsOfExperience(1).createdAt(now).updatedAt(now).build());
+            EmployeeEntity saved = employeeRepository.save(EmployeeEntity.builder()
+                    .firstName("Carl").lastName("Counter").address("Count Street").email("carl@count.com")
+                    .department(department).position(position).createdAt(now).updatedAt(now).build());
+            taskRepository.findById(task.getId()).orElseThrow().setEmployee(saved);
+            return saved;
+        });
+        taskCounters.reconcile();
+        long active = count(TaskStatus.ACTIVE);
+
+        employeeService.delete(employee.getId());
+
+        assertThat(count(TaskStatus.ACTIVE)).isEqualTo(active - 1);
+        assertThat(taskService.stats(List.of(employee.getId())).byEmployee().get(employee.getId()))
+                .containsEntry(TaskStatus.ACTIVE, 0L);
+    }
+
+    @Test
+    @DisplayName("Should serve the counts to users")
+    void stats_AsUser_ShouldReturnCounts() throws Exception {
+        mockMvc.perform(get("/api/v1/task/stats").param("employeeId", "42")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total.PENDING").isNumber())
+                .andExpect(jsonPath("$.byEmployee.42.ACTIVE").value(0))
+                .andExpect(jsonPath("$.byType.BUG.FINISHED").isNumber())
+                .andExpect(jsonPath("$.byPriority.HIGH.PENDING").isNumber());
+    }
+
+    private long count(TaskStatus status) {
+        return taskService.stats(List.of()).total().get(status);
+    }
+
+    private static TaskDto taskDto(TaskStatus status) {
+        return TaskDto.builder()
+                .taskStatus(status.name())
+                .taskPriority(TaskPriority.HIGH.name())
+                .taskType(TaskType.BUG.name())
+                .taskDescription("Counted task")
+                .timeSpentMinutes(30)
+                .build();
+    }
+}
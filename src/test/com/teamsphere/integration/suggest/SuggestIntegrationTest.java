@@ -0,0 +1,110 @@
+package com.teamsphere.integration.suggest;
+
+import com.teamsphere.dto.company.CompanyDto;
+import com.teamsphere.entity.CompanyEntity;
+import com.teamsphere.integration.BaseIntegrationTest;
+import com.teamsphere.repository.CompanyRepository;
+import com.teamsphere.suggest.SuggestionIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the autocomplete endpoints.
+ * Runs outside the test transaction, since the suggestion index only takes committed writes.
+ */
+@DisplayName("Suggest Integration Tests")
+class SuggestIntegrationTest extends BaseIntegrationTest {
+
+    private static final String COMPANY_BASE_URL = "/api/v1/company";
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @AfterEach
+    void tearDown() {
+        companyRepository.deleteAll();
+        suggestionIndex.rebuild();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should suggest names loaded at startup")
+    void suggest_ShouldFindNamesAfterRebuild() throws Exception {
+        companyRepository.save(CompanyEntity.builder()
+                .name("Northwind Traders").industry("Retail").address("1 Market St").email("info@northwind.com")
+                .build());
+        suggestionIndex.rebuild();
+
+        mockMvc.perform(get(COMPANY_BASE_URL + "/suggest").param("prefix", "trad")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("Northwind Traders"));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should follow creates, renames and deletes through the service")
+    void suggest_ShouldFollowWrites() throws Exception {
+        CompanyDto company = CompanyDto.builder()
+                .name("Suggestable Systems").industry("Technology").address("2 Index Rd").email("hello@suggestable.com")
+                .build();
+        String created = mockMvc.perform(post(COMPANY_BASE_URL)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(company)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readValue(created, CompanyDto.class).getId();
+
+        mockMvc.perform(get(COMPANY_BASE_URL + "/suggest").param("prefix", "SUGG")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(id));
+
+        company.setName("Renamed Systems");
+        mockMvc.perform(put(COMPANY_BASE_URL + "/" + id)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(company)))
+                .andExpect(status().is2xxSuccessful());
+        mockMvc.perform(get(COMPANY_BASE_URL + "/suggest").param("prefix", "sugg")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get(COMPANY_BASE_URL + "/suggest").param("prefix", "renamed sys")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(jsonPath("$[0].name").value("Renamed Systems"));
+
+        mockMvc.perform(delete(COMPANY_BASE_URL + "/" + id)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(adminToken)))
+                .andExpect(status().is2xxSuccessful());
+        mockMvc.perform(get(COMPANY_BASE_URL + "/suggest").param("prefix", "renamed")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken(userToken)))
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Should return 401 without authentication")
+    void suggest_WithoutAuth_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(get(COMPANY_BASE_URL + "/suggest").param("prefix", "a"))
+                .andExpect(status().isUnauthorized());
+    }
+}
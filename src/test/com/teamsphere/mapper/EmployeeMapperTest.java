@@ -13,6 +13,9 @@ import com.teamsphere.repository.DepartmentRepository;
 import com.teamsphere.repository.PositionRepository;
 import com.teamsphere.repository.ProjectRepository;
 import com.teamsphere.repository.TaskRepository;
+import com.teamsphere.staffing.StaffingIndex;
+import com.teamsphere.stats.TaskCountKey;
+import com.teamsphere.stats.TaskCounters;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +32,8 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +47,10 @@ class EmployeeMapperTest {
     private PositionRepository positionRepository;
     @Mock
     private TaskRepository taskRepository;
+    @Mock
+    private TaskCounters taskCounters;
+    @Mock
+    private StaffingIndex staffingIndex;
 
     @InjectMocks
     private EmployeeMapper employeeMapper;
@@ -133,6 +142,7 @@ class EmployeeMapperTest {
         assertNotNull(entity.getDepartment());
         assertNotNull(entity.getPosition());
         assertEquals(1, entity.getProjects().size());
+        verify(staffingIndex).changed(entity);
     }
 
     @Test
@@ -158,6 +168,7 @@ class EmployeeMapperTest {
         assertEquals(dto.getLastName(), employeeEntity.getLastName());
         assertEquals(0, employeeEntity.getProjects().size());
         assertEquals(0, employeeEntity.getTasks().size());
+        verify(staffingIndex).changed(employeeEntity);
     }
 
     @Test
@@ -267,6 +278,7 @@ class EmployeeMapperTest {
 
         // Then
         assertEquals(originalProjectsSize, employeeEntity.getProjects().size());
+        verify(staffingIndex, never()).changed(employeeEntity);
     }
 
     @Test
@@ -295,6 +307,7 @@ class EmployeeMapperTest {
         when(departmentRepository.findById(1L)).thenReturn(Optional.of(departmentEntity));
         when(positionRepository.findById(1L)).thenReturn(Optional.of(positionEntity));
         when(taskRepository.findById(2L)).thenReturn(Optional.of(newTask));
+        taskEntity.setEmployee(employeeEntity);
 
         // When
         employeeMapper.updateFromDto(dto, employeeEntity);
@@ -304,6 +317,12 @@ class EmployeeMapperTest {
         assertTrue(employeeEntity.getTasks().contains(newTask));
         assertEquals(employeeEntity, newTask.getEmployee());
         assertNull(taskEntity.getEmployee());
+        verify(taskCounters).changed(
+                new TaskCountKey(employeeEntity.getId(), TaskStatus.PENDING, TaskType.FEATURE, TaskPriority.HIGH),
+                new TaskCountKey(null, TaskStatus.PENDING, TaskType.FEATURE, TaskPriority.HIGH));
+        verify(taskCounters).changed(
+                new TaskCountKey(null, TaskStatus.ACTIVE, TaskType.BUG, TaskPriority.MEDIUM),
+                new TaskCountKey(employeeEntity.getId(), TaskStatus.ACTIVE, TaskType.BUG, TaskPriority.MEDIUM));
     }
 
     @Test
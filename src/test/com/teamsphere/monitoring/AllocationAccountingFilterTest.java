@@ -0,0 +1,72 @@
+package com.teamsphere.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllocationAccountingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        request = new MockHttpServletRequest("GET", "/api/v1/employee/42");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("doFilter should record allocated bytes under the matched URI pattern")
+    void doFilter_shouldRecordAllocationPerUriPattern() throws Exception {
+        AllocationAccountingFilter filter = new AllocationAccountingFilter(meterRegistry, true);
+        FilterChain chain = (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/employee/{id}");
+            byte[] payload = new byte[64 * 1024];
+            res.getOutputStream().write(payload.length > 0 ? 1 : 0);
+        };
+
+        filter.doFilter(request, response, chain);
+
+        DistributionSummary summary = meterRegistry.find(AllocationAccountingFilter.METRIC_NAME)
+                .tag("uri", "/api/v1/employee/{id}")
+                .tag("method", "GET")
+                .tag("status", "200")
+                .summary();
+        assertNotNull(summary);
+        assertEquals(1, summary.count());
+        assertTrue(summary.totalAmount() >= 64 * 1024);
+    }
+
+    @Test
+    @DisplayName("doFilter should tag requests without a handler as UNKNOWN")
+    void doFilter_shouldUseUnknownUri_whenNoHandlerMatched() throws Exception {
+        AllocationAccountingFilter filter = new AllocationAccountingFilter(meterRegistry, true);
+
+        filter.doFilter(request, response, (req, res) -> ((MockHttpServletResponse) res).setStatus(401));
+
+        assertNotNull(meterRegistry.find(AllocationAccountingFilter.METRIC_NAME)
+                .tag("uri", "UNKNOWN")
+                .tag("status", "401")
+                .summary());
+    }
+
+    @Test
+    @DisplayName("doFilter should record nothing when accounting is disabled")
+    void doFilter_shouldNotRecord_whenDisabled() throws Exception {
+        AllocationAccountingFilter filter = new AllocationAccountingFilter(meterRegistry, false);
+
+        filter.doFilter(request, response, (req, res) -> { });
+
+        assertNull(meterRegistry.find(AllocationAccountingFilter.METRIC_NAME).summary());
+    }
+}
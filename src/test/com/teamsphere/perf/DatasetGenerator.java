@@ -0,0 +1,376 @@
+package com.teamsphere.perf;
+
+import com.teamsphere.entity.auth.Role;
+import com.teamsphere.entity.enums.ProjectStatus;
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads a synthetic, skewed TeamSphere dataset into PostgreSQL.
+ *
+ * <p>Projects per company and tasks per employee follow Zipf distributions, and employees are
+ * assigned to projects by Zipf popularity, so a few companies, projects and employees carry most
+ * of the data, as they do in production. The same seed always produces the same dataset.</p>
+ *
+ * <p>The generator owns the target database: it truncates the domain tables and restarts their
+ * identities, so generated ids are dense and start at 1. The schema must already exist, which
+ * is the case once the application has been started against the database.</p>
+ */
+@Slf4j
+public class DatasetGenerator {
+
+    public static final String ADMIN_EMAIL = "loadtest-admin@teamsphere.com";
+    public static final String USER_EMAIL = "loadtest-user@teamsphere.com";
+    public static final String PASSWORD = "loadtest-password";
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int MAX_PROJECTS_PER_COMPANY = 50;
+    private static final int MAX_TASKS_PER_EMPLOYEE = 200;
+    private static final int MAX_PROJECTS_PER_EMPLOYEE = 4;
+    private static final double UNASSIGNED_TASK_RATIO = 0.05;
+
+    private static final String[] FIRST_NAMES = {"Alice", "Bob", "Carol", "David", "Eve", "Frank", "Grace",
+            "Henry", "Irene", "Jack", "Karen", "Liam", "Maria", "Nikolay", "Olga", "Peter", "Quinn", "Rosa",
+            "Stefan", "Tanya", "Uma", "Victor", "Wendy", "Xavier", "Yana", "Zoran"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Brown", "Taylor", "Anderson", "Thomas",
+            "Jackson", "White", "Harris", "Martin", "Thompson", "Garcia", "Martinez", "Robinson", "Clark",
+            "Lewis", "Lee", "Walker", "Hall", "Allen", "Young", "King", "Wright", "Ivanov", "Petrov", "Georgiev"};
+    private static final String[] INDUSTRIES = {"Software", "Finance", "Healthcare", "Retail", "Logistics",
+            "Energy", "Telecom", "Education", "Manufacturing", "Media"};
+    private static final String[] TASK_VERBS = {"Implement", "Fix", "Refactor", "Review", "Document", "Test",
+            "Migrate", "Optimize"};
+    private static final String[] TASK_SUBJECTS = {"login flow", "search page", "payment gateway", "report export",
+            "user profile", "audit log", "notification service", "dashboard widget", "import job", "API client"};
+
+    private final DataSource dataSource;
+    private final ScaleFactor scale;
+    private final SplittableRandom random;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    /**
+     * Summary of a generated dataset. Ids of every table run from 1 to the given count.
+     *
+     * @param departments number of departments
+     * @param positions   number of positions
+     * @param companies   number of companies
+     * @param projects    number of projects
+     * @param employees   number of employees
+     * @param tasks       number of tasks
+     */
+    public record GeneratedDataset(int departments, int positions, int companies,
+                                   int projects, int employees, int tasks) {
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param dataSource the target PostgreSQL data source
+     * @param scale      the dataset scale
+     * @param seed       the random seed; equal seeds produce equal datasets
+     */
+    public DatasetGenerator(DataSource dataSource, ScaleFactor scale, long seed) {
+        this.dataSource = dataSource;
+        this.scale = scale;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Runs the generator standalone.
+     * Usage: {@code DatasetGenerator <jdbcUrl> <user> <password> [scale] [seed]}.
+     *
+     * @param args command line arguments
+     * @throws SQLException if loading fails
+     */
+    public static void main(String[] args) throws SQLException {
+        if (args.length < 3) {
+            System.err.println("Usage: DatasetGenerator <jdbcUrl> <user> <password> [scale=10k] [seed=42]");
+            System.exit(1);
+        }
+        DataSource dataSource = new DriverManagerDataSource(args[0], args[1], args[2]);
+        ScaleFactor scale = ScaleFactor.parse(args.length > 3 ? args[3] : "10k");
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+        new DatasetGenerator(dataSource, scale, seed).generate();
+    }
+
+    /**
+     * Truncates the domain tables and loads a fresh dataset.
+     *
+     * @return summary of what was generated
+     * @throws SQLException if loading fails
+     */
+    public GeneratedDataset generate() throws SQLException {
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            truncate(connection);
+            insertUsers(connection);
+            int departments = insertDepartments(connection);
+            int positions = insertPositions(connection);
+            int companies = insertCompanies(connection);
+            int projects = insertProjects(connection, companies);
+            int employees = insertEmployees(connection, departments, positions);
+            insertProjectAssignments(connection, employees, projects);
+            int tasks = insertTasks(connection, employees);
+
+            GeneratedDataset dataset = new GeneratedDataset(departments, positions, companies,
+                    projects, employees, tasks);
+            log.info("Generated {} in {} ms", dataset, (System.nanoTime() - started) / 1_000_000);
+            return dataset;
+        }
+    }
+
+    private void truncate(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE t_projects_employees, t_tasks, t_employees, t_projects, "
+                    + "t_companies, t_positions, t_departments RESTART IDENTITY CASCADE");
+            statement.execute("DELETE FROM t_users WHERE email IN ('" + ADMIN_EMAIL + "', '" + USER_EMAIL + "')");
+        }
+        connection.commit();
+    }
+
+    private void insertUsers(Connection connection) throws SQLException {
+        String password = new BCryptPasswordEncoder().encode(PASSWORD);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO t_users (first_name, last_name, email, password, role, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            addUser(statement, "Loadtest", "Admin", ADMIN_EMAIL, password, Role.ROLE_ADMIN);
+            addUser(statement, "Loadtest", "User", USER_EMAIL, password, Role.ROLE_USER);
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private void addUser(PreparedStatement statement, String firstName, String lastName, String email,
+                         String password, Role role) throws SQLException {
+        statement.setString(1, firstName);
+        statement.setString(2, lastName);
+        statement.setString(3, email);
+        statement.setString(4, password);
+        statement.setString(5, role.name());
+        statement.setTimestamp(6, Timestamp.valueOf(now));
+        statement.setTimestamp(7, Timestamp.valueOf(now));
+        statement.addBatch();
+    }
+
+    private int insertDepartments(Connection connection) throws SQLException {
+        int count = scale.departments();
+        try (Batch batch = new Batch(connection, "INSERT INTO t_departments "
+                + "(department_name, description, created_at, updated_at) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= count; i++) {
+                LocalDateTime createdAt = randomPast();
+                batch.statement.setString(1, "Department " + i);
+                batch.statement.setString(2, "Generated department " + i);
+                batch.setTimestamps(3, createdAt);
+                batch.add();
+            }
+        }
+        return count;
+    }
+
+    private int insertPositions(Connection connection) throws SQLException {
+        int count = scale.positions();
+        try (Batch batch = new Batch(connection, "INSERT INTO t_positions "
+                + "(position_name, years_of_experience, created_at, updated_at) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= count; i++) {
+                batch.statement.setString(1, "Position " + i);
+                batch.statement.setInt(2, 1 + (i % 15));
+                batch.setTimestamps(3, randomPast());
+                batch.add();
+            }
+        }
+        return count;
+    }
+
+    private int insertCompanies(Connection connection) throws SQLException {
+        int count = scale.companies();
+        try (Batch batch = new Batch(connection, "INSERT INTO t_companies "
+                + "(company_name, industry, address, email, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= count; i++) {
+                batch.statement.setString(1, "Company " + i);
+                batch.statement.setString(2, INDUSTRIES[random.nextInt(INDUSTRIES.length)]);
+                batch.statement.setString(3, i + " Market Street");
+                batch.statement.setString(4, "contact" + i + "@company" + i + ".com");
+                batch.setTimestamps(5, randomPast());
+                batch.add();
+            }
+        }
+        return count;
+    }
+
+    private int insertProjects(Connection connection, int companies) throws SQLException {
+        ZipfDistribution projectsPerCompany = new ZipfDistribution(MAX_PROJECTS_PER_COMPANY, 1.1);
+        int count = 0;
+        try (Batch batch = new Batch(connection, "INSERT INTO t_projects (name, description, start_date, "
+                + "finish_date, status, company_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int company = 1; company <= companies; company++) {
+                int projects = projectsPerCompany.sample(random);
+                for (int p = 0; p < projects; p++) {
+                    count++;
+                    LocalDate startDate = now.toLocalDate().minusDays(random.nextInt(1_500));
+                    boolean finished = random.nextInt(3) == 0;
+                    batch.statement.setString(1, "Project " + count);
+                    batch.statement.setString(2, "Generated project " + count + " for company " + company);
+                    batch.statement.setDate(3, Date.valueOf(startDate));
+                    batch.statement.setDate(4, finished ? Date.valueOf(startDate.plusDays(30 + random.nextInt(700))) : null);
+                    batch.statement.setString(5, (finished ? ProjectStatus.FINISHED : ProjectStatus.IN_PROGRESS).name());
+                    batch.statement.setLong(6, company);
+                    batch.setTimestamps(7, randomPast());
+                    batch.add();
+                }
+            }
+        }
+        return count;
+    }
+
+    private int insertEmployees(Connection connection, int departments, int positions) throws SQLException {
+        int count = scale.employees();
+        ZipfDistribution departmentSize = new ZipfDistribution(departments, 0.8);
+        try (Batch batch = new Batch(connection, "INSERT INTO t_employees (first_name, last_name, pin, address, "
+                + "email, department_id, position_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= count; i++) {
+                String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                batch.statement.setString(1, firstName);
+                batch.statement.setString(2, lastName);
+                batch.statement.setString(3, String.format("%010d", 1_000_000_000L + i));
+                batch.statement.setString(4, i + " Residential Road");
+                batch.statement.setString(5, (firstName + "." + lastName + i + "@teamsphere.com").toLowerCase());
+                batch.statement.setLong(6, departmentSize.sample(random));
+                batch.statement.setLong(7, 1 + random.nextInt(positions));
+                batch.setTimestamps(8, randomPast());
+                batch.add();
+            }
+        }
+        return count;
+    }
+
+    private void insertProjectAssignments(Connection connection, int employees, int projects) throws SQLException {
+        ZipfDistribution projectPopularity = new ZipfDistribution(projects, 1.0);
+        try (Batch batch = new Batch(connection,
+                "INSERT INTO t_projects_employees (employee_id, project_id) VALUES (?, ?)")) {
+            Set<Integer> assigned = new HashSet<>();
+            for (int employee = 1; employee <= employees; employee++) {
+                assigned.clear();
+                int assignments = random.nextInt(MAX_PROJECTS_PER_EMPLOYEE + 1);
+                for (int a = 0; a < assignments; a++) {
+                    int project = projectPopularity.sample(random);
+                    if (assigned.add(project)) {
+                        batch.statement.setLong(1, employee);
+                        batch.statement.setLong(2, project);
+                        batch.add();
+                    }
+                }
+            }
+        }
+    }
+
+    private int insertTasks(Connection connection, int employees) throws SQLException {
+        ZipfDistribution tasksPerEmployee = new ZipfDistribution(MAX_TASKS_PER_EMPLOYEE, 1.2);
+        Map<TaskType, Long> taskNumbers = new EnumMap<>(TaskType.class);
+        int count = 0;
+        try (Batch batch = new Batch(connection, "INSERT INTO t_tasks (task_status, task_priority, task_type, "
+                + "time_spent_minutes, task_description, task_number, employee_id, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int employee = 1; employee <= employees; employee++) {
+                int tasks = tasksPerEmployee.sample(random);
+                for (int t = 0; t < tasks; t++) {
+                    addTask(batch, taskNumbers, employee);
+                    count++;
+                }
+            }
+            int unassigned = (int) (count * UNASSIGNED_TASK_RATIO);
+            for (int t = 0; t < unassigned; t++) {
+                addTask(batch, taskNumbers, null);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void addTask(Batch batch, Map<TaskType, Long> taskNumbers, Integer employee) throws SQLException {
+        TaskType type = pick(TaskType.values());
+        long number = taskNumbers.merge(type, 1L, Long::sum);
+        batch.statement.setString(1, pick(TaskStatus.values()).name());
+        batch.statement.setString(2, pick(TaskPriority.values()).name());
+        batch.statement.setString(3, type.name());
+        batch.statement.setInt(4, random.nextInt(481));
+        batch.statement.setString(5, pick(TASK_VERBS) + " " + pick(TASK_SUBJECTS));
+        batch.statement.setString(6, String.valueOf(number));
+        if (employee == null) {
+            batch.statement.setNull(7, Types.BIGINT);
+        } else {
+            batch.statement.setLong(7, employee);
+        }
+        batch.setTimestamps(8, randomPast());
+        batch.add();
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private LocalDateTime randomPast() {
+        return now.minusMinutes(random.nextInt(2 * 365 * 24 * 60));
+    }
+
+    /**
+     * Prepared statement that flushes every {@link #BATCH_SIZE} rows and commits on close.
+     */
+    private final class Batch implements AutoCloseable {
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private int pending;
+
+        private Batch(Connection connection, String sql) throws SQLException {
+            this.connection = connection;
+            this.statement = connection.prepareStatement(sql);
+        }
+
+        private void setTimestamps(int index, LocalDateTime createdAt) throws SQLException {
+            LocalDateTime updatedAt = createdAt.plusMinutes(random.nextInt(60 * 24 * 30));
+            statement.setTimestamp(index, Timestamp.valueOf(createdAt));
+            statement.setTimestamp(index + 1, Timestamp.valueOf(updatedAt.isAfter(now) ? now : updatedAt));
+        }
+
+        private void add() throws SQLException {
+            statement.addBatch();
+            if (++pending == BATCH_SIZE) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+                connection.commit();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
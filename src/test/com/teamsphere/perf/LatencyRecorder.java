@@ -0,0 +1,77 @@
+package com.teamsphere.perf;
+
+import java.util.Arrays;
+
+/**
+ * Thread-safe recorder of request latencies and errors for a single endpoint.
+ * Keeps every sample so percentiles are exact rather than bucketed.
+ */
+public final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    /**
+     * Latency summary of the recorded samples.
+     *
+     * @param requests   number of successful requests
+     * @param errors     number of failed requests
+     * @param meanMillis mean latency in milliseconds
+     * @param p50Millis  median latency in milliseconds
+     * @param p90Millis  90th percentile latency in milliseconds
+     * @param p99Millis  99th percentile latency in milliseconds
+     * @param maxMillis  maximum latency in milliseconds
+     */
+    public record Summary(long requests, long errors, double meanMillis, double p50Millis,
+                          double p90Millis, double p99Millis, double maxMillis) {
+    }
+
+    /**
+     * Records the latency of a successful request.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    /**
+     * Records a failed request.
+     */
+    public synchronized void recordError() {
+        errors++;
+    }
+
+    /**
+     * Computes a summary of everything recorded so far.
+     *
+     * @return the latency summary
+     */
+    public synchronized Summary summarize() {
+        if (count == 0) {
+            return new Summary(0, errors, 0, 0, 0, 0, 0);
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        double total = 0;
+        for (long sample : sorted) {
+            total += sample;
+        }
+        return new Summary(count, errors, toMillis(total / count), toMillis(percentile(sorted, 0.50)),
+                toMillis(percentile(sorted, 0.90)), toMillis(percentile(sorted, 0.99)),
+                toMillis(sorted[sorted.length - 1]));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.clamp(index, 0, sorted.length - 1)];
+    }
+
+    private static double toMillis(double nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,35 @@
+package com.teamsphere.perf;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyRecorderTest {
+
+    @Test
+    void summarize_computesPercentiles() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 100; i >= 1; i--) {
+            recorder.record(i * 1_000_000L);
+        }
+        recorder.recordError();
+
+        LatencyRecorder.Summary summary = recorder.summarize();
+
+        assertEquals(100, summary.requests());
+        assertEquals(1, summary.errors());
+        assertEquals(50.5, summary.meanMillis(), 0.001);
+        assertEquals(50.0, summary.p50Millis(), 0.001);
+        assertEquals(90.0, summary.p90Millis(), 0.001);
+        assertEquals(99.0, summary.p99Millis(), 0.001);
+        assertEquals(100.0, summary.maxMillis(), 0.001);
+    }
+
+    @Test
+    void summarize_withoutSamples_returnsZeros() {
+        LatencyRecorder.Summary summary = new LatencyRecorder().summarize();
+
+        assertEquals(0, summary.requests());
+        assertEquals(0.0, summary.p99Millis());
+    }
+}
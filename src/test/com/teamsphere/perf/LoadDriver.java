@@ -0,0 +1,420 @@
+package com.teamsphere.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamsphere.TeamSphereApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-JVM load driver for TeamSphere.
+ *
+ * <p>Optionally starts the application in the same JVM against PostgreSQL, optionally loads a
+ * synthetic dataset with {@link DatasetGenerator}, then replays a weighted mix of reads, searches,
+ * creates and updates from a fixed number of concurrent clients. Throughput and latency percentiles
+ * are reported per endpoint once the run completes.</p>
+ *
+ * <p>Options are passed as {@code --name=value}:</p>
+ * <ul>
+ *   <li>{@code --base-url}: target an already running instance instead of starting one</li>
+ *   <li>{@code --jdbc-url}, {@code --db-user}, {@code --db-password}: PostgreSQL connection</li>
+ *   <li>{@code --generate}: scale factor to generate before the run, e.g. {@code 100k}</li>
+ *   <li>{@code --seed}: random seed for generation (default 42)</li>
+ *   <li>{@code --concurrency}: number of concurrent clients (default 32)</li>
+ *   <li>{@code --warmup}, {@code --duration}: seconds of warm-up and measurement (default 10 and 60)</li>
+ *   <li>{@code --client-threads}: {@code platform} or {@code virtual} client threads (default platform)</li>
+ *   <li>{@code --mix}: operation weights, e.g. {@code list-tasks=50,search-tasks=50}</li>
+ *   <li>{@code --employees}, {@code --tasks}: id ranges to hit when no dataset is generated</li>
+ *   <li>{@code --D<property>}: extra Spring property for the in-JVM application,
+ *       e.g. {@code --Dspring.threads.virtual.enabled=true}</li>
+ * </ul>
+ */
+@Slf4j
+public final class LoadDriver {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String[] EMPLOYEE_QUERIES = {"Alice", "Ivanov", "maria", "1000000", "smith", "@teamsphere"};
+    private static final String[] TASK_QUERIES = {"login", "search page", "Fix", "ACTIVE", "audit", "export"};
+    private static final String[] PROJECT_QUERIES = {"Project 1", "company 7", "FINISHED", "Generated"};
+
+    /**
+     * Operations replayed by the driver, with their default weight in the mix.
+     */
+    enum Operation {
+        GET_EMPLOYEE("get-employee", "GET /employee/{id}", 20),
+        GET_TASK("get-task", "GET /task/{id}", 15),
+        LIST_TASKS("list-tasks", "GET /task", 10),
+        LIST_PROJECTS("list-projects", "GET /project", 5),
+        LIST_EMPLOYEES("list-employees", "GET /employee", 0),
+        SEARCH_EMPLOYEES("search-employees", "POST /employee/search", 10),
+        SEARCH_TASKS("search-tasks", "POST /task/search", 10),
+        SEARCH_PROJECTS("search-projects", "POST /project/search", 5),
+        CREATE_TASK("create-task", "POST /task", 10),
+        UPDATE_TASK("update-task", "PUT /task/{id}", 5);
+
+        private final String key;
+        private final String label;
+        private final int defaultWeight;
+
+        Operation(String key, String label, int defaultWeight) {
+            this.key = key;
+            this.label = label;
+            this.defaultWeight = defaultWeight;
+        }
+
+        /**
+         * Returns the endpoint label used in reports.
+         *
+         * @return the label, e.g. {@code GET /task}
+         */
+        String label() {
+            return label;
+        }
+    }
+
+    /**
+     * Outcome of a run.
+     *
+     * @param summaries      latency summary per operation that saw traffic
+     * @param durationNanos  length of the measurement window in nanoseconds
+     */
+    record Result(Map<Operation, LatencyRecorder.Summary> summaries, long durationNanos) {
+
+        /**
+         * Returns the total successful requests per second across all operations.
+         *
+         * @return overall throughput
+         */
+        double throughput() {
+            return summaries.values().stream().mapToLong(LatencyRecorder.Summary::requests).sum()
+                    / (durationNanos / 1_000_000_000.0);
+        }
+
+        /**
+         * Formats the per-endpoint table printed at the end of a run.
+         *
+         * @return the report
+         */
+        String report() {
+            double seconds = durationNanos / 1_000_000_000.0;
+            StringBuilder report = new StringBuilder(String.format(Locale.ROOT, "%n%-24s %10s %8s %10s %9s %9s %9s %9s%n",
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+            long totalRequests = 0;
+            for (Map.Entry<Operation, LatencyRecorder.Summary> entry : summaries.entrySet()) {
+                LatencyRecorder.Summary summary = entry.getValue();
+                totalRequests += summary.requests();
+                report.append(String.format(Locale.ROOT, "%-24s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                        entry.getKey().label, summary.requests(), summary.errors(), summary.requests() / seconds,
+                        summary.p50Millis(), summary.p90Millis(), summary.p99Millis(), summary.maxMillis()));
+            }
+            report.append(String.format(Locale.ROOT, "%-24s %10d %8s %10.1f%n", "total", totalRequests, "",
+                    totalRequests / seconds));
+            return report.toString();
+        }
+    }
+
+    private final Map<String, String> options;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+
+    private String baseUrl;
+    private String token;
+    private int employees;
+    private int tasks;
+
+    private LoadDriver(Map<String, String> options) {
+        this.options = options;
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+    }
+
+    /**
+     * Runs the load driver.
+     *
+     * @param args options in {@code --name=value} form
+     * @throws Exception if the run fails
+     */
+    public static void main(String[] args) throws Exception {
+        System.out.println(execute(parseOptions(args)).report());
+    }
+
+    /**
+     * Starts the application unless {@code --base-url} is given, optionally generates the dataset,
+     * and drives the configured mix.
+     *
+     * @param options driver options; the {@code employees} and {@code tasks} ranges are filled in after generation
+     * @return the run result
+     * @throws Exception if the run fails
+     */
+    static Result execute(Map<String, String> options) throws Exception {
+        ConfigurableApplicationContext context = null;
+        try {
+            LoadDriver driver = new LoadDriver(options);
+            if (!options.containsKey("base-url")) {
+                context = startApplication(options);
+                options.put("base-url", "http://localhost:"
+                        + ((WebServerApplicationContext) context).getWebServer().getPort());
+                if (options.containsKey("generate")) {
+                    driver.generate(context.getBean(DataSource.class));
+                }
+            }
+            return driver.run();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * Parses {@code --name=value} arguments; a bare {@code --name} is read as {@code true}.
+     *
+     * @param args command line arguments
+     * @return mutable map of option names to values
+     */
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Starts TeamSphere in this JVM with the {@code perf} profile on a random port.
+     *
+     * @param options driver options carrying the PostgreSQL connection
+     * @return the running application context
+     */
+    static ConfigurableApplicationContext startApplication(Map<String, String> options) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", required(options, "jdbc-url"));
+        properties.put("spring.datasource.username", required(options, "db-user"));
+        properties.put("spring.datasource.password", required(options, "db-password"));
+        options.forEach((name, value) -> {
+            if (name.startsWith("D")) {
+                properties.put(name.substring(1), value);
+            }
+        });
+        return new SpringApplicationBuilder(TeamSphereApplication.class)
+                .profiles("perf")
+                .properties(properties)
+                .run();
+    }
+
+    private void generate(DataSource dataSource) throws Exception {
+        DatasetGenerator.GeneratedDataset dataset = new DatasetGenerator(dataSource,
+                ScaleFactor.parse(options.get("generate")),
+                Long.parseLong(options.getOrDefault("seed", "42"))).generate();
+        options.putIfAbsent("employees", String.valueOf(dataset.employees()));
+        options.putIfAbsent("tasks", String.valueOf(dataset.tasks()));
+    }
+
+    private Result run() throws Exception {
+        baseUrl = options.get("base-url") + "/api/v1";
+        token = login();
+        employees = options.containsKey("employees")
+                ? Integer.parseInt(options.get("employees")) : discoverTotal("/employee/search", "@");
+        tasks = options.containsKey("tasks")
+                ? Integer.parseInt(options.get("tasks")) : discoverTotal("/task/search", "");
+
+        Map<Operation, Integer> mix = parseMix(options.getOrDefault("mix", ""));
+        Operation[] weighted = mix.entrySet().stream()
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(Operation[]::new);
+        if (weighted.length == 0) {
+            throw new IllegalArgumentException("The operation mix is empty");
+        }
+
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "32"));
+        long warmupNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("warmup", "10")));
+        long durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("duration", "60")));
+        boolean virtualClients = "virtual".equals(options.getOrDefault("client-threads", "platform"));
+
+        log.info("Driving {} with {} {} clients, mix {}, {} employees, {} tasks", baseUrl, concurrency,
+                virtualClients ? "virtual" : "platform", mix, employees, tasks);
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long end = measureFrom + durationNanos;
+        try (ExecutorService clients = virtualClients
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(concurrency)) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.submit(() -> drive(weighted, measureFrom, end));
+            }
+        }
+        Map<Operation, LatencyRecorder.Summary> summaries = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> {
+            LatencyRecorder.Summary summary = recorder.summarize();
+            if (summary.requests() > 0 || summary.errors() > 0) {
+                summaries.put(operation, summary);
+            }
+        });
+        return new Result(summaries, durationNanos);
+    }
+
+    private void drive(Operation[] weighted, long measureFrom, long end) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            Operation operation = weighted[random.nextInt(weighted.length)];
+            boolean success;
+            try {
+                HttpResponse<Void> response = httpClient.send(request(operation, random),
+                        HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() < 400;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (now >= measureFrom) {
+                LatencyRecorder recorder = recorders.get(operation);
+                if (success) {
+                    recorder.record(System.nanoTime() - now);
+                } else {
+                    recorder.recordError();
+                }
+            }
+        }
+    }
+
+    private HttpRequest request(Operation operation, ThreadLocalRandom random) {
+        int page = random.nextInt(20);
+        return switch (operation) {
+            case GET_EMPLOYEE -> get("/employee/" + (1 + random.nextInt(employees)));
+            case GET_TASK -> get("/task/" + (1 + random.nextInt(tasks)));
+            case LIST_TASKS -> get("/task?page=" + page + "&size=20");
+            case LIST_PROJECTS -> get("/project?page=" + page + "&size=20");
+            case LIST_EMPLOYEES -> get("/employee?page=" + page + "&size=20");
+            case SEARCH_EMPLOYEES -> search("/employee/search", EMPLOYEE_QUERIES[random.nextInt(EMPLOYEE_QUERIES.length)]);
+            case SEARCH_TASKS -> search("/task/search", TASK_QUERIES[random.nextInt(TASK_QUERIES.length)]);
+            case SEARCH_PROJECTS -> search("/project/search", PROJECT_QUERIES[random.nextInt(PROJECT_QUERIES.length)]);
+            case CREATE_TASK -> send("POST", "/task", taskBody(random));
+            case UPDATE_TASK -> send("PUT", "/task/" + (1 + random.nextInt(tasks)), taskBody(random));
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return authorized(path).GET().build();
+    }
+
+    private HttpRequest search(String path, String query) {
+        return send("POST", path + "?size=20", "{\"query\":\"" + query + "\"}");
+    }
+
+    private HttpRequest send(String method, String path, String body) {
+        return authorized(path)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private static String taskBody(ThreadLocalRandom random) {
+        String[] statuses = {"PENDING", "ACTIVE", "FINISHED"};
+        String[] priorities = {"LOW", "MEDIUM", "HIGH"};
+        String[] types = {"FEATURE", "BUG", "REFACTOR"};
+        return "{\"taskStatus\":\"" + statuses[random.nextInt(3)] + "\","
+                + "\"taskPriority\":\"" + priorities[random.nextInt(3)] + "\","
+                + "\"taskType\":\"" + types[random.nextInt(3)] + "\","
+                + "\"timeSpentMinutes\":" + random.nextInt(481) + ","
+                + "\"taskDescription\":\"Load test task " + random.nextInt(1_000_000) + "\"}";
+    }
+
+    private String login() throws IOException, InterruptedException {
+        String email = options.getOrDefault("email", DatasetGenerator.ADMIN_EMAIL);
+        String password = options.getOrDefault("password", DatasetGenerator.PASSWORD);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login as " + email + " failed with status " + response.statusCode());
+        }
+        return OBJECT_MAPPER.readTree(response.body()).get("token").asText();
+    }
+
+    private int discoverTotal(String path, String query) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+                authorized(path + "?size=1")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"query\":\"" + query + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode page = OBJECT_MAPPER.readTree(response.body());
+        JsonNode total = page.has("page") ? page.get("page").get("totalElements") : page.get("totalElements");
+        return Math.max(1, total.asInt());
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        if (mix.isBlank()) {
+            for (Operation operation : Operation.values()) {
+                if (operation.defaultWeight > 0) {
+                    weights.put(operation, operation.defaultWeight);
+                }
+            }
+            return weights;
+        }
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=");
+            Operation operation = Arrays.stream(Operation.values())
+                    .filter(candidate -> candidate.key.equals(parts[0].trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + parts[0]));
+            weights.put(operation, Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required option --" + name);
+        }
+        return value;
+    }
+}
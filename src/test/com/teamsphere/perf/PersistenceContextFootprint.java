@@ -0,0 +1,95 @@
+package com.teamsphere.perf;
+
+import com.sun.management.ThreadMXBean;
+import com.teamsphere.entity.EmployeeEntity;
+import com.teamsphere.mapper.EmployeeMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Measures what a large employee page costs in a writable persistence context versus a read-only one.
+ *
+ * <p>Starts TeamSphere in-JVM like {@link LoadDriver}, then repeatedly loads pages of employees with
+ * their tasks and projects and maps them to DTOs, once in a plain transaction and once in a read-only
+ * transaction with the Hibernate read-only and {@code MANUAL} flush hints. Reports bytes allocated and
+ * time per page, which includes the dirty check at commit in the writable case.</p>
+ *
+ * <p>Options: the {@link LoadDriver} connection options and {@code --generate}, plus
+ * {@code --page-size} (default 1000) and {@code --iterations} (default 20, after as many warm-up pages).</p>
+ */
+public final class PersistenceContextFootprint {
+
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private PersistenceContextFootprint() {
+    }
+
+    /**
+     * Runs the measurement.
+     *
+     * @param args options in {@code --name=value} form
+     * @throws Exception if the run fails
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadDriver.parseOptions(args);
+        try (ConfigurableApplicationContext context = LoadDriver.startApplication(options)) {
+            if (options.containsKey("generate")) {
+                new DatasetGenerator(context.getBean(DataSource.class), ScaleFactor.parse(options.get("generate")),
+                        Long.parseLong(options.getOrDefault("seed", "42"))).generate();
+            }
+            int pageSize = Integer.parseInt(options.getOrDefault("page-size", "1000"));
+            int iterations = Integer.parseInt(options.getOrDefault("iterations", "20"));
+
+            EntityManager entityManager = context.getBean(EntityManager.class);
+            EmployeeMapper mapper = context.getBean(EmployeeMapper.class);
+            PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+
+            System.out.printf(Locale.ROOT, "%n%-10s %12s %14s %10s%n", "context", "employees", "MB per page", "ms per page");
+            for (boolean readOnly : new boolean[]{false, true}) {
+                TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+                transaction.setReadOnly(readOnly);
+                long[] totals = new long[3];
+                for (int i = 0; i < iterations * 2; i++) {
+                    int page = i % iterations;
+                    long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+                    long start = System.nanoTime();
+                    int loaded = transaction.execute(status -> loadPage(entityManager, mapper, page, pageSize, readOnly));
+                    if (i >= iterations) {
+                        totals[0] += loaded;
+                        totals[1] += THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+                        totals[2] += System.nanoTime() - start;
+                    }
+                }
+                System.out.printf(Locale.ROOT, "%-10s %12d %14.2f %10.2f%n", readOnly ? "read-only" : "writable",
+                        totals[0] / iterations, totals[1] / (double) iterations / (1024 * 1024),
+                        totals[2] / (double) iterations / 1_000_000);
+            }
+        }
+    }
+
+    private static int loadPage(EntityManager entityManager, EmployeeMapper mapper, int page, int pageSize,
+                                boolean readOnly) {
+        TypedQuery<EmployeeEntity> query = entityManager
+                .createQuery("SELECT e FROM EmployeeEntity e ORDER BY e.id", EmployeeEntity.class)
+                .setFirstResult(page * pageSize)
+                .setMaxResults(pageSize);
+        if (readOnly) {
+            query.setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+        }
+        List<EmployeeEntity> employees = query.getResultList();
+        employees.forEach(mapper::toDto);
+        return employees.size();
+    }
+}
@@ -0,0 +1,67 @@
+package com.teamsphere.perf;
+
+/**
+ * Dataset size presets for the synthetic dataset generator.
+ * Every other table is derived from the employee count.
+ *
+ * @param employees number of employees to generate
+ */
+public record ScaleFactor(int employees) {
+
+    /**
+     * Creates a scale factor.
+     *
+     * @param employees number of employees, must be positive
+     */
+    public ScaleFactor {
+        if (employees < 1) {
+            throw new IllegalArgumentException("employees must be positive: " + employees);
+        }
+    }
+
+    /**
+     * Parses a scale factor such as {@code 10k}, {@code 100k}, {@code 1m} or a plain number.
+     *
+     * @param value the textual scale factor
+     * @return the parsed scale factor
+     */
+    public static ScaleFactor parse(String value) {
+        String normalized = value.trim().toLowerCase();
+        int multiplier = 1;
+        if (normalized.endsWith("k")) {
+            multiplier = 1_000;
+            normalized = normalized.substring(0, normalized.length() - 1);
+        } else if (normalized.endsWith("m")) {
+            multiplier = 1_000_000;
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return new ScaleFactor(Math.multiplyExact(Integer.parseInt(normalized), multiplier));
+    }
+
+    /**
+     * Returns the number of departments, roughly one per 500 employees.
+     *
+     * @return department count
+     */
+    public int departments() {
+        return Math.max(20, employees / 500);
+    }
+
+    /**
+     * Returns the number of positions.
+     *
+     * @return position count
+     */
+    public int positions() {
+        return 50;
+    }
+
+    /**
+     * Returns the number of companies, roughly one per 100 employees.
+     *
+     * @return company count
+     */
+    public int companies() {
+        return Math.max(10, employees / 100);
+    }
+}
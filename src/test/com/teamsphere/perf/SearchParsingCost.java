@@ -0,0 +1,106 @@
+package com.teamsphere.perf;
+
+import com.sun.management.ThreadMXBean;
+import com.teamsphere.entity.enums.ProjectStatus;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.search.QueryClassifier;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Measures what interpreting the search text costs per search, with exceptions as control flow versus the
+ * non-throwing {@link QueryClassifier}.
+ *
+ * <p>The exception-based variant repeats what the employee, task and project predicate builders used to do:
+ * {@code Integer.parseInt} on the wildcard-wrapped query, then a date parse and an enum {@code valueOf}, each
+ * failure caught. The stack traces are captured, but the log lines that went with them are not written, so the
+ * numbers understate the old cost. The classifier variant does what the services do now. Reports time and
+ * bytes allocated per search over a mix of text, PIN, email, date, number and status queries.</p>
+ *
+ * <p>Options: {@code --iterations} (default 1000000 searches, after as many warm-up searches). Runs without
+ * the application or a database.</p>
+ */
+public final class SearchParsingCost {
+
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final List<String> QUERIES = List.of(
+            "John", "1234567890", "john.doe@company.com", "2024-01-15", "1001", "active", "Web Platform");
+
+    private SearchParsingCost() {
+    }
+
+    /**
+     * Runs the measurement.
+     *
+     * @param args options in {@code --name=value} form
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = LoadDriver.parseOptions(args);
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "1000000"));
+
+        System.out.printf(Locale.ROOT, "%n%-12s %12s %14s%n", "parsing", "ns/search", "bytes/search");
+        for (boolean throwing : new boolean[]{true, false}) {
+            long sink = 0;
+            for (int i = 0; i < iterations; i++) {
+                sink += parse(QUERIES.get(i % QUERIES.size()), throwing);
+            }
+            long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += parse(QUERIES.get(i % QUERIES.size()), throwing);
+            }
+            long elapsed = System.nanoTime() - start;
+            long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+            System.out.printf(Locale.ROOT, "%-12s %12.1f %14.1f%n", throwing ? "exceptions" : "classifier",
+                    elapsed / (double) iterations, allocated / (double) iterations);
+            if (sink == 42) {
+                System.out.println();
+            }
+        }
+    }
+
+    private static int parse(String rawQuery, boolean throwing) {
+        return throwing ? parseWithExceptions("%" + rawQuery + "%") : parseWithClassifier(rawQuery);
+    }
+
+    private static int parseWithExceptions(String query) {
+        int recognised = 0;
+        try {
+            recognised += Integer.parseInt(query);
+        } catch (NumberFormatException e) {
+            recognised += e.getMessage().length();
+        }
+        try {
+            recognised += Integer.parseInt(query);
+        } catch (NumberFormatException e) {
+            recognised += e.getMessage().length();
+        }
+        try {
+            recognised += LocalDate.parse(query, DATE).getDayOfMonth();
+        } catch (DateTimeParseException e) {
+            recognised += e.getStackTrace().length;
+        }
+        try {
+            recognised += ProjectStatus.valueOf(query.toUpperCase()).ordinal();
+        } catch (IllegalArgumentException e) {
+            recognised += e.getMessage().length();
+        }
+        return recognised;
+    }
+
+    private static int parseWithClassifier(String rawQuery) {
+        int recognised = QueryClassifier.classify(rawQuery).ordinal();
+        recognised += QueryClassifier.number(rawQuery).orElse(0);
+        recognised += QueryClassifier.date(rawQuery).map(LocalDate::getDayOfMonth).orElse(0);
+        recognised += QueryClassifier.enumValue(TaskStatus.class, rawQuery).map(Enum::ordinal).orElse(0);
+        recognised += QueryClassifier.enumValue(ProjectStatus.class, rawQuery).map(Enum::ordinal).orElse(0);
+        return recognised;
+    }
+}
@@ -0,0 +1,74 @@
+package com.teamsphere.perf;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Runs {@link LoadDriver} twice against an in-JVM instance, first serving requests on platform threads
+ * and then on virtual threads, and prints both reports followed by a side-by-side comparison.
+ *
+ * <p>Accepts the same options as {@link LoadDriver}, with defaults tuned for a high-concurrency
+ * list and search workload: {@code --concurrency=512}, {@code --client-threads=virtual} and
+ * {@code --mix=list-tasks=25,list-projects=15,search-employees=20,search-tasks=25,search-projects=15}.
+ * The dataset is generated only before the first run, so both modes see the same data.</p>
+ */
+public final class ThreadModeComparison {
+
+    private static final String DEFAULT_MIX =
+            "list-tasks=25,list-projects=15,search-employees=20,search-tasks=25,search-projects=15";
+
+    private ThreadModeComparison() {
+    }
+
+    /**
+     * Runs the comparison.
+     *
+     * @param args options in {@code --name=value} form, see {@link LoadDriver}
+     * @throws Exception if either run fails
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadDriver.parseOptions(args);
+        if (options.containsKey("base-url")) {
+            throw new IllegalArgumentException("The comparison restarts the application and cannot use --base-url");
+        }
+        options.putIfAbsent("concurrency", "512");
+        options.putIfAbsent("client-threads", "virtual");
+        options.putIfAbsent("mix", DEFAULT_MIX);
+
+        LoadDriver.Result platform = runMode(options, false);
+        options.remove("generate");
+        LoadDriver.Result virtual = runMode(options, true);
+
+        System.out.println("platform threads:" + platform.report());
+        System.out.println("virtual threads:" + virtual.report());
+        System.out.println(compare(platform, virtual));
+    }
+
+    private static LoadDriver.Result runMode(Map<String, String> options, boolean virtualThreads) throws Exception {
+        Map<String, String> runOptions = new HashMap<>(options);
+        runOptions.put("Dspring.threads.virtual.enabled", String.valueOf(virtualThreads));
+        runOptions.putIfAbsent("Ddatasource.acquire-limit.enabled", String.valueOf(virtualThreads));
+        LoadDriver.Result result = LoadDriver.execute(runOptions);
+        options.putIfAbsent("employees", runOptions.get("employees"));
+        options.putIfAbsent("tasks", runOptions.get("tasks"));
+        return result;
+    }
+
+    private static String compare(LoadDriver.Result platform, LoadDriver.Result virtual) {
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT, "%-24s %12s %12s %12s %12s%n",
+                "endpoint", "platform/s", "virtual/s", "platform p99", "virtual p99"));
+        platform.summaries().forEach((operation, summary) -> {
+            LatencyRecorder.Summary other = virtual.summaries().get(operation);
+            if (other != null) {
+                report.append(String.format(Locale.ROOT, "%-24s %12.1f %12.1f %12.2f %12.2f%n", operation.label(),
+                        summary.requests() * 1e9 / platform.durationNanos(),
+                        other.requests() * 1e9 / virtual.durationNanos(),
+                        summary.p99Millis(), other.p99Millis()));
+            }
+        });
+        report.append(String.format(Locale.ROOT, "%-24s %12.1f %12.1f%n", "total",
+                platform.throughput(), virtual.throughput()));
+        return report.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package com.teamsphere.perf;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipf distribution over the ranks {@code 1..n}.
+ * Rank {@code k} is drawn with probability proportional to {@code 1 / k^exponent},
+ * so a handful of low ranks dominate while the tail stays long.
+ */
+public final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    /**
+     * Creates a Zipf distribution.
+     *
+     * @param size     the number of ranks, must be positive
+     * @param exponent the skew exponent, must be positive (larger means more skew)
+     */
+    public ZipfDistribution(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        if (exponent <= 0) {
+            throw new IllegalArgumentException("exponent must be positive: " + exponent);
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * Draws the next rank.
+     *
+     * @param random the random source
+     * @return a rank between 1 and {@link #size()} inclusive
+     */
+    public int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(index, cumulative.length - 1) + 1;
+    }
+
+    /**
+     * Returns the number of ranks.
+     *
+     * @return the distribution size
+     */
+    public int size() {
+        return cumulative.length;
+    }
+}
@@ -0,0 +1,65 @@
+package com.teamsphere.perf;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZipfDistributionTest {
+
+    @Test
+    @DisplayName("sample should stay within 1..size")
+    void sample_staysInRange() {
+        ZipfDistribution zipf = new ZipfDistribution(10, 1.2);
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int i = 0; i < 10_000; i++) {
+            int rank = zipf.sample(random);
+            assertTrue(rank >= 1 && rank <= 10, "rank out of range: " + rank);
+        }
+    }
+
+    @Test
+    @DisplayName("sample should favour low ranks")
+    void sample_isSkewedTowardsLowRanks() {
+        ZipfDistribution zipf = new ZipfDistribution(100, 1.1);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] histogram = new int[101];
+
+        for (int i = 0; i < 100_000; i++) {
+            histogram[zipf.sample(random)]++;
+        }
+
+        assertTrue(histogram[1] > histogram[2]);
+        assertTrue(histogram[2] > histogram[10]);
+        assertTrue(histogram[10] > histogram[100]);
+    }
+
+    @Test
+    @DisplayName("same seed should produce the same sequence")
+    void sample_isRepeatable() {
+        ZipfDistribution zipf = new ZipfDistribution(50, 1.0);
+        SplittableRandom first = new SplittableRandom(42);
+        SplittableRandom second = new SplittableRandom(42);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(zipf.sample(first), zipf.sample(second));
+        }
+    }
+
+    @Test
+    void constructor_rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfDistribution(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfDistribution(10, 0));
+    }
+
+    @Test
+    void scaleFactor_parsesSuffixes() {
+        assertEquals(10_000, ScaleFactor.parse("10k").employees());
+        assertEquals(1_000_000, ScaleFactor.parse("1M").employees());
+        assertEquals(250, ScaleFactor.parse("250").employees());
+        assertEquals(200, ScaleFactor.parse("100k").departments());
+    }
+}
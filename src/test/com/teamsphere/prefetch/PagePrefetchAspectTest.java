@@ -0,0 +1,135 @@
+package com.teamsphere.prefetch;
+
+import com.teamsphere.cache.CachedResource;
+import com.teamsphere.cache.ResourceGenerations;
+import com.teamsphere.entity.TaskEntity;
+import com.teamsphere.mapper.TaskMapper;
+import com.teamsphere.repository.TaskRepository;
+import com.teamsphere.service.TaskService;
+import com.teamsphere.service.impl.TaskServiceImpl;
+import com.teamsphere.stats.TaskCounters;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PagePrefetchAspectTest {
+
+    private static final int PAGES = 10;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TaskCounters taskCounters;
+
+    private final ResourceGenerations generations = new ResourceGenerations();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PagePrefetchAspect aspect;
+    private TaskService service;
+
+    @BeforeEach
+    void setUp() {
+        aspect = new PagePrefetchAspect(new PrefetchProperties(true, Duration.ofMinutes(1), Duration.ofMinutes(1),
+                1, 4, 100), generations, meterRegistry);
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new TaskServiceImpl(taskMapper, taskRepository, entityManager, taskCounters));
+        factory.addAspect(aspect);
+        service = factory.getProxy();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user@teamsphere.com", null, List.of()));
+        lenient().when(taskRepository.findAllSorted(any(Pageable.class))).thenAnswer(invocation ->
+                new PageImpl<>(List.of(new TaskEntity()), invocation.getArgument(0), PAGES * 10L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        aspect.close();
+        SecurityContextHolder.clearContext();
+    }
+
+    private double count(String name, String result) {
+        return result == null ? meterRegistry.get(name).counter().count()
+                : meterRegistry.get(name).tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("getAll should serve the next page of a sequential client from the prefetch")
+    void getAll_shouldServePrefetchedPage() {
+        service.getAll(PageRequest.of(0, 10));
+        service.getAll(PageRequest.of(1, 10));
+        verify(taskRepository, timeout(5000)).findAllSorted(PageRequest.of(2, 10));
+
+        assertEquals(2, service.getAll(PageRequest.of(2, 10)).getNumber());
+
+        verify(taskRepository, timeout(5000)).findAllSorted(PageRequest.of(3, 10));
+        verify(taskRepository, times(1)).findAllSorted(PageRequest.of(2, 10));
+        assertEquals(1, count("service.prefetch.requests", "hit"));
+        assertEquals(1, count("service.prefetch.requests", "miss"));
+        assertEquals(2, count("service.prefetch.issued", null));
+    }
+
+    @Test
+    @DisplayName("getAll should discard a prefetched page after a write to its resource")
+    void getAll_shouldDiscardStalePrefetch() {
+        service.getAll(PageRequest.of(0, 10));
+        service.getAll(PageRequest.of(1, 10));
+        verify(taskRepository, timeout(5000)).findAllSorted(PageRequest.of(2, 10));
+        generations.bump(CachedResource.TASK);
+
+        service.getAll(PageRequest.of(2, 10));
+
+        verify(taskRepository, times(2)).findAllSorted(PageRequest.of(2, 10));
+        assertEquals(1, count("service.prefetch.wasted", null));
+        assertEquals(0, count("service.prefetch.requests", "hit"));
+    }
+
+    @Test
+    @DisplayName("getAll should not prefetch for clients jumping between pages or without a client")
+    void getAll_shouldNotPrefetchForRandomAccess() {
+        service.getAll(PageRequest.of(0, 10));
+        service.getAll(PageRequest.of(5, 10));
+        service.getAll(PageRequest.of(3, 10));
+        SecurityContextHolder.clearContext();
+        service.getAll(PageRequest.of(4, 10));
+
+        assertEquals(0, aspect.parkedPages());
+        assertEquals(0, count("service.prefetch.issued", null));
+    }
+
+    @Test
+    @DisplayName("getAll should not prefetch past the last page")
+    void getAll_shouldStopAtLastPage() {
+        service.getAll(PageRequest.of(PAGES - 2, 10));
+        service.getAll(PageRequest.of(PAGES - 1, 10));
+
+        assertEquals(0, aspect.parkedPages());
+        assertEquals(1, count("service.prefetch.requests", "miss"));
+    }
+}
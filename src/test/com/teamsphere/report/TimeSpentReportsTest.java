@@ -0,0 +1,92 @@
+package com.teamsphere.report;
+
+import com.teamsphere.cache.ResourceGenerations;
+import com.teamsphere.dto.report.ReportDimension;
+import com.teamsphere.dto.report.TimeSpentReportRequest;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TimeSpentReportsTest {
+
+    private static final TimeSpentReportRequest BY_DEPARTMENT_AND_EMPLOYEE = new TimeSpentReportRequest(
+            List.of(ReportDimension.DEPARTMENT, ReportDimension.EMPLOYEE), Set.of(TaskStatus.ACTIVE), null, null);
+
+    @Test
+    void sql_withRollup_shouldGroupOnceByRollup() {
+        String sql = reports(true).sql(BY_DEPARTMENT_AND_EMPLOYEE);
+
+        assertThat(sql).contains("GROUP BY ROLLUP(d.id, e.id)")
+                .contains("JOIN t_departments d ON d.id = e.department_id")
+                .contains("WHERE t.task_status IN (:statuses)")
+                .endsWith("ORDER BY k0 NULLS LAST, k1 NULLS LAST")
+                .doesNotContain("UNION ALL", "t_projects", ":types");
+    }
+
+    @Test
+    void sql_withoutRollup_shouldUnionOneGroupByPerLevel() {
+        String sql = reports(false).sql(BY_DEPARTMENT_AND_EMPLOYEE);
+
+        assertThat(sql.split(" UNION ALL ")).hasSize(3);
+        assertThat(sql).contains("GROUP BY d.id, e.id UNION ALL")
+                .contains("GROUP BY d.id UNION ALL")
+                .contains("CAST(NULL AS BIGINT) AS k0")
+                .doesNotContain("ROLLUP");
+    }
+
+    @Test
+    void sql_byCompany_shouldJoinThroughProjectAllocations() {
+        String sql = reports(true).sql(new TimeSpentReportRequest(List.of(ReportDimension.COMPANY), null,
+                Set.of(TaskType.BUG), null));
+
+        assertThat(sql).contains("JOIN t_projects_employees pe ON pe.employee_id = e.id")
+                .contains("JOIN t_companies c ON c.id = pr.company_id")
+                .contains("WHERE t.task_type IN (:types)");
+    }
+
+    @Test
+    void sql_byProject_shouldAggregateDistinctTasksPerLevel() {
+        String sql = reports(true).sql(new TimeSpentReportRequest(
+                List.of(ReportDimension.DEPARTMENT, ReportDimension.PROJECT), null, null, null));
+
+        assertThat(sql.split(" UNION ALL ")).hasSize(3);
+        assertThat(sql).contains("SELECT DISTINCT t.id AS task_id, t.time_spent_minutes AS minutes, d.id AS k0, "
+                        + "d.department_name AS n0, pr.id AS k1, pr.name AS n1 FROM")
+                .contains(") r GROUP BY r.k0, r.k1 UNION ALL")
+                .contains(") r GROUP BY r.k0 UNION ALL")
+                .contains("COUNT(r.minutes) AS timed")
+                .doesNotContain("ROLLUP");
+    }
+
+    @Test
+    void sql_withoutGroups_shouldOnlyTotal() {
+        String sql = reports(true).sql(new TimeSpentReportRequest(null, null, null, null));
+
+        assertThat(sql).doesNotContain("GROUP BY", "ORDER BY", "WHERE");
+    }
+
+    @Test
+    void request_shouldNormalizeForCaching() {
+        TimeSpentReportRequest request = new TimeSpentReportRequest(
+                List.of(ReportDimension.PROJECT, ReportDimension.EMPLOYEE, ReportDimension.PROJECT),
+                Set.of(TaskStatus.PENDING, TaskStatus.ACTIVE), Set.of(), null);
+
+        assertThat(request.groupBy()).containsExactly(ReportDimension.PROJECT, ReportDimension.EMPLOYEE);
+        assertThat(request).isEqualTo(new TimeSpentReportRequest(
+                List.of(ReportDimension.PROJECT, ReportDimension.EMPLOYEE),
+                Set.of(TaskStatus.ACTIVE, TaskStatus.PENDING), null, Set.of()));
+    }
+
+    private static TimeSpentReports reports(boolean rollup) {
+        return new TimeSpentReports(rollup, mock(EntityManager.class), mock(PlatformTransactionManager.class),
+                new ResourceGenerations(), new ReportProperties(16));
+    }
+}
@@ -0,0 +1,49 @@
+package com.teamsphere.search;
+
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.search.QueryClassifier.QueryClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryClassifierTest {
+
+    @Test
+    @DisplayName("classify should recognise identifier-shaped queries")
+    void classify_shouldRecogniseIdentifiers() {
+        assertEquals(QueryClass.PIN, QueryClassifier.classify("1234567890"));
+        assertEquals(QueryClass.PIN, QueryClassifier.classify("123-456 78"));
+        assertEquals(QueryClass.NUMERIC, QueryClassifier.classify("1001"));
+        assertEquals(QueryClass.EMAIL, QueryClassifier.classify("john.doe@company.com"));
+        assertEquals(QueryClass.DATE, QueryClassifier.classify("2024-01-15"));
+        assertEquals(QueryClass.PIN, QueryClassifier.classify("2024-13-45"));
+    }
+
+    @Test
+    @DisplayName("classify should treat everything else as text")
+    void classify_shouldFallBackToText() {
+        assertEquals(QueryClass.TEXT, QueryClassifier.classify("John"));
+        assertEquals(QueryClass.TEXT, QueryClassifier.classify("john@"));
+        assertEquals(QueryClass.TEXT, QueryClassifier.classify("12345678901"));
+        assertEquals(QueryClass.TEXT, QueryClassifier.classify(" "));
+        assertEquals(QueryClass.TEXT, QueryClassifier.classify(null));
+    }
+
+    @Test
+    @DisplayName("number, date and enumValue should parse without throwing")
+    void parsers_shouldReturnEmptyForOtherText() {
+        assertEquals(OptionalInt.of(120), QueryClassifier.number("120"));
+        assertEquals(OptionalInt.empty(), QueryClassifier.number("%120%"));
+        assertEquals(Optional.of(LocalDate.of(2024, 2, 29)), QueryClassifier.date("2024-02-29"));
+        assertEquals(Optional.empty(), QueryClassifier.date("2023-02-29"));
+        assertEquals(Optional.empty(), QueryClassifier.date("2024-00-10"));
+        assertEquals(Optional.of(TaskStatus.ACTIVE), QueryClassifier.enumValue(TaskStatus.class, "active"));
+        assertEquals(Optional.empty(), QueryClassifier.enumValue(TaskStatus.class, "act"));
+        assertEquals(Optional.empty(), QueryClassifier.enumValue(TaskStatus.class, null));
+    }
+}
@@ -0,0 +1,91 @@
+package com.teamsphere.search;
+
+import com.teamsphere.cache.CachedResource;
+import com.teamsphere.cache.ResourceGenerations;
+import com.teamsphere.entity.CompanyEntity;
+import com.teamsphere.service.impl.CompanyServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchCountingTest {
+
+    private final ResourceGenerations generations = new ResourceGenerations();
+    private final SearchCounting counting =
+            new SearchCounting(CountMode.WINDOW, 0, Duration.ofMinutes(1), 10, generations);
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private SearchCounting.CountToken token(String query) {
+        return counting.token(CompanyServiceImpl.class, CompanyEntity.class, query);
+    }
+
+    @Test
+    @DisplayName("token should hand out a remembered total for the same query")
+    void token_shouldReuseRememberedTotal() {
+        SearchCounting.CountToken first = token("acme");
+        assertFalse(first.isKnown());
+        first.remember(42);
+
+        assertEquals(42, token("acme").total());
+        assertFalse(token("globex").isKnown());
+    }
+
+    @Test
+    @DisplayName("token should forget totals after a write to the searched resource")
+    void token_shouldForgetTotalAfterWrite() {
+        token("acme").remember(42);
+        generations.bump(CachedResource.TASK);
+        assertTrue(token("acme").isKnown());
+
+        generations.bump(CachedResource.COMPANY);
+
+        assertFalse(token("acme").isKnown());
+    }
+
+    @Test
+    @DisplayName("token should not remember a total computed before a concurrent write")
+    void token_shouldIgnoreTotalFromBeforeWrite() {
+        SearchCounting.CountToken stale = token("acme");
+        generations.bump(CachedResource.COMPANY);
+        stale.remember(42);
+
+        assertFalse(token("acme").isKnown());
+    }
+
+    @Test
+    @DisplayName("token should not be reused outside read-only transactions")
+    void token_shouldRequireReadOnlyTransaction() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        token("acme").remember(42);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertFalse(token("acme").isKnown());
+    }
+
+    @Test
+    @DisplayName("token should not remember totals read before a write has reached the replicas")
+    void token_shouldWaitForWriteToSettle() {
+        ResourceGenerations lagging = new ResourceGenerations(Duration.ofMinutes(1));
+        SearchCounting laggingCounting = new SearchCounting(CountMode.WINDOW, 0, Duration.ofMinutes(1), 10, lagging);
+        lagging.bump(CachedResource.COMPANY);
+
+        laggingCounting.token(CompanyServiceImpl.class, CompanyEntity.class, "acme").remember(42);
+
+        assertFalse(laggingCounting.token(CompanyServiceImpl.class, CompanyEntity.class, "acme").isKnown());
+    }
+}
@@ -0,0 +1,95 @@
+package com.teamsphere.search;
+
+import com.teamsphere.exception.SearchSupersededException;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class SearchSessionsTest {
+
+    private final SearchSessions sessions = new SearchSessions(Duration.ofMillis(1500));
+
+    @AfterEach
+    void tearDown() {
+        assertThat(SearchSessions.current()).isNull();
+    }
+
+    @Test
+    void begin_shouldSupersedeRunningSearchOfSameSession() {
+        SearchSession first = sessions.begin("alice\u0000box");
+        SearchSession second = sessions.begin("alice\u0000box");
+
+        assertThat(first.isSuperseded()).isTrue();
+        assertThat(second.isSuperseded()).isFalse();
+        assertThat(SearchSessions.current()).isSameAs(second);
+        sessions.end("alice\u0000box", first);
+        assertThat(sessions.running()).isEqualTo(1);
+        sessions.end("alice\u0000box", second);
+        assertThat(sessions.running()).isZero();
+    }
+
+    @Test
+    void supersede_shouldCancelAttachedSessionAndFailLaterAttach() {
+        Session hibernateSession = mock(Session.class);
+        SearchSession search = sessions.begin("alice\u0000box");
+        search.attach(hibernateSession);
+
+        SearchSession newer = sessions.begin("alice\u0000box");
+
+        verify(hibernateSession).cancelQuery();
+        assertThatThrownBy(() -> search.attach(hibernateSession)).isInstanceOf(SearchSupersededException.class);
+        sessions.end("alice\u0000box", search);
+        sessions.end("alice\u0000box", newer);
+    }
+
+    @Test
+    void begin_shouldNotSupersedeOtherSessions() {
+        SearchSession alice = sessions.begin("alice\u0000box");
+        SearchSession bob = sessions.begin("bob\u0000box");
+
+        assertThat(alice.isSuperseded()).isFalse();
+        assertThat(bob.isSuperseded()).isFalse();
+        sessions.end("alice\u0000box", alice);
+        sessions.end("bob\u0000box", bob);
+    }
+
+    @Test
+    void supersede_shouldSupersedeChildren() {
+        Session hibernateSession = mock(Session.class);
+        SearchSession search = sessions.begin("alice\u0000box");
+        SearchSession child = search.child();
+        SearchSession other = search.child();
+        child.attach(hibernateSession);
+
+        other.supersede();
+        assertThat(search.isSuperseded()).isFalse();
+        sessions.end("alice\u0000box", sessions.begin("alice\u0000box"));
+
+        verify(hibernateSession).cancelQuery();
+        assertThat(child.isSuperseded()).isTrue();
+        assertThat(search.child().isSuperseded()).isTrue();
+        sessions.end("alice\u0000box", search);
+    }
+
+    @Test
+    void callAs_shouldBindSearchForTheCallOnly() {
+        SearchSession search = new SearchSession();
+
+        SearchSession seen = SearchSessions.callAs(search, SearchSessions::current);
+
+        assertThat(seen).isSameAs(search);
+    }
+
+    @Test
+    void statementTimeoutSeconds_shouldRoundUp() {
+        assertThat(sessions.statementTimeoutSeconds()).isEqualTo(2);
+        assertThat(SearchSessions.NONE.statementTimeoutSeconds()).isZero();
+    }
+}
@@ -1,11 +1,14 @@
 package com.teamsphere.service.impl;
 
+import com.teamsphere.cache.CachedResource;
 import com.teamsphere.dto.company.CompanyDto;
 import com.teamsphere.dto.company.CompanySearchRequest;
+import com.teamsphere.dto.suggest.SuggestionDto;
 import com.teamsphere.entity.CompanyEntity;
 import com.teamsphere.mapper.CompanyMapper;
 import com.teamsphere.mapper.base.BaseMapper;
 import com.teamsphere.repository.CompanyRepository;
+import com.teamsphere.suggest.SuggestionIndex;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -25,6 +28,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -43,6 +47,9 @@ class CompanyServiceImplTest {
     @Mock
     private EntityManager entityManager;
 
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
     @InjectMocks
     private CompanyServiceImpl companyService;
 
@@ -156,4 +163,13 @@ class CompanyServiceImplTest {
         assertEquals(0, result.getTotalElements());
         assertTrue(result.getContent().isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("suggest should serve companies from the suggestion index")
+    void testSuggest() {
+        List<SuggestionDto> suggestions = List.of(new SuggestionDto(1L, "Test Company"));
+        when(suggestionIndex.suggest(CachedResource.COMPANY, "tes", 5)).thenReturn(suggestions);
+
+        assertEquals(suggestions, companyService.suggest("tes", 5));
+    }
+}
@@ -3,9 +3,17 @@ package com.teamsphere.service.impl;
 import com.teamsphere.dto.employee.EmployeeDto;
 import com.teamsphere.dto.employee.EmployeeSearchRequest;
 import com.teamsphere.entity.EmployeeEntity;
+import com.teamsphere.entity.TaskEntity;
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
 import com.teamsphere.mapper.EmployeeMapper;
 import com.teamsphere.mapper.base.BaseMapper;
+import com.teamsphere.exception.NotFoundException;
 import com.teamsphere.repository.EmployeeRepository;
+import com.teamsphere.staffing.StaffingIndex;
+import com.teamsphere.stats.TaskCountKey;
+import com.teamsphere.stats.TaskCounters;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -20,11 +28,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,6 +54,12 @@ class EmployeeServiceImplTest {
     @Mock
     private EntityManager entityManager;
 
+    @Mock
+    private StaffingIndex staffingIndex;
+
+    @Mock
+    private TaskCounters taskCounters;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -67,7 +85,8 @@ class EmployeeServiceImplTest {
     @Test
     void testGetAll() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(employeeRepository.findAllWithRelations()).thenReturn(Collections.singletonList(employeeEntity));
+        when(employeeRepository.findPageOfIds(pageable)).thenReturn(new PageImpl<>(List.of(1L), pageable, 1));
+        when(employeeRepository.findAllWithRelationsByIdIn(List.of(1L))).thenReturn(Collections.singletonList(employeeEntity));
         when(employeeMapper.toDto(any(EmployeeEntity.class))).thenReturn(employeeDto);
 
         Page<EmployeeDto> result = employeeService.getAll(pageable);
@@ -114,10 +133,8 @@ class EmployeeServiceImplTest {
     }
 
     @Test
-    @DisplayName("find should handle numeric query (PIN parsing fails due to % wrapping)")
+    @DisplayName("find should also match PINs containing a numeric query")
     void testFind_withNumericQuery() {
-        // Note: The query "123456" becomes "%123456%" which can't be parsed as Integer
-        // So this test verifies the fallback behavior with 3 predicates
         EmployeeSearchRequest request = new EmployeeSearchRequest("123456");
         Pageable pageable = PageRequest.of(0, 10);
 
@@ -133,7 +150,8 @@ class EmployeeServiceImplTest {
         when(criteriaBuilder.createQuery(EmployeeEntity.class)).thenReturn(criteriaQuery);
         when(criteriaQuery.from(EmployeeEntity.class)).thenReturn(root);
         when(criteriaBuilder.like(any(), any(String.class))).thenReturn(predicate);
-        when(criteriaBuilder.or(any(Predicate.class), any(Predicate.class), any(Predicate.class))).thenReturn(predicate);
+        when(criteriaBuilder.or(any(Predicate.class), any(Predicate.class), any(Predicate.class), any(Predicate.class)))
+                .thenReturn(predicate);
         when(entityManager.createQuery(criteriaQuery)).thenReturn(typedQuery);
         when(typedQuery.setFirstResult(any(int.class))).thenReturn(typedQuery);
         when(typedQuery.setMaxResults(any(int.class))).thenReturn(typedQuery);
@@ -150,8 +168,42 @@ class EmployeeServiceImplTest {
         Page<EmployeeDto> result = employeeService.find(request, pageable);
 
         assertEquals(1, result.getTotalElements());
-        // Verify that or was called with 3 predicates (PIN parsing fails for "%123456%")
-        verify(criteriaBuilder, times(2)).or(any(Predicate.class), any(Predicate.class), any(Predicate.class));
+        verify(criteriaBuilder, times(2))
+                .or(any(Predicate.class), any(Predicate.class), any(Predicate.class), any(Predicate.class));
+    }
+
+    @Test
+    @DisplayName("delete should remove the employee from the staffing index")
+    void testDelete() {
+        when(employeeRepository.existsById(1L)).thenReturn(true);
+
+        employeeService.delete(1L);
+
+        verify(employeeRepository).deleteById(1L);
+        verify(staffingIndex).removed(1L);
+    }
+
+    @Test
+    @DisplayName("delete should take the employee's tasks off the task counters")
+    void testDelete_countsTasks() {
+        TaskEntity task = TaskEntity.builder().employee(employeeEntity).taskStatus(TaskStatus.ACTIVE)
+                .taskType(TaskType.BUG).taskPriority(TaskPriority.HIGH).build();
+        employeeEntity.setTasks(Set.of(task));
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employeeEntity));
+        when(employeeRepository.existsById(1L)).thenReturn(true);
+
+        employeeService.delete(1L);
+
+        verify(taskCounters).changed(TaskCountKey.of(task), null);
+    }
+
+    @Test
+    @DisplayName("delete should leave the staffing index alone when the employee does not exist")
+    void testDelete_notFound() {
+        when(employeeRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> employeeService.delete(1L));
+        verifyNoInteractions(staffingIndex);
     }
 
     @Test
@@ -174,7 +226,7 @@ class EmployeeServiceImplTest {
     @DisplayName("getAll should return empty page when no employees exist")
     void testGetAll_emptyList() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(employeeRepository.findAllWithRelations()).thenReturn(Collections.emptyList());
+        when(employeeRepository.findPageOfIds(pageable)).thenReturn(Page.empty(pageable));
 
         Page<EmployeeDto> result = employeeService.getAll(pageable);
 
@@ -0,0 +1,131 @@
+package com.teamsphere.service.impl;
+
+import com.teamsphere.dto.company.CompanyDto;
+import com.teamsphere.dto.company.CompanySearchRequest;
+import com.teamsphere.dto.employee.EmployeeSearchRequest;
+import com.teamsphere.dto.project.ProjectSearchRequest;
+import com.teamsphere.dto.search.GlobalSearchRequest;
+import com.teamsphere.dto.search.GlobalSearchResponse;
+import com.teamsphere.dto.task.TaskSearchRequest;
+import com.teamsphere.search.GlobalSearchProperties;
+import com.teamsphere.service.CompanyService;
+import com.teamsphere.service.EmployeeService;
+import com.teamsphere.service.ProjectService;
+import com.teamsphere.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GlobalSearchServiceImplTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private CompanyService companyService;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private TaskService taskService;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private GlobalSearchServiceImpl globalSearchService;
+
+    @BeforeEach
+    void setUp() {
+        globalSearchService = new GlobalSearchServiceImpl(employeeService, companyService, projectService,
+                taskService, new GlobalSearchProperties(Duration.ofMillis(300), 5, 20));
+        lenient().when(employeeService.find(any(EmployeeSearchRequest.class), any(Pageable.class)))
+                .thenReturn(Page.empty());
+        lenient().when(projectService.find(any(ProjectSearchRequest.class), any(Pageable.class)))
+                .thenReturn(Page.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void search_shouldRankMatchesByName() {
+        when(companyService.find(any(CompanySearchRequest.class), any(Pageable.class))).thenReturn(new PageImpl<>(
+                List.of(company(1L, "Big Acme"), company(2L, "Acme Holdings"), company(3L, "Acme"),
+                        company(4L, "Nacmea"))));
+        when(taskService.find(any(TaskSearchRequest.class), any(Pageable.class))).thenReturn(Page.empty());
+
+        GlobalSearchResponse response = globalSearchService.search(new GlobalSearchRequest(" ACME ", null));
+
+        assertThat(response.companies().complete()).isTrue();
+        assertThat(response.companies().total()).isEqualTo(4);
+        assertThat(response.companies().items()).extracting(CompanyDto::getId).containsExactly(3L, 2L, 1L, 4L);
+        assertThat(response.tasks().complete()).isTrue();
+        verify(companyService).find(any(CompanySearchRequest.class), argThat(p -> p.getPageSize() == 5));
+    }
+
+    @Test
+    void search_whenSourceMissesDeadline_shouldReturnPartialResults() {
+        when(companyService.find(any(CompanySearchRequest.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(company(1L, "Acme"))));
+        when(taskService.find(any(TaskSearchRequest.class), any(Pageable.class))).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return Page.empty();
+        });
+        long start = System.nanoTime();
+
+        GlobalSearchResponse response = globalSearchService.search(new GlobalSearchRequest("Acme", 50));
+
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+        assertThat(response.tasks().complete()).isFalse();
+        assertThat(response.tasks().items()).isEmpty();
+        assertThat(response.companies().items()).hasSize(1);
+        assertThat(response.employees().complete()).isTrue();
+        verify(companyService).find(any(CompanySearchRequest.class), argThat(p -> p.getPageSize() == 20));
+    }
+
+    @Test
+    void search_whenSourceFails_shouldMarkItIncomplete() {
+        when(companyService.find(any(CompanySearchRequest.class), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("down"));
+        when(taskService.find(any(TaskSearchRequest.class), any(Pageable.class))).thenReturn(Page.empty());
+
+        GlobalSearchResponse response = globalSearchService.search(new GlobalSearchRequest("Acme", 3));
+
+        assertThat(response.companies().complete()).isFalse();
+        assertThat(response.projects().complete()).isTrue();
+    }
+
+    @Test
+    void matchRank_shouldPreferEqualThenPrefixThenWordPrefix() {
+        assertThat(GlobalSearchServiceImpl.matchRank("acme", "ACME")).isZero();
+        assertThat(GlobalSearchServiceImpl.matchRank("acme", "Acme Holdings")).isEqualTo(1);
+        assertThat(GlobalSearchServiceImpl.matchRank("acme", "Big Acme")).isEqualTo(2);
+        assertThat(GlobalSearchServiceImpl.matchRank("acme", "Nacmea", null)).isEqualTo(3);
+        assertThat(GlobalSearchServiceImpl.matchRank("acme", "Nacmea", "acme")).isZero();
+    }
+
+    private static CompanyDto company(Long id, String name) {
+        return CompanyDto.builder().id(id).name(name).build();
+    }
+}
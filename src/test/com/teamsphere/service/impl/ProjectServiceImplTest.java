@@ -2,11 +2,14 @@ package com.teamsphere.service.impl;
 
 import com.teamsphere.dto.project.ProjectDto;
 import com.teamsphere.dto.project.ProjectSearchRequest;
+import com.teamsphere.dto.project.StaffOverlapDto;
 import com.teamsphere.entity.ProjectEntity;
 import com.teamsphere.entity.enums.ProjectStatus;
+import com.teamsphere.exception.NotFoundException;
 import com.teamsphere.mapper.ProjectMapper;
 import com.teamsphere.mapper.base.BaseMapper;
 import com.teamsphere.repository.ProjectRepository;
+import com.teamsphere.staffing.StaffingIndex;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -27,6 +30,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,6 +48,9 @@ class ProjectServiceImplTest {
     @Mock
     private EntityManager entityManager;
 
+    @Mock
+    private StaffingIndex staffingIndex;
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -133,6 +140,25 @@ class ProjectServiceImplTest {
         assertEquals(projectRepository, repository);
     }
 
+    @Test
+    @DisplayName("findStaffOverlaps should return the overlaps from the staffing index")
+    void testFindStaffOverlaps() {
+        List<StaffOverlapDto> overlaps = List.of(new StaffOverlapDto(2L, 3));
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(staffingIndex.overlaps(1L)).thenReturn(overlaps);
+
+        assertEquals(overlaps, projectService.findStaffOverlaps(1L));
+    }
+
+    @Test
+    @DisplayName("findStaffOverlaps should throw NotFoundException for an unknown project")
+    void testFindStaffOverlaps_notFound() {
+        when(projectRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> projectService.findStaffOverlaps(1L));
+        verifyNoInteractions(staffingIndex);
+    }
+
     @Test
     @DisplayName("getAll should return empty page when no projects exist")
     void testGetAll_emptyList() {
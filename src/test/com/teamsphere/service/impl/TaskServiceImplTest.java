@@ -6,9 +6,12 @@ import com.teamsphere.entity.TaskEntity;
 import com.teamsphere.entity.enums.TaskPriority;
 import com.teamsphere.entity.enums.TaskStatus;
 import com.teamsphere.entity.enums.TaskType;
+import com.teamsphere.exception.NotFoundException;
 import com.teamsphere.mapper.TaskMapper;
 import com.teamsphere.mapper.base.BaseMapper;
 import com.teamsphere.repository.TaskRepository;
+import com.teamsphere.stats.TaskCountKey;
+import com.teamsphere.stats.TaskCounters;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -34,6 +37,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -49,6 +53,9 @@ class TaskServiceImplTest {
     @Mock
     private EntityManager entityManager;
 
+    @Mock
+    private TaskCounters taskCounters;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -185,10 +192,8 @@ class TaskServiceImplTest {
     }
 
     @Test
-    @DisplayName("find should handle numeric query (but it wraps with % so parsing fails)")
-    void testFind_withNumericQuery() {
-        // Note: The query "120" becomes "%120%" which can't be parsed as Integer
-        // So this test verifies the fallback behavior with 3 predicates
+    @DisplayName("find should look a numeric query up as task number before scanning")
+    void testFind_withNumericQuery_shouldMatchTaskNumberExactly() {
         TaskSearchRequest request = new TaskSearchRequest("120");
         Pageable pageable = PageRequest.of(0, 10);
 
@@ -203,8 +208,7 @@ class TaskServiceImplTest {
         when(entityManager.getCriteriaBuilder()).thenReturn(criteriaBuilder);
         when(criteriaBuilder.createQuery(TaskEntity.class)).thenReturn(criteriaQuery);
         when(criteriaQuery.from(TaskEntity.class)).thenReturn(root);
-        when(criteriaBuilder.like(any(), any(String.class))).thenReturn(predicate);
-        when(criteriaBuilder.or(any(Predicate.class), any(Predicate.class), any(Predicate.class))).thenReturn(predicate);
+        when(criteriaBuilder.equal(any(), eq("120"))).thenReturn(predicate);
         when(entityManager.createQuery(criteriaQuery)).thenReturn(typedQuery);
         when(typedQuery.setFirstResult(any(int.class))).thenReturn(typedQuery);
         when(typedQuery.setMaxResults(any(int.class))).thenReturn(typedQuery);
@@ -221,8 +225,89 @@ class TaskServiceImplTest {
         Page<TaskDto> result = taskService.find(request, pageable);
 
         assertEquals(1, result.getTotalElements());
-        // Verify that or was called with 3 predicates (numeric parsing fails for "%120%")
-        verify(criteriaBuilder, times(2)).or(any(Predicate.class), any(Predicate.class), any(Predicate.class));
+        verify(criteriaBuilder, never()).like(any(), any(String.class));
+    }
+
+    @Test
+    @DisplayName("find should fall back to scanning with time spent when no task number matches")
+    void testFind_withNumericQuery_shouldFallBackToScan() {
+        TaskSearchRequest request = new TaskSearchRequest("120");
+        Pageable pageable = PageRequest.of(0, 10);
+
+        CriteriaBuilder criteriaBuilder = mock(CriteriaBuilder.class);
+        CriteriaQuery<TaskEntity> criteriaQuery = mock(CriteriaQuery.class);
+        Root<TaskEntity> root = mock(Root.class);
+        Predicate predicate = mock(Predicate.class);
+        TypedQuery<TaskEntity> typedQuery = mock(TypedQuery.class);
+        CriteriaQuery<Long> countQuery = mock(CriteriaQuery.class);
+        TypedQuery<Long> countTypedQuery = mock(TypedQuery.class);
+
+        when(entityManager.getCriteriaBuilder()).thenReturn(criteriaBuilder);
+        when(criteriaBuilder.createQuery(TaskEntity.class)).thenReturn(criteriaQuery);
+        when(criteriaQuery.from(TaskEntity.class)).thenReturn(root);
+        when(criteriaBuilder.equal(any(), eq("120"))).thenReturn(predicate);
+        when(criteriaBuilder.equal(any(), eq(120))).thenReturn(predicate);
+        when(criteriaBuilder.like(any(), any(String.class))).thenReturn(predicate);
+        when(criteriaBuilder.or(any(Predicate.class), any(Predicate.class), any(Predicate.class), any(Predicate.class)))
+                .thenReturn(predicate);
+        when(entityManager.createQuery(criteriaQuery)).thenReturn(typedQuery);
+        when(typedQuery.setFirstResult(any(int.class))).thenReturn(typedQuery);
+        when(typedQuery.setMaxResults(any(int.class))).thenReturn(typedQuery);
+        when(typedQuery.getResultList()).thenReturn(Collections.emptyList(), Collections.singletonList(taskEntity));
+        when(taskMapper.toDto(any(TaskEntity.class))).thenReturn(taskDto);
+
+        when(criteriaBuilder.createQuery(Long.class)).thenReturn(countQuery);
+        when(countQuery.from(any(Class.class))).thenReturn(mock(Root.class));
+        when(countQuery.select(any())).thenReturn(countQuery);
+        when(countQuery.where(any(Predicate.class))).thenReturn(countQuery);
+        when(entityManager.createQuery(countQuery)).thenReturn(countTypedQuery);
+        when(countTypedQuery.getSingleResult()).thenReturn(0L, 1L);
+
+        Page<TaskDto> result = taskService.find(request, pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(taskDto, result.getContent().getFirst());
+        verify(criteriaBuilder, times(2))
+                .or(any(Predicate.class), any(Predicate.class), any(Predicate.class), any(Predicate.class));
+    }
+
+    @Test
+    @DisplayName("update should move the task between the counts of its old and new status")
+    void testUpdate_shouldMoveTaskCounts() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(taskEntity));
+        doAnswer(invocation -> {
+            taskEntity.setTaskStatus(TaskStatus.ACTIVE);
+            return null;
+        }).when(taskMapper).updateFromDto(taskDto, taskEntity);
+        when(taskRepository.save(taskEntity)).thenReturn(taskEntity);
+        when(taskMapper.toDto(taskEntity)).thenReturn(taskDto);
+
+        taskService.update(taskDto, 1L);
+
+        verify(taskCounters).changed(
+                new TaskCountKey(null, TaskStatus.PENDING, TaskType.FEATURE, TaskPriority.MEDIUM),
+                new TaskCountKey(null, TaskStatus.ACTIVE, TaskType.FEATURE, TaskPriority.MEDIUM));
+    }
+
+    @Test
+    @DisplayName("delete should remove the task from the counts")
+    void testDelete_shouldRemoveTaskCounts() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(taskEntity));
+
+        taskService.delete(1L);
+
+        verify(taskRepository).delete(taskEntity);
+        verify(taskCounters).changed(
+                new TaskCountKey(null, TaskStatus.PENDING, TaskType.FEATURE, TaskPriority.MEDIUM), null);
+    }
+
+    @Test
+    @DisplayName("delete should throw NotFoundException when the task does not exist")
+    void testDelete_whenMissing_shouldThrow() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> taskService.delete(1L));
+        verifyNoInteractions(taskCounters);
     }
 
     @Test
@@ -0,0 +1,98 @@
+package com.teamsphere.staffing;
+
+import com.teamsphere.dto.project.ProjectStaffingDto;
+import com.teamsphere.dto.project.StaffOverlapDto;
+import com.teamsphere.entity.DepartmentEntity;
+import com.teamsphere.entity.EmployeeEntity;
+import com.teamsphere.entity.ProjectEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+class StaffingIndexTest {
+
+    private final StaffingIndex index = new StaffingIndex(mock(EntityManager.class),
+            mock(PlatformTransactionManager.class));
+
+    @BeforeEach
+    void setUp() {
+        index.changed(employee(1, 10, 100, 200));
+        index.changed(employee(2, 10, 100, 200, 300));
+        index.changed(employee(3, 20, 100, 300));
+        index.changed(employee(4, 20, 200));
+    }
+
+    @Test
+    void shared_shouldIntersectProjectsAndDepartment() {
+        assertThat(index.shared(List.of(100L, 200L), null).employeeIds()).containsExactly(1L, 2L);
+        assertThat(index.shared(List.of(100L, 300L), 20L).employeeIds()).containsExactly(3L);
+        assertThat(index.shared(List.of(100L, 999L), null).employeeIds()).isEmpty();
+    }
+
+    @Test
+    void overlaps_shouldCountSharedEmployeesMostFirst() {
+        assertThat(index.overlaps(100L)).containsExactly(new StaffOverlapDto(200L, 2), new StaffOverlapDto(300L, 2));
+        assertThat(index.overlaps(300L)).containsExactly(new StaffOverlapDto(100L, 2), new StaffOverlapDto(200L, 1));
+        assertThat(index.overlaps(999L)).isEmpty();
+    }
+
+    @Test
+    void staffing_shouldCountPerDepartment() {
+        assertThat(index.staffing(List.of())).containsExactly(
+                new ProjectStaffingDto(100L, 3, Map.of(10L, 2, 20L, 1)),
+                new ProjectStaffingDto(200L, 3, Map.of(10L, 2, 20L, 1)),
+                new ProjectStaffingDto(300L, 2, Map.of(10L, 1, 20L, 1)));
+        assertThat(index.staffing(List.of(999L))).containsExactly(new ProjectStaffingDto(999L, 0, Map.of()));
+    }
+
+    @Test
+    void changedAndRemoved_shouldMoveEmployees() {
+        index.changed(employee(1, 20, 300));
+        index.removed(2L);
+
+        assertThat(index.shared(List.of(100L, 200L), null).employeeIds()).isEmpty();
+        assertThat(index.shared(List.of(300L), 20L).employeeIds()).containsExactly(1L, 3L);
+        assertThat(index.staffing(List.of()))
+                .extracting(ProjectStaffingDto::projectId, ProjectStaffingDto::employees)
+                .containsExactly(tuple(100L, 1), tuple(200L, 1), tuple(300L, 2));
+    }
+
+    @Test
+    void shared_shouldHandleIdsBeyondIntRangeInAscendingOrder() {
+        index.changed(employee(Long.MAX_VALUE, 10, 400));
+        index.changed(employee(5_000_000_000L, 10, 400));
+        for (long id = 100; id < 200; id++) {
+            index.changed(employee(id, 30, 400));
+        }
+        index.changed(employee(7, 10, 400));
+
+        assertThat(index.shared(List.of(400L), 10L).employeeIds())
+                .containsExactly(7L, 5_000_000_000L, Long.MAX_VALUE);
+        assertThat(index.staffing(List.of(400L)))
+                .containsExactly(new ProjectStaffingDto(400L, 103, Map.of(10L, 3, 30L, 100)));
+    }
+
+    private static EmployeeEntity employee(long id, long departmentId, long... projectIds) {
+        EmployeeEntity employee = new EmployeeEntity();
+        employee.setId(id);
+        DepartmentEntity department = new DepartmentEntity();
+        department.setId(departmentId);
+        employee.setDepartment(department);
+        employee.setProjects(new LinkedHashSet<>(Arrays.stream(projectIds).mapToObj(projectId -> {
+            ProjectEntity project = new ProjectEntity();
+            project.setId(projectId);
+            return project;
+        }).toList()));
+        return employee;
+    }
+}
@@ -0,0 +1,145 @@
+package com.teamsphere.stats;
+
+import com.teamsphere.dto.task.TaskStatsDto;
+import com.teamsphere.entity.enums.TaskPriority;
+import com.teamsphere.entity.enums.TaskStatus;
+import com.teamsphere.entity.enums.TaskType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskCountersTest {
+
+    private static final TaskCountKey PENDING_BUG =
+            new TaskCountKey(7L, TaskStatus.PENDING, TaskType.BUG, TaskPriority.HIGH);
+    private static final TaskCountKey ACTIVE_BUG =
+            new TaskCountKey(7L, TaskStatus.ACTIVE, TaskType.BUG, TaskPriority.HIGH);
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final TaskCounters counters = new TaskCounters(new TaskStatsProperties(Duration.ZERO),
+            entityManager, mock(PlatformTransactionManager.class));
+
+    @Test
+    void changed_shouldMoveTaskBetweenCounts() {
+        counters.changed(null, PENDING_BUG);
+        counters.changed(null, new TaskCountKey(null, TaskStatus.PENDING, TaskType.FEATURE, TaskPriority.LOW));
+        counters.changed(PENDING_BUG, ACTIVE_BUG);
+
+        TaskStatsDto stats = counters.snapshot(List.of());
+
+        assertThat(stats.total()).containsEntry(TaskStatus.PENDING, 1L).containsEntry(TaskStatus.ACTIVE, 1L);
+        assertThat(stats.byEmployee()).containsOnlyKeys(7L);
+        assertThat(stats.byEmployee().get(7L)).containsEntry(TaskStatus.PENDING, 0L)
+                .containsEntry(TaskStatus.ACTIVE, 1L);
+        assertThat(stats.byType().get(TaskType.BUG)).containsEntry(TaskStatus.ACTIVE, 1L);
+        assertThat(stats.byType().get(TaskType.FEATURE)).containsEntry(TaskStatus.PENDING, 1L);
+        assertThat(stats.byPriority().get(TaskPriority.HIGH)).containsEntry(TaskStatus.PENDING, 0L);
+    }
+
+    @Test
+    void snapshot_shouldListAskedEmployeesOnly() {
+        counters.changed(null, PENDING_BUG);
+        counters.changed(PENDING_BUG, null);
+
+        assertThat(counters.snapshot(List.of()).byEmployee()).isEmpty();
+        assertThat(counters.snapshot(List.of(7L, 8L)).byEmployee()).containsOnlyKeys(7L, 8L);
+        assertThat(counters.snapshot(List.of(8L)).byEmployee().get(8L)).containsEntry(TaskStatus.FINISHED, 0L);
+    }
+
+    @Test
+    void changed_inTransaction_shouldApplyAfterCommitOnly() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.changed(null, PENDING_BUG);
+            assertThat(counters.snapshot(List.of()).total()).containsEntry(TaskStatus.PENDING, 0L);
+
+            commit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(counters.snapshot(List.of()).total()).containsEntry(TaskStatus.PENDING, 1L);
+    }
+
+    @Test
+    void changed_concurrently_shouldCountEveryChange() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            IntStream.range(0, 10_000).forEach(i -> executor.execute(() -> {
+                counters.changed(null, PENDING_BUG);
+                counters.changed(PENDING_BUG, ACTIVE_BUG);
+            }));
+        }
+
+        TaskStatsDto stats = counters.snapshot(List.of(7L));
+
+        assertThat(stats.total()).containsEntry(TaskStatus.PENDING, 0L).containsEntry(TaskStatus.ACTIVE, 10_000L);
+        assertThat(stats.byEmployee().get(7L)).containsEntry(TaskStatus.ACTIVE, 10_000L);
+    }
+
+    @Test
+    void changed_rolledBack_shouldNotApply() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.changed(null, PENDING_BUG);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(counters.snapshot(List.of()).total()).containsEntry(TaskStatus.PENDING, 0L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcile_shouldWaitForChangesBeingCommitted() throws Exception {
+        TypedQuery<Object[]> query = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), any(Class.class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(
+                List.<Object[]>of(new Object[]{7L, TaskStatus.ACTIVE, TaskType.BUG, TaskPriority.HIGH, 1L}));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.changed(null, ACTIVE_BUG);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+
+            CompletableFuture<Void> recount = CompletableFuture.runAsync(counters::reconcile);
+            assertThatThrownBy(() -> recount.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            recount.get(5, TimeUnit.SECONDS);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(counters.snapshot(List.of()).total()).containsEntry(TaskStatus.ACTIVE, 1L);
+    }
+
+    private static void commit(List<TransactionSynchronization> synchronizations) {
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
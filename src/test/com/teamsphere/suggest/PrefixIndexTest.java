@@ -0,0 +1,56 @@
+package com.teamsphere.suggest;
+
+import com.teamsphere.dto.suggest.SuggestionDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PrefixIndex Unit Tests")
+class PrefixIndexTest {
+
+    @Test
+    @DisplayName("Should match the start of the name and of every later word, ignoring case")
+    void suggest_ShouldMatchEveryWord() {
+        PrefixIndex index = new PrefixIndex();
+        index.put(1L, "John Doe");
+        index.put(2L, "Jane Johnson");
+        index.put(3L, "Mary Major");
+
+        assertThat(index.suggest("JO", 10)).extracting(SuggestionDto::id).containsExactly(1L, 2L);
+        assertThat(index.suggest("john d", 10)).containsExactly(new SuggestionDto(1L, "John Doe"));
+        assertThat(index.suggest("ma", 10)).extracting(SuggestionDto::id).containsExactly(3L);
+        assertThat(index.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return each entity once and stop at the limit")
+    void suggest_ShouldDeduplicateAndLimit() {
+        PrefixIndex index = new PrefixIndex();
+        index.put(1L, "Ann Annis");
+        index.put(2L, "Anna Bell");
+        index.put(3L, "Annette Cole");
+
+        List<SuggestionDto> suggestions = index.suggest("ann", 2);
+
+        assertThat(suggestions).extracting(SuggestionDto::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should replace the old name on update and forget it on remove")
+    void put_ShouldReplaceAndRemove() {
+        PrefixIndex index = new PrefixIndex();
+        index.put(1L, "Apollo");
+        index.put(1L, "Zephyr");
+
+        assertThat(index.suggest("apo", 10)).isEmpty();
+        assertThat(index.suggest("zep", 10)).containsExactly(new SuggestionDto(1L, "Zephyr"));
+
+        index.remove(1L);
+
+        assertThat(index.suggest("zep", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+}
@@ -0,0 +1,54 @@
+package com.teamsphere.timeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreeTest {
+
+    private record Span(int id, long start, long end) {
+    }
+
+    @Test
+    void overlapping_shouldMatchBruteForce() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Span> spans = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long start = random.nextLong(10_000);
+            long end = random.nextInt(20) == 0 ? Long.MAX_VALUE : start + random.nextLong(300);
+            spans.add(new Span(i, start, end));
+        }
+        IntervalTree<Span> tree = new IntervalTree<>(spans, Span::start, Span::end);
+
+        for (int q = 0; q < 500; q++) {
+            long from = random.nextLong(10_500);
+            long to = from + random.nextLong(200);
+            List<Span> expected = spans.stream().filter(s -> s.start() <= to && s.end() >= from).toList();
+
+            assertThat(tree.overlapping(from, to)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+        assertThat(tree.size()).isEqualTo(2_000);
+    }
+
+    @Test
+    void overlapping_shouldIncludeTouchingEndsAndReturnByStart() {
+        IntervalTree<Span> tree = new IntervalTree<>(List.of(new Span(1, 10, 20), new Span(2, 1, 5),
+                new Span(3, 20, 30), new Span(4, 21, Long.MAX_VALUE)), Span::start, Span::end);
+
+        assertThat(tree.overlapping(5, 10)).extracting(Span::id).containsExactly(2, 1);
+        assertThat(tree.overlapping(20, 20)).extracting(Span::id).containsExactly(1, 3);
+        assertThat(tree.overlapping(1_000, 2_000)).extracting(Span::id).containsExactly(4);
+        assertThat(tree.overlapping(30, 10)).isEmpty();
+    }
+
+    @Test
+    void overlapping_onEmptyTree_shouldFindNothing() {
+        IntervalTree<Span> tree = new IntervalTree<>(List.of(), Span::start, Span::end);
+
+        assertThat(tree.overlapping(Long.MIN_VALUE, Long.MAX_VALUE)).isEmpty();
+    }
+}
@@ -0,0 +1,52 @@
+package com.teamsphere.timeline;
+
+import com.teamsphere.dto.employee.ProjectInfo;
+import com.teamsphere.dto.employee.ProjectOverlapDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectOverlapsTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+
+    @Test
+    void of_shouldReportEveryOverlappingPairOnce() {
+        ProjectPeriod apollo = new ProjectPeriod(1L, "Apollo", JAN_1, JAN_1.plusDays(30));
+        ProjectPeriod gemini = new ProjectPeriod(2L, "Gemini", JAN_1.plusDays(20), JAN_1.plusDays(40));
+        ProjectPeriod mercury = new ProjectPeriod(3L, "Mercury", JAN_1.plusDays(60), null);
+        ProjectPeriod vostok = new ProjectPeriod(4L, "Vostok", JAN_1.plusDays(40), null);
+
+        List<ProjectOverlapDto> overlaps = ProjectOverlaps.of(List.of(mercury, gemini, apollo, vostok));
+
+        assertThat(overlaps).containsExactly(
+                new ProjectOverlapDto(new ProjectInfo(1L, "Apollo"), new ProjectInfo(2L, "Gemini"),
+                        JAN_1.plusDays(20), JAN_1.plusDays(30)),
+                new ProjectOverlapDto(new ProjectInfo(2L, "Gemini"), new ProjectInfo(4L, "Vostok"),
+                        JAN_1.plusDays(40), JAN_1.plusDays(40)),
+                new ProjectOverlapDto(new ProjectInfo(4L, "Vostok"), new ProjectInfo(3L, "Mercury"),
+                        JAN_1.plusDays(60), null));
+    }
+
+    @Test
+    void of_withSameStart_shouldOrderPairById() {
+        ProjectPeriod later = new ProjectPeriod(9L, "Later id", JAN_1, JAN_1);
+        ProjectPeriod earlier = new ProjectPeriod(5L, "Earlier id", JAN_1, JAN_1.plusDays(3));
+
+        assertThat(ProjectOverlaps.of(List.of(later, earlier))).singleElement()
+                .satisfies(overlap -> {
+                    assertThat(overlap.first().id()).isEqualTo(5L);
+                    assertThat(overlap.to()).isEqualTo(JAN_1);
+                });
+    }
+
+    @Test
+    void of_withoutOverlaps_shouldFindNothing() {
+        assertThat(ProjectOverlaps.of(List.of(
+                new ProjectPeriod(1L, "A", JAN_1, JAN_1.plusDays(1)),
+                new ProjectPeriod(2L, "B", JAN_1.plusDays(2), JAN_1.plusDays(3))))).isEmpty();
+    }
+}